@@ -6,11 +6,13 @@ import com.cleanroommc.kirino.ecs.job.event.JobRegistrationEvent;
 import com.cleanroommc.kirino.engine.FramePhase;
 import com.cleanroommc.kirino.engine.KirinoEngine;
 import com.cleanroommc.kirino.engine.render.core.*;
+import com.cleanroommc.kirino.engine.render.core.debug.data.builtin.EcsStatsFrame;
 import com.cleanroommc.kirino.engine.render.core.debug.data.builtin.FpsHistory;
 import com.cleanroommc.kirino.engine.render.core.debug.data.builtin.RenderStatsFrame;
 import com.cleanroommc.kirino.engine.render.core.debug.data.DebugDataServiceLocator;
 import com.cleanroommc.kirino.engine.render.core.debug.hud.event.DebugHUDRegistrationEvent;
 import com.cleanroommc.kirino.engine.render.core.debug.hud.builtin.CommonStatsHUD;
+import com.cleanroommc.kirino.engine.render.core.debug.hud.builtin.EcsStatsHUD;
 import com.cleanroommc.kirino.engine.render.core.debug.hud.builtin.FpsHUD;
 import com.cleanroommc.kirino.engine.render.core.debug.shader.ShaderDebugResource;
 import com.cleanroommc.kirino.engine.render.usage.MinecraftAssetProviders;
@@ -510,6 +512,7 @@ public final class KirinoClientCore {
         DEBUG_SERVICE.register(RenderStatsFrame.class, new RenderStatsFrame(MethodHolder2.getGraphicsRuntimeServices(KIRINO_ENGINE).debugHudManager));
         DEBUG_SERVICE.register(FpsHistory.class, new FpsHistory());
         DEBUG_SERVICE.register(MeshletGpuTimeline.class, new MeshletGpuTimeline());
+        DEBUG_SERVICE.register(EcsStatsFrame.class, new EcsStatsFrame(MethodHolder2.getGraphicsRuntimeServices(KIRINO_ENGINE).debugHudManager, KirinoCommonCore.getEcsRuntime().entityManager, KirinoCommonCore.getEcsRuntime().jobScheduler));
     }
 
     public static void postInit() {
@@ -574,6 +577,7 @@ public final class KirinoClientCore {
     public static void onDebugHudRegister(DebugHUDRegistrationEvent event) {
         event.register(new FpsHUD());
         event.register(new CommonStatsHUD());
+        event.register(new EcsStatsHUD());
         event.register(new MeshletGpuTimelineHUD());
         event.register(new FreeTypeDebugHUD());
         event.register(new SimpleTextDebugHUD());
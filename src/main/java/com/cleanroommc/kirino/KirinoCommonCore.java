@@ -26,6 +26,7 @@ import org.apache.logging.log4j.Logger;
 import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -111,10 +112,13 @@ public final class KirinoCommonCore {
         StopWatch stopWatch = StopWatch.createStarted();
 
         try {
-            MethodHandle ctor = ReflectionUtils.getConstructor(CleanECSRuntime.class, EventBus.class, Logger.class);
+            MethodHandle ctor = ReflectionUtils.getConstructor(CleanECSRuntime.class, EventBus.class, Logger.class, Path.class);
             Preconditions.checkNotNull(ctor);
 
-            ECS_RUNTIME = (CleanECSRuntime) ctor.invokeExact(KIRINO_EVENT_BUS, LOGGER);
+            Path scanIndexDirectory = KIRINO_CONFIG_HUB.isEnableScanIndex()
+                    ? Loader.instance().getConfigDir().toPath().resolveSibling("kirino").resolve("scan_index")
+                    : null;
+            ECS_RUNTIME = (CleanECSRuntime) ctor.invokeExact(KIRINO_EVENT_BUS, LOGGER, scanIndexDirectory);
         } catch (Throwable throwable) {
             throw new RuntimeException("ECS Runtime failed to initialize.", throwable);
         }
@@ -146,6 +150,13 @@ public final class KirinoCommonCore {
         //</editor-fold>
     }
 
+    /**
+     * Only for engine-internal debug services.
+     */
+    static CleanECSRuntime getEcsRuntime() {
+        return ECS_RUNTIME;
+    }
+
     public static void postInit() {
         if (!KIRINO_CONFIG_HUB.isEnable()) {
             return;
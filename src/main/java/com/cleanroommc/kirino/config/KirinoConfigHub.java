@@ -1,5 +1,7 @@
 package com.cleanroommc.kirino.config;
 
+import com.cleanroommc.kirino.utils.executor.ExecutorBackend;
+
 public final class KirinoConfigHub {
     KirinoConfigHub() {
     }
@@ -15,7 +17,13 @@ public final class KirinoConfigHub {
 
         public boolean enableShaderDebug = false;
 
+        public boolean enableScanIndex = true;
+
         public int targetWorkloadPerThread = 5000;
+        public int targetTaskMicros = 100;
+
+        public ExecutorBackend systemFlowExecutorBackend = ExecutorBackend.FORK_JOIN;
+        public ExecutorBackend systemExecutorBackend = ExecutorBackend.FORK_JOIN;
 
         public boolean compileToMdiCommands = true;
         public int maxMultiDrawIndirectUnitCount = 5000;
@@ -58,10 +66,26 @@ public final class KirinoConfigHub {
         return requiresRestart.enableShaderDebug;
     }
 
+    public boolean isEnableScanIndex() {
+        return requiresRestart.enableScanIndex;
+    }
+
     public int getTargetWorkloadPerThread() {
         return requiresRestart.targetWorkloadPerThread;
     }
 
+    public int getTargetTaskMicros() {
+        return requiresRestart.targetTaskMicros;
+    }
+
+    public ExecutorBackend getSystemFlowExecutorBackend() {
+        return requiresRestart.systemFlowExecutorBackend;
+    }
+
+    public ExecutorBackend getSystemExecutorBackend() {
+        return requiresRestart.systemExecutorBackend;
+    }
+
     public boolean isCompileToMdiCommands() {
         return requiresRestart.compileToMdiCommands;
     }
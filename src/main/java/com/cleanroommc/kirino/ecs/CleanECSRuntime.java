@@ -8,6 +8,7 @@ import com.cleanroommc.kirino.ecs.component.scan.ComponentRegisterPlan;
 import com.cleanroommc.kirino.ecs.component.scan.StructRegisterPlan;
 import com.cleanroommc.kirino.ecs.component.scan.event.ComponentScanningEvent;
 import com.cleanroommc.kirino.ecs.component.scan.event.StructScanningEvent;
+import com.cleanroommc.kirino.ecs.component.scan.helper.ClassScanIndex;
 import com.cleanroommc.kirino.ecs.component.scan.helper.ComponentScanningHelper;
 import com.cleanroommc.kirino.ecs.component.scan.helper.StructScanningHelper;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldDef;
@@ -16,7 +17,7 @@ import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarType;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.struct.StructDef;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.struct.StructRegistry;
 import com.cleanroommc.kirino.ecs.entity.EntityManager;
-import com.cleanroommc.kirino.ecs.job.ParallelJob;
+import com.cleanroommc.kirino.ecs.job.BaseParallelJob;
 import com.cleanroommc.kirino.ecs.job.JobDataQuery;
 import com.cleanroommc.kirino.ecs.job.JobRegistry;
 import com.cleanroommc.kirino.ecs.job.JobScheduler;
@@ -27,8 +28,10 @@ import com.google.common.collect.ImmutableMap;
 import net.minecraftforge.fml.common.eventhandler.EventBus;
 import org.apache.logging.log4j.Logger;
 import org.joml.*;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.invoke.MethodHandle;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -42,7 +45,7 @@ public class CleanECSRuntime {
     public final JobScheduler jobScheduler;
 
     @SuppressWarnings({"DataFlowIssue"})
-    private CleanECSRuntime(EventBus eventBus, Logger logger) {
+    private CleanECSRuntime(EventBus eventBus, Logger logger, @Nullable Path scanIndexDirectory) {
         structRegistry = new StructRegistry();
         fieldRegistry = new FieldRegistry(structRegistry);
 
@@ -56,9 +59,12 @@ public class CleanECSRuntime {
         fieldRegistry.registerFieldType("mat3", Matrix3f.class, new FieldDef(ScalarType.MAT3));
         fieldRegistry.registerFieldType("mat4", Matrix4f.class, new FieldDef(ScalarType.MAT4));
 
+        // reuse the scan result of the last launch if the classpath didn't change
+        ClassScanIndex scanIndex = scanIndexDirectory == null ? null : new ClassScanIndex(scanIndexDirectory, logger);
+
         StructScanningEvent structScanningEvent = new StructScanningEvent();
         eventBus.post(structScanningEvent);
-        for (StructRegisterPlan plan : StructScanningHelper.scanStructClasses(structScanningEvent, fieldRegistry)) {
+        for (StructRegisterPlan plan : StructScanningHelper.scanStructClasses(structScanningEvent, fieldRegistry, scanIndex)) {
             // struct class loading
             Class<?> structClass;
             try {
@@ -95,7 +101,7 @@ public class CleanECSRuntime {
 
         ComponentScanningEvent componentScanningEvent = new ComponentScanningEvent();
         eventBus.post(componentScanningEvent);
-        for (ComponentRegisterPlan plan : ComponentScanningHelper.scanComponentClasses(componentScanningEvent, fieldRegistry)) {
+        for (ComponentRegisterPlan plan : ComponentScanningHelper.scanComponentClasses(componentScanningEvent, fieldRegistry, scanIndex)) {
             // component class loading
             Class<? extends CleanComponent> componentClass;
             try {
@@ -134,8 +140,8 @@ public class CleanECSRuntime {
 
         JobRegistrationEvent jobRegistrationEvent = new JobRegistrationEvent();
         eventBus.post(jobRegistrationEvent);
-        List<Class<? extends ParallelJob>> parallelJobs = getParallelJobs(jobRegistrationEvent);
-        for (Class<? extends ParallelJob> clazz : parallelJobs) {
+        List<Class<? extends BaseParallelJob>> parallelJobs = getParallelJobs(jobRegistrationEvent);
+        for (Class<? extends BaseParallelJob> clazz : parallelJobs) {
             jobRegistry.registerParallelJob(clazz);
             logger.debug("Parallel job \"" + clazz.getName() + "\" registered. Data queries are as follows:" +
                     (jobRegistry.getParallelJobDataQueries(clazz).keySet().isEmpty() && jobRegistry.getParallelJobExternalDataQueries(clazz).keySet().isEmpty() ? " (Empty)" : ""));
@@ -161,13 +167,13 @@ public class CleanECSRuntime {
     }
 
     @SuppressWarnings("unchecked")
-    private static List<Class<? extends ParallelJob>> getParallelJobs(JobRegistrationEvent jobRegistrationEvent) {
+    private static List<Class<? extends BaseParallelJob>> getParallelJobs(JobRegistrationEvent jobRegistrationEvent) {
         MethodHandle parallelJobClassesGetter = ReflectionUtils.getFieldGetter(JobRegistrationEvent.class, "parallelJobClasses", List.class);
         Preconditions.checkNotNull(parallelJobClassesGetter);
 
-        List<Class<? extends ParallelJob>> parallelJobs;
+        List<Class<? extends BaseParallelJob>> parallelJobs;
         try {
-            parallelJobs = (List<Class<? extends ParallelJob>>) parallelJobClassesGetter.invokeExact(jobRegistrationEvent);
+            parallelJobs = (List<Class<? extends BaseParallelJob>>) parallelJobClassesGetter.invokeExact(jobRegistrationEvent);
         } catch (Throwable e) {
             throw new RuntimeException(e);
         }
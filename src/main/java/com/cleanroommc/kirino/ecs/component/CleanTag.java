@@ -0,0 +1,11 @@
+package com.cleanroommc.kirino.ecs.component;
+
+/**
+ * A zero-size marker, e.g. "dirty" or "needs upload". Tags aren't stored in archetypes but in one sparse set per tag class,
+ * so attaching or detaching a tag is O(1) and never moves the columns of an entity.
+ * Tag classes need no registration; the class itself is the tag.
+ *
+ * @see com.cleanroommc.kirino.ecs.entity.EntityQuery#withTag(Class)
+ */
+public interface CleanTag {
+}
@@ -3,6 +3,7 @@ package com.cleanroommc.kirino.ecs.component;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldDef;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldRegistry;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FlattenedField;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarType;
 import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
@@ -11,12 +12,21 @@ import java.util.List;
 public final class ComponentDescFlattened {
     public final ImmutableList<FlattenedField> fields;
 
+    /**
+     * All scalar types of {@link #fields} in order. Index is the field ordinal.
+     */
+    public final ImmutableList<FlattenedScalarType> scalarTypes;
+
     ComponentDescFlattened(ComponentDesc componentDesc, FieldRegistry fieldRegistry) {
         List<FlattenedField> fields = new ArrayList<>();
+        List<FlattenedScalarType> scalarTypes = new ArrayList<>();
         for (FieldDef field : componentDesc.fields) {
-            fields.add(fieldRegistry.flatten(field));
+            FlattenedField flattenedField = fieldRegistry.flatten(field);
+            fields.add(flattenedField);
+            scalarTypes.addAll(flattenedField.scalarTypes);
         }
         this.fields = ImmutableList.copyOf(fields);
+        this.scalarTypes = ImmutableList.copyOf(scalarTypes);
     }
 
     public int getUnitCount() {
@@ -3,9 +3,15 @@ package com.cleanroommc.kirino.ecs.component;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldDef;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldKind;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarSink;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarSource;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarConstructor;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarDeconstructor;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarType;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.struct.StructRegistry;
 import com.cleanroommc.kirino.ecs.component.schema.meta.MemberLayout;
 import com.cleanroommc.kirino.ecs.component.schema.reflect.AccessHandlePool;
+import com.cleanroommc.kirino.ecs.component.schema.reflect.ClassAccessor;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
@@ -52,6 +58,9 @@ public class ComponentRegistry {
         ComponentDesc componentDesc = new ComponentDesc(name, fields, fieldTypeNames);
         componentDescMap.put(name, componentDesc);
         componentDescFlattenedMap.put(name, new ComponentDescFlattened(componentDesc, fieldRegistry));
+
+        // generate the accessor now, so creating entities never resolves anything
+        registerCodec(name, clazz, memberLayout);
     }
 
     public ImmutableMap<String, ComponentDesc> getComponentDescMap() {
@@ -281,35 +290,92 @@ public class ComponentRegistry {
     // -----Component Construction-----
 
     private final AccessHandlePool componentAccessHandlePool = new AccessHandlePool();
+    private final Map<String, ComponentCodec> codecMap = new HashMap<>();
+    private final Map<Class<?>, ComponentCodec> codecClassMap = new HashMap<>();
+
+    /**
+     * Everything {@link #newComponent(String, Object...)}, {@link #readComponent(Class, FlattenedScalarSource)},
+     * {@link #flattenComponent(CleanComponent)} and {@link #writeComponent(CleanComponent, FlattenedScalarSink)} need, resolved once at registration.
+     */
+    private static final class ComponentCodec {
+        final ClassAccessor accessor;
+        final FieldDef[] fields;
+        /**
+         * <code>unitOffsets[i]</code> is the first flattened unit of field <code>i</code>; The last element is the unit count.
+         */
+        final int[] unitOffsets;
+
+        ComponentCodec(ClassAccessor accessor, ComponentDesc componentDesc, ComponentDescFlattened componentDescFlattened) {
+            this.accessor = accessor;
+            fields = componentDesc.fields.toArray(new FieldDef[0]);
+            unitOffsets = new int[fields.length + 1];
+            for (int i = 0; i < fields.length; i++) {
+                unitOffsets[i + 1] = unitOffsets[i] + componentDescFlattened.fields.get(i).getUnitCount();
+            }
+        }
+    }
+
+    private void registerCodec(String name, Class<? extends CleanComponent> clazz, MemberLayout memberLayout) {
+        if (!componentAccessHandlePool.classRegistered(clazz)) {
+            componentAccessHandlePool.register(clazz, memberLayout);
+        }
+        ComponentCodec codec = new ComponentCodec(
+                Objects.requireNonNull(componentAccessHandlePool.getAccessor(clazz)),
+                componentDescMap.get(name),
+                componentDescFlattenedMap.get(name));
+        codecMap.put(name, codec);
+        codecClassMap.put(clazz, codec);
+    }
 
     @Nullable
-    @SuppressWarnings("DataFlowIssue")
     public CleanComponent newComponent(String name, Object... args) {
-        if (!componentExists(name)) {
+        ComponentCodec codec = codecMap.get(name);
+        if (codec == null) {
             return null;
         }
 
-        ComponentDesc componentDesc = getComponentDesc(name);
-        ComponentDescFlattened componentDescFlattened = getComponentDescFlattened(name);
-        Class<? extends CleanComponent> componentClass = getComponentClass(name);
-        MemberLayout memberLayout = getClassMemberLayout(name);
+        Object output = codec.accessor.newInstance();
 
-        if (!componentAccessHandlePool.classRegistered(componentClass)) {
-            componentAccessHandlePool.register(componentClass, memberLayout);
-        }
-
-        Object output = componentAccessHandlePool.newClass(componentClass);
+        StructRegistry structRegistry = fieldRegistry.structRegistry;
+        for (int i = 0; i < codec.fields.length; i++) {
+            FieldDef fieldDef = codec.fields[i];
+            Object[] fieldArgs = Arrays.copyOfRange(args, codec.unitOffsets[i], codec.unitOffsets[i + 1]);
+            Object value = fieldDef.fieldKind == FieldKind.SCALAR
+                    ? ScalarConstructor.newScalar(fieldDef.scalarType, fieldArgs)
+                    : structRegistry.newStruct(fieldDef.structTypeName, fieldArgs);
 
-        int index = 0;
-        for (int i = 0; i < componentDesc.fields.size(); i++) {
-            String fieldTypeName = componentDesc.fieldTypeNames.get(i);
-            String fieldName = memberLayout.fieldNames.get(i);
+            codec.accessor.set(output, i, value);
+        }
 
-            int unitCount = componentDescFlattened.fields.get(i).getUnitCount();
-            Object value = fieldRegistry.newField(fieldTypeName, Arrays.copyOfRange(args, index, index + unitCount));
-            index += unitCount;
+        return (CleanComponent) output;
+    }
 
-            componentAccessHandlePool.setFieldValue(componentClass, output, fieldName, value);
+    /**
+     * The boxing-free counterpart of {@link #newComponent(String, Object...)}: unit <code>i</code> is read from <code>source</code>
+     * instead of <code>args[i]</code>. Storage should prefer this on hot paths.
+     *
+     * @param component The component class to construct
+     * @param source The provider of the flattened units
+     * @return The new component
+     */
+    @SuppressWarnings("DataFlowIssue")
+    public @NonNull CleanComponent readComponent(@NonNull Class<? extends CleanComponent> component, @NonNull FlattenedScalarSource source) {
+        Preconditions.checkNotNull(component);
+        Preconditions.checkNotNull(source);
+        ComponentCodec codec = codecClassMap.get(component);
+        Preconditions.checkArgument(codec != null,
+                "Component class %s isn't registered.", component.getName());
+
+        Object output = codec.accessor.newInstance();
+
+        StructRegistry structRegistry = fieldRegistry.structRegistry;
+        for (int i = 0; i < codec.fields.length; i++) {
+            FieldDef fieldDef = codec.fields[i];
+            if (fieldDef.fieldKind == FieldKind.SCALAR) {
+                ScalarConstructor.readScalar(fieldDef.scalarType, codec.accessor, output, i, source, codec.unitOffsets[i]);
+            } else {
+                codec.accessor.set(output, i, structRegistry.readStruct(fieldDef.structTypeName, source, codec.unitOffsets[i]));
+            }
         }
 
         return (CleanComponent) output;
@@ -320,31 +386,48 @@ public class ComponentRegistry {
     @SuppressWarnings("DataFlowIssue")
     public @NonNull Object[] flattenComponent(@NonNull CleanComponent component) {
         Preconditions.checkNotNull(component);
-        Preconditions.checkArgument(componentExists(component.getClass()),
+        ComponentCodec codec = codecClassMap.get(component.getClass());
+        Preconditions.checkArgument(codec != null,
                 "Component class %s isn't registered.", component.getClass().getName());
 
-        String name = getComponentName(component.getClass());
+        Object[] args = new Object[codec.unitOffsets[codec.fields.length]];
 
-        ComponentDesc componentDesc = getComponentDesc(name);
-        ComponentDescFlattened componentDescFlattened = getComponentDescFlattened(name);
-        MemberLayout memberLayout = getClassMemberLayout(name);
-
-        if (!componentAccessHandlePool.classRegistered(component.getClass())) {
-            componentAccessHandlePool.register(component.getClass(), memberLayout);
+        StructRegistry structRegistry = fieldRegistry.structRegistry;
+        for (int i = 0; i < codec.fields.length; i++) {
+            FieldDef fieldDef = codec.fields[i];
+            Object value = codec.accessor.get(component, i);
+            Object[] _args = fieldDef.fieldKind == FieldKind.SCALAR
+                    ? ScalarDeconstructor.flattenScalar(fieldDef.scalarType, value)
+                    : structRegistry.flattenStruct(value);
+            System.arraycopy(_args, 0, args, codec.unitOffsets[i], codec.unitOffsets[i + 1] - codec.unitOffsets[i]);
         }
 
-        Object[] args = new Object[componentDescFlattened.getUnitCount()];
+        return args;
+    }
 
-        int index = 0;
-        for (int i = 0; i < componentDesc.fields.size(); i++) {
-            String fieldName = memberLayout.fieldNames.get(i);
+    /**
+     * The boxing-free counterpart of {@link #flattenComponent(CleanComponent)}: unit <code>i</code> is written to <code>sink</code>
+     * instead of being stored at <code>args[i]</code>. Storage should prefer this on hot paths.
+     *
+     * @param component The component to deconstruct
+     * @param sink The receiver of the flattened units
+     */
+    @SuppressWarnings("DataFlowIssue")
+    public void writeComponent(@NonNull CleanComponent component, @NonNull FlattenedScalarSink sink) {
+        Preconditions.checkNotNull(component);
+        Preconditions.checkNotNull(sink);
+        ComponentCodec codec = codecClassMap.get(component.getClass());
+        Preconditions.checkArgument(codec != null,
+                "Component class %s isn't registered.", component.getClass().getName());
 
-            int unitCount = componentDescFlattened.fields.get(i).getUnitCount();
-            Object[] _args = fieldRegistry.flattenField(componentAccessHandlePool.getFieldValue(component.getClass(), component, fieldName));
-            System.arraycopy(_args, 0, args, index, unitCount);
-            index += unitCount;
+        StructRegistry structRegistry = fieldRegistry.structRegistry;
+        for (int i = 0; i < codec.fields.length; i++) {
+            FieldDef fieldDef = codec.fields[i];
+            if (fieldDef.fieldKind == FieldKind.SCALAR) {
+                ScalarDeconstructor.writeScalar(fieldDef.scalarType, codec.accessor, component, i, sink, codec.unitOffsets[i]);
+            } else {
+                structRegistry.writeStruct(codec.accessor.get(component, i), sink, codec.unitOffsets[i]);
+            }
         }
-
-        return args;
     }
 }
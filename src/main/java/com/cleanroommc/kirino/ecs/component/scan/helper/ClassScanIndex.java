@@ -0,0 +1,224 @@
+package com.cleanroommc.kirino.ecs.component.scan.helper;
+
+import com.cleanroommc.kirino.ecs.component.scan.helper.ClassScanUtils.ScannedClass;
+import com.cleanroommc.kirino.ecs.component.scan.helper.ClassScanUtils.ScannedField;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.github.classgraph.ClassGraph;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * A persisted result of {@link ClassScanUtils#scan(List, String)}, one file per annotation.
+ * Every file is keyed by a fingerprint of the classpath elements and the scanned packages;
+ * A scan reuses the file if the fingerprint matches, and falls back to a full scan (then rewrites the file) otherwise.
+ * <br><br>
+ * The fingerprint only reads file metadata: the path, size and modification time of every jar,
+ * and of every file of every classpath directory. No class file is parsed.
+ * The whole classpath is covered since a scanned class inherits interfaces from superclasses outside the scanned packages.
+ * The classpath part is computed once per instance, i.e. once per launch, and shared by the scans of all annotations.
+ * <br><br>
+ * Only the raw scan result is persisted. Register plans are still generated on every launch,
+ * since they also depend on the field registry.
+ */
+public final class ClassScanIndex {
+    private static final int MAGIC = 0x4B534349; // KSCI
+    private static final int VERSION = 1;
+
+    private final Path directory;
+    private final Logger logger;
+
+    /**
+     * The fingerprint of the classpath; Computed by the first scan.
+     */
+    private @Nullable String classpathFingerprint;
+
+    /**
+     * @param directory The directory of the index files; Created on the first write
+     * @param logger The logger
+     */
+    public ClassScanIndex(@NonNull Path directory, @NonNull Logger logger) {
+        Preconditions.checkNotNull(directory);
+        Preconditions.checkNotNull(logger);
+
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    /**
+     * The persisted counterpart of {@link ClassScanUtils#scan(List, String)}; Always returns what a full scan would.
+     *
+     * @param packages The packages to scan
+     * @param annotation The class name of the annotation
+     * @return All annotated classes by class name
+     */
+    public @NonNull Map<String, ScannedClass> scan(@NonNull List<String> packages, @NonNull String annotation) {
+        if (packages.isEmpty()) {
+            return new TreeMap<>();
+        }
+
+        Path file = getIndexFile(annotation);
+        String fingerprint;
+        try {
+            fingerprint = fingerprint(packages, annotation);
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Failed to fingerprint the classpath. Scanning \"" + annotation + "\" without the index.", e);
+            return ClassScanUtils.scan(packages, annotation);
+        }
+
+        Map<String, ScannedClass> allClasses = read(file, fingerprint);
+        if (allClasses != null) {
+            logger.debug("Reused the scan index of \"" + annotation + "\". " + allClasses.size() + " classes.");
+            return allClasses;
+        }
+
+        allClasses = ClassScanUtils.scan(packages, annotation);
+        try {
+            write(file, fingerprint, allClasses);
+            logger.debug("Rebuilt the scan index of \"" + annotation + "\". " + allClasses.size() + " classes.");
+        } catch (IOException e) {
+            logger.warn("Failed to write the scan index \"" + file + "\".", e);
+        }
+        return allClasses;
+    }
+
+    /**
+     * @param annotation The class name of the annotation
+     * @return The index file of <code>annotation</code>, which may not exist yet
+     */
+    public @NonNull Path getIndexFile(@NonNull String annotation) {
+        return directory.resolve(ClassScanUtils.getClassSimpleName(annotation) + ".idx");
+    }
+
+    private String fingerprint(List<String> packages, String annotation) throws IOException {
+        List<String> sortedPackages = packages.stream().distinct().sorted().toList();
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putInt(VERSION);
+        hasher.putString(classpathFingerprint(), StandardCharsets.UTF_8);
+        hasher.putString(annotation, StandardCharsets.UTF_8);
+        for (String packageName : sortedPackages) {
+            hasher.putString(packageName, StandardCharsets.UTF_8);
+        }
+
+        return hasher.hash().toString();
+    }
+
+    private String classpathFingerprint() throws IOException {
+        if (classpathFingerprint != null) {
+            return classpathFingerprint;
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher();
+
+        // resolving the classpath doesn't scan it; Not filtered by package, superclasses may live anywhere
+        List<File> classpath = new ClassGraph().getClasspathFiles();
+        Path indexDirectory = directory.toAbsolutePath();
+        for (File element : classpath) {
+            hasher.putString(element.getAbsolutePath(), StandardCharsets.UTF_8);
+            if (element.isDirectory()) {
+                try (Stream<Path> stream = Files.walk(element.toPath())) {
+                    // the index files must not invalidate themselves
+                    for (Path path : stream.filter(Files::isRegularFile).filter(path -> !path.toAbsolutePath().startsWith(indexDirectory)).sorted().toList()) {
+                        hasher.putString(path.toString(), StandardCharsets.UTF_8);
+                        hasher.putLong(Files.size(path));
+                        hasher.putLong(Files.getLastModifiedTime(path).toMillis());
+                    }
+                }
+            } else {
+                hasher.putLong(element.length());
+                hasher.putLong(element.lastModified());
+            }
+        }
+
+        classpathFingerprint = hasher.hash().toString();
+        return classpathFingerprint;
+    }
+
+    /**
+     * @return The scan result, or <code>null</code> if the file is missing, stale or unreadable
+     */
+    private @Nullable Map<String, ScannedClass> read(Path file, String fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION || !input.readUTF().equals(fingerprint)) {
+                return null;
+            }
+
+            // every entry takes at least one byte, so a larger count can only come from a corrupt file
+            long limit = Files.size(file);
+            Map<String, ScannedClass> allClasses = new TreeMap<>();
+            int classCount = readCount(input, limit);
+            for (int i = 0; i < classCount; i++) {
+                String name = input.readUTF();
+                String[] interfaceNames = new String[readCount(input, limit)];
+                for (int j = 0; j < interfaceNames.length; j++) {
+                    interfaceNames[j] = input.readUTF();
+                }
+                ScannedField[] fields = new ScannedField[readCount(input, limit)];
+                for (int j = 0; j < fields.length; j++) {
+                    fields[j] = new ScannedField(input.readUTF(), input.readUTF());
+                }
+                allClasses.put(name, new ScannedClass(name, List.of(interfaceNames), List.of(fields)));
+            }
+            if (input.read() != -1) {
+                throw new IOException("Trailing bytes after the last class.");
+            }
+            return allClasses;
+        } catch (IOException e) {
+            logger.warn("Failed to read the scan index \"" + file + "\". Falling back to a full scan.", e);
+            return null;
+        }
+    }
+
+    private static int readCount(DataInputStream input, long limit) throws IOException {
+        int count = input.readInt();
+        if (count < 0 || count > limit) {
+            throw new IOException("Corrupt count: " + count);
+        }
+        return count;
+    }
+
+    private static void write(Path file, String fingerprint, Map<String, ScannedClass> allClasses) throws IOException {
+        Files.createDirectories(file.getParent());
+
+        // write aside, then move, so a crash never leaves a truncated index behind
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeUTF(fingerprint);
+                output.writeInt(allClasses.size());
+                for (ScannedClass scannedClass : allClasses.values()) {
+                    output.writeUTF(scannedClass.name());
+                    output.writeInt(scannedClass.interfaceNames().size());
+                    for (String interfaceName : scannedClass.interfaceNames()) {
+                        output.writeUTF(interfaceName);
+                    }
+                    output.writeInt(scannedClass.fields().size());
+                    for (ScannedField field : scannedClass.fields()) {
+                        output.writeUTF(field.name());
+                        output.writeUTF(field.typeName());
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
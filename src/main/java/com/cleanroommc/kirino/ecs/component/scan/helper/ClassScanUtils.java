@@ -2,8 +2,10 @@ package com.cleanroommc.kirino.ecs.component.scan.helper;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
+import io.github.classgraph.FieldInfo;
 import io.github.classgraph.ScanResult;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -18,23 +20,50 @@ public final class ClassScanUtils {
     private ClassScanUtils() {
     }
 
+    /**
+     * The part of a scanned class that the helpers need. It's detached from the scan result, so it can be persisted (see {@link ClassScanIndex}).
+     *
+     * @param name The class name
+     * @param interfaceNames The interfaces implemented by the class or its superclasses
+     * @param fields The declared fields
+     */
+    public record ScannedClass(String name, List<String> interfaceNames, List<ScannedField> fields) {
+        public boolean implementsInterface(String interfaceName) {
+            return interfaceNames.contains(interfaceName);
+        }
+    }
+
+    /**
+     * @param name The field name
+     * @param typeName The class name of the field type, e.g. <code>int</code> or <code>org.joml.Vector3f</code>
+     */
+    public record ScannedField(String name, String typeName) {
+    }
+
     static String getClassSimpleName(String className) {
         int lastDot = className.lastIndexOf('.');
         return lastDot == -1 ? className : className.substring(lastDot + 1);
     }
 
-    static Map<String, ClassInfo> scan(List<String> packages, String annotation) {
-        Map<String, ClassInfo> allClassInfos = new TreeMap<>();
+    static Map<String, ScannedClass> scan(List<String> packages, String annotation) {
+        Map<String, ScannedClass> allClasses = new TreeMap<>();
         if (!packages.isEmpty()) {
             try (ScanResult scanResult = new ClassGraph()
                     .enableAllInfo()
                     .acceptPackages(packages.toArray(new String[0]))
                     .scan()) {
                 for (ClassInfo classInfo : scanResult.getClassesWithAnnotation(annotation)) {
-                    allClassInfos.put(classInfo.getName(), classInfo);
+                    List<ScannedField> fields = new ArrayList<>();
+                    for (FieldInfo field : classInfo.getFieldInfo()) {
+                        fields.add(new ScannedField(field.getName(), field.getTypeDescriptor().toString()));
+                    }
+                    allClasses.put(classInfo.getName(), new ScannedClass(
+                            classInfo.getName(),
+                            List.copyOf(classInfo.getInterfaces().getNames()),
+                            List.copyOf(fields)));
                 }
             }
         }
-        return allClassInfos;
+        return allClasses;
     }
 }
@@ -2,14 +2,15 @@ package com.cleanroommc.kirino.ecs.component.scan.helper;
 
 import com.cleanroommc.kirino.ecs.component.scan.StructRegisterPlan;
 import com.cleanroommc.kirino.ecs.component.scan.event.StructScanningEvent;
+import com.cleanroommc.kirino.ecs.component.scan.helper.ClassScanUtils.ScannedClass;
+import com.cleanroommc.kirino.ecs.component.scan.helper.ClassScanUtils.ScannedField;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldDef;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldRegistry;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.struct.StructDef;
 import com.cleanroommc.kirino.ecs.component.schema.meta.MemberLayout;
 import com.cleanroommc.kirino.utils.ReflectionUtils;
 import com.google.common.base.Preconditions;
-import io.github.classgraph.ClassInfo;
-import io.github.classgraph.FieldInfo;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.invoke.MethodHandle;
 import java.util.*;
@@ -25,32 +26,32 @@ public final class StructScanningHelper {
         super();
     }
 
-    private static List<FieldInfo> getValidFields(Map<String, ClassInfo> allClassInfos, ClassInfo structClassInfo, FieldRegistry fieldRegistry) {
-        List<FieldInfo> fields = new ArrayList<>();
+    private static List<ScannedField> getValidFields(Map<String, ScannedClass> allClasses, ScannedClass structClass, FieldRegistry fieldRegistry) {
+        List<ScannedField> fields = new ArrayList<>();
 
-        for (FieldInfo field : structClassInfo.getFieldInfo()) {
-            String fieldClassName = field.getTypeDescriptor().toString();
-            if (allClassInfos.containsKey(fieldClassName) || fieldRegistry.fieldTypeExists_ClassName(fieldClassName)) {
+        for (ScannedField field : structClass.fields()) {
+            String fieldClassName = field.typeName();
+            if (allClasses.containsKey(fieldClassName) || fieldRegistry.fieldTypeExists_ClassName(fieldClassName)) {
                 fields.add(field);
             }
         }
 
-        fields.sort(Comparator.comparing(FieldInfo::getName));
+        fields.sort(Comparator.comparing(ScannedField::name));
 
         return fields;
     }
 
     // todo: more strict algorithm - not allowing one's subclasses to be included in the fields
-    private static void removeSelfReference(Set<String> dirtyStructs, Map<String, List<FieldInfo>> structs, String structClass, List<String> prevStructClasses, List<FieldInfo> fields) {
+    private static void removeSelfReference(Set<String> dirtyStructs, Map<String, List<ScannedField>> structs, String structClass, List<String> prevStructClasses, List<ScannedField> fields) {
         if (dirtyStructs.contains(structClass)) {
             return;
         }
         dirtyStructs.add(structClass);
 
-        List<FieldInfo> fieldsToRemove = new ArrayList<>();
+        List<ScannedField> fieldsToRemove = new ArrayList<>();
 
-        for (FieldInfo field : fields) {
-            String fieldClassName = field.getTypeDescriptor().toString();
+        for (ScannedField field : fields) {
+            String fieldClassName = field.typeName();
             if (prevStructClasses.contains(fieldClassName)) {
                 fieldsToRemove.add(field);
                 continue;
@@ -65,13 +66,13 @@ public final class StructScanningHelper {
         fields.removeAll(fieldsToRemove);
     }
 
-    private static List<StructRegisterPlan> generatePlans(Map<String, List<FieldInfo>> structs, FieldRegistry fieldRegistry) {
+    private static List<StructRegisterPlan> generatePlans(Map<String, List<ScannedField>> structs, FieldRegistry fieldRegistry) {
         List<StructRegisterPlan> plans = new ArrayList<>();
 
         Map<String, Integer> structNameDuplicates = new HashMap<>();
         Map<String, String> structNames = new HashMap<>();
 
-        for (Map.Entry<String, List<FieldInfo>> entry : structs.entrySet()) {
+        for (Map.Entry<String, List<ScannedField>> entry : structs.entrySet()) {
             String structName = ClassScanUtils.getClassSimpleName(entry.getKey());
             int duplicate = 0;
             if (structNameDuplicates.containsKey(structName)) {
@@ -86,13 +87,13 @@ public final class StructScanningHelper {
             structNames.put(entry.getKey(), structName);
         }
 
-        for (Map.Entry<String, List<FieldInfo>> entry : structs.entrySet()) {
+        for (Map.Entry<String, List<ScannedField>> entry : structs.entrySet()) {
             String structClass = entry.getKey();
             String structName = structNames.get(entry.getKey());
-            MemberLayout memberLayout = new MemberLayout(entry.getValue().stream().map(FieldInfo::getName).toList());
+            MemberLayout memberLayout = new MemberLayout(entry.getValue().stream().map(ScannedField::name).toList());
             List<FieldDef> fieldDefs = new ArrayList<>();
-            for (FieldInfo field : entry.getValue()) {
-                String fieldClassName = field.getTypeDescriptor().toString();
+            for (ScannedField field : entry.getValue()) {
+                String fieldClassName = field.typeName();
                 if (structNames.containsKey(fieldClassName)) {
                     fieldDefs.add(new FieldDef(structNames.get(fieldClassName)));
                 } else {
@@ -115,18 +116,31 @@ public final class StructScanningHelper {
      * @return A list of struct register plans
      */
     public static List<StructRegisterPlan> scanStructClasses(StructScanningEvent event, FieldRegistry fieldRegistry) {
-        List<String> scanPackageNames = getScanPackageNames(event);
-        Map<String, ClassInfo> allClassInfos = ClassScanUtils.scan(
-                scanPackageNames,
-                "com.cleanroommc.kirino.ecs.component.scan.CleanStructSignature");
+        return scanStructClasses(event, fieldRegistry, null);
+    }
 
-        Map<String, List<FieldInfo>> structs = new TreeMap<>();
-        for (Map.Entry<String, ClassInfo> entry : allClassInfos.entrySet()) {
-            structs.put(entry.getKey(), getValidFields(allClassInfos, entry.getValue(), fieldRegistry));
+    /**
+     * Retrieve a list of struct register plans. The scan result is reused from the index if the classpath didn't change.
+     *
+     * @param event The struct scanning event
+     * @param fieldRegistry The field registry
+     * @param index The scan index, or <code>null</code> to always scan
+     * @return A list of struct register plans
+     */
+    public static List<StructRegisterPlan> scanStructClasses(StructScanningEvent event, FieldRegistry fieldRegistry, @Nullable ClassScanIndex index) {
+        List<String> scanPackageNames = getScanPackageNames(event);
+        String annotation = "com.cleanroommc.kirino.ecs.component.scan.CleanStructSignature";
+        Map<String, ScannedClass> allClasses = index == null
+                ? ClassScanUtils.scan(scanPackageNames, annotation)
+                : index.scan(scanPackageNames, annotation);
+
+        Map<String, List<ScannedField>> structs = new TreeMap<>();
+        for (Map.Entry<String, ScannedClass> entry : allClasses.entrySet()) {
+            structs.put(entry.getKey(), getValidFields(allClasses, entry.getValue(), fieldRegistry));
         }
 
         Set<String> dirtyStructs = new HashSet<>();
-        for (Map.Entry<String, List<FieldInfo>> entry : structs.entrySet()) {
+        for (Map.Entry<String, List<ScannedField>> entry : structs.entrySet()) {
             removeSelfReference(dirtyStructs, structs, entry.getKey(), Collections.singletonList(entry.getKey()), entry.getValue());
         }
 
@@ -0,0 +1,16 @@
+package com.cleanroommc.kirino.ecs.component.schema.def.field.scalar;
+
+/**
+ * Receives the flattened units of a component or struct one by one, without boxing them into an <code>Object[]</code>.
+ * <code>unit</code> is the index of the unit in the flattened layout, i.e. the same index as in the <code>Object[]</code>
+ * returned by {@link com.cleanroommc.kirino.ecs.component.ComponentRegistry#flattenComponent(com.cleanroommc.kirino.ecs.component.CleanComponent)}.
+ *
+ * @see com.cleanroommc.kirino.ecs.component.ComponentRegistry#writeComponent(com.cleanroommc.kirino.ecs.component.CleanComponent, FlattenedScalarSink)
+ */
+public interface FlattenedScalarSink {
+    void writeInt(int unit, int value);
+
+    void writeFloat(int unit, float value);
+
+    void writeBool(int unit, boolean value);
+}
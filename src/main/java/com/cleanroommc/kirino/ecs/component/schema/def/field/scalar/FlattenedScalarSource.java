@@ -0,0 +1,15 @@
+package com.cleanroommc.kirino.ecs.component.schema.def.field.scalar;
+
+/**
+ * Provides the flattened units of a component or struct one by one, without unboxing them from an <code>Object[]</code>.
+ * It's the read-side mirror of {@link FlattenedScalarSink}; <code>unit</code> is the index of the unit in the flattened layout.
+ *
+ * @see com.cleanroommc.kirino.ecs.component.ComponentRegistry#readComponent(Class, FlattenedScalarSource)
+ */
+public interface FlattenedScalarSource {
+    int readInt(int unit);
+
+    float readFloat(int unit);
+
+    boolean readBool(int unit);
+}
@@ -1,5 +1,6 @@
 package com.cleanroommc.kirino.ecs.component.schema.def.field.scalar;
 
+import com.cleanroommc.kirino.ecs.component.schema.reflect.ClassAccessor;
 import org.joml.*;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -127,4 +128,83 @@ public final class ScalarConstructor {
         }
         return null;
     }
+
+    /**
+     * The boxing-free counterpart of {@link #newScalar(ScalarType, Object...)}. Reads the units of a scalar from <code>source</code>,
+     * starting at unit <code>unit</code>, and stores the scalar into field <code>fieldOrdinal</code> of <code>target</code>.
+     *
+     * @return The number of units read
+     */
+    public static int readScalar(@NonNull ScalarType scalarType, @NonNull ClassAccessor accessor, @NonNull Object target, int fieldOrdinal, @NonNull FlattenedScalarSource source, int unit) {
+        switch (scalarType) {
+            case INT -> {
+                accessor.setInt(target, fieldOrdinal, source.readInt(unit));
+                return 1;
+            }
+            case FLOAT -> {
+                accessor.setFloat(target, fieldOrdinal, source.readFloat(unit));
+                return 1;
+            }
+            case BOOL -> {
+                accessor.setBool(target, fieldOrdinal, source.readBool(unit));
+                return 1;
+            }
+            case VEC2 -> {
+                accessor.set(target, fieldOrdinal, new Vector2f(
+                        source.readFloat(unit),
+                        source.readFloat(unit + 1)));
+                return 2;
+            }
+            case VEC3 -> {
+                accessor.set(target, fieldOrdinal, new Vector3f(
+                        source.readFloat(unit),
+                        source.readFloat(unit + 1),
+                        source.readFloat(unit + 2)));
+                return 3;
+            }
+            case VEC4 -> {
+                accessor.set(target, fieldOrdinal, new Vector4f(
+                        source.readFloat(unit),
+                        source.readFloat(unit + 1),
+                        source.readFloat(unit + 2),
+                        source.readFloat(unit + 3)));
+                return 4;
+            }
+            case MAT3 -> {
+                accessor.set(target, fieldOrdinal, new Matrix3f(
+                        source.readFloat(unit),
+                        source.readFloat(unit + 1),
+                        source.readFloat(unit + 2),
+                        source.readFloat(unit + 3),
+                        source.readFloat(unit + 4),
+                        source.readFloat(unit + 5),
+                        source.readFloat(unit + 6),
+                        source.readFloat(unit + 7),
+                        source.readFloat(unit + 8)));
+                return 9;
+            }
+            case MAT4 -> {
+                accessor.set(target, fieldOrdinal, new Matrix4f(
+                        source.readFloat(unit),
+                        source.readFloat(unit + 1),
+                        source.readFloat(unit + 2),
+                        source.readFloat(unit + 3),
+                        source.readFloat(unit + 4),
+                        source.readFloat(unit + 5),
+                        source.readFloat(unit + 6),
+                        source.readFloat(unit + 7),
+                        source.readFloat(unit + 8),
+                        source.readFloat(unit + 9),
+                        source.readFloat(unit + 10),
+                        source.readFloat(unit + 11),
+                        source.readFloat(unit + 12),
+                        source.readFloat(unit + 13),
+                        source.readFloat(unit + 14),
+                        source.readFloat(unit + 15)));
+                return 16;
+            }
+        }
+
+        throw new IllegalStateException("Invalid scalar type."); // impossible
+    }
 }
@@ -1,5 +1,6 @@
 package com.cleanroommc.kirino.ecs.component.schema.def.field.scalar;
 
+import com.cleanroommc.kirino.ecs.component.schema.reflect.ClassAccessor;
 import com.google.common.base.Preconditions;
 import org.joml.*;
 import org.jspecify.annotations.NonNull;
@@ -70,4 +71,105 @@ public final class ScalarDeconstructor {
 
         throw new IllegalStateException("Invalid scalar type."); // impossible
     }
+
+    /**
+     * The boxing-free counterpart of {@link #flattenScalar(ScalarType, Object)}. Reads field <code>fieldOrdinal</code> of
+     * <code>target</code> and writes its units to <code>sink</code>, starting at unit <code>unit</code>.
+     * <code>INT</code>, <code>FLOAT</code> and <code>BOOL</code> fields go through the typed getters of the accessor.
+     *
+     * @return The number of units written
+     */
+    public static int writeScalar(@NonNull ScalarType scalarType, @NonNull ClassAccessor accessor, @NonNull Object target, int fieldOrdinal, @NonNull FlattenedScalarSink sink, int unit) {
+        switch (scalarType) {
+            case INT -> {
+                sink.writeInt(unit, accessor.getInt(target, fieldOrdinal));
+                return 1;
+            }
+            case FLOAT -> {
+                sink.writeFloat(unit, accessor.getFloat(target, fieldOrdinal));
+                return 1;
+            }
+            case BOOL -> {
+                sink.writeBool(unit, accessor.getBool(target, fieldOrdinal));
+                return 1;
+            }
+        }
+
+        Object scalarInstance = accessor.get(target, fieldOrdinal);
+        Preconditions.checkNotNull(scalarInstance);
+
+        switch (scalarType) {
+            case VEC2 -> {
+                Preconditions.checkArgument(scalarInstance instanceof Vector2f,
+                        "Expected a org.joml.Vector2f. Got %s instead.", scalarInstance.getClass().getName());
+
+                Vector2f vector2f = (Vector2f) scalarInstance;
+                sink.writeFloat(unit, vector2f.x);
+                sink.writeFloat(unit + 1, vector2f.y);
+                return 2;
+            }
+            case VEC3 -> {
+                Preconditions.checkArgument(scalarInstance instanceof Vector3f,
+                        "Expected a org.joml.vector3f. Got %s instead.", scalarInstance.getClass().getName());
+
+                Vector3f vector3f = (Vector3f) scalarInstance;
+                sink.writeFloat(unit, vector3f.x);
+                sink.writeFloat(unit + 1, vector3f.y);
+                sink.writeFloat(unit + 2, vector3f.z);
+                return 3;
+            }
+            case VEC4 -> {
+                Preconditions.checkArgument(scalarInstance instanceof Vector4f,
+                        "Expected a org.joml.vector4f. Got %s instead.", scalarInstance.getClass().getName());
+
+                Vector4f vector4f = (Vector4f) scalarInstance;
+                sink.writeFloat(unit, vector4f.x);
+                sink.writeFloat(unit + 1, vector4f.y);
+                sink.writeFloat(unit + 2, vector4f.z);
+                sink.writeFloat(unit + 3, vector4f.w);
+                return 4;
+            }
+            case MAT3 -> {
+                Preconditions.checkArgument(scalarInstance instanceof Matrix3f,
+                        "Expected a org.joml.Matrix3f. Got %s instead.", scalarInstance.getClass().getName());
+
+                Matrix3f matrix3f = (Matrix3f) scalarInstance;
+                sink.writeFloat(unit, matrix3f.m00);
+                sink.writeFloat(unit + 1, matrix3f.m01);
+                sink.writeFloat(unit + 2, matrix3f.m02);
+                sink.writeFloat(unit + 3, matrix3f.m10);
+                sink.writeFloat(unit + 4, matrix3f.m11);
+                sink.writeFloat(unit + 5, matrix3f.m12);
+                sink.writeFloat(unit + 6, matrix3f.m20);
+                sink.writeFloat(unit + 7, matrix3f.m21);
+                sink.writeFloat(unit + 8, matrix3f.m22);
+                return 9;
+            }
+            case MAT4 -> {
+                Preconditions.checkArgument(scalarInstance instanceof Matrix4f,
+                        "Expected a org.joml.Matrix4f. Got %s instead.", scalarInstance.getClass().getName());
+
+                Matrix4f matrix4f = (Matrix4f) scalarInstance;
+                sink.writeFloat(unit, matrix4f.m00());
+                sink.writeFloat(unit + 1, matrix4f.m01());
+                sink.writeFloat(unit + 2, matrix4f.m02());
+                sink.writeFloat(unit + 3, matrix4f.m03());
+                sink.writeFloat(unit + 4, matrix4f.m10());
+                sink.writeFloat(unit + 5, matrix4f.m11());
+                sink.writeFloat(unit + 6, matrix4f.m12());
+                sink.writeFloat(unit + 7, matrix4f.m13());
+                sink.writeFloat(unit + 8, matrix4f.m20());
+                sink.writeFloat(unit + 9, matrix4f.m21());
+                sink.writeFloat(unit + 10, matrix4f.m22());
+                sink.writeFloat(unit + 11, matrix4f.m23());
+                sink.writeFloat(unit + 12, matrix4f.m30());
+                sink.writeFloat(unit + 13, matrix4f.m31());
+                sink.writeFloat(unit + 14, matrix4f.m32());
+                sink.writeFloat(unit + 15, matrix4f.m33());
+                return 16;
+            }
+        }
+
+        throw new IllegalStateException("Invalid scalar type."); // impossible
+    }
 }
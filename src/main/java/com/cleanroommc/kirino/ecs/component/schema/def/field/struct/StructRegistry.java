@@ -2,12 +2,15 @@ package com.cleanroommc.kirino.ecs.component.schema.def.field.struct;
 
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldDef;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldKind;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarSink;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarSource;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarType;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarConstructor;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarDeconstructor;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarType;
 import com.cleanroommc.kirino.ecs.component.schema.meta.MemberLayout;
 import com.cleanroommc.kirino.ecs.component.schema.reflect.AccessHandlePool;
+import com.cleanroommc.kirino.ecs.component.schema.reflect.ClassAccessor;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
@@ -36,6 +39,11 @@ public class StructRegistry {
         structTypeNameClassMapping.put(name, clazz);
         structDefMap.put(name, structDef);
         classMemberLayoutMap.put(name, memberLayout);
+
+        // generate the accessor now, so constructing structs never resolves anything
+        if (!structAccessHandlePool.classRegistered(clazz)) {
+            structAccessHandlePool.register(clazz, memberLayout);
+        }
     }
 
     public ImmutableMap<String, StructDef> getStructDefMap() {
@@ -299,12 +307,12 @@ public class StructRegistry {
             structAccessHandlePool.register(structClass, memberLayout);
         }
 
-        Object output = structAccessHandlePool.newClass(structClass);
+        ClassAccessor accessor = structAccessHandlePool.getAccessor(structClass);
+        Object output = accessor.newInstance();
 
         int index = 0;
         for (int i = 0; i < structDef.fields.size(); i++) {
             FieldDef fieldDef = structDef.fields.get(i);
-            String fieldName = memberLayout.fieldNames.get(i);
 
             Object value = null;
             int unitCount = 0;
@@ -317,12 +325,54 @@ public class StructRegistry {
             }
             index += unitCount;
 
-            structAccessHandlePool.setFieldValue(structClass, output, fieldName, value);
+            accessor.set(output, i, value);
         }
 
         return output;
     }
 
+    /**
+     * The boxing-free counterpart of {@link #newStruct(String, Object...)}. Constructs a struct of type <code>name</code>
+     * from the units of <code>source</code>, starting at unit <code>unit</code>.
+     */
+    public @NonNull Object readStruct(@NonNull String name, @NonNull FlattenedScalarSource source, int unit) {
+        Preconditions.checkArgument(structTypeExists(name),
+                "Struct type %s doesn't exist.", name);
+
+        Object output = newStructInstance(name);
+        readStructFields(name, output, source, unit);
+        return output;
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private Object newStructInstance(String name) {
+        return structAccessHandlePool.getAccessor(getStructClass(name)).newInstance();
+    }
+
+    /**
+     * @return The number of units read
+     */
+    @SuppressWarnings("DataFlowIssue")
+    private int readStructFields(String name, Object output, FlattenedScalarSource source, int unit) {
+        StructDef structDef = getStructDef(name);
+        ClassAccessor accessor = structAccessHandlePool.getAccessor(output.getClass());
+
+        int index = unit;
+        for (int i = 0; i < structDef.fields.size(); i++) {
+            FieldDef fieldDef = structDef.fields.get(i);
+
+            if (fieldDef.fieldKind == FieldKind.SCALAR) {
+                index += ScalarConstructor.readScalar(fieldDef.scalarType, accessor, output, i, source, index);
+            } else if (fieldDef.fieldKind == FieldKind.STRUCT) {
+                Object struct = newStructInstance(fieldDef.structTypeName);
+                index += readStructFields(fieldDef.structTypeName, struct, source, index);
+                accessor.set(output, i, struct);
+            }
+        }
+
+        return index - unit;
+    }
+
     // -----Struct Deconstruction-----
 
     @SuppressWarnings("DataFlowIssue")
@@ -340,21 +390,22 @@ public class StructRegistry {
             structAccessHandlePool.register(structInstance.getClass(), memberLayout);
         }
 
+        ClassAccessor accessor = structAccessHandlePool.getAccessor(structInstance.getClass());
+
         Object[] args = new Object[flattenedUnitCount(name)];
 
         int index = 0;
         for (int i = 0; i < structDef.fields.size(); i++) {
             FieldDef fieldDef = structDef.fields.get(i);
-            String fieldName = memberLayout.fieldNames.get(i);
 
             int unitCount = 0;
             Object[] _args = null;
             if (fieldDef.fieldKind == FieldKind.SCALAR) {
                 unitCount = FlattenedScalarType.flattenedUnitCount(fieldDef.scalarType);
-                _args = ScalarDeconstructor.flattenScalar(fieldDef.scalarType, structAccessHandlePool.getFieldValue(structInstance.getClass(), structInstance, fieldName));
+                _args = ScalarDeconstructor.flattenScalar(fieldDef.scalarType, accessor.get(structInstance, i));
             } else if (fieldDef.fieldKind == FieldKind.STRUCT) {
                 unitCount = flattenedUnitCount(fieldDef.structTypeName);
-                _args = flattenStruct(structAccessHandlePool.getFieldValue(structInstance.getClass(), structInstance, fieldName));
+                _args = flattenStruct(accessor.get(structInstance, i));
             }
             System.arraycopy(_args, 0, args, index, unitCount);
             index += unitCount;
@@ -362,4 +413,41 @@ public class StructRegistry {
 
         return args;
     }
+
+    /**
+     * The boxing-free counterpart of {@link #flattenStruct(Object)}. Writes the units of <code>structInstance</code>
+     * to <code>sink</code>, starting at unit <code>unit</code>.
+     *
+     * @return The number of units written
+     */
+    @SuppressWarnings("DataFlowIssue")
+    public int writeStruct(@NonNull Object structInstance, @NonNull FlattenedScalarSink sink, int unit) {
+        Preconditions.checkNotNull(structInstance);
+        Preconditions.checkArgument(structTypeExists(structInstance.getClass()),
+                "Struct class %s isn't registered.", structInstance.getClass().getName());
+
+        String name = getStructTypeName(structInstance.getClass());
+
+        StructDef structDef = getStructDef(name);
+        MemberLayout memberLayout = getClassMemberLayout(name);
+
+        if (!structAccessHandlePool.classRegistered(structInstance.getClass())) {
+            structAccessHandlePool.register(structInstance.getClass(), memberLayout);
+        }
+
+        ClassAccessor accessor = structAccessHandlePool.getAccessor(structInstance.getClass());
+
+        int index = unit;
+        for (int i = 0; i < structDef.fields.size(); i++) {
+            FieldDef fieldDef = structDef.fields.get(i);
+
+            if (fieldDef.fieldKind == FieldKind.SCALAR) {
+                index += ScalarDeconstructor.writeScalar(fieldDef.scalarType, accessor, structInstance, i, sink, index);
+            } else if (fieldDef.fieldKind == FieldKind.STRUCT) {
+                index += writeStruct(accessor.get(structInstance, i), sink, index);
+            }
+        }
+
+        return index - unit;
+    }
 }
@@ -6,33 +6,33 @@ import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Holds one {@link ClassAccessor} per registered class. The accessor is generated as a hidden class
+ * (see {@link ClassAccessorGenerator}) and falls back to {@link VarHandle}s if the class can't be accessed directly.
+ * <br><br>
+ * Register every class up front, then it's safe to read from multiple threads.
+ */
 public class AccessHandlePool {
     private final Map<Class<?>, MemberLayout> memberLayoutMap = new HashMap<>();
-    private final Map<Class<?>, MethodHandle> constructorHandleMap = new HashMap<>();
-    private final Map<Class<?>, Map<String, MethodHandle>> setterHandleMap = new HashMap<>();
-    private final Map<Class<?>, Map<String, MethodHandle>> getterHandleMap = new HashMap<>();
+    private final Map<Class<?>, ClassAccessor> accessorMap = new HashMap<>();
 
     public void register(@NonNull Class<?> clazz, @NonNull MemberLayout memberLayout) {
+        ClassAccessor accessor;
         try {
-            MethodHandle ctorHandle = ReflectionUtils.getConstructor(clazz);
-            constructorHandleMap.put(clazz, ctorHandle);
-
-            Map<String, MethodHandle> setters = setterHandleMap.computeIfAbsent(clazz, (key) -> new HashMap<>());
-            Map<String, MethodHandle> getters = getterHandleMap.computeIfAbsent(clazz, (key) -> new HashMap<>());
-            for (String fieldName: memberLayout.fieldNames) {
-                VarHandle fieldHandle = ReflectionUtils.getFieldHandleByNameIncludingSuperclasses(clazz, fieldName);
-                MethodHandle setterHandle = fieldHandle.toMethodHandle(VarHandle.AccessMode.SET);
-                setters.put(fieldName, setterHandle);
-                MethodHandle getterHandle = fieldHandle.toMethodHandle(VarHandle.AccessMode.GET);
-                getters.put(fieldName, getterHandle);
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, ReflectionUtils.getLookup());
+            accessor = ClassAccessorGenerator.generate(lookup, clazz, memberLayout);
+            if (accessor == null) {
+                accessor = HandleAccessor.create(clazz, memberLayout);
             }
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        accessorMap.put(clazz, accessor);
         memberLayoutMap.put(clazz, memberLayout);
     }
 
@@ -40,15 +40,22 @@ public class AccessHandlePool {
         return memberLayoutMap.containsKey(clazz);
     }
 
+    /**
+     * @return The accessor, or <code>null</code> if the class isn't registered
+     */
+    @Nullable
+    public ClassAccessor getAccessor(@NonNull Class<?> clazz) {
+        return accessorMap.get(clazz);
+    }
+
     @Nullable
     public Object newClass(@NonNull Class<?> clazz) {
         if (!classRegistered(clazz)) {
             return null;
         }
 
-        MethodHandle ctor = constructorHandleMap.get(clazz);
         try {
-            return ctor.invoke();
+            return accessorMap.get(clazz).newInstance();
         } catch (Throwable e) {
             return null;
         }
@@ -59,13 +66,13 @@ public class AccessHandlePool {
             return;
         }
 
-        MethodHandle setter = setterHandleMap.get(clazz).get(fieldName);
-        if (setter == null) {
+        int fieldOrdinal = memberLayoutMap.get(clazz).fieldNames.indexOf(fieldName);
+        if (fieldOrdinal == -1) {
             return;
         }
 
         try {
-            setter.invoke(target, value);
+            accessorMap.get(clazz).set(target, fieldOrdinal, value);
         } catch (Throwable ignore) {
         }
     }
@@ -76,15 +83,70 @@ public class AccessHandlePool {
             return null;
         }
 
-        MethodHandle getter = getterHandleMap.get(clazz).get(fieldName);
-        if (getter == null) {
+        int fieldOrdinal = memberLayoutMap.get(clazz).fieldNames.indexOf(fieldName);
+        if (fieldOrdinal == -1) {
             return null;
         }
 
         try {
-            return getter.invoke(target);
+            return accessorMap.get(clazz).get(target, fieldOrdinal);
         } catch (Throwable e) {
             return null;
         }
     }
+
+    /**
+     * The fallback accessor backed by method handles.
+     */
+    private static final class HandleAccessor implements ClassAccessor {
+        private final MethodHandle ctor;
+        private final MethodHandle[] getters;
+        private final MethodHandle[] setters;
+
+        private HandleAccessor(MethodHandle ctor, MethodHandle[] getters, MethodHandle[] setters) {
+            this.ctor = ctor;
+            this.getters = getters;
+            this.setters = setters;
+        }
+
+        static HandleAccessor create(Class<?> clazz, MemberLayout memberLayout) throws NoSuchFieldException, IllegalAccessException {
+            MethodHandle ctor = ReflectionUtils.getConstructor(clazz);
+            int fieldCount = memberLayout.fieldNames.size();
+            MethodHandle[] getters = new MethodHandle[fieldCount];
+            MethodHandle[] setters = new MethodHandle[fieldCount];
+            for (int i = 0; i < fieldCount; i++) {
+                VarHandle fieldHandle = ReflectionUtils.getFieldHandleByNameIncludingSuperclasses(clazz, memberLayout.fieldNames.get(i));
+                getters[i] = fieldHandle.toMethodHandle(VarHandle.AccessMode.GET);
+                setters[i] = fieldHandle.toMethodHandle(VarHandle.AccessMode.SET);
+            }
+            return new HandleAccessor(ctor, getters, setters);
+        }
+
+        @Override
+        public @NonNull Object newInstance() {
+            try {
+                return ctor.invoke();
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public @Nullable Object get(@NonNull Object target, int fieldOrdinal) {
+            try {
+                return getters[fieldOrdinal].invoke(target);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public void set(@NonNull Object target, int fieldOrdinal, @Nullable Object value) {
+            try {
+                setters[fieldOrdinal].invoke(target, value);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
 }
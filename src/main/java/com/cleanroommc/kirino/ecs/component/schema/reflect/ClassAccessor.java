@@ -0,0 +1,48 @@
+package com.cleanroommc.kirino.ecs.component.schema.reflect;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Constructs a registered class and accesses its fields by the field ordinal of its {@link com.cleanroommc.kirino.ecs.component.schema.meta.MemberLayout}.
+ * Primitive fields are boxed and unboxed by {@link #get(Object, int)} and {@link #set(Object, int, Object)};
+ * The typed getters and setters access <code>int</code>/<code>float</code>/<code>boolean</code> fields without boxing where the implementation can.
+ *
+ * @see AccessHandlePool#getAccessor(Class)
+ */
+public interface ClassAccessor {
+    @NonNull
+    Object newInstance();
+
+    @Nullable
+    Object get(@NonNull Object target, int fieldOrdinal);
+
+    void set(@NonNull Object target, int fieldOrdinal, @Nullable Object value);
+
+    @SuppressWarnings("DataFlowIssue")
+    default int getInt(@NonNull Object target, int fieldOrdinal) {
+        return (Integer) get(target, fieldOrdinal);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    default float getFloat(@NonNull Object target, int fieldOrdinal) {
+        return (Float) get(target, fieldOrdinal);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    default boolean getBool(@NonNull Object target, int fieldOrdinal) {
+        return (Boolean) get(target, fieldOrdinal);
+    }
+
+    default void setInt(@NonNull Object target, int fieldOrdinal, int value) {
+        set(target, fieldOrdinal, value);
+    }
+
+    default void setFloat(@NonNull Object target, int fieldOrdinal, float value) {
+        set(target, fieldOrdinal, value);
+    }
+
+    default void setBool(@NonNull Object target, int fieldOrdinal, boolean value) {
+        set(target, fieldOrdinal, value);
+    }
+}
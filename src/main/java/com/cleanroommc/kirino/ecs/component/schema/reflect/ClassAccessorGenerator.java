@@ -0,0 +1,344 @@
+package com.cleanroommc.kirino.ecs.component.schema.reflect;
+
+import com.cleanroommc.kirino.ecs.component.schema.meta.MemberLayout;
+import com.cleanroommc.kirino.utils.ReflectionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Generate a {@link ClassAccessor} as a hidden class next to the target class. The accessor calls the constructor
+ * and reads/writes the fields with plain <code>new</code>/<code>getfield</code>/<code>putfield</code>, dispatched by a <code>tableswitch</code>,
+ * so the JIT sees through it like through hand-written code.
+ * <br><br>
+ * The hidden class is a nestmate of the target class, so private members of the target class are accessible.
+ * Members that still aren't (e.g. final fields, or private fields of a superclass) make the generation give up.
+ */
+final class ClassAccessorGenerator implements Opcodes {
+    private static final Logger LOGGER = LogManager.getLogger("Kirino ClassAccessorGenerator");
+
+    private static final String ACCESSOR = Type.getInternalName(ClassAccessor.class);
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String OUT_OF_BOUNDS = Type.getInternalName(IndexOutOfBoundsException.class);
+
+    private ClassAccessorGenerator() {
+    }
+
+    /**
+     * @return The generated accessor, or <code>null</code> if the class can't be accessed directly
+     */
+    @Nullable
+    static ClassAccessor generate(@NonNull MethodHandles.Lookup lookup, @NonNull Class<?> clazz, @NonNull MemberLayout memberLayout) {
+        Constructor<?> ctor;
+        Field[] fields = new Field[memberLayout.fieldNames.size()];
+        try {
+            ctor = clazz.getDeclaredConstructor();
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = findField(clazz, memberLayout.fieldNames.get(i));
+            }
+        } catch (NoSuchMethodException | NoSuchFieldException e) {
+            LOGGER.debug("Skipped the accessor of " + clazz.getName() + ": missing member " + e.getMessage() + ".");
+            return null;
+        }
+
+        if (Modifier.isAbstract(clazz.getModifiers()) || !accessible(clazz, ctor)) {
+            LOGGER.debug("Skipped the accessor of " + clazz.getName() + ": the constructor isn't accessible.");
+            return null;
+        }
+        for (Field field : fields) {
+            if (Modifier.isStatic(field.getModifiers())
+                    || Modifier.isFinal(field.getModifiers())
+                    || !accessible(clazz, field)
+                    || !accessible(clazz, field.getType())) {
+                LOGGER.debug("Skipped the accessor of " + clazz.getName() + ": field " + field.getName() + " isn't directly accessible.");
+                return null;
+            }
+        }
+
+        try {
+            byte[] bytes = generateBytes(clazz, List.of(fields));
+            Class<?> accessorClass = lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE).lookupClass();
+            return (ClassAccessor) accessorClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | IllegalArgumentException | LinkageError e) {
+            // the checks above should rule this out, so it's worth a warning; the caller still falls back to handles
+            LOGGER.warn("Failed to generate the accessor of " + clazz.getName() + ". Falling back to method handles.", e);
+            return null;
+        }
+    }
+
+    private static Field findField(Class<?> clazz, String fieldName) throws NoSuchFieldException {
+        // same resolution as ReflectionUtils#getFieldHandleByNameIncludingSuperclasses
+        for (Field field : ReflectionUtils.getAllFieldsIncludingSuperclasses(clazz)) {
+            if (field.getName().equals(fieldName)) {
+                return field;
+            }
+        }
+        throw new NoSuchFieldException(fieldName);
+    }
+
+    private static boolean samePackage(Class<?> a, Class<?> b) {
+        return a.getClassLoader() == b.getClassLoader() && a.getPackageName().equals(b.getPackageName());
+    }
+
+    private static boolean accessible(Class<?> host, Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        return type.isPrimitive() || Modifier.isPublic(type.getModifiers()) || samePackage(host, type);
+    }
+
+    private static boolean accessible(Class<?> host, Member member) {
+        Class<?> declaringClass = member.getDeclaringClass();
+        int modifiers = member.getModifiers();
+        if (Modifier.isPrivate(modifiers)) {
+            return declaringClass.getNestHost() == host.getNestHost();
+        }
+        if (Modifier.isPublic(modifiers)) {
+            return accessible(host, declaringClass);
+        }
+        // protected members of a superclass in another package need a subclass to access them
+        return samePackage(host, declaringClass);
+    }
+
+    private static byte[] generateBytes(Class<?> clazz, List<Field> fields) {
+        String owner = Type.getInternalName(clazz);
+        String name = owner + "$ClassAccessor";
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                // never called for branches that merge different types; Avoid loading classes
+                return OBJECT;
+            }
+        };
+        cw.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name, null, OBJECT, new String[]{ACCESSOR});
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(ACC_PUBLIC, "newInstance", "()Ljava/lang/Object;", null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(NEW, owner);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, owner, "<init>", "()V", false);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // Object get(Object target, int fieldOrdinal)
+        mv = cw.visitMethod(ACC_PUBLIC, "get", "(Ljava/lang/Object;I)Ljava/lang/Object;", null, null);
+        mv.visitCode();
+        Label[] labels = newLabels(fields.size());
+        Label outOfBounds = new Label();
+        tableSwitch(mv, outOfBounds, labels);
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            Type fieldType = Type.getType(field.getType());
+            mv.visitLabel(labels[i]);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, owner);
+            mv.visitFieldInsn(GETFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(), fieldType.getDescriptor());
+            box(mv, fieldType);
+            mv.visitInsn(ARETURN);
+        }
+        throwOutOfBounds(mv, outOfBounds);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // void set(Object target, int fieldOrdinal, Object value)
+        mv = cw.visitMethod(ACC_PUBLIC, "set", "(Ljava/lang/Object;ILjava/lang/Object;)V", null, null);
+        mv.visitCode();
+        labels = newLabels(fields.size());
+        outOfBounds = new Label();
+        tableSwitch(mv, outOfBounds, labels);
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            Type fieldType = Type.getType(field.getType());
+            mv.visitLabel(labels[i]);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, owner);
+            mv.visitVarInsn(ALOAD, 3);
+            unbox(mv, fieldType);
+            mv.visitFieldInsn(PUTFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(), fieldType.getDescriptor());
+            mv.visitInsn(RETURN);
+        }
+        throwOutOfBounds(mv, outOfBounds);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        generateTypedGetter(cw, owner, fields, "getInt", Type.INT_TYPE, IRETURN);
+        generateTypedGetter(cw, owner, fields, "getFloat", Type.FLOAT_TYPE, FRETURN);
+        generateTypedGetter(cw, owner, fields, "getBool", Type.BOOLEAN_TYPE, IRETURN);
+        generateTypedSetter(cw, owner, fields, "setInt", Type.INT_TYPE, ILOAD);
+        generateTypedSetter(cw, owner, fields, "setFloat", Type.FLOAT_TYPE, FLOAD);
+        generateTypedSetter(cw, owner, fields, "setBool", Type.BOOLEAN_TYPE, ILOAD);
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Override a typed getter of {@link ClassAccessor}. Fields of exactly <code>type</code> are read without boxing;
+     * Any other ordinal falls back to <code>get</code> and unboxes, like the default method.
+     */
+    private static void generateTypedGetter(ClassWriter cw, String owner, List<Field> fields, String methodName, Type type, int returnOpcode) {
+        boolean any = false;
+        for (Field field : fields) {
+            any |= Type.getType(field.getType()).equals(type);
+        }
+        if (!any) {
+            return;
+        }
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, "(Ljava/lang/Object;I)" + type.getDescriptor(), null, null);
+        mv.visitCode();
+        Label fallback = new Label();
+        Label[] labels = new Label[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            labels[i] = Type.getType(fields.get(i).getType()).equals(type) ? new Label() : fallback;
+        }
+        tableSwitch(mv, fallback, labels);
+        for (int i = 0; i < fields.size(); i++) {
+            if (labels[i] == fallback) {
+                continue;
+            }
+            Field field = fields.get(i);
+            mv.visitLabel(labels[i]);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, owner);
+            mv.visitFieldInsn(GETFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(), type.getDescriptor());
+            mv.visitInsn(returnOpcode);
+        }
+        mv.visitLabel(fallback);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ILOAD, 2);
+        mv.visitMethodInsn(INVOKEINTERFACE, ACCESSOR, "get", "(Ljava/lang/Object;I)Ljava/lang/Object;", true);
+        unbox(mv, type);
+        mv.visitInsn(returnOpcode);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Override a typed setter of {@link ClassAccessor}. Fields of exactly <code>type</code> are written without boxing;
+     * Any other ordinal boxes the value and falls back to <code>set</code>, like the default method.
+     */
+    private static void generateTypedSetter(ClassWriter cw, String owner, List<Field> fields, String methodName, Type type, int loadOpcode) {
+        boolean any = false;
+        for (Field field : fields) {
+            any |= Type.getType(field.getType()).equals(type);
+        }
+        if (!any) {
+            return;
+        }
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, "(Ljava/lang/Object;I" + type.getDescriptor() + ")V", null, null);
+        mv.visitCode();
+        Label fallback = new Label();
+        Label[] labels = new Label[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            labels[i] = Type.getType(fields.get(i).getType()).equals(type) ? new Label() : fallback;
+        }
+        tableSwitch(mv, fallback, labels);
+        for (int i = 0; i < fields.size(); i++) {
+            if (labels[i] == fallback) {
+                continue;
+            }
+            Field field = fields.get(i);
+            mv.visitLabel(labels[i]);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, owner);
+            mv.visitVarInsn(loadOpcode, 3);
+            mv.visitFieldInsn(PUTFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(), type.getDescriptor());
+            mv.visitInsn(RETURN);
+        }
+        mv.visitLabel(fallback);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ILOAD, 2);
+        mv.visitVarInsn(loadOpcode, 3);
+        box(mv, type);
+        mv.visitMethodInsn(INVOKEINTERFACE, ACCESSOR, "set", "(Ljava/lang/Object;ILjava/lang/Object;)V", true);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static Label[] newLabels(int count) {
+        Label[] labels = new Label[count];
+        for (int i = 0; i < count; i++) {
+            labels[i] = new Label();
+        }
+        return labels;
+    }
+
+    private static void tableSwitch(MethodVisitor mv, Label outOfBounds, Label[] labels) {
+        if (labels.length == 0) {
+            mv.visitJumpInsn(GOTO, outOfBounds);
+            return;
+        }
+        mv.visitVarInsn(ILOAD, 2);
+        mv.visitTableSwitchInsn(0, labels.length - 1, outOfBounds, labels);
+    }
+
+    private static void throwOutOfBounds(MethodVisitor mv, Label label) {
+        mv.visitLabel(label);
+        mv.visitTypeInsn(NEW, OUT_OF_BOUNDS);
+        mv.visitInsn(DUP);
+        mv.visitVarInsn(ILOAD, 2);
+        mv.visitMethodInsn(INVOKESPECIAL, OUT_OF_BOUNDS, "<init>", "(I)V", false);
+        mv.visitInsn(ATHROW);
+    }
+
+    private static Type boxedType(Type type) {
+        return switch (type.getSort()) {
+            case Type.BOOLEAN -> Type.getType(Boolean.class);
+            case Type.BYTE -> Type.getType(Byte.class);
+            case Type.CHAR -> Type.getType(Character.class);
+            case Type.SHORT -> Type.getType(Short.class);
+            case Type.INT -> Type.getType(Integer.class);
+            case Type.LONG -> Type.getType(Long.class);
+            case Type.FLOAT -> Type.getType(Float.class);
+            case Type.DOUBLE -> Type.getType(Double.class);
+            default -> type;
+        };
+    }
+
+    private static void box(MethodVisitor mv, Type type) {
+        Type boxed = boxedType(type);
+        if (boxed != type) {
+            mv.visitMethodInsn(INVOKESTATIC, boxed.getInternalName(), "valueOf",
+                    Type.getMethodDescriptor(boxed, type), false);
+        }
+    }
+
+    private static void unbox(MethodVisitor mv, Type type) {
+        Type boxed = boxedType(type);
+        if (boxed == type) {
+            mv.visitTypeInsn(CHECKCAST, type.getInternalName());
+        } else {
+            mv.visitTypeInsn(CHECKCAST, boxed.getInternalName());
+            mv.visitMethodInsn(INVOKEVIRTUAL, boxed.getInternalName(), type.getClassName() + "Value",
+                    Type.getMethodDescriptor(type), false);
+        }
+    }
+}
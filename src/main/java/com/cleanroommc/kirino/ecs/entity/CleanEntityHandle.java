@@ -1,6 +1,10 @@
 package com.cleanroommc.kirino.ecs.entity;
 
 import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.CleanTag;
+import com.cleanroommc.kirino.ecs.storage.ColumnHandle;
+import com.cleanroommc.kirino.ecs.storage.PrimitiveArrayType;
+import com.google.common.base.Preconditions;
 import org.jspecify.annotations.NonNull;
 
 import java.util.Objects;
@@ -25,6 +29,35 @@ public class CleanEntityHandle {
         return generation == entityManager.getLatestGeneration(index);
     }
 
+    //<editor-fold desc="packed handles">
+    /**
+     * Pack an index and a generation into one <code>long</code>, so a handle can be stored in primitive collections
+     * or component columns without allocating. See {@link EntityManager#isValid(long)}.
+     *
+     * @param index The index of the entity
+     * @param generation The generation of the entity
+     * @return The packed handle
+     */
+    public static long pack(int index, int generation) {
+        return ((long) generation << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    public static int unpackIndex(long packedHandle) {
+        return (int) packedHandle;
+    }
+
+    public static int unpackGeneration(long packedHandle) {
+        return (int) (packedHandle >>> 32);
+    }
+
+    /**
+     * @return This handle packed by {@link #pack(int, int)}
+     */
+    public long packed() {
+        return pack(index, generation);
+    }
+    //</editor-fold>
+
     /**
      * This method returns <code>false</code> if the entity handle is expired (i.e. corresponding entity is destroyed).
      * </br>
@@ -42,9 +75,7 @@ public class CleanEntityHandle {
             return false;
         }
 
-        entityManager.destroyEntity(index);
-
-        return true;
+        return entityManager.tryDestroyEntity(index, generation);
     }
 
     /**
@@ -74,11 +105,94 @@ public class CleanEntityHandle {
             return false;
         }
 
-        synchronized (entityManager.commandBuffer) {
-            EntityCommand command = new EntityCommand(index, EntityCommand.Type.SET_COM);
-            command.componentToSet = component;
-            entityManager.commandBuffer.add(command);
+        EntityCommand command = new EntityCommand(index, EntityCommand.Type.SET_COM);
+        command.generation = generation;
+        command.componentToSet = component;
+        entityManager.record(command);
+
+        return true;
+    }
+
+    /**
+     * Typed version of {@link #trySetComponent(CleanComponent)} that only writes one scalar column.
+     * Unlike {@link #trySetComponent(CleanComponent)}, the component is neither flattened nor boxed during {@link EntityManager#flush()}.
+     * <br/>
+     * This method returns <code>false</code> if the entity handle is expired (i.e. corresponding entity is destroyed),
+     * OR the entity doesn't have the component of this column.
+     * </br>
+     * The action won't execute immediately but after {@link EntityManager#flush()}.
+     * </br></br>
+     * Thread safety is guaranteed.
+     *
+     * @param column The column handle whose type is {@link PrimitiveArrayType#INT}
+     * @param value The value
+     * @return Whether you successfully executed the method
+     *
+     * @see EntityManager#flush()
+     * @see EntityManager#newColumnHandle(Class, String...)
+     */
+    public boolean trySetInt(@NonNull ColumnHandle column, int value) {
+        Preconditions.checkArgument(column.type == PrimitiveArrayType.INT,
+                "The type of the argument \"column\" must be INT.");
+
+        if (!valid()) {
+            return false;
+        }
+        if (!entityManager.getComponentTypes(index).contains(column.component)) {
+            return false;
+        }
+
+        EntityCommand command = new EntityCommand(index, EntityCommand.Type.SET_INT);
+        command.generation = generation;
+        command.columnToSet = column;
+        command.intToSet = value;
+        entityManager.record(command);
+
+        return true;
+    }
+
+    /**
+     * Float version of {@link #trySetInt(ColumnHandle, int)}.
+     */
+    public boolean trySetFloat(@NonNull ColumnHandle column, float value) {
+        Preconditions.checkArgument(column.type == PrimitiveArrayType.FLOAT,
+                "The type of the argument \"column\" must be FLOAT.");
+
+        if (!valid()) {
+            return false;
+        }
+        if (!entityManager.getComponentTypes(index).contains(column.component)) {
+            return false;
+        }
+
+        EntityCommand command = new EntityCommand(index, EntityCommand.Type.SET_FLOAT);
+        command.generation = generation;
+        command.columnToSet = column;
+        command.floatToSet = value;
+        entityManager.record(command);
+
+        return true;
+    }
+
+    /**
+     * Boolean version of {@link #trySetInt(ColumnHandle, int)}.
+     */
+    public boolean trySetBool(@NonNull ColumnHandle column, boolean value) {
+        Preconditions.checkArgument(column.type == PrimitiveArrayType.BOOL,
+                "The type of the argument \"column\" must be BOOL.");
+
+        if (!valid()) {
+            return false;
         }
+        if (!entityManager.getComponentTypes(index).contains(column.component)) {
+            return false;
+        }
+
+        EntityCommand command = new EntityCommand(index, EntityCommand.Type.SET_BOOL);
+        command.generation = generation;
+        command.columnToSet = column;
+        command.boolToSet = value;
+        entityManager.record(command);
 
         return true;
     }
@@ -106,11 +220,10 @@ public class CleanEntityHandle {
             return false;
         }
 
-        synchronized (entityManager.commandBuffer) {
-            EntityCommand command = new EntityCommand(index, EntityCommand.Type.ADD_COM);
-            command.componentToAdd = component;
-            entityManager.commandBuffer.add(command);
-        }
+        EntityCommand command = new EntityCommand(index, EntityCommand.Type.ADD_COM);
+        command.generation = generation;
+        command.componentToAdd = component;
+        entityManager.record(command);
 
         return true;
     }
@@ -136,15 +249,66 @@ public class CleanEntityHandle {
             return false;
         }
 
-        synchronized (entityManager.commandBuffer) {
-            EntityCommand command = new EntityCommand(index, EntityCommand.Type.REMOVE_COM);
-            command.componentToRemove = component;
-            entityManager.commandBuffer.add(command);
+        EntityCommand command = new EntityCommand(index, EntityCommand.Type.REMOVE_COM);
+        command.generation = generation;
+        command.componentToRemove = component;
+        entityManager.record(command);
+
+        return true;
+    }
+
+    /**
+     * This method returns <code>false</code> if the entity handle is expired (i.e. corresponding entity is destroyed).
+     * </br>
+     * The action won't execute immediately but after {@link EntityManager#flush()}. It never moves the entity to another archetype.
+     * </br></br>
+     * Thread safety is guaranteed.
+     *
+     * @param tag The tag class
+     * @return Whether you successfully executed the method
+     *
+     * @see EntityManager#addTag(int, Class)
+     */
+    public boolean tryAddTag(@NonNull Class<? extends CleanTag> tag) {
+        Preconditions.checkNotNull(tag);
+        if (!valid()) {
+            return false;
+        }
+
+        entityManager.recordTag(index, generation, tag, EntityCommand.Type.ADD_TAG);
+        return true;
+    }
+
+    /**
+     * This method returns <code>false</code> if the entity handle is expired (i.e. corresponding entity is destroyed).
+     * </br>
+     * The action won't execute immediately but after {@link EntityManager#flush()}.
+     * </br></br>
+     * Thread safety is guaranteed.
+     *
+     * @param tag The tag class
+     * @return Whether you successfully executed the method
+     *
+     * @see EntityManager#removeTag(int, Class)
+     */
+    public boolean tryRemoveTag(@NonNull Class<? extends CleanTag> tag) {
+        Preconditions.checkNotNull(tag);
+        if (!valid()) {
+            return false;
         }
 
+        entityManager.recordTag(index, generation, tag, EntityCommand.Type.REMOVE_TAG);
         return true;
     }
 
+    /**
+     * @param tag The tag class
+     * @return Whether the entity is valid and has the tag as of the last {@link EntityManager#flush()}
+     */
+    public boolean hasTag(@NonNull Class<? extends CleanTag> tag) {
+        return valid() && entityManager.hasTag(index, tag);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -1,16 +1,33 @@
 package com.cleanroommc.kirino.ecs.entity;
 
 import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.CleanTag;
+import com.cleanroommc.kirino.ecs.storage.ColumnHandle;
 
+import java.util.Comparator;
 import java.util.List;
 
 public class EntityCommand {
+    /**
+     * The merge order of {@link EntityManager#flush()}. Ties keep the recording order of each buffer.
+     *
+     * @see EntityCommandBuffer#setSortKey(long, long)
+     */
+    static final Comparator<EntityCommand> MERGE_ORDER = Comparator
+            .comparingLong((EntityCommand command) -> command.sortMajor)
+            .thenComparingLong(command -> command.sortMinor);
+
     public enum Type {
         CREATE,
         DESTROY,
         SET_COM,
         ADD_COM,
-        REMOVE_COM
+        REMOVE_COM,
+        SET_INT,
+        SET_FLOAT,
+        SET_BOOL,
+        ADD_TAG,
+        REMOVE_TAG
     }
 
     public final int index;
@@ -20,6 +37,20 @@ public class EntityCommand {
     CleanComponent componentToSet;
     CleanComponent componentToAdd;
     Class<? extends CleanComponent> componentToRemove;
+    ColumnHandle columnToSet;
+    int intToSet;
+    float floatToSet;
+    boolean boolToSet;
+    Class<? extends CleanTag> tag;
+    /**
+     * The generation of the entity when the command was recorded. {@link EntityManager#flush()} drops a per-entity command
+     * whose entity was destroyed since, so it never touches a removed row and a reused index never inherits anything.
+     * Unused by {@link Type#CREATE} and {@link Type#DESTROY}.
+     */
+    int generation;
+
+    long sortMajor;
+    long sortMinor;
 
     protected EntityCommand(int index, Type type) {
         this.index = index;
@@ -0,0 +1,73 @@
+package com.cleanroommc.kirino.ecs.entity;
+
+import com.cleanroommc.kirino.ecs.job.JobScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A command buffer owned by exactly one thread, so recording never takes a lock.
+ * Every thread that records commands gets its own buffer from {@link EntityManager#getCommandBuffer()},
+ * and {@link EntityManager#flush()} merges all of them.
+ * <br><br>
+ * Every command is tagged with a sort key <code>(major, minor)</code> and the merge is a stable sort by that key.
+ * {@link JobScheduler} sets the key to <code>(job execution, archetype and row)</code> before executing a row,
+ * so the merged order only depends on which rows recorded what, not on which worker ran them.
+ * Commands recorded outside a job use <code>(latest job execution, {@link Long#MAX_VALUE})</code>,
+ * i.e. they are applied after commands of jobs that started earlier, and in recording order per thread.
+ */
+public final class EntityCommandBuffer {
+    final Thread owner;
+    private final AtomicLong recordingEpoch;
+    private final List<EntityCommand> commands = new ArrayList<>();
+
+    private boolean hasSortKey = false;
+    private long sortMajor;
+    private long sortMinor;
+
+    EntityCommandBuffer(Thread owner, AtomicLong recordingEpoch) {
+        this.owner = owner;
+        this.recordingEpoch = recordingEpoch;
+    }
+
+    /**
+     * Must only be called by the owner thread.
+     *
+     * @param major Usually the value of {@link EntityManager#nextRecordingEpoch()}
+     * @param minor Usually the archetype and the row being executed
+     */
+    public void setSortKey(long major, long minor) {
+        hasSortKey = true;
+        sortMajor = major;
+        sortMinor = minor;
+    }
+
+    /**
+     * Must only be called by the owner thread.
+     */
+    public void clearSortKey() {
+        hasSortKey = false;
+    }
+
+    void record(EntityCommand command) {
+        if (hasSortKey) {
+            command.sortMajor = sortMajor;
+            command.sortMinor = sortMinor;
+        } else {
+            command.sortMajor = recordingEpoch.get();
+            command.sortMinor = Long.MAX_VALUE;
+        }
+        commands.add(command);
+    }
+
+    /**
+     * Called by {@link EntityManager#flush()} while no thread is recording.
+     *
+     * @param target The list to append all recorded commands to, in recording order
+     */
+    void drainTo(List<EntityCommand> target) {
+        target.addAll(commands);
+        commands.clear();
+    }
+}
@@ -1,20 +1,29 @@
 package com.cleanroommc.kirino.ecs.entity;
 
 import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.CleanTag;
 import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
 import com.cleanroommc.kirino.ecs.entity.callback.EntityCreateCallback;
 import com.cleanroommc.kirino.ecs.entity.callback.EntityCreateContext;
 import com.cleanroommc.kirino.ecs.entity.callback.EntityDestroyCallback;
 import com.cleanroommc.kirino.ecs.entity.callback.EntityDestroyContext;
 import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPoolFactory;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeEdge;
 import com.cleanroommc.kirino.ecs.storage.ArchetypeKey;
-import com.cleanroommc.kirino.ecs.storage.HeapPool;
+import com.cleanroommc.kirino.ecs.storage.ColumnHandle;
 import com.cleanroommc.kirino.ecs.world.CleanWorld;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class EntityManager {
@@ -33,9 +42,10 @@ public class EntityManager {
      * <code>{@link #entityGenerations}</code>,
      * <code>{@link #entityDestroyCallbacks}</code>, and
      * <code>{@link #entityCreateCallbacks}</code>
-     * share the same length. index is the identifier of an entity.</p>
+     * share the same indexing. index is the identifier of an entity.
+     * An element is only written by the thread that allocated the index, or by {@link #flush()}.</p>
      */
-    private final List<List<Class<? extends CleanComponent>>> entityComponents = new ArrayList<>();
+    private final PagedArray<List<Class<? extends CleanComponent>>> entityComponents = new PagedArray<>();
 
     /**
      * Every entity's archetype info.
@@ -46,12 +56,15 @@ public class EntityManager {
      * <code>{@link #entityGenerations}</code>,
      * <code>{@link #entityDestroyCallbacks}</code>, and
      * <code>{@link #entityCreateCallbacks}</code>
-     * share the same length. index is the identifier of an entity.</p>
+     * share the same indexing. index is the identifier of an entity.
+     * An element is only written by the thread that allocated the index, or by {@link #flush()}.</p>
      */
-    private final List<ArchetypeKey> entityArchetypeLocations = new ArrayList<>();
+    private final PagedArray<ArchetypeKey> entityArchetypeLocations = new PagedArray<>();
 
     /**
-     * Every entity's generation info.
+     * Every entity's generation info. Bumped by a compare-and-set, so an entity is destroyed at most once.
+     * An even generation is a live (or pending) entity, and an odd one is a destroyed entity whose index isn't reused yet;
+     * Destruction and reuse each bump it by one.
      *
      * <hr>
      * <p><code>{@link #entityComponents}</code>,
@@ -59,9 +72,9 @@ public class EntityManager {
      * <code>entityGenerations</code>,
      * <code>{@link #entityDestroyCallbacks}</code>, and
      * <code>{@link #entityCreateCallbacks}</code>
-     * share the same length. index is the identifier of an entity.</p>
+     * share the same indexing. index is the identifier of an entity.</p>
      */
-    private final List<Integer> entityGenerations = new ArrayList<>();
+    private final PagedIntArray entityGenerations = new PagedIntArray();
 
     /**
      * Every entity's destroy callback.
@@ -72,9 +85,10 @@ public class EntityManager {
      * <code>{@link #entityGenerations}</code>,
      * <code>entityDestroyCallbacks</code>, and
      * <code>{@link #entityCreateCallbacks}</code>
-     * share the same length. index is the identifier of an entity.</p>
+     * share the same indexing. index is the identifier of an entity.
+     * An element is only written by the thread that allocated the index.</p>
      */
-    private final List<@Nullable EntityDestroyCallback> entityDestroyCallbacks = new ArrayList<>();
+    private final PagedArray<EntityDestroyCallback> entityDestroyCallbacks = new PagedArray<>();
 
     /**
      * Every entity's create callback.
@@ -85,138 +99,544 @@ public class EntityManager {
      * <code>{@link #entityGenerations}</code>,
      * <code>{@link #entityDestroyCallbacks}</code>, and
      * <code>entityCreateCallbacks</code>
-     * share the same length. index is the identifier of an entity.</p>
+     * share the same indexing. index is the identifier of an entity.
+     * An element is only written by the thread that allocated the index.</p>
      */
-    private final List<@Nullable EntityCreateCallback> entityCreateCallbacks = new ArrayList<>();
+    private final PagedArray<EntityCreateCallback> entityCreateCallbacks = new PagedArray<>();
 
     private final EntityDestroyContext destroyContext = new EntityDestroyContext();
     private final EntityCreateContext createContext = new EntityCreateContext();
 
-    private final List<Integer> freeIndexes = new ArrayList<>();
-    private int indexCounter = 0;
+    /**
+     * Indexes released by the last {@link #flush()}. Handed out lock-free through {@link #freeIndexCursor}
+     * and rebuilt by the next {@link #flush()}, so an index is never reused before its destruction is applied.
+     */
+    private volatile int[] freeIndexes = new int[0];
+    private final AtomicInteger freeIndexCursor = new AtomicInteger();
+    private final IntArrayList releasedIndexes = new IntArrayList();
+    private final AtomicInteger indexCounter = new AtomicInteger();
 
     private final Map<ArchetypeKey, ArchetypeDataPool> archetypes = new HashMap<>();
 
-    protected final List<EntityCommand> commandBuffer = new ArrayList<>();
+    /**
+     * Archetypes in creation order. Archetypes are never removed, so {@link EntityQuery} only has to match the tail.
+     */
+    private final List<ArchetypeKey> archetypeKeyList = new ArrayList<>();
+    private final List<ArchetypeDataPool> archetypePoolList = new ArrayList<>();
+
+    private final Map<ArchetypeKey, ArchetypeDataPoolFactory> archetypePoolFactories = new HashMap<>();
+
+    // cached transitions between archetypes; key: source archetype, then the added/removed component
+    private final Map<ArchetypeKey, Map<Class<? extends CleanComponent>, ArchetypeEdge>> archetypeAddEdges = new HashMap<>();
+    private final Map<ArchetypeKey, Map<Class<? extends CleanComponent>, ArchetypeEdge>> archetypeRemoveEdges = new HashMap<>();
+
+    private record Reservation(List<Class<? extends CleanComponent>> components, AtomicInteger count) {
+    }
+
+    // summed per archetype and applied at the beginning of flush, so they never split a run of creations
+    private final Map<ArchetypeKey, Reservation> pendingReservations = new ConcurrentHashMap<>();
+
+    private final AtomicLong recordingEpoch = new AtomicLong();
+
+    /**
+     * One sparse set per tag class; Created on first use and never removed.
+     */
+    private final Map<Class<? extends CleanTag>, TagSet> tagSets = new ConcurrentHashMap<>();
+
+    //<editor-fold desc="statistics">
+    // counters of the latest flush; only written inside flush
+    private final int[] flushCommandCounts = new int[EntityCommand.Type.values().length];
+    private int flushArchetypeMoves;
+    private long flushNanos;
+    private long flushCount;
+    private int flushEntityIndexCount;
+    private int flushFreeIndexCount;
+
+    /**
+     * Built on demand and dropped by every {@link #flush()}, so reading it every frame costs nothing in between.
+     */
+    private volatile @Nullable EntityManagerStats stats;
+    //</editor-fold>
+
+    /**
+     * Every buffer ever handed out by {@link #localCommandBuffer}. Buffers of dead threads are dropped at {@link #flush()}.
+     */
+    private final List<EntityCommandBuffer> commandBuffers = new ArrayList<>();
+    private final ThreadLocal<EntityCommandBuffer> localCommandBuffer = ThreadLocal.withInitial(() -> {
+        EntityCommandBuffer buffer = new EntityCommandBuffer(Thread.currentThread(), recordingEpoch);
+        synchronized (commandBuffers) {
+            commandBuffers.add(buffer);
+        }
+        return buffer;
+    });
+
+    /**
+     * The buffer of the calling thread. Recording into it never contends with other threads.
+     *
+     * @return The command buffer owned by the calling thread
+     */
+    @NonNull
+    public EntityCommandBuffer getCommandBuffer() {
+        return localCommandBuffer.get();
+    }
+
+    /**
+     * Start a new sort key major for {@link EntityCommandBuffer#setSortKey(long, long)}.
+     * Called once per job execution, in dispatch order.
+     *
+     * @return The new major
+     */
+    public long nextRecordingEpoch() {
+        return recordingEpoch.incrementAndGet();
+    }
+
+    void record(EntityCommand command) {
+        localCommandBuffer.get().record(command);
+    }
+
+    /**
+     * Resolve a typed column handle once and reuse it.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li><code>component</code> is valid and registered</li>
+     *     <li><code>fieldAccessChain</code> points to a valid field</li>
+     * </ul>
+     *
+     * @param component The component class
+     * @param fieldAccessChain A list of field names to identify a field
+     * @return The column handle
+     *
+     * @see CleanEntityHandle#trySetInt(ColumnHandle, int)
+     */
+    @NonNull
+    public ColumnHandle newColumnHandle(@NonNull Class<? extends CleanComponent> component, @NonNull String @NonNull ... fieldAccessChain) {
+        return ColumnHandle.resolve(componentRegistry, component, fieldAccessChain);
+    }
 
     @NonNull
     public EntityQuery newQuery() {
         return EntityQuery.query();
     }
 
+    /**
+     * The result is cached inside <code>query</code> and only archetypes created after the last call are matched again,
+     * so reusing the same {@link EntityQuery} makes this method effectively free.
+     * The returned list must not be modified.
+     *
+     * @param query The query
+     * @return All archetypes that match the query
+     */
     @NonNull
     public List<@NonNull ArchetypeDataPool> startQuery(@NonNull EntityQuery query) {
         Preconditions.checkNotNull(query);
 
-        List<ArchetypeDataPool> result = new ArrayList<>();
-        for (Map.Entry<ArchetypeKey, ArchetypeDataPool> entry : archetypes.entrySet()) {
-            boolean mustHave = true;
-            for (Class<? extends CleanComponent> component : query.mustHave) {
-                if (!entry.getKey().contains(component)) {
-                    mustHave = false;
-                    break;
+        synchronized (query) {
+            if (query.cacheOwner != this) {
+                query.invalidate();
+                query.cacheOwner = this;
+            }
+            if (query.hasChangedFilter()) {
+                query.resolveChangedColumns(componentRegistry);
+            }
+            if (query.hasTagFilter()) {
+                query.resolveTagSets(this);
+            }
+
+            int archetypeCount = archetypeKeyList.size();
+            if (query.scannedArchetypeCount < archetypeCount) {
+                long[] mustHave = query.getMustHaveSignature();
+                long[] mustNotHave = query.getMustNotHaveSignature();
+                for (int i = query.scannedArchetypeCount; i < archetypeCount; i++) {
+                    ArchetypeKey key = archetypeKeyList.get(i);
+                    if (key.containsAll(mustHave) && !key.intersects(mustNotHave)) {
+                        query.matched.add(archetypePoolList.get(i));
+                    }
                 }
+                query.scannedArchetypeCount = archetypeCount;
+                query.result = ImmutableList.copyOf(query.matched);
             }
-            if (!mustHave) {
-                continue;
+            query.layout = query.layout.refresh(query.matched);
+
+            return query.result;
+        }
+    }
+
+    /**
+     * Same as {@link #startQuery(EntityQuery)}, but return the row layout of the matched archetypes.
+     * The layout is reused until an archetype is matched, grown or shrunk.
+     *
+     * @param query The query
+     * @return The layout
+     */
+    @NonNull
+    public QueryLayout startQueryLayout(@NonNull EntityQuery query) {
+        Preconditions.checkNotNull(query);
+
+        synchronized (query) {
+            startQuery(query);
+            return query.layout;
+        }
+    }
+
+    /**
+     * Select the pool implementation of an archetype, e.g. {@link ArchetypeDataPoolFactory#NATIVE} or {@link ArchetypeDataPoolFactory#CHUNKED}.
+     * Archetypes without a selection use {@link ArchetypeDataPoolFactory#HEAP}.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>All component types are valid and registered in the component registry</li>
+     * </ul>
+     *
+     * @param factory The pool factory
+     * @param components The component types of the archetype
+     * @throws IllegalStateException If the archetype already exists
+     */
+    @SafeVarargs
+    public final synchronized void setArchetypePoolFactory(@NonNull ArchetypeDataPoolFactory factory, @NonNull Class<? extends CleanComponent> @NonNull ... components) {
+        Preconditions.checkNotNull(factory);
+        Preconditions.checkNotNull(components);
+
+        ArchetypeKey archetypeKey = new ArchetypeKey(Arrays.asList(components));
+        Preconditions.checkState(!archetypes.containsKey(archetypeKey),
+                "The archetype is already created. Select the pool factory before creating any entity of it.");
+
+        archetypePoolFactories.put(archetypeKey, factory);
+    }
+
+    /**
+     * Hint that <code>count</code> more entities of an archetype are going to be created,
+     * so its pool grows once at the next {@link #flush()} instead of growing repeatedly.
+     * Use it when the upcoming entity count is known, e.g. when a batch of chunks is loaded.
+     * </br></br>
+     * Thread safety is guaranteed.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>All component types are valid and registered in the component registry</li>
+     * </ul>
+     *
+     * @param count The number of upcoming entities
+     * @param components The component types of the archetype
+     */
+    @SafeVarargs
+    public final void reserve(int count, @NonNull Class<? extends CleanComponent> @NonNull ... components) {
+        Preconditions.checkArgument(count >= 0, "Argument \"count\" must not be negative.");
+        Preconditions.checkNotNull(components);
+
+        if (count == 0) {
+            return;
+        }
+
+        List<Class<? extends CleanComponent>> componentList = List.of(components);
+        pendingReservations.computeIfAbsent(new ArchetypeKey(componentList), k -> new Reservation(componentList, new AtomicInteger()))
+                .count().addAndGet(count);
+    }
+
+    private ArchetypeDataPool getOrCreateArchetype(ArchetypeKey archetypeKey, List<Class<? extends CleanComponent>> components) {
+        ArchetypeDataPool pool = archetypes.get(archetypeKey);
+        if (pool == null) {
+            pool = archetypePoolFactories.getOrDefault(archetypeKey, ArchetypeDataPoolFactory.HEAP).create(componentRegistry, components);
+            archetypes.put(archetypeKey, pool);
+            archetypeKeyList.add(archetypeKey);
+            archetypePoolList.add(pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Edges are created lazily and cached forever, like archetypes themselves.
+     *
+     * @param edges Either {@link #archetypeAddEdges} or {@link #archetypeRemoveEdges}
+     * @param fromKey The source archetype
+     * @param component The component to add or remove
+     * @param add Whether to add or remove <code>component</code>
+     * @return The edge
+     */
+    private ArchetypeEdge getArchetypeEdge(Map<ArchetypeKey, Map<Class<? extends CleanComponent>, ArchetypeEdge>> edges, ArchetypeKey fromKey, Class<? extends CleanComponent> component, boolean add) {
+        Map<Class<? extends CleanComponent>, ArchetypeEdge> fromEdges = edges.computeIfAbsent(fromKey, k -> new HashMap<>());
+        ArchetypeEdge edge = fromEdges.get(component);
+        if (edge == null) {
+            ArchetypeDataPool fromPool = archetypes.get(fromKey);
+            List<Class<? extends CleanComponent>> toComponents = new ArrayList<>(fromPool.components);
+            if (add) {
+                toComponents.add(component);
+            } else {
+                toComponents.remove(component);
+            }
+            ArchetypeKey toKey = new ArchetypeKey(toComponents);
+            edge = new ArchetypeEdge(fromKey, fromPool, toKey, getOrCreateArchetype(toKey, toComponents));
+            fromEdges.put(component, edge);
+        }
+        return edge;
+    }
+
+    /**
+     * Group a run of {@link EntityCommand.Type#CREATE} commands by archetype,
+     * then fire create callbacks in batches and add every group in bulk.
+     */
+    private void applyCreateRun(List<EntityCommand> commands, int from, int to) {
+        Map<ArchetypeKey, List<EntityCommand>> groups = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            EntityCommand command = commands.get(i);
+            groups.computeIfAbsent(entityArchetypeLocations.get(command.index), k -> new ArrayList<>()).add(command);
+        }
+
+        for (Map.Entry<ArchetypeKey, List<EntityCommand>> entry : groups.entrySet()) {
+            List<EntityCommand> group = entry.getValue();
+            int size = group.size();
+            ArchetypeDataPool pool = getOrCreateArchetype(entry.getKey(), entityComponents.get(group.getFirst().index));
+
+            int[] entityIDs = new int[size];
+            List<List<CleanComponent>> newComponents = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                entityIDs[i] = group.get(i).index;
+                newComponents.add(group.get(i).newComponents);
             }
-            boolean mustNotHave = true;
-            for (Class<? extends CleanComponent> component : query.mustNotHave) {
-                if (entry.getKey().contains(component)) {
-                    mustNotHave = false;
-                    break;
+
+            int batchStart = 0;
+            while (batchStart < size) {
+                EntityCreateCallback createCallback = entityCreateCallbacks.get(entityIDs[batchStart]);
+                int batchEnd = batchStart + 1;
+                while (batchEnd < size && entityCreateCallbacks.get(entityIDs[batchEnd]) == createCallback) {
+                    batchEnd++;
                 }
+                if (createCallback != null) {
+                    createContext.setInternalBatch(pool.components, newComponents, batchStart);
+                    createCallback.beforeCreateBatch(createContext, batchEnd - batchStart);
+                }
+                batchStart = batchEnd;
             }
-            if (!mustNotHave) {
+
+            pool.addEntities(entityIDs, newComponents, 0, size);
+        }
+    }
+
+    /**
+     * Group a run of {@link EntityCommand.Type#DESTROY} commands by archetype,
+     * then fire destroy callbacks in batches and remove every group in bulk.
+     */
+    private void applyDestroyRun(List<EntityCommand> commands, int from, int to) {
+        Map<ArchetypeKey, IntArrayList> groups = new LinkedHashMap<>();
+        // an index must never be released twice, or two future entities would share it
+        IntOpenHashSet destroyed = new IntOpenHashSet(to - from);
+        for (int i = from; i < to; i++) {
+            EntityCommand command = commands.get(i);
+            if (!destroyed.add(command.index)) {
                 continue;
             }
-            result.add(entry.getValue());
+            groups.computeIfAbsent(entityArchetypeLocations.get(command.index), k -> new IntArrayList()).add(command.index);
         }
 
-        return result;
+        for (Map.Entry<ArchetypeKey, IntArrayList> entry : groups.entrySet()) {
+            int[] entityIDs = entry.getValue().toIntArray();
+            int size = entityIDs.length;
+            ArchetypeDataPool pool = archetypes.get(entry.getKey());
+
+            int batchStart = 0;
+            while (batchStart < size) {
+                EntityDestroyCallback destroyCallback = entityDestroyCallbacks.get(entityIDs[batchStart]);
+                int batchEnd = batchStart + 1;
+                while (batchEnd < size && entityDestroyCallbacks.get(entityIDs[batchEnd]) == destroyCallback) {
+                    batchEnd++;
+                }
+                if (destroyCallback != null) {
+                    destroyContext.setInternalBatch(entityIDs, batchStart, pool.components, pool);
+                    destroyCallback.beforeDestroyBatch(destroyContext, batchEnd - batchStart);
+                }
+                batchStart = batchEnd;
+            }
+
+            pool.removeEntities(entityIDs, 0, size);
+            for (TagSet tagSet : tagSets.values()) {
+                for (int entityID : entityIDs) {
+                    tagSet.remove(entityID);
+                }
+            }
+            releasedIndexes.addElements(releasedIndexes.size(), entityIDs);
+        }
     }
 
     /**
      * Consume all buffered commands.
+     * Command buffers of all threads are merged by a stable sort (see {@link EntityCommandBuffer}), so the result doesn't depend on thread scheduling.
+     * Consecutive creations and destructions are grouped by archetype and applied in bulk,
+     * and their callbacks are fired in batches (see {@link EntityCreateCallback#beforeCreateBatch(EntityCreateContext, int)}).
+     * Indexes of destroyed entities become reusable afterward.
+     * Per-entity commands whose entity was destroyed after recording are dropped, wherever the destruction sorts.
      * </br></br>
      * Thread safety is guaranteed, but never call it during job or system execution.
      * The only place to call it is the end of {@link CleanWorld#update()}.
      */
     public synchronized void flush() {
-        synchronized (commandBuffer) {
-            for (EntityCommand command : commandBuffer) {
-                switch (command.type) {
-                    case CREATE -> {
-                        List<Class<? extends CleanComponent>> components = entityComponents.get(command.index);
-                        ArchetypeKey archetypeKey = entityArchetypeLocations.get(command.index);
-                        ArchetypeDataPool pool = archetypes.computeIfAbsent(archetypeKey, k -> new HeapPool(componentRegistry, components, 100, 50, 50));
-                        EntityCreateCallback createCallback = entityCreateCallbacks.get(command.index);
-                        if (createCallback != null) {
-                            createContext.setInternal(components, command.newComponents);
-                            createCallback.beforeCreate(createContext);
-                        }
-                        pool.addEntity(command.index, command.newComponents);
-                    }
-                    case DESTROY -> {
-                        ArchetypeKey archetypeKey = entityArchetypeLocations.get(command.index);
-                        ArchetypeDataPool pool = archetypes.get(archetypeKey);
-                        EntityDestroyCallback destroyCallback = entityDestroyCallbacks.get(command.index);
-                        if (destroyCallback != null) {
-                            destroyContext.setInternal(command.index, entityComponents.get(command.index), pool);
-                            destroyCallback.beforeDestroy(destroyContext);
-                        }
-                        pool.removeEntity(command.index);
-                    }
-                    case SET_COM -> {
-                        ArchetypeKey archetypeKey = entityArchetypeLocations.get(command.index);
-                        ArchetypeDataPool pool = archetypes.get(archetypeKey);
-                        pool.setComponent(command.index, command.componentToSet);
-                    }
-                    case ADD_COM -> {
-                        List<Class<? extends CleanComponent>> components = entityComponents.get(command.index);
-                        ArchetypeKey archetypeKey = entityArchetypeLocations.get(command.index);
-                        ArchetypeDataPool oldPool = archetypes.get(archetypeKey);
+        long flushStart = System.nanoTime();
+        List<EntityCommand> commands = new ArrayList<>();
+        synchronized (commandBuffers) {
+            Iterator<EntityCommandBuffer> iterator = commandBuffers.iterator();
+            while (iterator.hasNext()) {
+                EntityCommandBuffer buffer = iterator.next();
+                buffer.drainTo(commands);
+                if (!buffer.owner.isAlive()) {
+                    iterator.remove();
+                }
+            }
+        }
+        commands.sort(EntityCommand.MERGE_ORDER);
+
+        Arrays.fill(flushCommandCounts, 0);
+        for (EntityCommand command : commands) {
+            flushCommandCounts[command.type.ordinal()]++;
+        }
+        flushArchetypeMoves = 0;
+
+        for (Map.Entry<ArchetypeKey, Reservation> entry : pendingReservations.entrySet()) {
+            ArchetypeDataPool pool = getOrCreateArchetype(entry.getKey(), new ArrayList<>(entry.getValue().components()));
+            pool.reserve(pool.getArrayRange().end + entry.getValue().count().get());
+        }
+        pendingReservations.clear();
+
+        int commandCount = commands.size();
+        int i = 0;
+        while (i < commandCount) {
+            EntityCommand command = commands.get(i);
+
+            // structural changes are applied per run of the same command type
+            if (command.type == EntityCommand.Type.CREATE || command.type == EntityCommand.Type.DESTROY) {
+                int runEnd = i + 1;
+                while (runEnd < commandCount && commands.get(runEnd).type == command.type) {
+                    runEnd++;
+                }
+                if (command.type == EntityCommand.Type.CREATE) {
+                    applyCreateRun(commands, i, runEnd);
+                } else {
+                    applyDestroyRun(commands, i, runEnd);
+                }
+                i = runEnd;
+                continue;
+            }
 
-                        List<CleanComponent> newComponents = new ArrayList<>();
-                        for (Class<? extends CleanComponent> component: components) {
-                            newComponents.add(oldPool.getComponent(command.index, component));
-                        }
-                        newComponents.add(command.componentToAdd);
+            i++;
+            // the entity was destroyed after (or before) recording; its row is gone or the index belongs to a pending entity
+            int generation = entityGenerations.get(command.index);
+            if (generation != command.generation || (generation & 1) != 0) {
+                continue;
+            }
+            switch (command.type) {
+                case SET_COM -> {
+                    ArchetypeKey archetypeKey = entityArchetypeLocations.get(command.index);
+                    ArchetypeDataPool pool = archetypes.get(archetypeKey);
+                    pool.setComponent(command.index, command.componentToSet);
+                }
+                case SET_INT -> {
+                    ArchetypeKey archetypeKey = entityArchetypeLocations.get(command.index);
+                    ArchetypeDataPool pool = archetypes.get(archetypeKey);
+                    pool.setInt(command.index, command.columnToSet, command.intToSet);
+                }
+                case SET_FLOAT -> {
+                    ArchetypeKey archetypeKey = entityArchetypeLocations.get(command.index);
+                    ArchetypeDataPool pool = archetypes.get(archetypeKey);
+                    pool.setFloat(command.index, command.columnToSet, command.floatToSet);
+                }
+                case SET_BOOL -> {
+                    ArchetypeKey archetypeKey = entityArchetypeLocations.get(command.index);
+                    ArchetypeDataPool pool = archetypes.get(archetypeKey);
+                    pool.setBool(command.index, command.columnToSet, command.boolToSet);
+                }
+                case ADD_COM -> {
+                    List<Class<? extends CleanComponent>> components = entityComponents.get(command.index);
+                    Class<? extends CleanComponent> componentClass = command.componentToAdd.getClass();
+                    ArchetypeKey archetypeKey = entityArchetypeLocations.get(command.index);
+
+                    if (components.contains(componentClass)) {
+                        // nothing to move; just overwrite it
+                        archetypes.get(archetypeKey).setComponent(command.index, command.componentToAdd);
+                    } else {
+                        ArchetypeEdge edge = getArchetypeEdge(archetypeAddEdges, archetypeKey, componentClass, true);
+                        edge.move(command.index, command.componentToAdd);
+                        flushArchetypeMoves++;
 
                         // update component info
-                        components.add(command.componentToAdd.getClass());
+                        components.add(componentClass);
                         // update archetype key
-                        archetypeKey = new ArchetypeKey(components);
-                        entityArchetypeLocations.set(command.index, archetypeKey);
-
-                        ArchetypeDataPool newPool = archetypes.computeIfAbsent(archetypeKey, k -> new HeapPool(componentRegistry, components, 100, 50, 50));
-                        oldPool.removeEntity(command.index);
-                        newPool.addEntity(command.index, newComponents);
+                        entityArchetypeLocations.set(command.index, edge.toKey);
+                    }
+                }
+                case ADD_TAG -> getTagSet(command.tag).add(command.index);
+                case REMOVE_TAG -> getTagSet(command.tag).remove(command.index);
+                case REMOVE_COM -> {
+                    List<Class<? extends CleanComponent>> components = entityComponents.get(command.index);
+                    if (!components.contains(command.componentToRemove)) {
+                        continue;
                     }
-                    case REMOVE_COM -> {
-                        List<Class<? extends CleanComponent>> components = entityComponents.get(command.index);
-                        ArchetypeKey archetypeKey = entityArchetypeLocations.get(command.index);
-                        ArchetypeDataPool oldPool = archetypes.get(archetypeKey);
+                    ArchetypeKey archetypeKey = entityArchetypeLocations.get(command.index);
 
-                        List<CleanComponent> newComponents = new ArrayList<>();
-                        for (Class<? extends CleanComponent> component: components) {
-                            newComponents.add(oldPool.getComponent(command.index, component));
-                        }
-                        newComponents.removeIf(c -> c.getClass().equals(command.componentToRemove));
+                    ArchetypeEdge edge = getArchetypeEdge(archetypeRemoveEdges, archetypeKey, command.componentToRemove, false);
+                    edge.move(command.index, null);
+                    flushArchetypeMoves++;
 
-                        // update component info
-                        components.removeIf(c -> c.equals(command.componentToRemove));
-                        // update archetype key
-                        archetypeKey = new ArchetypeKey(components);
-                        entityArchetypeLocations.set(command.index, archetypeKey);
+                    // update component info
+                    components.remove(command.componentToRemove);
+                    // update archetype key
+                    entityArchetypeLocations.set(command.index, edge.toKey);
+                }
+            }
+        }
 
-                        ArchetypeDataPool newPool = archetypes.computeIfAbsent(archetypeKey, k -> new HeapPool(componentRegistry, components, 100, 50, 50));
-                        oldPool.removeEntity(command.index);
-                        newPool.addEntity(command.index, newComponents);
-                    }
+        // release indexes of destroyed entities
+        int[] oldFreeIndexes = freeIndexes;
+        int consumed = Math.min(freeIndexCursor.get(), oldFreeIndexes.length);
+        IntArrayList newFreeIndexes = new IntArrayList(oldFreeIndexes.length - consumed + releasedIndexes.size());
+        newFreeIndexes.addElements(0, oldFreeIndexes, consumed, oldFreeIndexes.length - consumed);
+        newFreeIndexes.addAll(releasedIndexes);
+        releasedIndexes.clear();
+        freeIndexes = newFreeIndexes.toIntArray();
+        freeIndexCursor.set(0);
+
+        flushEntityIndexCount = indexCounter.get();
+        flushFreeIndexCount = freeIndexes.length;
+        flushNanos = System.nanoTime() - flushStart;
+        flushCount++;
+        stats = null;
+    }
+
+    /**
+     * A snapshot of the storage and command throughput as of the latest {@link #flush()}.
+     * The same instance is returned until the next flush, so it's cheap enough to read every frame.
+     * </br></br>
+     * Thread safety is guaranteed.
+     *
+     * @return The statistics
+     */
+    @NonNull
+    public EntityManagerStats getStats() {
+        EntityManagerStats result = stats;
+        if (result != null) {
+            return result;
+        }
+        synchronized (this) {
+            result = stats;
+            if (result == null) {
+                List<EntityManagerStats.ArchetypeStats> archetypeStats = new ArrayList<>(archetypePoolList.size());
+                for (ArchetypeDataPool pool : archetypePoolList) {
+                    archetypeStats.add(new EntityManagerStats.ArchetypeStats(
+                            pool.components,
+                            pool.getClass(),
+                            pool.getRowEnd() - pool.getRowStart(),
+                            pool.getCurrentSize(),
+                            pool.getColumnBytes(),
+                            pool.getStorageVersion()));
                 }
+                result = new EntityManagerStats(
+                        flushCount,
+                        flushNanos,
+                        flushCommandCounts.clone(),
+                        flushArchetypeMoves,
+                        flushEntityIndexCount,
+                        flushFreeIndexCount,
+                        archetypeStats);
+                stats = result;
             }
-            commandBuffer.clear();
+            return result;
         }
     }
 
@@ -252,7 +672,8 @@ public class EntityManager {
      * This method will allocate an entity handle and generate a command for all side effects.
      * Buffered commands will be consumed at {@link #flush()}, and the destroy/create callback will be executed during {@link #flush()}.
      * </br></br>
-     * Thread safety is guaranteed.
+     * Thread safety is guaranteed. It's lock-free and records into the {@link EntityCommandBuffer} of the calling thread,
+     * so parallel jobs can call it from every worker. The returned index is unique and never changes.
      *
      * @see #flush()
      *
@@ -262,66 +683,56 @@ public class EntityManager {
      * @return An entity handle
      */
     @NonNull
-    public synchronized CleanEntityHandle createEntity(@Nullable EntityDestroyCallback destroyCallback, @Nullable EntityCreateCallback createCallback, @NonNull CleanComponent @NonNull ... components) {
+    public CleanEntityHandle createEntity(@Nullable EntityDestroyCallback destroyCallback, @Nullable EntityCreateCallback createCallback, @NonNull CleanComponent @NonNull ... components) {
         Preconditions.checkNotNull(components);
         for (CleanComponent component : components) {
             Preconditions.checkNotNull(component);
         }
 
-        int index;
-        if (freeIndexes.isEmpty()) {
-            index = indexCounter++;
-        } else {
-            index = freeIndexes.removeLast();
-        }
+        int index = allocateIndex();
 
         // update component info
         List<Class<? extends CleanComponent>> comTypes = Arrays.stream(components).map(CleanComponent::getClass).collect(Collectors.toList());
-        if (index > entityComponents.size() - 1) {
-            entityComponents.add(comTypes);
-        } else {
-            entityComponents.set(index, comTypes);
-        }
+        entityComponents.set(index, comTypes);
 
         // update archetype key
-        ArchetypeKey archetypeKey = new ArchetypeKey(comTypes);
-        if (index > entityArchetypeLocations.size() - 1) {
-            entityArchetypeLocations.add(archetypeKey);
-        } else {
-            entityArchetypeLocations.set(index, archetypeKey);
-        }
+        entityArchetypeLocations.set(index, new ArchetypeKey(comTypes));
 
-        // fetch generation
-        int generation = 0;
-        if (index > entityGenerations.size() - 1) {
-            entityGenerations.add(generation);
-        } else {
-            generation = entityGenerations.get(index);
+        // a reused index is still marked as destroyed; nobody else can touch it before the handle is returned
+        int generation = entityGenerations.get(index);
+        if ((generation & 1) != 0) {
+            generation++;
+            entityGenerations.set(index, generation);
         }
 
-        // update destroy callback
-        if (index > entityDestroyCallbacks.size() - 1) {
-            entityDestroyCallbacks.add(destroyCallback);
-        } else {
-            entityDestroyCallbacks.set(index, destroyCallback);
-        }
-
-        // update create callback
-        if (index > entityCreateCallbacks.size() - 1) {
-            entityCreateCallbacks.add(createCallback);
-        } else {
-            entityCreateCallbacks.set(index, createCallback);
-        }
+        // update callbacks
+        entityDestroyCallbacks.set(index, destroyCallback);
+        entityCreateCallbacks.set(index, createCallback);
 
-        synchronized (commandBuffer) {
-            EntityCommand command = new EntityCommand(index, EntityCommand.Type.CREATE);
-            command.newComponents = Arrays.asList(components);
-            commandBuffer.add(command);
-        }
+        EntityCommand command = new EntityCommand(index, EntityCommand.Type.CREATE);
+        command.newComponents = Arrays.asList(components);
+        record(command);
 
         return new CleanEntityHandle(this, index, generation);
     }
 
+    /**
+     * Lock-free. Indexes released by the last {@link #flush()} are reused first.
+     *
+     * @return An index that no live or pending entity uses
+     */
+    private int allocateIndex() {
+        int[] freeIndexes = this.freeIndexes;
+        // check first, so the cursor doesn't keep growing once the free list is used up
+        if (freeIndexCursor.get() < freeIndexes.length) {
+            int slot = freeIndexCursor.getAndIncrement();
+            if (slot < freeIndexes.length) {
+                return freeIndexes[slot];
+            }
+        }
+        return indexCounter.getAndIncrement();
+    }
+
     /**
      * <p>Prerequisite include:</p>
      * <ul>
@@ -330,33 +741,170 @@ public class EntityManager {
      * </br>
      * This method will destroy an entity and generate a command for all side effects.
      * Buffered commands will be consumed at {@link #flush()}, and the destroy callback will be executed during {@link #flush()}.
+     * The index is reused only after {@link #flush()}.
      * </br></br>
-     * Thread safety is guaranteed.
+     * Thread safety is guaranteed. An entity is destroyed at most once, however many threads or calls destroy it;
+     * Calls on an entity that is already destroyed (or pending destruction) are no-ops.
      *
      * @see #flush()
      * @param entityID The index of the entity
      */
-    public synchronized void destroyEntity(int entityID) {
-        Preconditions.checkElementIndex(entityID, entityGenerations.size());
+    public void destroyEntity(int entityID) {
+        Preconditions.checkElementIndex(entityID, indexCounter.get());
 
-        // update generation
-        entityGenerations.set(entityID, entityGenerations.get(entityID) + 1);
-        freeIndexes.add(entityID);
+        tryDestroyEntity(entityID, entityGenerations.get(entityID));
+    }
 
-        synchronized (commandBuffer) {
-            EntityCommand command = new EntityCommand(entityID, EntityCommand.Type.DESTROY);
-            commandBuffer.add(command);
+    /**
+     * @param entityID The index of the entity
+     * @param generation The expected generation
+     * @return Whether the entity of this generation was destroyed by this call
+     */
+    boolean tryDestroyEntity(int entityID, int generation) {
+        // an odd generation is already destroyed
+        if ((generation & 1) != 0) {
+            return false;
+        }
+        // update generation
+        if (!entityGenerations.compareAndSet(entityID, generation, generation + 1)) {
+            return false;
         }
+
+        record(new EntityCommand(entityID, EntityCommand.Type.DESTROY));
+        return true;
+    }
+
+    @NonNull
+    TagSet getTagSet(@NonNull Class<? extends CleanTag> tag) {
+        return tagSets.computeIfAbsent(tag, k -> new TagSet());
+    }
+
+    /**
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li><code>entityID</code> must be valid</li>
+     * </ul>
+     * </br>
+     * Attach a tag (see {@link CleanTag}). It's O(1) at {@link #flush()} and never moves the entity to another archetype.
+     * Attaching a tag twice is a no-op.
+     * </br></br>
+     * Thread safety is guaranteed.
+     *
+     * @see #flush()
+     * @param entityID The index of the entity
+     * @param tag The tag class
+     */
+    public void addTag(int entityID, @NonNull Class<? extends CleanTag> tag) {
+        Preconditions.checkElementIndex(entityID, indexCounter.get());
+        Preconditions.checkNotNull(tag);
+
+        recordTag(entityID, entityGenerations.get(entityID), tag, EntityCommand.Type.ADD_TAG);
+    }
+
+    /**
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li><code>entityID</code> must be valid</li>
+     * </ul>
+     * </br>
+     * Detach a tag (see {@link CleanTag}). It's O(1) at {@link #flush()}. Detaching a missing tag is a no-op.
+     * </br></br>
+     * Thread safety is guaranteed.
+     *
+     * @see #flush()
+     * @param entityID The index of the entity
+     * @param tag The tag class
+     */
+    public void removeTag(int entityID, @NonNull Class<? extends CleanTag> tag) {
+        Preconditions.checkElementIndex(entityID, indexCounter.get());
+        Preconditions.checkNotNull(tag);
+
+        recordTag(entityID, entityGenerations.get(entityID), tag, EntityCommand.Type.REMOVE_TAG);
+    }
+
+    void recordTag(int entityID, int generation, Class<? extends CleanTag> tag, EntityCommand.Type type) {
+        EntityCommand command = new EntityCommand(entityID, type);
+        command.tag = tag;
+        command.generation = generation;
+        record(command);
+    }
+
+    /**
+     * Reflects the tags as of the last {@link #flush()}.
+     * </br></br>
+     * Safe to call during job and system execution, but not concurrently with {@link #flush()}.
+     *
+     * @param entityID The index of the entity
+     * @param tag The tag class
+     * @return Whether the entity has the tag
+     */
+    public boolean hasTag(int entityID, @NonNull Class<? extends CleanTag> tag) {
+        Preconditions.checkNotNull(tag);
+
+        TagSet tagSet = tagSets.get(tag);
+        return tagSet != null && tagSet.contains(entityID);
+    }
+
+    /**
+     * @param tag The tag class
+     * @return The number of entities with the tag as of the last {@link #flush()}
+     */
+    public int getTaggedCount(@NonNull Class<? extends CleanTag> tag) {
+        Preconditions.checkNotNull(tag);
+
+        TagSet tagSet = tagSets.get(tag);
+        return tagSet == null ? 0 : tagSet.size();
+    }
+
+    /**
+     * Iterate the entities with a tag without scanning any archetype, e.g.
+     * <code>for (int i = 0; i &lt; getTaggedCount(tag); i++) getTaggedEntity(tag, i)</code>. The order is unspecified.
+     *
+     * @param tag The tag class
+     * @param position A position inside <code>[0, getTaggedCount(tag))</code>
+     * @return The index of the entity
+     */
+    public int getTaggedEntity(@NonNull Class<? extends CleanTag> tag, int position) {
+        Preconditions.checkNotNull(tag);
+        Preconditions.checkElementIndex(position, getTaggedCount(tag));
+
+        return tagSets.get(tag).get(position);
+    }
+
+    /**
+     * Allocation-free counterpart of {@link CleanEntityHandle#valid()}.
+     * </br></br>
+     * Thread safety is guaranteed.
+     *
+     * @param packedHandle A handle packed by {@link CleanEntityHandle#pack(int, int)}
+     * @return Whether the handle is valid
+     */
+    public boolean isValid(long packedHandle) {
+        int index = CleanEntityHandle.unpackIndex(packedHandle);
+        return index >= 0 && index < indexCounter.get()
+                && entityGenerations.get(index) == CleanEntityHandle.unpackGeneration(packedHandle);
+    }
+
+    /**
+     * @param packedHandle A handle packed by {@link CleanEntityHandle#pack(int, int)}
+     * @return The entity handle, which may be invalid already
+     */
+    @NonNull
+    public CleanEntityHandle unpack(long packedHandle) {
+        int index = CleanEntityHandle.unpackIndex(packedHandle);
+        Preconditions.checkElementIndex(index, indexCounter.get());
+
+        return new CleanEntityHandle(this, index, CleanEntityHandle.unpackGeneration(packedHandle));
     }
 
     protected int getLatestGeneration(int entityID) {
-        Preconditions.checkElementIndex(entityID, entityGenerations.size());
+        Preconditions.checkElementIndex(entityID, indexCounter.get());
 
         return entityGenerations.get(entityID);
     }
 
     protected List<Class<? extends CleanComponent>> getComponentTypes(int entityID) {
-        Preconditions.checkElementIndex(entityID, entityGenerations.size());
+        Preconditions.checkElementIndex(entityID, indexCounter.get());
 
         return entityComponents.get(entityID);
     }
@@ -0,0 +1,152 @@
+package com.cleanroommc.kirino.ecs.entity;
+
+import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
+import com.google.common.collect.ImmutableList;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * An immutable snapshot of the storage and command throughput of an {@link EntityManager}, see {@link EntityManager#getStats()}.
+ * <br><br>
+ * Command counts only cover the latest {@link EntityManager#flush()}, while archetype statistics reflect the storage after it.
+ * Pools keep rows dense, so free rows are only the unused capacity at the end of a pool.
+ */
+public final class EntityManagerStats {
+    public record ArchetypeStats(
+            @NonNull ImmutableList<Class<? extends CleanComponent>> components,
+            @NonNull Class<? extends ArchetypeDataPool> poolType,
+            int rows,
+            int capacity,
+            long columnBytes,
+            int storageVersion) {
+
+        public int getFreeRows() {
+            return capacity - rows;
+        }
+
+        /**
+         * @return <code>rows / capacity</code>, or <code>0</code> for an empty pool
+         */
+        public float getOccupancy() {
+            return capacity == 0 ? 0f : (float) rows / capacity;
+        }
+    }
+
+    private final long flushCount;
+    private final long flushNanos;
+    private final int[] commandCounts;
+    private final int archetypeMoves;
+    private final int entityIndexCount;
+    private final int freeIndexCount;
+    private final ImmutableList<ArchetypeStats> archetypes;
+    private final int rows;
+    private final int capacity;
+    private final long columnBytes;
+
+    EntityManagerStats(long flushCount, long flushNanos, int[] commandCounts, int archetypeMoves, int entityIndexCount, int freeIndexCount, List<ArchetypeStats> archetypes) {
+        this.flushCount = flushCount;
+        this.flushNanos = flushNanos;
+        this.commandCounts = commandCounts;
+        this.archetypeMoves = archetypeMoves;
+        this.entityIndexCount = entityIndexCount;
+        this.freeIndexCount = freeIndexCount;
+        this.archetypes = ImmutableList.copyOf(archetypes);
+
+        int rowSum = 0;
+        int capacitySum = 0;
+        long byteSum = 0;
+        for (ArchetypeStats archetype : archetypes) {
+            rowSum += archetype.rows;
+            capacitySum += archetype.capacity;
+            byteSum += archetype.columnBytes;
+        }
+        rows = rowSum;
+        capacity = capacitySum;
+        columnBytes = byteSum;
+    }
+
+    /**
+     * @return The number of flushes so far
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * @return The duration of the latest flush
+     */
+    public long getFlushNanos() {
+        return flushNanos;
+    }
+
+    /**
+     * @param type The command type
+     * @return The number of commands of <code>type</code> consumed by the latest flush
+     */
+    public int getCommandCount(@NonNull EntityCommand.Type type) {
+        return commandCounts[type.ordinal()];
+    }
+
+    /**
+     * @return The number of commands consumed by the latest flush
+     */
+    public int getCommandCount() {
+        int sum = 0;
+        for (int count : commandCounts) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    /**
+     * @return The number of entities moved between archetypes by the latest flush
+     */
+    public int getArchetypeMoves() {
+        return archetypeMoves;
+    }
+
+    /**
+     * @return The number of entity indexes ever handed out
+     */
+    public int getEntityIndexCount() {
+        return entityIndexCount;
+    }
+
+    /**
+     * @return The number of released entity indexes waiting for reuse
+     */
+    public int getFreeIndexCount() {
+        return freeIndexCount;
+    }
+
+    /**
+     * @return All archetypes in creation order
+     */
+    @NonNull
+    public ImmutableList<ArchetypeStats> getArchetypes() {
+        return archetypes;
+    }
+
+    /**
+     * @return The number of occupied rows of all archetypes, i.e. the number of live entities
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The capacity of all archetypes
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The bytes of column data of all archetypes
+     */
+    public long getColumnBytes() {
+        return columnBytes;
+    }
+}
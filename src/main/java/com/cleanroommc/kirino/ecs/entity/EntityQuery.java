@@ -1,18 +1,58 @@
 package com.cleanroommc.kirino.ecs.entity;
 
 import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.CleanTag;
+import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeKey;
+import com.cleanroommc.kirino.ecs.storage.ChangeVersions;
+import com.cleanroommc.kirino.ecs.storage.ColumnHandle;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * A query caches its matching archetypes (see {@link EntityManager#startQuery(EntityQuery)}).
+ * Keep the query object and reuse it instead of building a new one every time.
+ */
 public final class EntityQuery {
     final List<Class<? extends CleanComponent>> mustHave;
     final List<Class<? extends CleanComponent>> mustNotHave;
 
+    // changed-only filter
+    final List<Class<? extends CleanComponent>> changedComponents;
+    final List<String[]> changedFieldAccessChains;
+    private ColumnHandle @Nullable [] changedColumns = null;
+    private int changedSince = 0;
+    private int lastRunVersion = 0;
+
+    // tag filter
+    final List<Class<? extends CleanTag>> withTags;
+    final List<Class<? extends CleanTag>> withoutTags;
+    private TagSet @Nullable [] withTagSets = null;
+    private TagSet @Nullable [] withoutTagSets = null;
+
+    private long @Nullable [] mustHaveSignature = null;
+    private long @Nullable [] mustNotHaveSignature = null;
+
+    // query cache; guarded by this
+    @Nullable EntityManager cacheOwner = null;
+    int scannedArchetypeCount = 0;
+    final List<ArchetypeDataPool> matched = new ArrayList<>();
+    ImmutableList<ArchetypeDataPool> result = ImmutableList.of();
+    QueryLayout layout = QueryLayout.EMPTY;
+
     private EntityQuery() {
         mustHave = new ArrayList<>();
         mustNotHave = new ArrayList<>();
+        changedComponents = new ArrayList<>();
+        changedFieldAccessChains = new ArrayList<>();
+        withTags = new ArrayList<>();
+        withoutTags = new ArrayList<>();
     }
 
     @NonNull
@@ -20,6 +60,63 @@ public final class EntityQuery {
         return new EntityQuery();
     }
 
+    long[] getMustHaveSignature() {
+        if (mustHaveSignature == null) {
+            mustHaveSignature = ArchetypeKey.toSignature(mustHave);
+        }
+        return mustHaveSignature;
+    }
+
+    long[] getMustNotHaveSignature() {
+        if (mustNotHaveSignature == null) {
+            mustNotHaveSignature = ArchetypeKey.toSignature(mustNotHave);
+        }
+        return mustNotHaveSignature;
+    }
+
+    synchronized void resolveChangedColumns(ComponentRegistry componentRegistry) {
+        if (changedColumns == null) {
+            changedColumns = new ColumnHandle[changedComponents.size()];
+            for (int i = 0; i < changedColumns.length; i++) {
+                changedColumns[i] = ColumnHandle.resolve(componentRegistry, changedComponents.get(i), changedFieldAccessChains.get(i));
+            }
+        }
+    }
+
+    synchronized void resolveTagSets(EntityManager entityManager) {
+        if (withTagSets == null) {
+            withTagSets = new TagSet[withTags.size()];
+            for (int i = 0; i < withTagSets.length; i++) {
+                withTagSets[i] = entityManager.getTagSet(withTags.get(i));
+            }
+            withoutTagSets = new TagSet[withoutTags.size()];
+            for (int i = 0; i < withoutTagSets.length; i++) {
+                withoutTagSets[i] = entityManager.getTagSet(withoutTags.get(i));
+            }
+        }
+    }
+
+    synchronized void invalidate() {
+        mustHaveSignature = null;
+        mustNotHaveSignature = null;
+        changedColumns = null;
+        withTagSets = null;
+        withoutTagSets = null;
+        cacheOwner = null;
+        scannedArchetypeCount = 0;
+        matched.clear();
+        result = ImmutableList.of();
+        layout = QueryLayout.EMPTY;
+    }
+
+    /**
+     * @return The layout as of the last {@link EntityManager#startQuery(EntityQuery)}
+     */
+    @NonNull
+    public synchronized QueryLayout getLayout() {
+        return layout;
+    }
+
     /**
      * <p>Prerequisite include:</p>
      * <ul>
@@ -32,6 +129,7 @@ public final class EntityQuery {
     @NonNull
     public EntityQuery with(@NonNull Class<? extends CleanComponent> component) {
         mustHave.add(component);
+        invalidate();
         return this;
     }
 
@@ -47,6 +145,243 @@ public final class EntityQuery {
     @NonNull
     public EntityQuery without(@NonNull Class<? extends CleanComponent> component) {
         mustNotHave.add(component);
+        invalidate();
+        return this;
+    }
+
+    /**
+     * Only accept rows whose column changed since the last run of this query (see {@link #beginChangedRun()}).
+     * Multiple changed filters are OR-ed. It implies {@link #with(Class)}.
+     * Changes are tracked per chunk of rows (see {@link ChangeVersions}), so unchanged neighbours inside a changed chunk pass as well.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li><code>component</code> is valid and registered</li>
+     *     <li><code>fieldAccessChain</code> points to a valid scalar field</li>
+     * </ul>
+     *
+     * @param component The component class
+     * @param fieldAccessChain A list of field names to identify a field
+     * @return The query object
+     */
+    @NonNull
+    public EntityQuery changed(@NonNull Class<? extends CleanComponent> component, @NonNull String @NonNull ... fieldAccessChain) {
+        if (!mustHave.contains(component)) {
+            mustHave.add(component);
+        }
+        changedComponents.add(component);
+        changedFieldAccessChains.add(fieldAccessChain.clone());
+        invalidate();
         return this;
     }
+
+    /**
+     * Only accept entities that have the tag (see {@link CleanTag}). Tags don't split archetypes,
+     * so this filters rows of the matched archetypes instead of narrowing the matched archetypes.
+     *
+     * @param tag The tag class
+     * @return The query object
+     */
+    @NonNull
+    public EntityQuery withTag(@NonNull Class<? extends CleanTag> tag) {
+        Preconditions.checkNotNull(tag);
+
+        withTags.add(tag);
+        invalidate();
+        return this;
+    }
+
+    /**
+     * Only accept entities that don't have the tag (see {@link CleanTag}).
+     *
+     * @param tag The tag class
+     * @return The query object
+     */
+    @NonNull
+    public EntityQuery withoutTag(@NonNull Class<? extends CleanTag> tag) {
+        Preconditions.checkNotNull(tag);
+
+        withoutTags.add(tag);
+        invalidate();
+        return this;
+    }
+
+    public boolean hasTagFilter() {
+        return !withTags.isEmpty() || !withoutTags.isEmpty();
+    }
+
+    public boolean hasChangedFilter() {
+        return !changedComponents.isEmpty();
+    }
+
+    /**
+     * Start a new run of this query. From now on, {@link #isChanged(ArchetypeDataPool, int)} accepts
+     * rows written since the previous call (including writes made during the previous run itself).
+     * The first run accepts everything.
+     */
+    public synchronized void beginChangedRun() {
+        changedSince = lastRunVersion;
+        lastRunVersion = ChangeVersions.advance();
+    }
+
+    /**
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li><code>archetype</code> is a result of {@link EntityManager#startQuery(EntityQuery)} with this query</li>
+     * </ul>
+     *
+     * @param archetype The archetype
+     * @param row The row
+     * @return Whether the row passes the changed filters; Always <code>true</code> if there's no changed filter
+     */
+    public boolean isChanged(@NonNull ArchetypeDataPool archetype, int row) {
+        ColumnHandle[] columns = changedColumns;
+        if (changedComponents.isEmpty()) {
+            return true;
+        }
+        Preconditions.checkState(columns != null,
+                "The query must be started by EntityManager#startQuery before filtering changes.");
+
+        for (ColumnHandle column : columns) {
+            if (archetype.getChangeVersion(column, row) >= changedSince) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skip rows rejected by {@link #isChanged(ArchetypeDataPool, int)} chunk by chunk.
+     *
+     * @param archetype The archetype
+     * @param row The first row to test
+     * @param end The end of the row range (exclusive)
+     * @return The first accepted row that is greater than or equal to <code>row</code>, or <code>end</code> if none
+     */
+    public int nextChangedRow(@NonNull ArchetypeDataPool archetype, int row, int end) {
+        if (changedComponents.isEmpty()) {
+            return Math.min(row, end);
+        }
+        while (row < end) {
+            if (isChanged(archetype, row)) {
+                return row;
+            }
+            row = ((row >>> ChangeVersions.CHUNK_SHIFT) + 1) << ChangeVersions.CHUNK_SHIFT;
+        }
+        return end;
+    }
+
+    /**
+     * The counterpart of {@link #nextChangedRow(ArchetypeDataPool, int, int)}. Rows in <code>[row, result)</code> all pass,
+     * so together they split a row range into contiguous runs of accepted rows.
+     *
+     * @param archetype The archetype
+     * @param row The first row to test
+     * @param end The end of the row range (exclusive)
+     * @return The first rejected row that is greater than or equal to <code>row</code>, or <code>end</code> if none
+     */
+    public int nextUnchangedRow(@NonNull ArchetypeDataPool archetype, int row, int end) {
+        if (changedComponents.isEmpty()) {
+            return end;
+        }
+        while (row < end) {
+            if (!isChanged(archetype, row)) {
+                return row;
+            }
+            row = ((row >>> ChangeVersions.CHUNK_SHIFT) + 1) << ChangeVersions.CHUNK_SHIFT;
+        }
+        return end;
+    }
+
+    /**
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li><code>archetype</code> is a result of {@link EntityManager#startQuery(EntityQuery)} with this query</li>
+     * </ul>
+     *
+     * @param archetype The archetype
+     * @param row The row
+     * @return Whether the entity of the row passes the tag filters; Always <code>true</code> if there's no tag filter
+     */
+    public boolean isTagged(@NonNull ArchetypeDataPool archetype, int row) {
+        if (!hasTagFilter()) {
+            return true;
+        }
+        TagSet[] with = withTagSets;
+        TagSet[] without = withoutTagSets;
+        Preconditions.checkState(with != null && without != null,
+                "The query must be started by EntityManager#startQuery before filtering tags.");
+
+        int entityID = archetype.getEntityID(row);
+        for (TagSet tagSet : with) {
+            if (!tagSet.contains(entityID)) {
+                return false;
+            }
+        }
+        for (TagSet tagSet : without) {
+            if (tagSet.contains(entityID)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean anyWithTagEmpty() {
+        TagSet[] with = withTagSets;
+        if (with != null) {
+            for (TagSet tagSet : with) {
+                if (tagSet.size() == 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Combine {@link #nextChangedRow(ArchetypeDataPool, int, int)} with the tag filters.
+     *
+     * @param archetype The archetype
+     * @param row The first row to test
+     * @param end The end of the row range (exclusive)
+     * @return The first row that passes all filters and is greater than or equal to <code>row</code>, or <code>end</code> if none
+     */
+    public int nextAcceptedRow(@NonNull ArchetypeDataPool archetype, int row, int end) {
+        if (!hasTagFilter()) {
+            return nextChangedRow(archetype, row, end);
+        }
+        if (anyWithTagEmpty()) {
+            return end;
+        }
+        row = nextChangedRow(archetype, row, end);
+        while (row < end) {
+            if (isTagged(archetype, row)) {
+                return row;
+            }
+            row = nextChangedRow(archetype, row + 1, end);
+        }
+        return end;
+    }
+
+    /**
+     * The counterpart of {@link #nextAcceptedRow(ArchetypeDataPool, int, int)}. Rows in <code>[row, result)</code> all pass.
+     *
+     * @param archetype The archetype
+     * @param row The first row to test
+     * @param end The end of the row range (exclusive)
+     * @return The first row that fails any filter and is greater than or equal to <code>row</code>, or <code>end</code> if none
+     */
+    public int nextRejectedRow(@NonNull ArchetypeDataPool archetype, int row, int end) {
+        int unchanged = nextUnchangedRow(archetype, row, end);
+        if (!hasTagFilter()) {
+            return unchanged;
+        }
+        while (row < unchanged) {
+            if (!isTagged(archetype, row)) {
+                return row;
+            }
+            row++;
+        }
+        return unchanged;
+    }
 }
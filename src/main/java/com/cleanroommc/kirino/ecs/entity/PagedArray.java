@@ -0,0 +1,60 @@
+package com.cleanroommc.kirino.ecs.entity;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A growable per-entity table. Pages never move once allocated, so elements can be read and written
+ * from any thread without locking. Only allocating a new page takes a lock, i.e. once per {@link #PAGE_SIZE} entities.
+ *
+ * @param <T> The element type
+ */
+final class PagedArray<T> {
+    static final int PAGE_SHIFT = 12;
+    static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    @SuppressWarnings("unchecked")
+    private volatile AtomicReferenceArray<T>[] pages = new AtomicReferenceArray[16];
+
+    /**
+     * @param index The element index
+     * @return The element, or <code>null</code> if it was never set
+     */
+    @Nullable
+    T get(int index) {
+        AtomicReferenceArray<T>[] pages = this.pages;
+        int pageIndex = index >>> PAGE_SHIFT;
+        if (pageIndex >= pages.length || pages[pageIndex] == null) {
+            return null;
+        }
+        return pages[pageIndex].get(index & PAGE_MASK);
+    }
+
+    void set(int index, @Nullable T value) {
+        page(index).set(index & PAGE_MASK, value);
+    }
+
+    private AtomicReferenceArray<T> page(int index) {
+        AtomicReferenceArray<T>[] pages = this.pages;
+        int pageIndex = index >>> PAGE_SHIFT;
+        if (pageIndex < pages.length && pages[pageIndex] != null) {
+            return pages[pageIndex];
+        }
+
+        synchronized (this) {
+            pages = this.pages;
+            if (pageIndex >= pages.length) {
+                pages = Arrays.copyOf(pages, Math.max(pages.length * 2, pageIndex + 1));
+            }
+            if (pages[pageIndex] == null) {
+                pages[pageIndex] = new AtomicReferenceArray<>(PAGE_SIZE);
+            }
+            // volatile write publishes the new page
+            this.pages = pages;
+            return pages[pageIndex];
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.cleanroommc.kirino.ecs.entity;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Int version of {@link PagedArray}. Unset elements read as <code>0</code>.
+ */
+final class PagedIntArray {
+    private volatile AtomicIntegerArray[] pages = new AtomicIntegerArray[16];
+
+    int get(int index) {
+        AtomicIntegerArray[] pages = this.pages;
+        int pageIndex = index >>> PagedArray.PAGE_SHIFT;
+        if (pageIndex >= pages.length || pages[pageIndex] == null) {
+            return 0;
+        }
+        return pages[pageIndex].get(index & PagedArray.PAGE_MASK);
+    }
+
+    void set(int index, int value) {
+        page(index).set(index & PagedArray.PAGE_MASK, value);
+    }
+
+    boolean compareAndSet(int index, int expected, int value) {
+        return page(index).compareAndSet(index & PagedArray.PAGE_MASK, expected, value);
+    }
+
+    private AtomicIntegerArray page(int index) {
+        AtomicIntegerArray[] pages = this.pages;
+        int pageIndex = index >>> PagedArray.PAGE_SHIFT;
+        if (pageIndex < pages.length && pages[pageIndex] != null) {
+            return pages[pageIndex];
+        }
+
+        synchronized (this) {
+            pages = this.pages;
+            if (pageIndex >= pages.length) {
+                pages = Arrays.copyOf(pages, Math.max(pages.length * 2, pageIndex + 1));
+            }
+            if (pages[pageIndex] == null) {
+                pages[pageIndex] = new AtomicIntegerArray(PagedArray.PAGE_SIZE);
+            }
+            // volatile write publishes the new page
+            this.pages = pages;
+            return pages[pageIndex];
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.cleanroommc.kirino.ecs.entity;
+
+import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * An immutable snapshot of the archetypes matched by an {@link EntityQuery} and their row ranges.
+ * The rows of all archetypes are concatenated into one global row space in match order.
+ * <br><br>
+ * {@link EntityManager#startQuery(EntityQuery)} keeps the previous snapshot as long as no archetype was matched,
+ * grown or shrunk since, so a repeated query neither allocates nor rebuilds anything (see {@link EntityQuery#getLayout()}).
+ */
+public final class QueryLayout {
+    static final QueryLayout EMPTY = new QueryLayout(new ArchetypeDataPool[0], new int[0], new int[1]);
+
+    private final ArchetypeDataPool[] archetypes;
+    private final int[] rowStarts;
+    /**
+     * <code>rowOffsets[i]</code> is the global row of the first row of <code>archetypes[i]</code>;
+     * The last element is the total row count.
+     */
+    private final int[] rowOffsets;
+
+    private QueryLayout(ArchetypeDataPool[] archetypes, int[] rowStarts, int[] rowOffsets) {
+        this.archetypes = archetypes;
+        this.rowStarts = rowStarts;
+        this.rowOffsets = rowOffsets;
+    }
+
+    /**
+     * @param matched The matched archetypes; It only ever grows
+     * @return This layout if it's still accurate, otherwise a new one
+     */
+    @NonNull
+    QueryLayout refresh(@NonNull List<ArchetypeDataPool> matched) {
+        int archetypeCount = matched.size();
+        if (archetypeCount == archetypes.length) {
+            boolean accurate = true;
+            for (int i = 0; i < archetypeCount; i++) {
+                ArchetypeDataPool archetype = archetypes[i];
+                if (archetype.getRowStart() != rowStarts[i]
+                        || archetype.getRowEnd() - archetype.getRowStart() != rowOffsets[i + 1] - rowOffsets[i]) {
+                    accurate = false;
+                    break;
+                }
+            }
+            if (accurate) {
+                return this;
+            }
+        }
+
+        ArchetypeDataPool[] newArchetypes = matched.toArray(new ArchetypeDataPool[0]);
+        int[] newRowStarts = new int[archetypeCount];
+        int[] newRowOffsets = new int[archetypeCount + 1];
+        for (int i = 0; i < archetypeCount; i++) {
+            int start = newArchetypes[i].getRowStart();
+            newRowStarts[i] = start;
+            newRowOffsets[i + 1] = newRowOffsets[i] + Math.max(0, newArchetypes[i].getRowEnd() - start);
+        }
+        return new QueryLayout(newArchetypes, newRowStarts, newRowOffsets);
+    }
+
+    public int getArchetypeCount() {
+        return archetypes.length;
+    }
+
+    @NonNull
+    public ArchetypeDataPool getArchetype(int archetypeOrdinal) {
+        return archetypes[archetypeOrdinal];
+    }
+
+    /**
+     * @return The first row of the archetype in its own storage
+     */
+    public int getRowStart(int archetypeOrdinal) {
+        return rowStarts[archetypeOrdinal];
+    }
+
+    /**
+     * @return The global row of the first row of the archetype
+     */
+    public int getRowOffset(int archetypeOrdinal) {
+        return rowOffsets[archetypeOrdinal];
+    }
+
+    public int getRowCount(int archetypeOrdinal) {
+        return rowOffsets[archetypeOrdinal + 1] - rowOffsets[archetypeOrdinal];
+    }
+
+    /**
+     * @return The number of rows of all archetypes
+     */
+    public int getTotalRowCount() {
+        return rowOffsets[archetypes.length];
+    }
+
+    /**
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li><code>globalRow</code> is inside <code>[0, getTotalRowCount())</code></li>
+     * </ul>
+     *
+     * @param globalRow A global row
+     * @return The ordinal of the archetype that contains <code>globalRow</code>
+     */
+    public int archetypeAt(int globalRow) {
+        // the last archetype whose offset is not greater than globalRow, so empty archetypes are skipped
+        int low = 0;
+        int high = archetypes.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (rowOffsets[mid] <= globalRow) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
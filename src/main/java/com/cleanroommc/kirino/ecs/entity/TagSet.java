@@ -0,0 +1,58 @@
+package com.cleanroommc.kirino.ecs.entity;
+
+import java.util.Arrays;
+
+/**
+ * The entities of one tag class as a sparse set. Only {@link EntityManager#flush()} modifies it,
+ * so it's read without locks during job and system execution.
+ */
+final class TagSet {
+    private int[] dense = new int[16];
+    /**
+     * Entity index to position in {@link #dense}; Stale entries are harmless since they're validated against <code>dense</code>.
+     */
+    private int[] sparse = new int[16];
+    private int size = 0;
+
+    boolean contains(int entityID) {
+        if (entityID >= sparse.length) {
+            return false;
+        }
+        int position = sparse[entityID];
+        return position < size && dense[position] == entityID;
+    }
+
+    void add(int entityID) {
+        if (contains(entityID)) {
+            return;
+        }
+        if (entityID >= sparse.length) {
+            sparse = Arrays.copyOf(sparse, Math.max(sparse.length * 2, entityID + 1));
+        }
+        if (size == dense.length) {
+            dense = Arrays.copyOf(dense, dense.length * 2);
+        }
+        dense[size] = entityID;
+        sparse[entityID] = size;
+        size++;
+    }
+
+    void remove(int entityID) {
+        if (!contains(entityID)) {
+            return;
+        }
+        // swap-remove
+        int position = sparse[entityID];
+        int last = dense[--size];
+        dense[position] = last;
+        sparse[last] = position;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int position) {
+        return dense[position];
+    }
+}
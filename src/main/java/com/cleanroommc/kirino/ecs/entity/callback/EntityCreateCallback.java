@@ -8,4 +8,21 @@ public interface EntityCreateCallback {
      * Must not touch {@link EntityManager} here. Might cause concurrent modification exception.
      */
     void beforeCreate(@NonNull EntityCreateContext createContext);
+
+    /**
+     * Called once for a run of entities of the same archetype that share this callback.
+     * <code>createContext</code> is a cursor over the batch; use {@link EntityCreateContext#select(int)} to move it.
+     * By default, it's just {@link #beforeCreate(EntityCreateContext)} for every entity.
+     * <br><br>
+     * Must not touch {@link EntityManager} here. Might cause concurrent modification exception.
+     *
+     * @param createContext The context cursor
+     * @param batchSize The number of entities in this batch
+     */
+    default void beforeCreateBatch(@NonNull EntityCreateContext createContext, int batchSize) {
+        for (int i = 0; i < batchSize; i++) {
+            createContext.select(i);
+            beforeCreate(createContext);
+        }
+    }
 }
@@ -10,6 +10,8 @@ import java.util.NoSuchElementException;
 public class EntityCreateContext {
     private List<Class<? extends CleanComponent>> components;
     private List<CleanComponent> newComponents;
+    private List<List<CleanComponent>> batch;
+    private int batchOffset;
 
     public EntityCreateContext() {
     }
@@ -20,6 +22,31 @@ public class EntityCreateContext {
     public void setInternal(List<Class<? extends CleanComponent>> components, List<CleanComponent> newComponents) {
         this.components = components;
         this.newComponents = newComponents;
+        batch = null;
+        batchOffset = 0;
+    }
+
+    /**
+     * Must not be accessed by clients.
+     */
+    public void setInternalBatch(List<Class<? extends CleanComponent>> components, List<List<CleanComponent>> batch, int batchOffset) {
+        this.components = components;
+        this.batch = batch;
+        this.batchOffset = batchOffset;
+        newComponents = batch.get(batchOffset);
+    }
+
+    /**
+     * Move the cursor inside a batch (see {@link EntityCreateCallback#beforeCreateBatch(EntityCreateContext, int)}).
+     *
+     * @param index The index inside the batch
+     */
+    public void select(int index) {
+        if (batch == null) {
+            Preconditions.checkElementIndex(index, 1);
+            return;
+        }
+        newComponents = batch.get(batchOffset + index);
     }
 
     @NonNull
@@ -8,4 +8,21 @@ public interface EntityDestroyCallback {
      * Must not touch {@link EntityManager} here. Might cause concurrent modification exception.
      */
     void beforeDestroy(@NonNull EntityDestroyContext destroyContext);
+
+    /**
+     * Called once for a run of entities of the same archetype that share this callback.
+     * <code>destroyContext</code> is a cursor over the batch; use {@link EntityDestroyContext#select(int)} to move it.
+     * By default, it's just {@link #beforeDestroy(EntityDestroyContext)} for every entity.
+     * <br><br>
+     * Must not touch {@link EntityManager} here. Might cause concurrent modification exception.
+     *
+     * @param destroyContext The context cursor
+     * @param batchSize The number of entities in this batch
+     */
+    default void beforeDestroyBatch(@NonNull EntityDestroyContext destroyContext, int batchSize) {
+        for (int i = 0; i < batchSize; i++) {
+            destroyContext.select(i);
+            beforeDestroy(destroyContext);
+        }
+    }
 }
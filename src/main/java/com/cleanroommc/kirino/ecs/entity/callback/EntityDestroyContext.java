@@ -2,8 +2,11 @@ package com.cleanroommc.kirino.ecs.entity.callback;
 
 import com.cleanroommc.kirino.ecs.component.CleanComponent;
 import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
+import com.cleanroommc.kirino.ecs.storage.ColumnHandle;
+import com.cleanroommc.kirino.ecs.storage.PrimitiveArrayType;
 import com.google.common.base.Preconditions;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import java.util.List;
 
@@ -11,6 +14,8 @@ public class EntityDestroyContext {
     private int entityID;
     private List<Class<? extends CleanComponent>> components;
     private ArchetypeDataPool archetype;
+    private int @Nullable [] batch;
+    private int batchOffset;
 
     public EntityDestroyContext() {
     }
@@ -22,6 +27,32 @@ public class EntityDestroyContext {
         this.entityID = entityID;
         this.components = components;
         this.archetype = archetype;
+        batch = null;
+        batchOffset = 0;
+    }
+
+    /**
+     * Must not be accessed by clients.
+     */
+    public void setInternalBatch(int[] entityIDs, int batchOffset, List<Class<? extends CleanComponent>> components, ArchetypeDataPool archetype) {
+        this.components = components;
+        this.archetype = archetype;
+        batch = entityIDs;
+        this.batchOffset = batchOffset;
+        entityID = entityIDs[batchOffset];
+    }
+
+    /**
+     * Move the cursor inside a batch (see {@link EntityDestroyCallback#beforeDestroyBatch(EntityDestroyContext, int)}).
+     *
+     * @param index The index inside the batch
+     */
+    public void select(int index) {
+        if (batch == null) {
+            Preconditions.checkElementIndex(index, 1);
+            return;
+        }
+        entityID = batch[batchOffset + index];
     }
 
     @NonNull
@@ -31,4 +62,39 @@ public class EntityDestroyContext {
 
         return archetype.getComponent(entityID, component);
     }
+
+    /**
+     * Read one field without rebuilding the whole component.
+     *
+     * @param column The column handle; <code>column.type</code> must be {@link PrimitiveArrayType#INT}
+     * @return The field value of the current entity
+     * @see com.cleanroommc.kirino.ecs.entity.EntityManager#newColumnHandle(Class, String...)
+     */
+    public int getInt(@NonNull ColumnHandle column) {
+        checkColumn(column, PrimitiveArrayType.INT);
+        return archetype.getInt(entityID, column);
+    }
+
+    /**
+     * Float version of {@link #getInt(ColumnHandle)}.
+     */
+    public float getFloat(@NonNull ColumnHandle column) {
+        checkColumn(column, PrimitiveArrayType.FLOAT);
+        return archetype.getFloat(entityID, column);
+    }
+
+    /**
+     * Boolean version of {@link #getInt(ColumnHandle)}.
+     */
+    public boolean getBool(@NonNull ColumnHandle column) {
+        checkColumn(column, PrimitiveArrayType.BOOL);
+        return archetype.getBool(entityID, column);
+    }
+
+    private void checkColumn(ColumnHandle column, PrimitiveArrayType type) {
+        Preconditions.checkArgument(components.contains(column.component),
+                "The target entity doesn't contain the component of the argument \"column\" - %s.", column.component.getName());
+        Preconditions.checkArgument(column.type == type,
+                "The argument \"column\" is of type %s, not %s.", column.type, type);
+    }
 }
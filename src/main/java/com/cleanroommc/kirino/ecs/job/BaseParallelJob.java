@@ -0,0 +1,40 @@
+package com.cleanroommc.kirino.ecs.job;
+
+import com.cleanroommc.kirino.ecs.entity.EntityQuery;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * What every parallel job has in common. Implement {@link ParallelJob} to be executed once per row,
+ * or {@link RangeParallelJob} to be executed once per contiguous run of rows.
+ * <br><br>
+ * Jobs will be instantiated per thread and reused across executions. A job must have an empty (no parameters) constructor.
+ * Injected fields are overwritten before every execution; any other state that must not survive an execution is cleared in {@link #reset()}.
+ */
+public sealed interface BaseParallelJob permits ParallelJob, RangeParallelJob {
+    /**
+     * Called once per job class. The query is cached by {@link JobScheduler}, so it must not depend on any job state.
+     * With {@link EntityQuery#changed(Class, String...)}, each execution only visits rows changed since the previous execution of this job class.
+     *
+     * @param entityQuery The query to fill
+     */
+    void query(@NonNull EntityQuery entityQuery);
+
+    /**
+     * Return value must be greater than or equal to 1.
+     * {@link JobScheduler} samples a few rows of each archetype to size the smallest task; it doesn't sum every row.
+     * Only the ratio between rows matters: the cost of one unit is measured per job class over recent executions.
+     *
+     * <p>For example, the O(n) algorithm with input size around 10 should return 10.</p>
+     *
+     * @param index The index
+     * @return The estimated workload
+     */
+    int estimateWorkload(int index);
+
+    /**
+     * Called after an execution, before this instance is returned to the pool of its job class.
+     * Clear cached state derived from external data here. Scratch buffers may be kept.
+     */
+    default void reset() {
+    }
+}
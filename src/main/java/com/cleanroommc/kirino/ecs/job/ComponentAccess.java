@@ -0,0 +1,226 @@
+/**
+ * The component fields that a parallel job or an ecs-system reads and writes.
+ * Two accesses conflict if one of them writes a field that the other one reads or writes;
+ * Non-conflicting ones may run at the same time. A field access chain covers all of its sub-fields,
+ * so writing <code>{"pos"}</code> conflicts with reading <code>{"pos", "x"}</code>.
+ * <br><br>
+ * External data (see {@link JobExternalDataQuery}) is compared by the identity of the objects.
+ * A written external data query that isn't resolved to an object makes the access exclusive,
+ * since it's unknown which other systems share the object.
+ * <br><br>
+ * Structural changes aren't part of the access, since they're recorded by the entity command buffers and applied on flush.
+ */
+public final class ComponentAccess {
+    private record FieldKey(Class<?> componentClass, List<String> fieldAccessChain) {
+        /**
+         * @return Whether the fields overlap, i.e. one access chain is a prefix of the other one
+         */
+        boolean overlaps(FieldKey other) {
+            if (componentClass != other.componentClass) {
+                return false;
+            }
+            int length = Math.min(fieldAccessChain.size(), other.fieldAccessChain.size());
+            return fieldAccessChain.subList(0, length).equals(other.fieldAccessChain.subList(0, length));
+        }
+    }
+
+    private final Set<FieldKey> reads;
+    private final Set<FieldKey> writes;
+    private final Set<Object> externalReads;
+    private final Set<Object> externalWrites;
+    private final Set<String> externalReadKeys;
+    private final Set<String> externalWriteKeys;
+    private final boolean exclusive;
+
+    private ComponentAccess(
+            Set<FieldKey> reads,
+            Set<FieldKey> writes,
+            Set<Object> externalReads,
+            Set<Object> externalWrites,
+            Set<String> externalReadKeys,
+            Set<String> externalWriteKeys,
+            boolean exclusive) {
+
+        this.reads = reads;
+        this.writes = writes;
+        this.externalReads = externalReads;
+        this.externalWrites = externalWrites;
+        this.externalReadKeys = externalReadKeys;
+        this.externalWriteKeys = externalWriteKeys;
+        this.exclusive = exclusive;
+    }
+
+    /**
+     * @return Whether it conflicts with every other access, i.e. the access is unknown
+     */
+    public boolean isExclusive() {
+        return exclusive || !externalWriteKeys.isEmpty();
+    }
+
+    public boolean conflictsWith(@NonNull ComponentAccess other) {
+        Preconditions.checkNotNull(other);
+
+        if (isExclusive() || other.isExclusive()) {
+            return true;
+        }
+        return intersects(writes, other.writes) || intersects(writes, other.reads) || intersects(reads, other.writes)
+                || sharesAny(externalWrites, other.externalWrites) || sharesAny(externalWrites, other.externalReads) || sharesAny(externalReads, other.externalWrites);
+    }
+
+    private static boolean intersects(Set<FieldKey> a, Set<FieldKey> b) {
+        for (FieldKey keyA : a) {
+            for (FieldKey keyB : b) {
+                if (keyA.overlaps(keyB)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean sharesAny(Set<Object> a, Set<Object> b) {
+        Set<Object> smaller = a.size() <= b.size() ? a : b;
+        Set<Object> larger = smaller == a ? b : a;
+        for (Object object : smaller) {
+            if (larger.contains(object)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Object> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    public static class Builder {
+        private final @Nullable JobRegistry jobRegistry;
+        private final Set<FieldKey> reads = new HashSet<>();
+        private final Set<FieldKey> writes = new HashSet<>();
+        private final Set<Object> externalReads = newIdentitySet();
+        private final Set<Object> externalWrites = newIdentitySet();
+        private final Set<String> externalReadKeys = new HashSet<>();
+        private final Set<String> externalWriteKeys = new HashSet<>();
+        private boolean exclusive = false;
+
+        Builder(@Nullable JobRegistry jobRegistry) {
+            this.jobRegistry = jobRegistry;
+        }
+
+        public @NonNull Builder read(@NonNull Class<? extends CleanComponent> componentClass, @NonNull String @NonNull ... fieldAccessChain) {
+            Preconditions.checkNotNull(componentClass);
+            Preconditions.checkNotNull(fieldAccessChain);
+
+            reads.add(new FieldKey(componentClass, List.of(fieldAccessChain)));
+            return this;
+        }
+
+        public @NonNull Builder write(@NonNull Class<? extends CleanComponent> componentClass, @NonNull String @NonNull ... fieldAccessChain) {
+            Preconditions.checkNotNull(componentClass);
+            Preconditions.checkNotNull(fieldAccessChain);
+
+            writes.add(new FieldKey(componentClass, List.of(fieldAccessChain)));
+            return this;
+        }
+
+        /**
+         * Include the access of a parallel job, which is derived from its {@link JobDataQuery}s.
+         * The job is exclusive if it writes any external data, see {@link #job(Class, Map)}.
+         */
+        public @NonNull Builder job(@NonNull Class<? extends BaseParallelJob> clazz) {
+            Preconditions.checkNotNull(clazz);
+
+            ComponentAccess jobAccess = getJobAccess(clazz);
+            reads.addAll(jobAccess.reads);
+            writes.addAll(jobAccess.writes);
+            externalWriteKeys.addAll(jobAccess.externalWriteKeys);
+            exclusive |= jobAccess.exclusive;
+            return this;
+        }
+
+        /**
+         * Include the access of a parallel job, and resolve its {@link JobExternalDataQuery}s against the external data
+         * the job is executed with. Written external data that is missing from <code>externalData</code> makes the access exclusive.
+         *
+         * @param clazz The job class
+         * @param externalData The external data passed to {@link JobScheduler#executeParallelJob}
+         */
+        public @NonNull Builder job(@NonNull Class<? extends BaseParallelJob> clazz, @NonNull Map<String, ?> externalData) {
+            Preconditions.checkNotNull(clazz);
+            Preconditions.checkNotNull(externalData);
+
+            ComponentAccess jobAccess = getJobAccess(clazz);
+            reads.addAll(jobAccess.reads);
+            writes.addAll(jobAccess.writes);
+            for (String key : jobAccess.externalReadKeys) {
+                Object object = externalData.get(key);
+                if (object != null) {
+                    externalReads.add(object);
+                }
+            }
+            for (String key : jobAccess.externalWriteKeys) {
+                Object object = externalData.get(key);
+                if (object != null) {
+                    externalWrites.add(object);
+                } else {
+                    externalWriteKeys.add(key);
+                }
+            }
+            exclusive |= jobAccess.exclusive;
+            return this;
+        }
+
+        private @NonNull ComponentAccess getJobAccess(@NonNull Class<? extends BaseParallelJob> clazz) {
+            Preconditions.checkState(jobRegistry != null, "This builder can't resolve parallel jobs.");
+
+            ComponentAccess jobAccess = jobRegistry.getParallelJobAccess(clazz);
+            Preconditions.checkArgument(jobAccess != null,
+                    "Parallel job class \"%s\" isn't registered in the job registry.", clazz.getName());
+            return jobAccess;
+        }
+
+        /**
+         * Declare an external data query of a job. Only used to derive the access of a job from its annotations.
+         */
+        @NonNull Builder externalData(@NonNull String key, boolean write) {
+            (write ? externalWriteKeys : externalReadKeys).add(key);
+            return this;
+        }
+
+        /**
+         * Conflict with every other access. Used when the access can't be declared, e.g. component data is touched outside jobs.
+         */
+        public @NonNull Builder exclusive() {
+            exclusive = true;
+            return this;
+        }
+
+        public @NonNull ComponentAccess build() {
+            Set<FieldKey> readOnly = new HashSet<>(reads);
+            readOnly.removeAll(writes);
+            Set<Object> externalReadOnly = newIdentitySet();
+            externalReadOnly.addAll(externalReads);
+            externalReadOnly.removeAll(externalWrites);
+            Set<Object> externalWritten = newIdentitySet();
+            externalWritten.addAll(externalWrites);
+            return new ComponentAccess(
+                    Set.copyOf(readOnly),
+                    Set.copyOf(writes),
+                    Collections.unmodifiableSet(externalReadOnly),
+                    Collections.unmodifiableSet(externalWritten),
+                    Set.copyOf(externalReadKeys),
+                    Set.copyOf(externalWriteKeys),
+                    exclusive);
+        }
+    }
+
+    /**
+     * @param jobRegistry The registry to resolve {@link Builder#job(Class)}
+     * @return The builder
+     */
+    public static @NonNull Builder newBuilder(@NonNull JobRegistry jobRegistry) {
+        Preconditions.checkNotNull(jobRegistry);
+
+        return new Builder(jobRegistry);
+    }
+}
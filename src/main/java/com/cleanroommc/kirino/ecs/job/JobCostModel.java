@@ -0,0 +1,50 @@
+package com.cleanroommc.kirino.ecs.job;
+
+import com.cleanroommc.kirino.KirinoCommonCore;
+
+/**
+ * The measured cost of one parallel job class. {@link BaseParallelJob#estimateWorkload(int)} only gives the relative cost of rows;
+ * This model calibrates its unit by timing recent executions, so the task size follows the actual job and machine.
+ * <br><br>
+ * Until the first execution is measured, the static {@link com.cleanroommc.kirino.config.KirinoConfigHub#getTargetWorkloadPerThread()} is used.
+ * <br><br>
+ * {@link JobScheduler} keeps one model per job class and never exposes it; The class is public so the model can be checked on its own.
+ */
+public final class JobCostModel {
+    /**
+     * The weight of the latest execution in the moving average.
+     */
+    private static final double SMOOTHING = 0.25;
+
+    private double nanosPerWorkload = Double.NaN;
+
+    /**
+     * @param busyNanos The time all workers spent executing rows
+     * @param workload The estimated workload of all rows
+     */
+    public synchronized void record(long busyNanos, double workload) {
+        if (busyNanos <= 0 || workload <= 0) {
+            return;
+        }
+        double sample = busyNanos / workload;
+        nanosPerWorkload = Double.isNaN(nanosPerWorkload) ? sample : nanosPerWorkload + SMOOTHING * (sample - nanosPerWorkload);
+    }
+
+    /**
+     * @return The workload that one task should cover
+     */
+    public synchronized int getTargetWorkload() {
+        if (Double.isNaN(nanosPerWorkload)) {
+            return KirinoCommonCore.KIRINO_CONFIG_HUB.getTargetWorkloadPerThread();
+        }
+        double targetNanos = KirinoCommonCore.KIRINO_CONFIG_HUB.getTargetTaskMicros() * 1000d;
+        return (int) Math.clamp(targetNanos / nanosPerWorkload, 1d, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return The measured nanoseconds per workload unit, or <code>NaN</code> if nothing is measured yet
+     */
+    public synchronized double getNanosPerWorkload() {
+        return nanosPerWorkload;
+    }
+}
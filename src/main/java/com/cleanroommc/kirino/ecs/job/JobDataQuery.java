@@ -12,4 +12,11 @@ import java.lang.annotation.Target;
 public @interface JobDataQuery {
     @NonNull Class<?> componentClass();
     @NonNull String @NonNull [] fieldAccessChain();
+
+    /**
+     * Whether the job writes this field. Systems that execute the job are ordered by it (see {@link ComponentAccess}).
+     * A query is a write unless it opts out, so a missed flag only costs parallelism instead of causing a data race.
+     * A job must not write a field declared with <code>write = false</code>.
+     */
+    boolean write() default true;
 }
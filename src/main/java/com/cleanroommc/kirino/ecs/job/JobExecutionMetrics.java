@@ -0,0 +1,40 @@
+package com.cleanroommc.kirino.ecs.job;
+
+/**
+ * A snapshot of the metrics of a {@link JobScheduler}. Units are counted by the execution itself, not by the executor,
+ * so they mean the same on every backend: a task is one range of rows run in one piece, i.e. a leaf task
+ * on a {@link java.util.concurrent.ForkJoinPool} or a chunk claimed by a cursor runner elsewhere.
+ * Only completed executions are counted.
+ *
+ * @param executions The number of completed executions
+ * @param tasks The number of row ranges run
+ * @param rows The number of rows covered by the executions
+ * @param busyNanos The total time workers spent running row ranges
+ * @param wallNanos The total time from dispatch to completion
+ * @param maxWallNanos The longest time from dispatch to completion since the last peak reset
+ * @param peakWorkers The highest number of workers of one execution since the last peak reset
+ */
+public record JobExecutionMetrics(
+        long executions,
+        long tasks,
+        long rows,
+        long busyNanos,
+        long wallNanos,
+        long maxWallNanos,
+        int peakWorkers) {
+
+    public long meanTaskNanos() {
+        return tasks == 0 ? 0 : busyNanos / tasks;
+    }
+
+    public long meanWallNanos() {
+        return executions == 0 ? 0 : wallNanos / executions;
+    }
+
+    /**
+     * @return The mean number of workers busy at once during an execution
+     */
+    public double meanBusyWorkers() {
+        return wallNanos == 0 ? 0 : (double) busyNanos / wallNanos;
+    }
+}
@@ -8,4 +8,9 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
 public @interface JobExternalDataQuery {
+    /**
+     * Whether the job mutates the external data. Systems that execute the job are ordered by it (see {@link ComponentAccess}),
+     * so it must only be <code>false</code> if the job never changes the state of the object.
+     */
+    boolean write() default true;
 }
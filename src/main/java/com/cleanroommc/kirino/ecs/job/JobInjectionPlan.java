@@ -0,0 +1,123 @@
+package com.cleanroommc.kirino.ecs.job;
+
+import com.cleanroommc.kirino.ecs.entity.QueryLayout;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
+import com.cleanroommc.kirino.ecs.storage.ColumnHandle;
+import com.cleanroommc.kirino.ecs.storage.PrimitiveArray;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The precompiled data injection of a parallel job class.
+ * Column handles are resolved once at registration, and the arrays of an archetype are resolved once
+ * and kept until the archetype reallocates its storage (see {@link ArchetypeDataPool#getStorageVersion()}).
+ */
+public final class JobInjectionPlan {
+    private final ColumnHandle[] columns;
+    private final JobDataInjector[] dataInjectors;
+    private final String[] externalDataKeys;
+    private final JobDataInjector[] externalDataInjectors;
+
+    private record Binding(int storageVersion, PrimitiveArray[] arrays) {
+    }
+
+    private final Map<ArchetypeDataPool, Binding> bindings = new ConcurrentHashMap<>();
+
+    private record LayoutBinding(QueryLayout layout, int[] storageVersions, PrimitiveArray[][] arrays) {
+    }
+
+    /**
+     * The job class has one cached query, so the last layout is almost always the next one.
+     */
+    private volatile @Nullable LayoutBinding layoutBinding;
+
+    JobInjectionPlan(ColumnHandle[] columns, JobDataInjector[] dataInjectors, String[] externalDataKeys, JobDataInjector[] externalDataInjectors) {
+        this.columns = columns;
+        this.dataInjectors = dataInjectors;
+        this.externalDataKeys = externalDataKeys;
+        this.externalDataInjectors = externalDataInjectors;
+    }
+
+    public int getExternalDataCount() {
+        return externalDataKeys.length;
+    }
+
+    public String getExternalDataKey(int index) {
+        return externalDataKeys[index];
+    }
+
+    /**
+     * Resolve the arrays of an archetype. The result is cached per archetype, so it must not be modified.
+     *
+     * @param archetype The archetype
+     * @return The arrays, in the same order as the data injectors
+     */
+    @NonNull
+    PrimitiveArray[] bind(@NonNull ArchetypeDataPool archetype) {
+        int storageVersion = archetype.getStorageVersion();
+        Binding binding = bindings.get(archetype);
+        if (binding == null || binding.storageVersion() != storageVersion) {
+            PrimitiveArray[] arrays = new PrimitiveArray[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                arrays[i] = archetype.getArray(columns[i]);
+            }
+            binding = new Binding(storageVersion, arrays);
+            bindings.put(archetype, binding);
+        }
+        return binding.arrays();
+    }
+
+    /**
+     * Resolve the arrays of every archetype of a layout. The result is cached until the layout
+     * or the storage of one of its archetypes changes, so it must not be modified.
+     *
+     * @param layout The query layout
+     * @return The arrays per archetype ordinal
+     */
+    @NonNull
+    PrimitiveArray[][] bind(@NonNull QueryLayout layout) {
+        LayoutBinding binding = layoutBinding;
+        if (binding != null && binding.layout() == layout) {
+            boolean accurate = true;
+            for (int i = 0; i < layout.getArchetypeCount(); i++) {
+                if (layout.getArchetype(i).getStorageVersion() != binding.storageVersions()[i]) {
+                    accurate = false;
+                    break;
+                }
+            }
+            if (accurate) {
+                return binding.arrays();
+            }
+        }
+
+        int archetypeCount = layout.getArchetypeCount();
+        int[] storageVersions = new int[archetypeCount];
+        PrimitiveArray[][] arrays = new PrimitiveArray[archetypeCount][];
+        for (int i = 0; i < archetypeCount; i++) {
+            // read the version first; a reallocation in between only makes the next call rebind
+            storageVersions[i] = layout.getArchetype(i).getStorageVersion();
+            arrays[i] = bind(layout.getArchetype(i));
+        }
+        layoutBinding = new LayoutBinding(layout, storageVersions, arrays);
+        return arrays;
+    }
+
+    /**
+     * @param job The job instance
+     * @param arrays The result of {@link #bind(ArchetypeDataPool)}
+     * @param externalData The external data
+     */
+    void inject(@NonNull BaseParallelJob job, @NonNull PrimitiveArray[] arrays, @Nullable Map<String, Object> externalData) {
+        for (int i = 0; i < dataInjectors.length; i++) {
+            dataInjectors[i].inject(job, arrays[i]);
+        }
+        if (externalData != null) {
+            for (int i = 0; i < externalDataInjectors.length; i++) {
+                externalDataInjectors[i].inject(job, externalData.get(externalDataKeys[i]));
+            }
+        }
+    }
+}
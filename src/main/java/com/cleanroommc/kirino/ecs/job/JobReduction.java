@@ -0,0 +1,142 @@
+package com.cleanroommc.kirino.ecs.job;
+
+import com.google.common.base.Preconditions;
+import org.jspecify.annotations.NonNull;
+
+import java.util.function.LongBinaryOperator;
+
+/**
+ * A reduction of <code>long</code> values across the workers of a parallel job. Pass it as external data,
+ * accumulate with the <code>threadOrdinal</code> of {@link ParallelJob#execute} or {@link RangeParallelJob#executeRange},
+ * and read the result with {@link #get()} after the execution is joined.
+ * <br><br>
+ * Every thread ordinal owns a slot on its own cache lines, so workers never contend.
+ * A thread ordinal is only used by one thread at a time within an execution, thus slots are written without atomics;
+ * Consequently, one reduction must not be shared by executions that run at the same time.
+ */
+public final class JobReduction {
+    /**
+     * Longs between two slots. 128 bytes cover a cache line and its adjacent-line prefetch.
+     */
+    private static final int STRIDE = 16;
+
+    private static final int SEGMENT_SHIFT = 3;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final long identity;
+    private final LongBinaryOperator operator;
+
+    /**
+     * Segments never move once allocated; Growing only copies the outer array,
+     * so a worker never writes to a slot that is being copied.
+     */
+    private volatile long[][] segments;
+
+    private JobReduction(long identity, @NonNull LongBinaryOperator operator) {
+        this.identity = identity;
+        this.operator = operator;
+        segments = new long[][]{newSegment()};
+    }
+
+    private long[] newSegment() {
+        long[] segment = new long[SEGMENT_SIZE * STRIDE];
+        if (identity != 0) {
+            for (int i = 0; i < SEGMENT_SIZE; i++) {
+                segment[i * STRIDE] = identity;
+            }
+        }
+        return segment;
+    }
+
+    private long[] segment(int threadOrdinal) {
+        int segmentIndex = threadOrdinal >>> SEGMENT_SHIFT;
+        long[][] current = segments;
+        if (segmentIndex < current.length) {
+            return current[segmentIndex];
+        }
+        return grow(segmentIndex);
+    }
+
+    private synchronized long[] grow(int segmentIndex) {
+        long[][] current = segments;
+        if (segmentIndex >= current.length) {
+            long[][] grown = new long[Math.max(segmentIndex + 1, current.length * 2)][];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            for (int i = current.length; i < grown.length; i++) {
+                grown[i] = newSegment();
+            }
+            segments = grown;
+            current = grown;
+        }
+        return current[segmentIndex];
+    }
+
+    /**
+     * @param threadOrdinal The ordinal number of the current thread
+     * @param value The value to fold into the slot of the thread
+     */
+    public void accumulate(int threadOrdinal, long value) {
+        Preconditions.checkArgument(threadOrdinal >= 0, "Thread ordinal must be non-negative.");
+
+        long[] segment = segment(threadOrdinal);
+        int slot = (threadOrdinal & SEGMENT_MASK) * STRIDE;
+        segment[slot] = operator.applyAsLong(segment[slot], value);
+    }
+
+    /**
+     * Merge all slots. Only exact after the execution is joined.
+     *
+     * @return The result; The identity if nothing was accumulated
+     */
+    public long get() {
+        long result = identity;
+        for (long[] segment : segments) {
+            for (int i = 0; i < SEGMENT_SIZE; i++) {
+                result = operator.applyAsLong(result, segment[i * STRIDE]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reset all slots to the identity. Must not be called while an execution is running.
+     */
+    public void reset() {
+        for (long[] segment : segments) {
+            for (int i = 0; i < SEGMENT_SIZE; i++) {
+                segment[i * STRIDE] = identity;
+            }
+        }
+    }
+
+    /**
+     * @param identity The identity of the operator, i.e. <code>operator(identity, x) == x</code>
+     * @param operator An associative and commutative operator
+     * @return A new reduction
+     */
+    public static @NonNull JobReduction of(long identity, @NonNull LongBinaryOperator operator) {
+        Preconditions.checkNotNull(operator);
+
+        return new JobReduction(identity, operator);
+    }
+
+    public static @NonNull JobReduction sum() {
+        return new JobReduction(0, Long::sum);
+    }
+
+    public static @NonNull JobReduction min() {
+        return new JobReduction(Long.MAX_VALUE, Math::min);
+    }
+
+    public static @NonNull JobReduction max() {
+        return new JobReduction(Long.MIN_VALUE, Math::max);
+    }
+
+    /**
+     * Count with <code>accumulate(threadOrdinal, 1)</code>.
+     */
+    public static @NonNull JobReduction count() {
+        return sum();
+    }
+}
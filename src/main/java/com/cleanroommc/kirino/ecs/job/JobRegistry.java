@@ -2,6 +2,7 @@ package com.cleanroommc.kirino.ecs.job;
 
 import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
 import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.storage.ColumnHandle;
 import com.cleanroommc.kirino.ecs.storage.PrimitiveArray;
 import com.cleanroommc.kirino.utils.ReflectionUtils;
 import com.google.common.base.Preconditions;
@@ -16,9 +17,11 @@ import java.util.Map;
 
 public class JobRegistry {
 
-    private final Map<Class<? extends ParallelJob>, Map<JobDataQuery, JobDataInjector>> parallelJobDataQueryMap = new HashMap<>();
-    private final Map<Class<? extends ParallelJob>, Map<String, JobDataInjector>> parallelJobExternalDataQueryMap = new HashMap<>();
-    private final Map<Class<? extends ParallelJob>, JobInstantiator> parallelJobInstantiatorMap = new HashMap<>();
+    private final Map<Class<? extends BaseParallelJob>, Map<JobDataQuery, JobDataInjector>> parallelJobDataQueryMap = new HashMap<>();
+    private final Map<Class<? extends BaseParallelJob>, Map<String, JobDataInjector>> parallelJobExternalDataQueryMap = new HashMap<>();
+    private final Map<Class<? extends BaseParallelJob>, JobInstantiator> parallelJobInstantiatorMap = new HashMap<>();
+    private final Map<Class<? extends BaseParallelJob>, JobInjectionPlan> parallelJobInjectionPlanMap = new HashMap<>();
+    private final Map<Class<? extends BaseParallelJob>, ComponentAccess> parallelJobAccessMap = new HashMap<>();
 
     private final ComponentRegistry componentRegistry;
 
@@ -27,7 +30,7 @@ public class JobRegistry {
     }
 
     @NonNull
-    private JobDataInjector genParallelJobDataInjector(@NonNull Class<? extends ParallelJob> clazz, @NonNull String fieldName, @NonNull Class<?> fieldClass) {
+    private JobDataInjector genParallelJobDataInjector(@NonNull Class<? extends BaseParallelJob> clazz, @NonNull String fieldName, @NonNull Class<?> fieldClass) {
         MethodHandle setter = ReflectionUtils.getFieldSetter(clazz, fieldName, fieldClass);
         Preconditions.checkNotNull(setter);
 
@@ -54,7 +57,7 @@ public class JobRegistry {
     }
 
     @NonNull
-    private JobInstantiator genParallelJobInstantiator(@NonNull Class<? extends ParallelJob> clazz) {
+    private JobInstantiator genParallelJobInstantiator(@NonNull Class<? extends BaseParallelJob> clazz) {
         MethodHandle ctor = ReflectionUtils.getConstructor(clazz);
         Preconditions.checkNotNull(ctor);
 
@@ -76,7 +79,7 @@ public class JobRegistry {
         }
     }
 
-    public void registerParallelJob(Class<? extends ParallelJob> clazz) {
+    public void registerParallelJob(Class<? extends BaseParallelJob> clazz) {
         try {
             clazz.getConstructor();
         } catch (NoSuchMethodException e) {
@@ -87,6 +90,7 @@ public class JobRegistry {
 
         Map<JobDataQuery, JobDataInjector> dataQueryMap = parallelJobDataQueryMap.computeIfAbsent(clazz, k -> new HashMap<>());
         Map<String, JobDataInjector> externalDataQueryMap = parallelJobExternalDataQueryMap.computeIfAbsent(clazz, k -> new HashMap<>());
+        Map<String, Boolean> externalDataWrites = new HashMap<>();
 
         String exceptionText = "Parallel job class \"" + clazz.getName() + "\" contains invalid annotation entries.";
 
@@ -122,22 +126,76 @@ public class JobRegistry {
             if (field.isAnnotationPresent(JobExternalDataQuery.class) && !Modifier.isStatic(field.getModifiers())) {
                 JobDataInjector jobDataInjector = genParallelJobDataInjector(clazz, field.getName(), field.getType());
                 externalDataQueryMap.put(field.getName(), jobDataInjector);
+                externalDataWrites.put(field.getName(), field.getAnnotation(JobExternalDataQuery.class).write());
             }
         }
+
+        parallelJobInjectionPlanMap.put(clazz, genParallelJobInjectionPlan(dataQueryMap, externalDataQueryMap));
+        parallelJobAccessMap.put(clazz, genParallelJobAccess(dataQueryMap, externalDataWrites));
+    }
+
+    @NonNull
+    private ComponentAccess genParallelJobAccess(@NonNull Map<JobDataQuery, JobDataInjector> dataQueryMap, @NonNull Map<String, Boolean> externalDataWrites) {
+        ComponentAccess.Builder builder = new ComponentAccess.Builder(null);
+        for (JobDataQuery jobDataQuery : dataQueryMap.keySet()) {
+            Class<? extends CleanComponent> componentClass = jobDataQuery.componentClass().asSubclass(CleanComponent.class);
+            if (jobDataQuery.write()) {
+                builder.write(componentClass, jobDataQuery.fieldAccessChain());
+            } else {
+                builder.read(componentClass, jobDataQuery.fieldAccessChain());
+            }
+        }
+        for (Map.Entry<String, Boolean> entry : externalDataWrites.entrySet()) {
+            builder.externalData(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    @NonNull
+    private JobInjectionPlan genParallelJobInjectionPlan(@NonNull Map<JobDataQuery, JobDataInjector> dataQueryMap, @NonNull Map<String, JobDataInjector> externalDataQueryMap) {
+        ColumnHandle[] columns = new ColumnHandle[dataQueryMap.size()];
+        JobDataInjector[] dataInjectors = new JobDataInjector[dataQueryMap.size()];
+        int i = 0;
+        for (Map.Entry<JobDataQuery, JobDataInjector> entry : dataQueryMap.entrySet()) {
+            columns[i] = ColumnHandle.resolve(componentRegistry, entry.getKey().componentClass().asSubclass(CleanComponent.class), entry.getKey().fieldAccessChain());
+            dataInjectors[i] = entry.getValue();
+            i++;
+        }
+
+        String[] externalDataKeys = new String[externalDataQueryMap.size()];
+        JobDataInjector[] externalDataInjectors = new JobDataInjector[externalDataQueryMap.size()];
+        i = 0;
+        for (Map.Entry<String, JobDataInjector> entry : externalDataQueryMap.entrySet()) {
+            externalDataKeys[i] = entry.getKey();
+            externalDataInjectors[i] = entry.getValue();
+            i++;
+        }
+
+        return new JobInjectionPlan(columns, dataInjectors, externalDataKeys, externalDataInjectors);
     }
 
     @Nullable
-    public Map<JobDataQuery, JobDataInjector> getParallelJobDataQueries(Class<? extends ParallelJob> clazz) {
+    public Map<JobDataQuery, JobDataInjector> getParallelJobDataQueries(Class<? extends BaseParallelJob> clazz) {
         return parallelJobDataQueryMap.get(clazz);
     }
 
     @Nullable
-    public Map<String, JobDataInjector> getParallelJobExternalDataQueries(Class<? extends ParallelJob> clazz) {
+    public Map<String, JobDataInjector> getParallelJobExternalDataQueries(Class<? extends BaseParallelJob> clazz) {
         return parallelJobExternalDataQueryMap.get(clazz);
     }
 
     @Nullable
-    public JobInstantiator getParallelJobInstantiator(Class<? extends ParallelJob> clazz) {
+    public JobInjectionPlan getParallelJobInjectionPlan(Class<? extends BaseParallelJob> clazz) {
+        return parallelJobInjectionPlanMap.get(clazz);
+    }
+
+    @Nullable
+    public ComponentAccess getParallelJobAccess(Class<? extends BaseParallelJob> clazz) {
+        return parallelJobAccessMap.get(clazz);
+    }
+
+    @Nullable
+    public JobInstantiator getParallelJobInstantiator(Class<? extends BaseParallelJob> clazz) {
         return parallelJobInstantiatorMap.get(clazz);
     }
 }
@@ -1,196 +1,157 @@
 package com.cleanroommc.kirino.ecs.job;
 
-import com.cleanroommc.kirino.KirinoCommonCore;
-import com.cleanroommc.kirino.ecs.component.CleanComponent;
 import com.cleanroommc.kirino.ecs.entity.EntityManager;
 import com.cleanroommc.kirino.ecs.entity.EntityQuery;
-import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
-import com.cleanroommc.kirino.ecs.storage.ArrayRange;
-import com.cleanroommc.kirino.ecs.storage.PrimitiveArray;
+import com.cleanroommc.kirino.ecs.entity.QueryLayout;
+import com.cleanroommc.kirino.utils.executor.MeteredExecutor;
 import com.google.common.base.Preconditions;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 public class JobScheduler {
     private final JobRegistry jobRegistry;
 
+    /**
+     * {@link BaseParallelJob#query(EntityQuery)} is static per job class, so the query (and its archetype match cache) is kept.
+     */
+    private final Map<Class<? extends BaseParallelJob>, EntityQuery> queryCache = new ConcurrentHashMap<>();
+
+    /**
+     * Job instances are reused across executions. An instance is only handed out again after its execution finished,
+     * so the pool of a job class never grows beyond the peak number of workers running it at once.
+     */
+    private final Map<Class<? extends BaseParallelJob>, Queue<BaseParallelJob>> idleJobCache = new ConcurrentHashMap<>();
+
+    private final Map<Class<? extends BaseParallelJob>, JobCostModel> costModels = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder tasks = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final LongAdder wallNanos = new LongAdder();
+    private final LongAccumulator maxWallNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicInteger peakWorkers = new AtomicInteger();
+
     public JobScheduler(JobRegistry jobRegistry) {
         this.jobRegistry = jobRegistry;
     }
 
+    /**
+     * @param future Completes when every row is executed
+     * @param totalThreadCount The number of workers that may run the job at once; Thread ordinals are dense and assigned on demand
+     * @param async Whether the execution is still running when the handle is returned
+     */
     public record ExecutionHandle(@NonNull CompletableFuture<Void> future, int totalThreadCount, boolean async) {
     }
 
-    public ExecutionHandle executeParallelJob(EntityManager entityManager, Class<? extends ParallelJob> clazz, @Nullable Map<String, Object> externalData, Executor executor) {
-        Map<JobDataQuery, JobDataInjector> parallelJobDataQueries = jobRegistry.getParallelJobDataQueries(clazz);
-        Map<String, JobDataInjector> parallelJobExternalDataQueries = jobRegistry.getParallelJobExternalDataQueries(clazz);
+    public ExecutionHandle executeParallelJob(EntityManager entityManager, Class<? extends BaseParallelJob> clazz, @Nullable Map<String, Object> externalData, Executor executor) {
+        JobInjectionPlan injectionPlan = jobRegistry.getParallelJobInjectionPlan(clazz);
         JobInstantiator instantiator = jobRegistry.getParallelJobInstantiator(clazz);
-        if (parallelJobDataQueries == null || parallelJobExternalDataQueries == null || instantiator == null) {
+        if (injectionPlan == null || instantiator == null) {
             throw new IllegalStateException("Parallel job class " + clazz.getName() + " isn't registered.");
         }
 
-        if (!parallelJobExternalDataQueries.isEmpty()) {
+        if (injectionPlan.getExternalDataCount() != 0) {
             Preconditions.checkArgument(externalData != null,
-                    "Argument \"externalData\" must not be null since there are %d external data queries.", parallelJobExternalDataQueries.size());
-            for (String key : parallelJobExternalDataQueries.keySet()) {
-                Preconditions.checkArgument(externalData.containsKey(key),
-                        "Missing the entry \"%s\" from \"externalData\".", key);
+                    "Argument \"externalData\" must not be null since there are %d external data queries.", injectionPlan.getExternalDataCount());
+            for (int i = 0; i < injectionPlan.getExternalDataCount(); i++) {
+                Preconditions.checkArgument(externalData.containsKey(injectionPlan.getExternalDataKey(i)),
+                        "Missing the entry \"%s\" from \"externalData\".", injectionPlan.getExternalDataKey(i));
             }
         }
 
-        EntityQuery query = entityManager.newQuery();
-        ((ParallelJob) instantiator.instantiate()).query(query);
-        List<ArchetypeDataPool> archetypes = entityManager.startQuery(query);
+        Queue<BaseParallelJob> idleJobs = idleJobCache.computeIfAbsent(clazz, k -> new ConcurrentLinkedQueue<>());
 
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-        int threadOrdinal = 0;
-        for (ArchetypeDataPool archetype : archetypes) {
-            ParallelJob job = newParallelJob(instantiator, parallelJobDataQueries, parallelJobExternalDataQueries, archetype, externalData);
-
-            ArrayRange arrayRange = archetype.getArrayRange();
+        EntityQuery query = queryCache.computeIfAbsent(clazz, k -> {
+            EntityQuery newQuery = entityManager.newQuery();
+            ((BaseParallelJob) instantiator.instantiate()).query(newQuery);
+            return newQuery;
+        });
+        QueryLayout layout = entityManager.startQueryLayout(query);
+        if (query.hasChangedFilter()) {
+            query.beginChangedRun();
+        }
 
-            int workload = 0;
-            for (int i = arrayRange.start; i < arrayRange.end; i++) {
-                if (arrayRange.deprecatedIndexes.contains(i)) {
-                    continue;
-                }
+        // commands recorded by rows are merged by (execution, archetype, row) at flush
+        final long recordingEpoch = entityManager.nextRecordingEpoch();
 
-                int jobWorkload = job.estimateWorkload(i);
-                Preconditions.checkState(jobWorkload >= 1,
-                        "The estimated workload at index=%s must be greater than or equal to 1. (Parallel job class: %s)",
-                        i, clazz.getName());
+        JobCostModel costModel = costModels.computeIfAbsent(clazz, k -> new JobCostModel());
 
-                workload += jobWorkload;
-            }
+        ParallelJobExecution execution = new ParallelJobExecution(clazz, entityManager, query, instantiator, idleJobs, injectionPlan, costModel, externalData, recordingEpoch, layout);
+        if (execution.getTotalRowCount() == 0) {
+            return new ExecutionHandle(CompletableFuture.completedFuture(null), 0, false);
+        }
 
-            // future count
-            int targetWorkloadPerThread = KirinoCommonCore.KIRINO_CONFIG_HUB.getTargetWorkloadPerThread();
-            int futureCount = Math.ceilDivExact(workload, targetWorkloadPerThread);
-            if (futureCount > Runtime.getRuntime().availableProcessors()) {
-                futureCount = Runtime.getRuntime().availableProcessors();
-                targetWorkloadPerThread = workload / futureCount;
-            }
+        long dispatchTime = System.nanoTime();
 
-            if (futureCount <= 1) {
-                // run synchronously
-                for (int i = arrayRange.start; i < arrayRange.end; i++) {
-                    if (arrayRange.deprecatedIndexes.contains(i)) {
-                        continue;
-                    }
-
-                    Optional<Integer> entityID = archetype.getEntityID(i);
-                    Preconditions.checkState(entityID.isPresent());
-
-                    job.execute(entityManager, i, entityID.get(), threadOrdinal);
-                }
-                threadOrdinal++;
-            } else {
-                // run asynchronously
-                int accumulated = 0;
-                int startIndex = arrayRange.start;
-
-                for (int i = arrayRange.start; i < arrayRange.end; i++) {
-                    if (arrayRange.deprecatedIndexes.contains(i)) {
-                        continue;
-                    }
-
-                    accumulated += job.estimateWorkload(i);
-
-                    if (accumulated >= targetWorkloadPerThread) {
-                        final int endIndexExclusive = i + 1;
-                        final int finalThreadOrdinal = threadOrdinal;
-                        final int finalStartIndex = startIndex;
-
-                        final ParallelJob jobPerThread = newParallelJob(instantiator, parallelJobDataQueries, parallelJobExternalDataQueries, archetype, externalData);
-
-                        futures.add(CompletableFuture.runAsync(() -> {
-                            for (int j = finalStartIndex; j < endIndexExclusive; j++) {
-                                if (arrayRange.deprecatedIndexes.contains(j)) {
-                                    continue;
-                                }
-
-                                Optional<Integer> entityID = archetype.getEntityID(j);
-                                Preconditions.checkState(entityID.isPresent());
-
-                                jobPerThread.execute(entityManager, j, entityID.get(), finalThreadOrdinal);
-                            }
-                        }, executor));
-
-                        threadOrdinal++;
-                        startIndex = endIndexExclusive;
-                        accumulated = 0;
-                    }
-                }
-
-                boolean hasRemainingWork = false;
-                for (int j = startIndex; j < arrayRange.end; j++) {
-                    if (!arrayRange.deprecatedIndexes.contains(j)) {
-                        hasRemainingWork = true;
-                        break;
-                    }
-                }
-
-                if (hasRemainingWork) {
-                    final int finalThreadOrdinal = threadOrdinal;
-                    final int finalStartIndex = startIndex;
-
-                    final ParallelJob jobPerThread = newParallelJob(instantiator, parallelJobDataQueries, parallelJobExternalDataQueries, archetype, externalData);
-
-                    futures.add(CompletableFuture.runAsync(() -> {
-                        for (int j = finalStartIndex; j < arrayRange.end; j++) {
-                            if (arrayRange.deprecatedIndexes.contains(j)) {
-                                continue;
-                            }
-
-                            Optional<Integer> entityID = archetype.getEntityID(j);
-                            Preconditions.checkState(entityID.isPresent());
-
-                            jobPerThread.execute(entityManager, j, entityID.get(), finalThreadOrdinal);
-                        }
-                    }, executor));
-
-                    threadOrdinal++;
-                }
-            }
+        // a metered ForkJoinPool still runs the root task on its workers, so it can split
+        Executor backend = executor instanceof MeteredExecutor meteredExecutor ? meteredExecutor.getDelegate() : executor;
+        if (backend instanceof ForkJoinPool pool) {
+            // one dispatch for all archetypes; the root task splits itself by work stealing once it runs on a ForkJoinPool worker
+            RecursiveAction rootTask = execution.newRootTask();
+            CompletableFuture<Void> future = CompletableFuture.runAsync(rootTask::invoke, executor)
+                    .whenComplete((result, throwable) -> complete(execution, dispatchTime, throwable));
+            return new ExecutionHandle(future, pool.getParallelism(), true);
         }
 
-        if (futures.isEmpty()) {
-            return new ExecutionHandle(CompletableFuture.completedFuture(null), threadOrdinal, false);
-        } else if (futures.size() == 1) {
-            return new ExecutionHandle(futures.getFirst(), threadOrdinal, true);
-        } else {
-            return new ExecutionHandle(CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])), threadOrdinal, true);
+        // no work stealing; runners share a cursor instead
+        int parallelism = executor instanceof MeteredExecutor meteredExecutor ? meteredExecutor.getParallelism() : 1;
+        int runnerCount = Math.min(parallelism, execution.getTotalRowCount());
+        AtomicInteger cursor = new AtomicInteger();
+        CompletableFuture<?>[] runners = new CompletableFuture[runnerCount];
+        for (int i = 0; i < runnerCount; i++) {
+            runners[i] = CompletableFuture.runAsync(execution.newCursorRunner(cursor, runnerCount), executor);
         }
+        CompletableFuture<Void> future = CompletableFuture.allOf(runners)
+                .whenComplete((result, throwable) -> complete(execution, dispatchTime, throwable));
+        return new ExecutionHandle(future, runnerCount, true);
     }
 
-    private ParallelJob newParallelJob(
-            JobInstantiator instantiator,
-            Map<JobDataQuery, JobDataInjector> parallelJobDataQueries,
-            Map<String, JobDataInjector> parallelJobExternalDataQueries,
-            ArchetypeDataPool archetype,
-            @Nullable Map<String, Object> externalData) {
-
-        ParallelJob job = (ParallelJob) instantiator.instantiate();
-
-        // data injection
-        for (Map.Entry<JobDataQuery, JobDataInjector> entry : parallelJobDataQueries.entrySet()) {
-            PrimitiveArray array = archetype.getArray(entry.getKey().componentClass().asSubclass(CleanComponent.class), entry.getKey().fieldAccessChain());
-            entry.getValue().inject(job, array);
-        }
-        if (externalData != null) {
-            for (Map.Entry<String, JobDataInjector> entry : parallelJobExternalDataQueries.entrySet()) {
-                entry.getValue().inject(job, externalData.get(entry.getKey()));
-            }
+    private void complete(ParallelJobExecution execution, long dispatchTime, @Nullable Throwable throwable) {
+        execution.releaseJobs();
+        if (throwable != null) {
+            return;
         }
+        execution.recordCost();
+
+        long wall = System.nanoTime() - dispatchTime;
+        executions.increment();
+        tasks.add(execution.getTaskCount());
+        rows.add(execution.getTotalRowCount());
+        busyNanos.add(execution.getBusyNanos());
+        wallNanos.add(wall);
+        maxWallNanos.accumulate(wall);
+        peakWorkers.accumulateAndGet(execution.getWorkerCount(), Math::max);
+    }
 
-        return job;
+    /**
+     * Counted by the executions themselves, so the metrics are comparable across executor backends,
+     * unlike the task counts of a {@link MeteredExecutor} that can't see the subtasks forked inside a {@link ForkJoinPool}.
+     *
+     * @param resetPeaks Whether to reset the peak values after the snapshot, e.g. to measure peaks per frame
+     * @return The metrics snapshot
+     */
+    @NonNull
+    public JobExecutionMetrics getMetrics(boolean resetPeaks) {
+        return new JobExecutionMetrics(
+                executions.sum(),
+                tasks.sum(),
+                rows.sum(),
+                busyNanos.sum(),
+                wallNanos.sum(),
+                resetPeaks ? maxWallNanos.getThenReset() : maxWallNanos.get(),
+                resetPeaks ? peakWorkers.getAndSet(0) : peakWorkers.get());
     }
 }
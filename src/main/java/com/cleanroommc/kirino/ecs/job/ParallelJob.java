@@ -1,13 +1,14 @@
 package com.cleanroommc.kirino.ecs.job;
 
 import com.cleanroommc.kirino.ecs.entity.EntityManager;
-import com.cleanroommc.kirino.ecs.entity.EntityQuery;
 import org.jspecify.annotations.NonNull;
 
 /**
- * Jobs will be instantiated per thread. A job must have an empty (no parameters) constructor.
+ * A {@link BaseParallelJob} that is executed once per row.
+ *
+ * @see RangeParallelJob
  */
-public interface ParallelJob {
+public non-sealed interface ParallelJob extends BaseParallelJob {
     /**
      * Every execution should be stateless except the index.
      * You can introduce state-dependent logic if two executions share the same <code>threadOrdinal</code>.
@@ -17,16 +18,4 @@ public interface ParallelJob {
      * @param threadOrdinal The ordinal number of the current thread
      */
     void execute(@NonNull EntityManager entityManager, int index, int entityID, int threadOrdinal);
-
-    void query(@NonNull EntityQuery entityQuery);
-
-    /**
-     * Return value must be greater than or equal to 1.
-     *
-     * <p>For example, the O(n) algorithm with input size around 10 should return 10.</p>
-     *
-     * @param index The index
-     * @return The estimated workload
-     */
-    int estimateWorkload(int index);
 }
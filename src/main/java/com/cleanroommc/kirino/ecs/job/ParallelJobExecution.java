@@ -0,0 +1,315 @@
+package com.cleanroommc.kirino.ecs.job;
+
+import com.cleanroommc.kirino.ecs.entity.EntityCommandBuffer;
+import com.cleanroommc.kirino.ecs.entity.EntityManager;
+import com.cleanroommc.kirino.ecs.entity.EntityQuery;
+import com.cleanroommc.kirino.ecs.entity.QueryLayout;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
+import com.cleanroommc.kirino.ecs.storage.PrimitiveArray;
+import com.google.common.base.Preconditions;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The state of one {@link JobScheduler#executeParallelJob} call that is shared by all of its tasks.
+ * <br><br>
+ * The rows of all matched archetypes are concatenated into one global row space, so a single dispatch covers them
+ * and a task may span archetype boundaries. Parallelism is then set by the total entity count, not by the largest archetype.
+ * <br><br>
+ * On a {@link ForkJoinPool}, the root task splits the row space by work stealing. Other executors run a few
+ * cursor runners instead, each claiming the next chunk of rows from a shared cursor until none are left.
+ * <br><br>
+ * Every thread that runs a task of this execution becomes a worker. A worker owns one job instance
+ * and one dense thread ordinal for the whole execution, so two tasks sharing an ordinal never run at the same time.
+ */
+final class ParallelJobExecution {
+    /**
+     * A task only splits while the local queue is almost empty, i.e. while other workers may steal.
+     */
+    private static final int SURPLUS_THRESHOLD = 2;
+
+    private static final int GRAIN_SAMPLE_COUNT = 16;
+
+    private static final int TASKS_PER_WORKER = 4;
+
+    private static final class Worker {
+        final int threadOrdinal;
+        BaseParallelJob job;
+        PrimitiveArray[] boundArrays;
+
+        Worker(int threadOrdinal) {
+            this.threadOrdinal = threadOrdinal;
+        }
+    }
+
+    private final Class<? extends BaseParallelJob> clazz;
+    private final EntityManager entityManager;
+    private final EntityQuery query;
+    private final JobInstantiator instantiator;
+    private final Queue<BaseParallelJob> idleJobs;
+    private final JobInjectionPlan injectionPlan;
+    private final JobCostModel costModel;
+    private final @Nullable Map<String, Object> externalData;
+    private final long recordingEpoch;
+
+    private final QueryLayout layout;
+    private final PrimitiveArray[][] archetypeArrays;
+
+    private final Map<Thread, Worker> workers = new ConcurrentHashMap<>();
+    private final AtomicInteger workerCounter = new AtomicInteger();
+
+    /**
+     * The smallest range worth a task; <code>0</code> if it's not estimated yet.
+     * Racing estimations sample the same rows, so any of their results is fine.
+     */
+    private volatile int grain;
+    /**
+     * The mean sampled workload per row; Valid once {@link #grain} is set.
+     */
+    private volatile double meanWorkload;
+    private final LongAdder busyNanos = new LongAdder();
+    private final LongAdder taskCount = new LongAdder();
+
+    ParallelJobExecution(
+            Class<? extends BaseParallelJob> clazz,
+            EntityManager entityManager,
+            EntityQuery query,
+            JobInstantiator instantiator,
+            Queue<BaseParallelJob> idleJobs,
+            JobInjectionPlan injectionPlan,
+            JobCostModel costModel,
+            @Nullable Map<String, Object> externalData,
+            long recordingEpoch,
+            QueryLayout layout) {
+
+        this.clazz = clazz;
+        this.entityManager = entityManager;
+        this.query = query;
+        this.instantiator = instantiator;
+        this.idleJobs = idleJobs;
+        this.injectionPlan = injectionPlan;
+        this.costModel = costModel;
+        this.externalData = externalData;
+        this.recordingEpoch = recordingEpoch;
+        this.layout = layout;
+        archetypeArrays = injectionPlan.bind(layout);
+    }
+
+    /**
+     * @return The number of rows of all matched archetypes
+     */
+    int getTotalRowCount() {
+        return layout.getTotalRowCount();
+    }
+
+    /**
+     * @return The root task of the whole global row space
+     */
+    RecursiveAction newRootTask() {
+        return new RowRangeTask(0, getTotalRowCount());
+    }
+
+    /**
+     * @param cursor The cursor shared by all runners of this execution; Starts at <code>0</code>
+     * @param parallelism The number of runners
+     * @return A runner that claims chunks of the global row space until the cursor passes the end
+     */
+    Runnable newCursorRunner(AtomicInteger cursor, int parallelism) {
+        return () -> {
+            int totalRowCount = getTotalRowCount();
+            int chunk = getGrain(parallelism);
+            for (int start = cursor.getAndAdd(chunk); start < totalRowCount; start = cursor.getAndAdd(chunk)) {
+                long startTime = System.nanoTime();
+                executeGlobalRange(start, Math.min(totalRowCount, start + chunk));
+                busyNanos.add(System.nanoTime() - startTime);
+                taskCount.increment();
+            }
+        };
+    }
+
+    /**
+     * Return every worker's job instance to the pool of its job class. Must be called after all tasks completed.
+     */
+    void releaseJobs() {
+        for (Worker worker : workers.values()) {
+            if (worker.job != null) {
+                worker.job.reset();
+                idleJobs.offer(worker.job);
+                worker.job = null;
+            }
+        }
+        workers.clear();
+    }
+
+    /**
+     * Feed the measured cost of this execution to the cost model of its job class. Must be called after all tasks completed.
+     */
+    void recordCost() {
+        if (grain != 0) {
+            costModel.record(busyNanos.sum(), meanWorkload * getTotalRowCount());
+        }
+    }
+
+    /**
+     * @return The total time workers spent running row ranges so far
+     */
+    long getBusyNanos() {
+        return busyNanos.sum();
+    }
+
+    /**
+     * @return The number of row ranges run so far
+     */
+    long getTaskCount() {
+        return taskCount.sum();
+    }
+
+    /**
+     * @return The number of workers that ran a task of this execution so far
+     */
+    int getWorkerCount() {
+        return workerCounter.get();
+    }
+
+    private Worker currentWorker(PrimitiveArray[] arrays) {
+        // only the owner thread touches its worker
+        Worker worker = workers.computeIfAbsent(Thread.currentThread(), k -> new Worker(workerCounter.getAndIncrement()));
+        if (worker.job == null) {
+            BaseParallelJob job = idleJobs.poll();
+            worker.job = job == null ? (BaseParallelJob) instantiator.instantiate() : job;
+        }
+        if (worker.boundArrays != arrays) {
+            // data injection
+            injectionPlan.inject(worker.job, arrays, externalData);
+            worker.boundArrays = arrays;
+        }
+        return worker;
+    }
+
+    /**
+     * Splits itself in halves on demand instead of by a precomputed workload,
+     * so a range of expensive rows keeps being split and stolen while cheap ranges run in one piece.
+     * The range is in the global row space.
+     */
+    private final class RowRangeTask extends RecursiveAction {
+        private final int start;
+        private final int end;
+
+        RowRangeTask(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            ForkJoinPool pool = getPool();
+            int taskGrain = getGrain(pool == null ? 1 : pool.getParallelism());
+
+            // forking outside a ForkJoinPool would leak tasks into the common pool
+            if (end - start > taskGrain && inForkJoinPool() && getSurplusQueuedTaskCount() <= SURPLUS_THRESHOLD) {
+                int mid = (start + end) >>> 1;
+                invokeAll(new RowRangeTask(start, mid), new RowRangeTask(mid, end));
+                return;
+            }
+
+            long startTime = System.nanoTime();
+            executeGlobalRange(start, end);
+            busyNanos.add(System.nanoTime() - startTime);
+            taskCount.increment();
+        }
+    }
+
+    /**
+     * Walk the archetype segments covered by a global row range.
+     */
+    private void executeGlobalRange(int start, int end) {
+        int globalRow = start;
+        for (int archetypeOrdinal = layout.archetypeAt(start); globalRow < end; archetypeOrdinal++) {
+            int segmentEnd = Math.min(end, layout.getRowOffset(archetypeOrdinal) + layout.getRowCount(archetypeOrdinal));
+            if (segmentEnd > globalRow) {
+                int rowBase = layout.getRowStart(archetypeOrdinal) - layout.getRowOffset(archetypeOrdinal);
+                executeRows(
+                        currentWorker(archetypeArrays[archetypeOrdinal]),
+                        layout.getArchetype(archetypeOrdinal),
+                        (long) archetypeOrdinal << 32,
+                        globalRow + rowBase,
+                        segmentEnd + rowBase);
+                globalRow = segmentEnd;
+            }
+        }
+    }
+
+    private int getGrain(int parallelism) {
+        int result = grain;
+        if (result == 0) {
+            result = estimateGrain(parallelism);
+            grain = result;
+        }
+        return result;
+    }
+
+    /**
+     * Sample a few rows instead of summing the workload of every row. The heaviest sample sizes the grain,
+     * and the mean one estimates the total workload for the cost model.
+     * The grain is capped, so every worker can get a few tasks even if the samples underestimate a skewed range.
+     */
+    private int estimateGrain(int parallelism) {
+        int rows = getTotalRowCount();
+        int step = Math.max(1, rows / GRAIN_SAMPLE_COUNT);
+        int maxWorkload = 1;
+        long workloadSum = 0;
+        int sampleCount = 0;
+        for (int i = 0; i < rows; i += step) {
+            // estimateWorkload may read the injected arrays, so the job is bound to the sampled archetype
+            int archetypeOrdinal = layout.archetypeAt(i);
+            int row = i - layout.getRowOffset(archetypeOrdinal) + layout.getRowStart(archetypeOrdinal);
+            int rowWorkload = currentWorker(archetypeArrays[archetypeOrdinal]).job.estimateWorkload(row);
+            Preconditions.checkState(rowWorkload >= 1,
+                    "The estimated workload at index=%s must be greater than or equal to 1. (Parallel job class: %s)",
+                    row, clazz.getName());
+            maxWorkload = Math.max(maxWorkload, rowWorkload);
+            workloadSum += rowWorkload;
+            sampleCount++;
+        }
+        meanWorkload = (double) workloadSum / sampleCount;
+
+        int maxGrain = Math.ceilDiv(rows, parallelism * TASKS_PER_WORKER);
+        return Math.clamp(costModel.getTargetWorkload() / maxWorkload, 1, Math.max(1, maxGrain));
+    }
+
+    /**
+     * Execute the rows in <code>[start, end)</code> that pass the row filters of the query (changed and tag filters).
+     * A {@link RangeParallelJob} gets each contiguous run of such rows in one call.
+     */
+    private void executeRows(Worker worker, ArchetypeDataPool archetype, long sortKeyBase, int start, int end) {
+        BaseParallelJob job = worker.job;
+        int threadOrdinal = worker.threadOrdinal;
+
+        EntityCommandBuffer commandBuffer = entityManager.getCommandBuffer();
+        if (job instanceof RangeParallelJob rangeJob) {
+            // commands of a run share the sort key of its first row and keep their recording order
+            int runStart = query.nextAcceptedRow(archetype, start, end);
+            while (runStart < end) {
+                int runEnd = query.nextRejectedRow(archetype, runStart, end);
+                commandBuffer.setSortKey(recordingEpoch, sortKeyBase | runStart);
+                rangeJob.executeRange(entityManager, archetype, runStart, runEnd, threadOrdinal);
+                runStart = query.nextAcceptedRow(archetype, runEnd, end);
+            }
+        } else {
+            // BaseParallelJob is sealed, so any other job is executed per row
+            ParallelJob rowJob = (ParallelJob) job;
+            for (int i = query.nextAcceptedRow(archetype, start, end); i < end; i = query.nextAcceptedRow(archetype, i + 1, end)) {
+                commandBuffer.setSortKey(recordingEpoch, sortKeyBase | i);
+                rowJob.execute(entityManager, i, archetype.getEntityID(i), threadOrdinal);
+            }
+        }
+        commandBuffer.clearSortKey();
+    }
+}
@@ -0,0 +1,24 @@
+package com.cleanroommc.kirino.ecs.job;
+
+import com.cleanroommc.kirino.ecs.entity.EntityManager;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A {@link BaseParallelJob} that is executed once per contiguous run of rows instead of once per row like {@link ParallelJob}.
+ * The loop lives inside the job, so it's monomorphic and the JIT can hoist checks and vectorize it.
+ */
+public non-sealed interface RangeParallelJob extends BaseParallelJob {
+    /**
+     * Every execution should be stateless except the row range.
+     * Rows of a range are contiguous and all pass the row filters of the query (changed and tag filters).
+     * Entity commands recorded here are merged in recording order, so iterate rows in ascending order.
+     *
+     * @param entityManager The entity manager
+     * @param archetype The archetype; Use {@link ArchetypeDataPool#getEntityID(int)} if entity ids are needed
+     * @param start The first row (inclusive)
+     * @param end The last row (exclusive)
+     * @param threadOrdinal The ordinal number of the current thread
+     */
+    void executeRange(@NonNull EntityManager entityManager, @NonNull ArchetypeDataPool archetype, int start, int end, int threadOrdinal);
+}
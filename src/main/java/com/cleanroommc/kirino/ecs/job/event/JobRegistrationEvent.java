@@ -1,6 +1,6 @@
 package com.cleanroommc.kirino.ecs.job.event;
 
-import com.cleanroommc.kirino.ecs.job.ParallelJob;
+import com.cleanroommc.kirino.ecs.job.BaseParallelJob;
 import net.minecraftforge.fml.common.eventhandler.Event;
 import org.jspecify.annotations.NonNull;
 
@@ -8,9 +8,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class JobRegistrationEvent extends Event {
-    private final List<Class<? extends ParallelJob>> parallelJobClasses = new ArrayList<>();
+    private final List<Class<? extends BaseParallelJob>> parallelJobClasses = new ArrayList<>();
 
-    public void register(@NonNull Class<? extends ParallelJob> parallelJobClass) {
+    public void register(@NonNull Class<? extends BaseParallelJob> parallelJobClass) {
         parallelJobClasses.add(parallelJobClass);
     }
 }
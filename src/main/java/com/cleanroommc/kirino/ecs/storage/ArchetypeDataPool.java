@@ -2,14 +2,19 @@ package com.cleanroommc.kirino.ecs.storage;
 
 import com.cleanroommc.kirino.ecs.component.CleanComponent;
 import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarSink;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarSource;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarType;
 import com.google.common.collect.ImmutableList;
 import org.jspecify.annotations.NonNull;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
 
 /**
  * Besides the abstract methods, a pool must implement grow and shrink mechanism.
+ * Implementations should follow {@link #grownSize(int)} and {@link #shrunkSize(int)},
+ * so the number of resizes is logarithmic in the entity count and a pool oscillating around a size never thrashes.
  *
  * @see #growStep
  * @see #shrinkStep
@@ -24,6 +29,26 @@ public abstract class ArchetypeDataPool {
 
     protected final ComponentRegistry componentRegistry;
 
+    /**
+     * Implementations must increment it whenever the column storage is reallocated.
+     *
+     * @see #getStorageVersion()
+     */
+    protected int storageVersion;
+
+    /**
+     * Bytes of column data per row; <code>INT</code> and <code>FLOAT</code> take 4 bytes, <code>BOOL</code> takes 1.
+     */
+    private final int rowBytes;
+
+    /**
+     * Columns of each component of this archetype, indexed by the runtime component ID.
+     *
+     * @see #indexColumns()
+     * @see #typedColumn(ColumnHandle, PrimitiveArrayType)
+     */
+    private int[][] componentColumns = new int[0][];
+
     /**
      * The number of entities this pool can contain
      *
@@ -33,6 +58,17 @@ public abstract class ArchetypeDataPool {
         return currentSize;
     }
 
+    /**
+     * {@link PrimitiveArray}s returned by {@link #getArray(ColumnHandle)} stay valid until this version changes,
+     * i.e. until the pool grows or shrinks. Structural changes are deferred to {@link com.cleanroommc.kirino.ecs.entity.EntityManager#flush()},
+     * so the version never changes while jobs are running.
+     *
+     * @return The storage version
+     */
+    public final int getStorageVersion() {
+        return storageVersion;
+    }
+
     /**
      * <p>Prerequisite include:</p>
      * <ul>
@@ -41,10 +77,11 @@ public abstract class ArchetypeDataPool {
      *
      * @param componentRegistry The component registry
      * @param components The component types for this archetype
-     * @param initSize The number entities this pool can contain initially
-     * @param growStep The size to grow when the pool is full
-     * @param shrinkStep The threshold to judge when the pool is too large; Also the size to shrink
+     * @param initSize The number entities this pool can contain initially; Also the minimum size
+     * @param growStep The minimum size to grow when the pool is full
+     * @param shrinkStep The minimum size to shrink, so tiny shrinks never cause a copy
      */
+    @SuppressWarnings("DataFlowIssue")
     public ArchetypeDataPool(ComponentRegistry componentRegistry, List<Class<? extends CleanComponent>> components, int initSize, int growStep, int shrinkStep) {
         this.componentRegistry = componentRegistry;
         this.components = ImmutableList.copyOf(components);
@@ -52,8 +89,61 @@ public abstract class ArchetypeDataPool {
         this.growStep = growStep;
         this.shrinkStep = shrinkStep;
         currentSize = initSize;
+
+        int bytes = 0;
+        for (Class<? extends CleanComponent> clazz : components) {
+            for (FlattenedScalarType scalarType : componentRegistry.getComponentDescFlattened(componentRegistry.getComponentName(clazz)).scalarTypes) {
+                bytes += scalarType == FlattenedScalarType.BOOL ? 1 : 4;
+            }
+        }
+        rowBytes = bytes;
     }
 
+    //<editor-fold desc="statistics">
+    /**
+     * @return The bytes of column data of one row
+     */
+    public final int getRowBytes() {
+        return rowBytes;
+    }
+
+    /**
+     * Only column data is counted, i.e. not the entity-row mapping or change versions.
+     *
+     * @return The bytes of column data of all {@link #getCurrentSize()} rows
+     */
+    public final long getColumnBytes() {
+        return (long) currentSize * rowBytes;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="capacity policy">
+    /**
+     * Geometric growth: grow by half of the current size, but at least by {@link #growStep}.
+     *
+     * @param capacity The number of entities the pool must be able to contain
+     * @return The new size
+     */
+    protected final int grownSize(int capacity) {
+        return Math.max(capacity, currentSize + Math.max(growStep, currentSize >> 1));
+    }
+
+    /**
+     * Hysteresis: only shrink once at most a quarter of the pool is occupied, and then to twice the occupancy.
+     * After a shrink, the pool has to double its occupancy before it grows again, or halve it before it shrinks again.
+     *
+     * @param occupied The number of occupied rows
+     * @return The new size, or {@link #currentSize} if the pool shouldn't shrink
+     */
+    protected final int shrunkSize(int occupied) {
+        if (occupied > currentSize >> 2) {
+            return currentSize;
+        }
+        int newSize = Math.max(initSize, occupied << 1);
+        return currentSize - newSize >= shrinkStep ? newSize : currentSize;
+    }
+    //</editor-fold>
+
     public abstract boolean containsEntity(int entityID);
 
     /**
@@ -104,6 +194,295 @@ public abstract class ArchetypeDataPool {
      */
     public abstract void removeEntity(int entityID);
 
+    /**
+     * Make sure this pool can contain at least <code>capacity</code> entities without growing again.
+     * Callers that know their upcoming entity count should reserve once instead of letting the pool grow repeatedly.
+     * Shrinking still follows {@link #shrunkSize(int)}.
+     *
+     * @param capacity The number of entities
+     */
+    public abstract void reserve(int capacity);
+
+    //<editor-fold desc="bulk structural changes">
+    /**
+     * Bulk version of {@link #addEntity(int, List)}. Capacity is reserved once and every column is written in one run.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>None of the entities is in this {@link ArchetypeDataPool}</li>
+     *     <li>For every entity, classes of its components must correspond to and form a bijection with {@link ArchetypeDataPool#components}</li>
+     * </ul>
+     *
+     * @param entityIDs The ids of the entities
+     * @param components The components of every entity, in the same order as <code>entityIDs</code>
+     * @param from The first element (inclusive) of <code>entityIDs</code> and <code>components</code> to add
+     * @param to The last element (exclusive) of <code>entityIDs</code> and <code>components</code> to add
+     */
+    @SuppressWarnings("DataFlowIssue")
+    public void addEntities(int[] entityIDs, List<List<CleanComponent>> components, int from, int to) {
+        int count = to - from;
+        if (count <= 0) {
+            return;
+        }
+
+        reserve(getArrayRange().end + count);
+
+        // rows are dense, so the batch occupies [firstRow, firstRow + count)
+        int firstRow = allocateRow(entityIDs[from]);
+        for (int i = from + 1; i < to; i++) {
+            allocateRow(entityIDs[i]);
+        }
+
+        ColumnWriter writer = new ColumnWriter();
+        for (Class<? extends CleanComponent> clazz : this.components) {
+            for (int i = 0; i < count; i++) {
+                CleanComponent component = null;
+                for (CleanComponent instance : components.get(from + i)) {
+                    if (instance.getClass() == clazz) {
+                        component = instance;
+                        break;
+                    }
+                }
+                writer.write(Objects.requireNonNull(component), firstRow + i);
+            }
+        }
+    }
+
+    /**
+     * Bulk version of {@link #removeEntity(int)}. Implementations should shrink at most once.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>All entities are in this {@link ArchetypeDataPool}</li>
+     * </ul>
+     *
+     * @param entityIDs The ids of the entities
+     * @param from The first element (inclusive) of <code>entityIDs</code> to remove
+     * @param to The last element (exclusive) of <code>entityIDs</code> to remove
+     */
+    public void removeEntities(int[] entityIDs, int from, int to) {
+        for (int i = from; i < to; i++) {
+            removeEntity(entityIDs[i]);
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="typed column access">
+    /**
+     * Implementations must call it once their column layout is known, i.e. at the end of the constructor,
+     * so {@link #typedColumn(ColumnHandle, PrimitiveArrayType)} resolves columns with plain array reads.
+     */
+    protected final void indexColumns() {
+        int maxID = -1;
+        for (Class<? extends CleanComponent> clazz : components) {
+            maxID = Math.max(maxID, ArchetypeKey.getComponentID(clazz));
+        }
+        int[][] columns = new int[maxID + 1][];
+        for (Class<? extends CleanComponent> clazz : components) {
+            columns[ArchetypeKey.getComponentID(clazz)] = getColumns(clazz);
+        }
+        componentColumns = columns;
+    }
+
+    /**
+     * Resolves the column of <code>column</code> in this archetype by the dense component ID, without a map lookup.
+     *
+     * @return The raw column
+     */
+    int typedColumn(ColumnHandle column, PrimitiveArrayType type) {
+        if (column.type != type) {
+            throw new IllegalArgumentException("Column type mismatch. Expected " + type + ". Got " + column.type + " instead.");
+        }
+        int[][] columns = componentColumns;
+        int componentID = column.componentID;
+        if (componentID >= columns.length || columns[componentID] == null) {
+            throw new IllegalArgumentException("This archetype doesn't contain the component " + column.component.getName() + ".");
+        }
+        return columns[componentID][column.ordinal];
+    }
+
+    /**
+     * Typed and allocation-free counterpart of {@link #getComponent(int, Class)} that reads one scalar column only.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>The entity represented by <code>entityID</code> is in this {@link ArchetypeDataPool}</li>
+     *     <li><code>column.component</code> is in {@link ArchetypeDataPool#components}</li>
+     *     <li><code>column.type</code> is {@link PrimitiveArrayType#INT}</li>
+     * </ul>
+     *
+     * @param entityID The id of the entity
+     * @param column The column handle
+     * @return The value
+     */
+    public abstract int getInt(int entityID, ColumnHandle column);
+
+    /**
+     * Float version of {@link #getInt(int, ColumnHandle)}.
+     */
+    public abstract float getFloat(int entityID, ColumnHandle column);
+
+    /**
+     * Boolean version of {@link #getInt(int, ColumnHandle)}.
+     */
+    public abstract boolean getBool(int entityID, ColumnHandle column);
+
+    /**
+     * Typed and allocation-free counterpart of {@link #setComponent(int, CleanComponent)} that writes one scalar column only.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>The entity represented by <code>entityID</code> is in this {@link ArchetypeDataPool}</li>
+     *     <li><code>column.component</code> is in {@link ArchetypeDataPool#components}</li>
+     *     <li><code>column.type</code> is {@link PrimitiveArrayType#INT}</li>
+     * </ul>
+     *
+     * @param entityID The id of the entity
+     * @param column The column handle
+     * @param value The value
+     */
+    public abstract void setInt(int entityID, ColumnHandle column, int value);
+
+    /**
+     * Float version of {@link #setInt(int, ColumnHandle, int)}.
+     */
+    public abstract void setFloat(int entityID, ColumnHandle column, float value);
+
+    /**
+     * Boolean version of {@link #setInt(int, ColumnHandle, int)}.
+     */
+    public abstract void setBool(int entityID, ColumnHandle column, boolean value);
+
+    /**
+     * Every write stamps the chunk of the written row, see {@link ChangeVersions}.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li><code>column.component</code> is in {@link ArchetypeDataPool#components}</li>
+     *     <li><code>row</code> is inside {@link #getArrayRange()}</li>
+     * </ul>
+     *
+     * @param column The column handle
+     * @param row The row
+     * @return The change version of the chunk that contains <code>row</code>
+     */
+    public abstract int getChangeVersion(ColumnHandle column, int row);
+    //</editor-fold>
+
+    //<editor-fold desc="raw row access (used by ArchetypeEdge)">
+    /**
+     * @param entityID The id of the entity
+     * @return The row of the entity
+     */
+    abstract int getRow(int entityID);
+
+    /**
+     * Append a row for the entity without writing any column. The caller must write every column of the row.
+     * The whole row is stamped as changed, so the raw writers below don't stamp anything.
+     *
+     * @param entityID The id of the entity
+     * @return The row of the entity
+     */
+    abstract int allocateRow(int entityID);
+
+    /**
+     * @param component The component class
+     * @return The column of every field ordinal of the component, see {@link #getColumn(Class, int)}; Must not be modified
+     */
+    abstract int[] getColumns(Class<? extends CleanComponent> component);
+
+    /**
+     * @param component The component class
+     * @param ordinal The field ordinal
+     * @return An implementation-specific column index to be used by the raw accessors
+     */
+    final int getColumn(Class<? extends CleanComponent> component, int ordinal) {
+        return getColumns(component)[ordinal];
+    }
+
+    abstract int readInt(int column, int row);
+
+    abstract float readFloat(int column, int row);
+
+    abstract boolean readBool(int column, int row);
+
+    abstract void writeInt(int column, int row, int value);
+
+    abstract void writeFloat(int column, int row, float value);
+
+    abstract void writeBool(int column, int row, boolean value);
+
+    /**
+     * Writes the flattened units of a component straight into the columns of one row with the raw writers,
+     * so a component is stored without an <code>Object[]</code> or boxing. Doesn't stamp anything.
+     *
+     * @see ComponentRegistry#writeComponent(CleanComponent, FlattenedScalarSink)
+     */
+    final class ColumnWriter implements FlattenedScalarSink {
+        private int[] columns;
+        private int row;
+
+        /**
+         * Write <code>component</code> into <code>row</code>. The writer can be reused for another component or row afterwards.
+         */
+        void write(CleanComponent component, int row) {
+            columns = getColumns(component.getClass());
+            this.row = row;
+            componentRegistry.writeComponent(component, this);
+        }
+
+        @Override
+        public void writeInt(int unit, int value) {
+            ArchetypeDataPool.this.writeInt(columns[unit], row, value);
+        }
+
+        @Override
+        public void writeFloat(int unit, float value) {
+            ArchetypeDataPool.this.writeFloat(columns[unit], row, value);
+        }
+
+        @Override
+        public void writeBool(int unit, boolean value) {
+            ArchetypeDataPool.this.writeBool(columns[unit], row, value);
+        }
+    }
+
+    /**
+     * Reads the flattened units of a component straight from the columns of one row with the raw readers,
+     * so a component is constructed without an <code>Object[]</code> or boxing.
+     *
+     * @see ComponentRegistry#readComponent(Class, FlattenedScalarSource)
+     */
+    final class ColumnReader implements FlattenedScalarSource {
+        private int[] columns;
+        private int row;
+
+        /**
+         * Read the component of class <code>component</code> from <code>row</code>. The reader can be reused afterwards.
+         */
+        CleanComponent read(Class<? extends CleanComponent> component, int row) {
+            columns = getColumns(component);
+            this.row = row;
+            return componentRegistry.readComponent(component, this);
+        }
+
+        @Override
+        public int readInt(int unit) {
+            return ArchetypeDataPool.this.readInt(columns[unit], row);
+        }
+
+        @Override
+        public float readFloat(int unit) {
+            return ArchetypeDataPool.this.readFloat(columns[unit], row);
+        }
+
+        @Override
+        public boolean readBool(int unit) {
+            return ArchetypeDataPool.this.readBool(columns[unit], row);
+        }
+    }
+    //</editor-fold>
+
     /**
      * <p>Prerequisite include:</p>
      * <ul>
@@ -118,11 +497,51 @@ public abstract class ArchetypeDataPool {
     @NonNull
     public abstract PrimitiveArray getArray(Class<? extends CleanComponent> component, String... fieldAccessChain);
 
+    /**
+     * Handle version of {@link #getArray(Class, String...)}. It never walks the component layout.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li><code>column.component</code> is in {@link ArchetypeDataPool#components}</li>
+     * </ul>
+     *
+     * @param column The column handle
+     * @return An array of field values
+     */
+    @NonNull
+    public abstract PrimitiveArray getArray(ColumnHandle column);
+
+    /**
+     * Pools must keep rows dense (e.g. by swap-remove), so every row inside the range holds a live entity.
+     * Removing an entity may move another entity to a different row.
+     *
+     * @return The occupied row range
+     */
     @NonNull
     public abstract ArrayRange getArrayRange();
 
-    @NonNull
-    public abstract Optional<Integer> getEntityID(int index);
+    /**
+     * Allocation-free version of <code>getArrayRange().start</code>.
+     */
+    public abstract int getRowStart();
+
+    /**
+     * Allocation-free version of <code>getArrayRange().end</code>.
+     */
+    public abstract int getRowEnd();
+
+    /**
+     * Allocation-free reverse lookup of the entity stored at a row.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li><code>row</code> is inside {@link #getArrayRange()}</li>
+     * </ul>
+     *
+     * @param row The row
+     * @return The id of the entity at <code>row</code>
+     */
+    public abstract int getEntityID(int row);
 
     public abstract String getSnapshot();
 }
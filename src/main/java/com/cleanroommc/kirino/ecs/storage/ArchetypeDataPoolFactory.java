@@ -0,0 +1,32 @@
+package com.cleanroommc.kirino.ecs.storage;
+
+import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Decides which {@link ArchetypeDataPool} implementation backs an archetype.
+ *
+ * @see com.cleanroommc.kirino.ecs.entity.EntityManager#setArchetypePoolFactory(ArchetypeDataPoolFactory, Class[])
+ */
+@FunctionalInterface
+public interface ArchetypeDataPoolFactory {
+    ArchetypeDataPoolFactory HEAP = (componentRegistry, components) -> new HeapPool(componentRegistry, components, 100, 50, 50);
+    ArchetypeDataPoolFactory NATIVE = (componentRegistry, components) -> new NativePool(componentRegistry, components, 100, 50, 50);
+    ArchetypeDataPoolFactory CHUNKED = (componentRegistry, components) -> new ChunkedPool(componentRegistry, components, 100, 50, 50);
+
+    /**
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>All component types are valid and registered in the component registry</li>
+     * </ul>
+     *
+     * @param componentRegistry The component registry
+     * @param components The component types for this archetype
+     * @return A new pool
+     */
+    @NonNull
+    ArchetypeDataPool create(ComponentRegistry componentRegistry, List<Class<? extends CleanComponent>> components);
+}
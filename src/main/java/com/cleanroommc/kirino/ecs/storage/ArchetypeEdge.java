@@ -0,0 +1,147 @@
+package com.cleanroommc.kirino.ecs.storage;
+
+import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.ComponentDescFlattened;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarType;
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A cached transition between two archetypes that differ by exactly one component.
+ * <br><br>
+ * The column mapping of all shared components is computed once, so {@link #move(int, CleanComponent)}
+ * copies scalar columns directly from row to row without instantiating any component.
+ */
+public final class ArchetypeEdge {
+    public final ArchetypeKey fromKey;
+    public final ArchetypeKey toKey;
+    public final ArchetypeDataPool from;
+    public final ArchetypeDataPool to;
+
+    /**
+     * The component that only exists in {@link #to}, or <code>null</code> if this edge removes a component.
+     */
+    public final @Nullable Class<? extends CleanComponent> addedComponent;
+
+    private final int[] intFrom;
+    private final int[] intTo;
+    private final int[] floatFrom;
+    private final int[] floatTo;
+    private final int[] boolFrom;
+    private final int[] boolTo;
+
+    /**
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>Components of <code>from</code> and <code>to</code> differ by exactly one component</li>
+     * </ul>
+     *
+     * @param fromKey The key of the source archetype
+     * @param from The source archetype
+     * @param toKey The key of the target archetype
+     * @param to The target archetype
+     */
+    @SuppressWarnings("DataFlowIssue")
+    public ArchetypeEdge(@NonNull ArchetypeKey fromKey, @NonNull ArchetypeDataPool from, @NonNull ArchetypeKey toKey, @NonNull ArchetypeDataPool to) {
+        Preconditions.checkNotNull(fromKey);
+        Preconditions.checkNotNull(from);
+        Preconditions.checkNotNull(toKey);
+        Preconditions.checkNotNull(to);
+        Preconditions.checkArgument(Math.abs(from.components.size() - to.components.size()) == 1,
+                "Archetypes of an edge must differ by exactly one component.");
+
+        this.fromKey = fromKey;
+        this.toKey = toKey;
+        this.from = from;
+        this.to = to;
+
+        Class<? extends CleanComponent> added = null;
+        for (Class<? extends CleanComponent> component : to.components) {
+            if (!from.components.contains(component)) {
+                added = component;
+                break;
+            }
+        }
+        addedComponent = added;
+
+        IntArrayList intFrom = new IntArrayList();
+        IntArrayList intTo = new IntArrayList();
+        IntArrayList floatFrom = new IntArrayList();
+        IntArrayList floatTo = new IntArrayList();
+        IntArrayList boolFrom = new IntArrayList();
+        IntArrayList boolTo = new IntArrayList();
+
+        for (Class<? extends CleanComponent> component : from.components) {
+            if (!to.components.contains(component)) {
+                continue;
+            }
+
+            ComponentDescFlattened descFlattened = from.componentRegistry.getComponentDescFlattened(from.componentRegistry.getComponentName(component));
+            for (int ordinal = 0; ordinal < descFlattened.scalarTypes.size(); ordinal++) {
+                FlattenedScalarType flattenedScalarType = descFlattened.scalarTypes.get(ordinal);
+                int src = from.getColumn(component, ordinal);
+                int dst = to.getColumn(component, ordinal);
+                if (flattenedScalarType == FlattenedScalarType.INT) {
+                    intFrom.add(src);
+                    intTo.add(dst);
+                } else if (flattenedScalarType == FlattenedScalarType.FLOAT) {
+                    floatFrom.add(src);
+                    floatTo.add(dst);
+                } else if (flattenedScalarType == FlattenedScalarType.BOOL) {
+                    boolFrom.add(src);
+                    boolTo.add(dst);
+                }
+            }
+        }
+
+        this.intFrom = intFrom.toIntArray();
+        this.intTo = intTo.toIntArray();
+        this.floatFrom = floatFrom.toIntArray();
+        this.floatTo = floatTo.toIntArray();
+        this.boolFrom = boolFrom.toIntArray();
+        this.boolTo = boolTo.toIntArray();
+    }
+
+    /**
+     * Move an entity from {@link #from} to {@link #to}. Shared columns are copied; the removed component (if any) is dropped.
+     *
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>The entity represented by <code>entityID</code> is in {@link #from}</li>
+     *     <li><code>componentToAdd</code> is an instance of {@link #addedComponent} if this edge adds a component; otherwise it's <code>null</code></li>
+     * </ul>
+     *
+     * @param entityID The id of the entity
+     * @param componentToAdd The component to add
+     */
+    public void move(int entityID, @Nullable CleanComponent componentToAdd) {
+        Preconditions.checkArgument((componentToAdd == null) == (addedComponent == null),
+                "Argument \"componentToAdd\" doesn't match this edge.");
+
+        int srcRow = from.getRow(entityID);
+        int dstRow = to.allocateRow(entityID);
+
+        for (int i = 0; i < intFrom.length; i++) {
+            to.writeInt(intTo[i], dstRow, from.readInt(intFrom[i], srcRow));
+        }
+        for (int i = 0; i < floatFrom.length; i++) {
+            to.writeFloat(floatTo[i], dstRow, from.readFloat(floatFrom[i], srcRow));
+        }
+        for (int i = 0; i < boolFrom.length; i++) {
+            to.writeBool(boolTo[i], dstRow, from.readBool(boolFrom[i], srcRow));
+        }
+
+        if (componentToAdd != null) {
+            to.setComponent(entityID, componentToAdd);
+        }
+
+        from.removeEntity(entityID);
+    }
+
+    @Override
+    public String toString() {
+        return "ArchetypeEdge{ from=" + fromKey + ", to=" + toKey + ", addedComponent=" + (addedComponent == null ? "null" : addedComponent.getName()) + " }";
+    }
+}
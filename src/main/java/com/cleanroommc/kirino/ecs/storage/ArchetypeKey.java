@@ -2,32 +2,75 @@ package com.cleanroommc.kirino.ecs.storage;
 
 import com.cleanroommc.kirino.ecs.component.CleanComponent;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * It's a runtime-only key.
  * Must not be used for persistent or network related stuff.
  * Thread safety is guaranteed.
+ * <br><br>
+ * An archetype is identified by a bitset signature where every bit is a runtime component ID (see {@link #getComponentID(Class)}).
  */
 public final class ArchetypeKey {
-    private static final Map<String, Integer> map = new HashMap<>();
-    private static int nextId = 0;
+    // entities are created from worker threads, so lookups of existing ids must not lock
+    private static final Map<Class<? extends CleanComponent>, Integer> componentIDs = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextComponentID = new AtomicInteger();
 
-    public static synchronized int getIdForKey(String key) {
-        return map.computeIfAbsent(key, k -> nextId++);
+    private static final Map<Signature, Integer> map = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Component IDs are dense and allocated on first use.
+     *
+     * @param component The component class
+     * @return The runtime component ID
+     */
+    public static int getComponentID(Class<? extends CleanComponent> component) {
+        Integer id = componentIDs.get(component);
+        if (id != null) {
+            return id;
+        }
+        return componentIDs.computeIfAbsent(component, k -> nextComponentID.getAndIncrement());
+    }
+
+    private static int getIdForSignature(long[] signature) {
+        Signature key = new Signature(signature);
+        Integer id = map.get(key);
+        if (id != null) {
+            return id;
+        }
+        return map.computeIfAbsent(key, k -> nextId.getAndIncrement());
+    }
+
+    /**
+     * Build a bitset signature from component classes.
+     *
+     * @param components The component classes
+     * @return The signature
+     */
+    public static long[] toSignature(List<Class<? extends CleanComponent>> components) {
+        long[] signature = new long[0];
+        for (Class<? extends CleanComponent> component : components) {
+            int componentID = getComponentID(component);
+            int word = componentID >>> 6;
+            if (word >= signature.length) {
+                signature = Arrays.copyOf(signature, word + 1);
+            }
+            signature[word] |= 1L << componentID;
+        }
+        return signature;
     }
 
     public final int id;
-    public final String key;
+    private final long[] signature;
 
     public ArchetypeKey(List<Class<? extends CleanComponent>> components) {
-        List<String> names = components.stream().map(Class::getName).sorted().toList();
-        String combined = String.join(",", names);
-        id = getIdForKey(combined);
-        key = combined;
+        signature = toSignature(components);
+        id = getIdForSignature(signature);
     }
 
     @Override
@@ -44,7 +87,7 @@ public final class ArchetypeKey {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(id);
+        return Integer.hashCode(id);
     }
 
     @Override
@@ -53,6 +96,60 @@ public final class ArchetypeKey {
     }
 
     public boolean contains(Class<? extends CleanComponent> component) {
-        return key.contains(component.getName());
+        return contains(getComponentID(component));
+    }
+
+    public boolean contains(int componentID) {
+        int word = componentID >>> 6;
+        return word < signature.length && (signature[word] & (1L << componentID)) != 0;
+    }
+
+    /**
+     * @param other A signature built by {@link #toSignature(List)}
+     * @return Whether every bit of <code>other</code> is also set in this key
+     */
+    public boolean containsAll(long[] other) {
+        for (int i = 0; i < other.length; i++) {
+            long word = i < signature.length ? signature[i] : 0L;
+            if ((other[i] & ~word) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param other A signature built by {@link #toSignature(List)}
+     * @return Whether this key and <code>other</code> share any bit
+     */
+    public boolean intersects(long[] other) {
+        int length = Math.min(other.length, signature.length);
+        for (int i = 0; i < length; i++) {
+            if ((other[i] & signature[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Signature(long[] words) {
+        Signature {
+            // trailing zero words must not affect equality
+            int length = words.length;
+            while (length > 0 && words[length - 1] == 0) {
+                length--;
+            }
+            words = Arrays.copyOf(words, length);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Signature that && Arrays.equals(words, that.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(words);
+        }
     }
 }
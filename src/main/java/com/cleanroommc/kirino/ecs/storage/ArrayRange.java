@@ -1,15 +1,14 @@
 package com.cleanroommc.kirino.ecs.storage;
 
-import java.util.Set;
-
+/**
+ * A dense row range <code>[start, end)</code>. Every row inside the range holds a live entity.
+ */
 public final class ArrayRange {
     public final int start;
     public final int end;
-    public final Set<Integer> deprecatedIndexes;
 
-    ArrayRange(int start, int end, Set<Integer> deprecatedIndexes) {
+    ArrayRange(int start, int end) {
         this.start = start;
         this.end = end;
-        this.deprecatedIndexes = deprecatedIndexes;
     }
 }
@@ -0,0 +1,88 @@
+package com.cleanroommc.kirino.ecs.storage;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Change version stamps of archetype columns.
+ * <br><br>
+ * Rows are grouped into chunks of {@link #CHUNK_SIZE}. Every write to a column (through {@link PrimitiveArray},
+ * typed setters, component setters or structural changes) stamps the chunk of the written row with {@link #current()}.
+ * A reader remembers the version returned by {@link #advance()} at its last run and skips chunks whose stamp is older.
+ * <br><br>
+ * Thread safety is guaranteed. Concurrent writers of the same chunk may race, but they all stamp a version
+ * that is not older than the last {@link #advance()} they observed, so no change is lost.
+ */
+public final class ChangeVersions {
+    public static final int CHUNK_SHIFT = 6;
+    public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final AtomicInteger VERSION = new AtomicInteger(1);
+
+    private ChangeVersions() {
+    }
+
+    /**
+     * @return The version writes are stamped with right now
+     */
+    public static int current() {
+        return VERSION.get();
+    }
+
+    /**
+     * Start a new change window.
+     *
+     * @return The new version
+     */
+    public static int advance() {
+        return VERSION.incrementAndGet();
+    }
+
+    /**
+     * @param rows The row count
+     * @return The number of chunks needed to cover <code>rows</code>
+     */
+    public static int chunkCount(int rows) {
+        return (rows + CHUNK_SIZE - 1) >>> CHUNK_SHIFT;
+    }
+
+    /**
+     * Per-pool bookkeeping. Column indexes are implementation-specific.
+     */
+    static final class Table {
+        private final int[][] versions;
+
+        Table(int columnCount, int rows) {
+            versions = new int[columnCount][chunkCount(rows)];
+        }
+
+        int[] column(int column) {
+            return versions[column];
+        }
+
+        int get(int column, int row) {
+            return versions[column][row >>> CHUNK_SHIFT];
+        }
+
+        void stamp(int column, int row) {
+            versions[column][row >>> CHUNK_SHIFT] = current();
+        }
+
+        void stampRow(int row) {
+            int version = current();
+            int chunk = row >>> CHUNK_SHIFT;
+            for (int[] column : versions) {
+                column[chunk] = version;
+            }
+        }
+
+        void resize(int rows) {
+            int chunkCount = chunkCount(rows);
+            for (int i = 0; i < versions.length; i++) {
+                if (versions[i].length != chunkCount) {
+                    versions[i] = Arrays.copyOf(versions[i], chunkCount);
+                }
+            }
+        }
+    }
+}
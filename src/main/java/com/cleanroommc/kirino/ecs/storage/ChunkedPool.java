@@ -0,0 +1,486 @@
+package com.cleanroommc.kirino.ecs.storage;
+
+import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.ComponentDescFlattened;
+import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FlattenedField;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarType;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.jspecify.annotations.NonNull;
+
+import java.util.*;
+
+/**
+ * It guarantees SoA memory layout inside fixed-size blocks. Rows are grouped into blocks of {@link #getRowsPerBlock()} rows,
+ * and a block stores every column of its rows, one contiguous run per column. An entity with hundreds of scalars
+ * is therefore kept inside one block (i.e. about {@link #DEFAULT_BLOCK_BYTES} bytes) instead of spread over hundreds of heap arrays.
+ * <br><br>
+ * Growing allocates new blocks and shrinking drops trailing blocks, so a resize never copies existing rows.
+ * Sizes are rounded up to whole blocks.
+ */
+public final class ChunkedPool extends ArchetypeDataPool {
+    public static final int DEFAULT_BLOCK_BYTES = 16 * 1024;
+
+    static final class Block {
+        final int[] ints;
+        final float[] floats;
+        final boolean[] bools;
+
+        private Block(int intColumns, int floatColumns, int boolColumns, int rowsPerBlock) {
+            ints = new int[intColumns * rowsPerBlock];
+            floats = new float[floatColumns * rowsPerBlock];
+            bools = new boolean[boolColumns * rowsPerBlock];
+        }
+    }
+
+    private static final class ComDataLocation {
+        private final ImmutableList<FlattenedScalarType> order;
+
+        /**
+         * Field ordinal to the column index among the columns of the same scalar type.
+         */
+        private final int[] columns;
+
+        private ComDataLocation(ImmutableList<FlattenedScalarType> order, int[] columns) {
+            this.order = order;
+            this.columns = columns;
+        }
+    }
+
+    private final int intColumnCount;
+    private final int floatColumnCount;
+    private final int boolColumnCount;
+    private final int blockShift;
+    private final int blockMask;
+    private Block[] blocks;
+
+    // change versions, indexed the same way as the typed columns
+    private final ChangeVersions.Table intVersions;
+    private final ChangeVersions.Table floatVersions;
+    private final ChangeVersions.Table booleanVersions;
+
+    private final Map<Class<? extends CleanComponent>, ComDataLocation> componentDataLocations = new HashMap<>();
+
+    private final EntityRowMap entityRows;
+
+    /**
+     * Rows <code>[0, indexCounter)</code> are always occupied.
+     */
+    private int indexCounter = 0;
+
+    /**
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>All component types are valid and registered in the component registry</li>
+     * </ul>
+     *
+     * @param componentRegistry The component registry
+     * @param components The component types for this archetype
+     */
+    public ChunkedPool(ComponentRegistry componentRegistry, List<Class<? extends CleanComponent>> components, int initSize, int growStep, int shrinkStep) {
+        this(componentRegistry, components, initSize, growStep, shrinkStep, DEFAULT_BLOCK_BYTES);
+    }
+
+    /**
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>All component types are valid and registered in the component registry</li>
+     * </ul>
+     *
+     * @param componentRegistry The component registry
+     * @param components The component types for this archetype
+     * @param blockBytes The target size of a block; The rows per block is the largest power of two that fits, but at least 1
+     */
+    @SuppressWarnings("DataFlowIssue")
+    public ChunkedPool(ComponentRegistry componentRegistry, List<Class<? extends CleanComponent>> components, int initSize, int growStep, int shrinkStep, int blockBytes) {
+        super(componentRegistry, components, initSize, growStep, shrinkStep);
+        Preconditions.checkArgument(blockBytes > 0, "Argument \"blockBytes\" must be positive.");
+
+        int intCount = 0;
+        int floatCount = 0;
+        int boolCount = 0;
+        for (Class<? extends CleanComponent> clazz : components) {
+            ComponentDescFlattened descFlattened = componentRegistry.getComponentDescFlattened(componentRegistry.getComponentName(clazz));
+
+            List<FlattenedScalarType> order = new ArrayList<>();
+            int[] columns = new int[descFlattened.getUnitCount()];
+
+            for (FlattenedField flattenedField : descFlattened.fields) {
+                for (FlattenedScalarType flattenedScalarType : flattenedField.scalarTypes) {
+                    if (flattenedScalarType == FlattenedScalarType.INT) {
+                        columns[order.size()] = intCount++;
+                    } else if (flattenedScalarType == FlattenedScalarType.FLOAT) {
+                        columns[order.size()] = floatCount++;
+                    } else if (flattenedScalarType == FlattenedScalarType.BOOL) {
+                        columns[order.size()] = boolCount++;
+                    }
+                    order.add(flattenedScalarType);
+                }
+            }
+
+            componentDataLocations.put(clazz, new ComDataLocation(ImmutableList.copyOf(order), columns));
+        }
+        indexColumns();
+        intColumnCount = intCount;
+        floatColumnCount = floatCount;
+        boolColumnCount = boolCount;
+
+        int rowsPerBlock = Integer.highestOneBit(Math.max(1, blockBytes / Math.max(1, getRowBytes())));
+        blockShift = Integer.numberOfTrailingZeros(rowsPerBlock);
+        blockMask = rowsPerBlock - 1;
+
+        int blockCount = blockCount(Math.max(initSize, 1));
+        blocks = new Block[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            blocks[i] = newBlock();
+        }
+        currentSize = blockCount << blockShift;
+        entityRows = new EntityRowMap(currentSize);
+
+        intVersions = new ChangeVersions.Table(intCount, currentSize);
+        floatVersions = new ChangeVersions.Table(floatCount, currentSize);
+        booleanVersions = new ChangeVersions.Table(boolCount, currentSize);
+    }
+
+    /**
+     * @return The number of rows of a block; Always a power of two
+     */
+    public int getRowsPerBlock() {
+        return blockMask + 1;
+    }
+
+    private int blockCount(int rows) {
+        return (rows + blockMask) >>> blockShift;
+    }
+
+    private Block newBlock() {
+        return new Block(intColumnCount, floatColumnCount, boolColumnCount, blockMask + 1);
+    }
+
+    private int offset(int column, int row) {
+        return (column << blockShift) + (row & blockMask);
+    }
+
+    //<editor-fold desc="boxed scalar access">
+    private Object getScalar(FlattenedScalarType type, int column, int row) {
+        Block block = blocks[row >>> blockShift];
+        return switch (type) {
+            case INT -> block.ints[offset(column, row)];
+            case FLOAT -> block.floats[offset(column, row)];
+            case BOOL -> block.bools[offset(column, row)];
+        };
+    }
+
+    private void stampScalar(FlattenedScalarType type, int column, int row) {
+        switch (type) {
+            case INT -> intVersions.stamp(column, row);
+            case FLOAT -> floatVersions.stamp(column, row);
+            case BOOL -> booleanVersions.stamp(column, row);
+        }
+    }
+    //</editor-fold>
+
+    @Override
+    public boolean containsEntity(int entityID) {
+        return entityRows.contains(entityID);
+    }
+
+    @NonNull
+    @Override
+    public CleanComponent getComponent(int entityID, Class<? extends CleanComponent> component) {
+        return new ColumnReader().read(component, entityRows.row(entityID));
+    }
+
+    @Override
+    public void setComponent(int entityID, CleanComponent component) {
+        ComDataLocation location = componentDataLocations.get(component.getClass());
+        int index = entityRows.row(entityID);
+
+        new ColumnWriter().write(component, index);
+
+        for (int i = 0; i < location.columns.length; i++) {
+            stampScalar(location.order.get(i), location.columns[i], index);
+        }
+    }
+
+    @Override
+    public void addEntity(int entityID, List<CleanComponent> components) {
+        int index = allocateRow(entityID);
+
+        ColumnWriter writer = new ColumnWriter();
+        for (Class<? extends CleanComponent> clazz : this.components) {
+            CleanComponent component = Objects.requireNonNull(components.stream().filter(c -> c.getClass().equals(clazz)).findFirst().orElse(null));
+            writer.write(component, index);
+        }
+    }
+
+    /**
+     * The last row is moved into the removed row (swap-remove), so rows stay dense and
+     * {@link #getArrayRange()} never contains holes. The row of the moved entity changes accordingly.
+     */
+    @Override
+    public void removeEntity(int entityID) {
+        swapRemove(entityID);
+        shrink();
+    }
+
+    @Override
+    public void removeEntities(int[] entityIDs, int from, int to) {
+        for (int i = from; i < to; i++) {
+            swapRemove(entityIDs[i]);
+        }
+        shrink();
+    }
+
+    @Override
+    public void reserve(int capacity) {
+        if (capacity > currentSize) {
+            resize(grownSize(capacity));
+        }
+    }
+
+    /**
+     * Only the block table is copied; Blocks themselves are kept or dropped as a whole.
+     */
+    private void resize(int newSize) {
+        int blockCount = blockCount(Math.max(newSize, 1));
+        if (blockCount == blocks.length) {
+            return;
+        }
+
+        storageVersion++;
+        int oldBlockCount = blocks.length;
+        blocks = Arrays.copyOf(blocks, blockCount);
+        for (int i = oldBlockCount; i < blockCount; i++) {
+            blocks[i] = newBlock();
+        }
+        currentSize = blockCount << blockShift;
+        entityRows.resizeRows(currentSize);
+        intVersions.resize(currentSize);
+        floatVersions.resize(currentSize);
+        booleanVersions.resize(currentSize);
+    }
+
+    private void stampRow(int index) {
+        intVersions.stampRow(index);
+        floatVersions.stampRow(index);
+        booleanVersions.stampRow(index);
+    }
+
+    private void swapRemove(int entityID) {
+        // check before unmapping, so a missing entity leaves the pool untouched
+        Objects.checkIndex(entityRows.row(entityID), indexCounter);
+        int index = entityRows.remove(entityID);
+        int lastIndex = --indexCounter;
+        if (index != lastIndex) {
+            Block to = blocks[index >>> blockShift];
+            Block from = blocks[lastIndex >>> blockShift];
+            for (int column = 0; column < intColumnCount; column++) {
+                to.ints[offset(column, index)] = from.ints[offset(column, lastIndex)];
+            }
+            for (int column = 0; column < floatColumnCount; column++) {
+                to.floats[offset(column, index)] = from.floats[offset(column, lastIndex)];
+            }
+            for (int column = 0; column < boolColumnCount; column++) {
+                to.bools[offset(column, index)] = from.bools[offset(column, lastIndex)];
+            }
+            int movedEntityID = entityRows.entity(lastIndex);
+            entityRows.put(movedEntityID, index);
+            stampRow(index);
+        }
+    }
+
+    private void shrink() {
+        int newSize = shrunkSize(indexCounter);
+        if (newSize != currentSize) {
+            resize(newSize);
+        }
+    }
+
+    //<editor-fold desc="typed column access">
+    @Override
+    public int getInt(int entityID, ColumnHandle column) {
+        return readInt(typedColumn(column, PrimitiveArrayType.INT), entityRows.row(entityID));
+    }
+
+    @Override
+    public float getFloat(int entityID, ColumnHandle column) {
+        return readFloat(typedColumn(column, PrimitiveArrayType.FLOAT), entityRows.row(entityID));
+    }
+
+    @Override
+    public boolean getBool(int entityID, ColumnHandle column) {
+        return readBool(typedColumn(column, PrimitiveArrayType.BOOL), entityRows.row(entityID));
+    }
+
+    @Override
+    public void setInt(int entityID, ColumnHandle column, int value) {
+        int columnIndex = typedColumn(column, PrimitiveArrayType.INT);
+        int index = entityRows.row(entityID);
+        writeInt(columnIndex, index, value);
+        intVersions.stamp(columnIndex, index);
+    }
+
+    @Override
+    public void setFloat(int entityID, ColumnHandle column, float value) {
+        int columnIndex = typedColumn(column, PrimitiveArrayType.FLOAT);
+        int index = entityRows.row(entityID);
+        writeFloat(columnIndex, index, value);
+        floatVersions.stamp(columnIndex, index);
+    }
+
+    @Override
+    public void setBool(int entityID, ColumnHandle column, boolean value) {
+        int columnIndex = typedColumn(column, PrimitiveArrayType.BOOL);
+        int index = entityRows.row(entityID);
+        writeBool(columnIndex, index, value);
+        booleanVersions.stamp(columnIndex, index);
+    }
+
+    @Override
+    public int getChangeVersion(ColumnHandle column, int row) {
+        int columnIndex = typedColumn(column, column.type);
+        return switch (column.type) {
+            case INT -> intVersions.get(columnIndex, row);
+            case FLOAT -> floatVersions.get(columnIndex, row);
+            case BOOL -> booleanVersions.get(columnIndex, row);
+        };
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="raw row access">
+    @Override
+    int getRow(int entityID) {
+        return entityRows.row(entityID);
+    }
+
+    @Override
+    int allocateRow(int entityID) {
+        // grow pool
+        if (indexCounter >= currentSize) {
+            resize(grownSize(indexCounter + 1));
+        }
+        int index = indexCounter++;
+
+        entityRows.put(entityID, index);
+        stampRow(index);
+        return index;
+    }
+
+    @Override
+    int[] getColumns(Class<? extends CleanComponent> component) {
+        return componentDataLocations.get(component).columns;
+    }
+
+    @Override
+    int readInt(int column, int row) {
+        return blocks[row >>> blockShift].ints[offset(column, row)];
+    }
+
+    @Override
+    float readFloat(int column, int row) {
+        return blocks[row >>> blockShift].floats[offset(column, row)];
+    }
+
+    @Override
+    boolean readBool(int column, int row) {
+        return blocks[row >>> blockShift].bools[offset(column, row)];
+    }
+
+    @Override
+    void writeInt(int column, int row, int value) {
+        blocks[row >>> blockShift].ints[offset(column, row)] = value;
+    }
+
+    @Override
+    void writeFloat(int column, int row, float value) {
+        blocks[row >>> blockShift].floats[offset(column, row)] = value;
+    }
+
+    @Override
+    void writeBool(int column, int row, boolean value) {
+        blocks[row >>> blockShift].bools[offset(column, row)] = value;
+    }
+    //</editor-fold>
+
+    @NonNull
+    @Override
+    public PrimitiveArray getArray(Class<? extends CleanComponent> component, String... fieldAccessChain) {
+        int ordinal = componentRegistry.getFieldOrdinal(componentRegistry.getComponentName(component), fieldAccessChain);
+        ComDataLocation location = componentDataLocations.get(component);
+
+        if (location == null || ordinal < 0 || ordinal >= location.columns.length) {
+            throw new IllegalArgumentException("Unable to find such array.");
+        }
+
+        return newArray(ColumnHandle.toArrayType(location.order.get(ordinal)), location.columns[ordinal]);
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveArray getArray(ColumnHandle column) {
+        return newArray(column.type, typedColumn(column, column.type));
+    }
+
+    private PrimitiveArray newArray(PrimitiveArrayType type, int column) {
+        int[] versions = switch (type) {
+            case INT -> intVersions.column(column);
+            case FLOAT -> floatVersions.column(column);
+            case BOOL -> booleanVersions.column(column);
+        };
+        return new ChunkedPrimitiveArray(type, blocks, blockShift, column, versions);
+    }
+
+    @NonNull
+    @Override
+    public ArrayRange getArrayRange() {
+        return new ArrayRange(0, indexCounter);
+    }
+
+    @Override
+    public int getRowStart() {
+        return 0;
+    }
+
+    @Override
+    public int getRowEnd() {
+        return indexCounter;
+    }
+
+    @Override
+    public int getEntityID(int row) {
+        return entityRows.entity(row);
+    }
+
+    @Override
+    public String getSnapshot() {
+        int snapshotLength = Math.min(indexCounter, 10);
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("\n=====ChunkedPool Snapshot=====\n");
+        builder.append("Rows per block: ").append(getRowsPerBlock()).append("; Blocks: ").append(blocks.length).append("\n");
+        int i = 0;
+        for (Class<? extends CleanComponent> clazz : components) {
+            ComDataLocation location = componentDataLocations.get(clazz);
+            builder.append("[").append(i++).append("] ")
+                    .append("Component name: ").append(componentRegistry.getComponentName(clazz))
+                    .append("; Component class: ").append(clazz.getName()).append("\n");
+
+            int j = 0;
+            for (FlattenedScalarType flattenedScalarType : location.order) {
+                int column = location.columns[j];
+                builder.append("  [").append(j++).append(" ").append(flattenedScalarType).append("] ");
+                for (int k = 0; k < snapshotLength; k++) {
+                    builder.append(getScalar(flattenedScalarType, column, k));
+                    if (k != snapshotLength - 1) {
+                        builder.append(", ");
+                    }
+                }
+                builder.append("\n");
+            }
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package com.cleanroommc.kirino.ecs.storage;
+
+import com.google.common.base.Preconditions;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A {@link PrimitiveArray} view of a column owned by {@link ChunkedPool}. Indexes are rows like in any other pool;
+ * Every access resolves the block of the row first.
+ *
+ * <p>Like {@link HeapPrimitiveArray}, a view is only valid until the owner pool grows or shrinks,
+ * which only happens during {@link com.cleanroommc.kirino.ecs.entity.EntityManager#flush()}.</p>
+ */
+public final class ChunkedPrimitiveArray implements PrimitiveArray {
+    private final PrimitiveArrayType type;
+    private final ChunkedPool.Block[] blocks;
+    private final int blockShift;
+    private final int blockMask;
+    /**
+     * The offset of this column inside the typed array of every block.
+     */
+    private final int columnOffset;
+    private final int length;
+
+    /**
+     * Chunk versions of this column (see {@link ChangeVersions}).
+     */
+    private final int[] versions;
+
+    ChunkedPrimitiveArray(PrimitiveArrayType type, ChunkedPool.Block[] blocks, int blockShift, int column, int[] versions) {
+        this.type = type;
+        this.blocks = blocks;
+        this.blockShift = blockShift;
+        this.versions = versions;
+        blockMask = (1 << blockShift) - 1;
+        columnOffset = column << blockShift;
+        length = blocks.length << blockShift;
+    }
+
+    @Override
+    public int getInt(int index) {
+        Preconditions.checkState(type == PrimitiveArrayType.INT,
+                "This is not a integer-typed array.");
+
+        return blocks[index >>> blockShift].ints[columnOffset + (index & blockMask)];
+    }
+
+    @Override
+    public float getFloat(int index) {
+        Preconditions.checkState(type == PrimitiveArrayType.FLOAT,
+                "This is not a float-typed array.");
+
+        return blocks[index >>> blockShift].floats[columnOffset + (index & blockMask)];
+    }
+
+    @Override
+    public boolean getBool(int index) {
+        Preconditions.checkState(type == PrimitiveArrayType.BOOL,
+                "This is not a boolean-typed array.");
+
+        return blocks[index >>> blockShift].bools[columnOffset + (index & blockMask)];
+    }
+
+    @Override
+    public void setInt(int index, int value) {
+        Preconditions.checkState(type == PrimitiveArrayType.INT,
+                "This is not a integer-typed array.");
+
+        blocks[index >>> blockShift].ints[columnOffset + (index & blockMask)] = value;
+        versions[index >>> ChangeVersions.CHUNK_SHIFT] = ChangeVersions.current();
+    }
+
+    @Override
+    public void setFloat(int index, float value) {
+        Preconditions.checkState(type == PrimitiveArrayType.FLOAT,
+                "This is not a float-typed array.");
+
+        blocks[index >>> blockShift].floats[columnOffset + (index & blockMask)] = value;
+        versions[index >>> ChangeVersions.CHUNK_SHIFT] = ChangeVersions.current();
+    }
+
+    @Override
+    public void setBool(int index, boolean value) {
+        Preconditions.checkState(type == PrimitiveArrayType.BOOL,
+                "This is not a boolean-typed array.");
+
+        blocks[index >>> blockShift].bools[columnOffset + (index & blockMask)] = value;
+        versions[index >>> ChangeVersions.CHUNK_SHIFT] = ChangeVersions.current();
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveArrayType type() {
+        return type;
+    }
+}
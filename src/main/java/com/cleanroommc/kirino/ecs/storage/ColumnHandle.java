@@ -0,0 +1,94 @@
+package com.cleanroommc.kirino.ecs.storage;
+
+import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.ComponentDescFlattened;
+import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarType;
+import com.google.common.base.Preconditions;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Objects;
+
+/**
+ * A precomputed handle of a single flattened scalar column of a component.
+ * It's archetype-independent, so the same handle addresses the column in every {@link ArchetypeDataPool}
+ * that contains {@link #component}.
+ * <br><br>
+ * Resolve it once (i.e. {@link #resolve(ComponentRegistry, Class, String...)}) and reuse it.
+ * Typed accessors like {@link ArchetypeDataPool#getInt(int, ColumnHandle)} never box or allocate.
+ */
+public final class ColumnHandle {
+    public final Class<? extends CleanComponent> component;
+    /**
+     * The runtime component ID of {@link #component}, so pools find the column without hashing the class.
+     *
+     * @see ArchetypeKey#getComponentID(Class)
+     */
+    public final int componentID;
+    public final int ordinal;
+    public final PrimitiveArrayType type;
+
+    private ColumnHandle(Class<? extends CleanComponent> component, int ordinal, PrimitiveArrayType type) {
+        this.component = component;
+        componentID = ArchetypeKey.getComponentID(component);
+        this.ordinal = ordinal;
+        this.type = type;
+    }
+
+    /**
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li><code>component</code> is valid and registered in the component registry</li>
+     *     <li><code>fieldAccessChain</code> points to a valid field</li>
+     * </ul>
+     *
+     * @param componentRegistry The component registry
+     * @param component The component class
+     * @param fieldAccessChain A list of field names to identify a field
+     * @return The column handle
+     */
+    @NonNull
+    @SuppressWarnings("DataFlowIssue")
+    public static ColumnHandle resolve(@NonNull ComponentRegistry componentRegistry, @NonNull Class<? extends CleanComponent> component, @NonNull String @NonNull ... fieldAccessChain) {
+        Preconditions.checkNotNull(componentRegistry);
+        Preconditions.checkNotNull(component);
+        Preconditions.checkArgument(componentRegistry.componentExists(component),
+                "Component class %s isn't registered.", component.getName());
+
+        String name = componentRegistry.getComponentName(component);
+        int ordinal = componentRegistry.getFieldOrdinal(name, fieldAccessChain);
+        ComponentDescFlattened descFlattened = componentRegistry.getComponentDescFlattened(name);
+
+        return new ColumnHandle(component, ordinal, toArrayType(descFlattened.scalarTypes.get(ordinal)));
+    }
+
+    static PrimitiveArrayType toArrayType(FlattenedScalarType flattenedScalarType) {
+        return switch (flattenedScalarType) {
+            case INT -> PrimitiveArrayType.INT;
+            case FLOAT -> PrimitiveArrayType.FLOAT;
+            case BOOL -> PrimitiveArrayType.BOOL;
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ColumnHandle that)) {
+            return false;
+        }
+
+        return ordinal == that.ordinal && component == that.component;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(component, ordinal);
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnHandle{ component=" + component.getName() + ", ordinal=" + ordinal + ", type=" + type + " }";
+    }
+}
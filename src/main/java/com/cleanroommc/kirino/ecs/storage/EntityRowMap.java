@@ -0,0 +1,56 @@
+package com.cleanroommc.kirino.ecs.storage;
+
+import java.util.Arrays;
+
+/**
+ * Primitive two-way mapping between entity ids and rows of a pool. Both directions are plain array reads.
+ * <br><br>
+ * Entity ids are dense indexes handed out by the entity manager, so the entity-to-row side is a flat array indexed by id.
+ * It stores <code>row + 1</code>, so zero-filled growth means "absent".
+ */
+final class EntityRowMap {
+    private int[] entityToRow = new int[0];
+    private int[] rowToEntity;
+
+    EntityRowMap(int rows) {
+        rowToEntity = new int[rows];
+    }
+
+    boolean contains(int entityID) {
+        return entityID >= 0 && entityID < entityToRow.length && entityToRow[entityID] != 0;
+    }
+
+    /**
+     * @param entityID The id of the entity
+     * @return The row, or <code>-1</code> if the entity isn't mapped
+     */
+    int row(int entityID) {
+        return entityID < entityToRow.length ? entityToRow[entityID] - 1 : -1;
+    }
+
+    int entity(int row) {
+        return rowToEntity[row];
+    }
+
+    void put(int entityID, int row) {
+        if (entityID >= entityToRow.length) {
+            entityToRow = Arrays.copyOf(entityToRow, Math.max(entityID + 1, entityToRow.length * 2));
+        }
+        entityToRow[entityID] = row + 1;
+        rowToEntity[row] = entityID;
+    }
+
+    /**
+     * @param entityID The id of the entity
+     * @return The row the entity occupied
+     */
+    int remove(int entityID) {
+        int row = entityToRow[entityID] - 1;
+        entityToRow[entityID] = 0;
+        return row;
+    }
+
+    void resizeRows(int rows) {
+        rowToEntity = Arrays.copyOf(rowToEntity, rows);
+    }
+}
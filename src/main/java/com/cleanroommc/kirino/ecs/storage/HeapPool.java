@@ -5,8 +5,6 @@ import com.cleanroommc.kirino.ecs.component.ComponentDescFlattened;
 import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.FlattenedField;
 import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarType;
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 import com.google.common.collect.ImmutableList;
 import org.jspecify.annotations.NonNull;
 
@@ -20,6 +18,11 @@ public final class HeapPool extends ArchetypeDataPool{
     private final List<float[]> floatPool = new ArrayList<>();
     private final List<boolean[]> booleanPool = new ArrayList<>();
 
+    // change versions, indexed the same way as the typed pools
+    private final ChangeVersions.Table intVersions;
+    private final ChangeVersions.Table floatVersions;
+    private final ChangeVersions.Table booleanVersions;
+
     public static class ComDataLocation {
         public final int intArrFrom;
         public final int intArrTo;
@@ -29,7 +32,13 @@ public final class HeapPool extends ArchetypeDataPool{
         public final int booleanArrTo;
         public final ImmutableList<FlattenedScalarType> order;
 
-        private ComDataLocation(ImmutableList<FlattenedScalarType> order, int intArrFrom, int intArrTo, int floatArrFrom, int floatArrTo, int booleanArrFrom, int booleanArrTo) {
+        /**
+         * Field ordinal to the absolute index inside <code>intPool</code>, <code>floatPool</code> or <code>booleanPool</code>
+         * depending on the scalar type of the ordinal.
+         */
+        private final int[] columns;
+
+        private ComDataLocation(ImmutableList<FlattenedScalarType> order, int[] columns, int intArrFrom, int intArrTo, int floatArrFrom, int floatArrTo, int booleanArrFrom, int booleanArrTo) {
             this.intArrFrom = intArrFrom;
             this.intArrTo = intArrTo;
             this.floatArrFrom = floatArrFrom;
@@ -37,16 +46,17 @@ public final class HeapPool extends ArchetypeDataPool{
             this.booleanArrFrom = booleanArrFrom;
             this.booleanArrTo = booleanArrTo;
             this.order = order;
+            this.columns = columns;
         }
     }
 
     private final Map<Class<? extends CleanComponent>, ComDataLocation> componentDataLocations = new HashMap<>();
 
-    // key: entity id
-    // value: array index
-    private final BiMap<Integer, Integer> entityDataIndexes = HashBiMap.create();
+    private final EntityRowMap entityRows;
 
-    private final List<Integer> freeIndexes = new ArrayList<>();
+    /**
+     * Rows <code>[0, indexCounter)</code> are always occupied.
+     */
     private int indexCounter = 0;
 
     /**
@@ -61,6 +71,7 @@ public final class HeapPool extends ArchetypeDataPool{
     @SuppressWarnings("DataFlowIssue")
     public HeapPool(ComponentRegistry componentRegistry, List<Class<? extends CleanComponent>> components, int initSize, int growStep, int shrinkStep) {
         super(componentRegistry, components, initSize, growStep, shrinkStep);
+        entityRows = new EntityRowMap(initSize);
 
         int intArrCount = 0;
         int floatArrCount = 0;
@@ -72,18 +83,19 @@ public final class HeapPool extends ArchetypeDataPool{
             int floatArrFrom = floatArrCount;
             int booleanArrFrom = booleanArrCount;
             List<FlattenedScalarType> order = new ArrayList<>();
+            int[] columns = new int[descFlattened.getUnitCount()];
 
             for (FlattenedField flattenedField : descFlattened.fields) {
                 for (FlattenedScalarType flattenedScalarType : flattenedField.scalarTypes) {
                     if (flattenedScalarType == FlattenedScalarType.INT) {
                         intPool.add(new int[initSize]);
-                        intArrCount++;
+                        columns[order.size()] = intArrCount++;
                     } else if (flattenedScalarType == FlattenedScalarType.FLOAT) {
                         floatPool.add(new float[initSize]);
-                        floatArrCount++;
+                        columns[order.size()] = floatArrCount++;
                     } else if (flattenedScalarType == FlattenedScalarType.BOOL) {
                         booleanPool.add(new boolean[initSize]);
-                        booleanArrCount++;
+                        columns[order.size()] = booleanArrCount++;
                     }
                     order.add(flattenedScalarType);
                 }
@@ -93,144 +105,230 @@ public final class HeapPool extends ArchetypeDataPool{
             int floatArrTo = floatArrCount;
             int booleanArrTo = booleanArrCount;
 
-            componentDataLocations.put(clazz, new ComDataLocation(ImmutableList.copyOf(order), intArrFrom, intArrTo, floatArrFrom, floatArrTo, booleanArrFrom, booleanArrTo));
+            componentDataLocations.put(clazz, new ComDataLocation(ImmutableList.copyOf(order), columns, intArrFrom, intArrTo, floatArrFrom, floatArrTo, booleanArrFrom, booleanArrTo));
         }
+        indexColumns();
+
+        intVersions = new ChangeVersions.Table(intArrCount, initSize);
+        floatVersions = new ChangeVersions.Table(floatArrCount, initSize);
+        booleanVersions = new ChangeVersions.Table(booleanArrCount, initSize);
     }
 
     @Override
     public boolean containsEntity(int entityID) {
-        return entityDataIndexes.containsKey(entityID);
+        return entityRows.contains(entityID);
     }
 
     @NonNull
     @Override
-    @SuppressWarnings("DataFlowIssue")
     public CleanComponent getComponent(int entityID, Class<? extends CleanComponent> component) {
-        ComDataLocation location = componentDataLocations.get(component);
-        int index = entityDataIndexes.get(entityID);
-
-        String comName = componentRegistry.getComponentName(component);
-        int unitCount = componentRegistry.getComponentDescFlattened(comName).getUnitCount();
-
-        int argIndex = 0;
-        Object[] args = new Object[unitCount];
-
-        int intArrIndex = location.intArrFrom;
-        int floatArrIndex = location.floatArrFrom;
-        int booleanArrIndex = location.booleanArrFrom;
-        for (FlattenedScalarType flattenedScalarType : location.order) {
-            if (flattenedScalarType == FlattenedScalarType.INT) {
-                args[argIndex] = intPool.get(intArrIndex)[index];
-                intArrIndex++;
-            } else if (flattenedScalarType == FlattenedScalarType.FLOAT) {
-                args[argIndex] = floatPool.get(floatArrIndex)[index];
-                floatArrIndex++;
-            } else if (flattenedScalarType == FlattenedScalarType.BOOL) {
-                args[argIndex] = booleanPool.get(booleanArrIndex)[index];
-                booleanArrIndex++;
-            }
-            argIndex++;
-        }
-
-        return componentRegistry.newComponent(comName, args);
+        return new ColumnReader().read(component, entityRows.row(entityID));
     }
 
     @Override
     public void setComponent(int entityID, CleanComponent component) {
-        Object[] args = componentRegistry.flattenComponent(component);
-
         ComDataLocation location = componentDataLocations.get(component.getClass());
-        int index = entityDataIndexes.get(entityID);
+        int index = entityRows.row(entityID);
 
-        int argIndex = 0;
-        int intArrIndex = location.intArrFrom;
-        int floatArrIndex = location.floatArrFrom;
-        int booleanArrIndex = location.booleanArrFrom;
-        for (FlattenedScalarType flattenedScalarType : location.order) {
-            if (flattenedScalarType == FlattenedScalarType.INT) {
-                intPool.get(intArrIndex)[index] = (Integer) args[argIndex];
-                intArrIndex++;
-            } else if (flattenedScalarType == FlattenedScalarType.FLOAT) {
-                floatPool.get(floatArrIndex)[index] = (Float) args[argIndex];
-                floatArrIndex++;
-            } else if (flattenedScalarType == FlattenedScalarType.BOOL) {
-                booleanPool.get(booleanArrIndex)[index] = (Boolean) args[argIndex];
-                booleanArrIndex++;
+        new ColumnWriter().write(component, index);
+
+        for (int i = 0; i < location.columns.length; i++) {
+            switch (location.order.get(i)) {
+                case INT -> intVersions.stamp(location.columns[i], index);
+                case FLOAT -> floatVersions.stamp(location.columns[i], index);
+                case BOOL -> booleanVersions.stamp(location.columns[i], index);
             }
-            argIndex++;
         }
     }
 
     @Override
     public void addEntity(int entityID, List<CleanComponent> components) {
-        int index;
-        if (freeIndexes.isEmpty()) {
-            // grow pool
-            if (indexCounter >= currentSize) {
-                currentSize += growStep;
-                intPool.replaceAll(original -> Arrays.copyOf(original, currentSize));
-                floatPool.replaceAll(original -> Arrays.copyOf(original, currentSize));
-                booleanPool.replaceAll(original -> Arrays.copyOf(original, currentSize));
-            }
-            index = indexCounter++;
-        } else {
-            index = freeIndexes.removeLast();
-        }
-
-        entityDataIndexes.put(entityID, index);
+        int index = allocateRow(entityID);
 
+        ColumnWriter writer = new ColumnWriter();
         for (Class<? extends CleanComponent> clazz : this.components) {
             CleanComponent component = Objects.requireNonNull(components.stream().filter(c -> c.getClass().equals(clazz)).findFirst().orElse(null));
+            writer.write(component, index);
+        }
+    }
 
-            Object[] args = componentRegistry.flattenComponent(component);
-            ComDataLocation location = componentDataLocations.get(clazz);
+    /**
+     * The last row is moved into the removed row (swap-remove), so rows stay dense and
+     * {@link #getArrayRange()} never contains holes. The row of the moved entity changes accordingly.
+     */
+    @Override
+    public void removeEntity(int entityID) {
+        swapRemove(entityID);
+        shrink();
+    }
 
-            int argIndex = 0;
-            int intArrIndex = location.intArrFrom;
-            int floatArrIndex = location.floatArrFrom;
-            int booleanArrIndex = location.booleanArrFrom;
-            for (FlattenedScalarType flattenedScalarType : location.order) {
-                if (flattenedScalarType == FlattenedScalarType.INT) {
-                    intPool.get(intArrIndex)[index] = (Integer) args[argIndex];
-                    intArrIndex++;
-                } else if (flattenedScalarType == FlattenedScalarType.FLOAT) {
-                    floatPool.get(floatArrIndex)[index] = (Float) args[argIndex];
-                    floatArrIndex++;
-                } else if (flattenedScalarType == FlattenedScalarType.BOOL) {
-                    booleanPool.get(booleanArrIndex)[index] = (Boolean) args[argIndex];
-                    booleanArrIndex++;
-                }
-                argIndex++;
-            }
+    @Override
+    public void removeEntities(int[] entityIDs, int from, int to) {
+        for (int i = from; i < to; i++) {
+            swapRemove(entityIDs[i]);
         }
+        shrink();
     }
 
     @Override
-    public void removeEntity(int entityID) {
-        int index = entityDataIndexes.remove(entityID);
-        if (index == indexCounter - 1) {
-            indexCounter--;
-            List<Integer> freeIndexesToRemove = new ArrayList<>();
-            while (freeIndexes.contains(indexCounter - 1)) {
-                freeIndexesToRemove.add(--indexCounter);
+    public void reserve(int capacity) {
+        if (capacity > currentSize) {
+            resize(grownSize(capacity));
+        }
+    }
+
+    private void resize(int newSize) {
+        storageVersion++;
+        currentSize = newSize;
+        entityRows.resizeRows(currentSize);
+        intPool.replaceAll(original -> Arrays.copyOf(original, currentSize));
+        floatPool.replaceAll(original -> Arrays.copyOf(original, currentSize));
+        booleanPool.replaceAll(original -> Arrays.copyOf(original, currentSize));
+        intVersions.resize(currentSize);
+        floatVersions.resize(currentSize);
+        booleanVersions.resize(currentSize);
+    }
+
+    private void stampRow(int index) {
+        intVersions.stampRow(index);
+        floatVersions.stampRow(index);
+        booleanVersions.stampRow(index);
+    }
+
+    private void swapRemove(int entityID) {
+        // check before unmapping, so a missing entity leaves the pool untouched
+        Objects.checkIndex(entityRows.row(entityID), indexCounter);
+        int index = entityRows.remove(entityID);
+        int lastIndex = --indexCounter;
+        if (index != lastIndex) {
+            for (int[] array : intPool) {
+                array[index] = array[lastIndex];
             }
-            for (Integer freeIndex : freeIndexesToRemove) {
-                freeIndexes.remove(freeIndex);
+            for (float[] array : floatPool) {
+                array[index] = array[lastIndex];
             }
-            // shrink pool
-            if (indexCounter + shrinkStep <= currentSize) {
-                if (currentSize - shrinkStep >= initSize) {
-                    currentSize -= shrinkStep;
-                    intPool.replaceAll(original -> Arrays.copyOf(original, currentSize));
-                    floatPool.replaceAll(original -> Arrays.copyOf(original, currentSize));
-                    booleanPool.replaceAll(original -> Arrays.copyOf(original, currentSize));
-                }
+            for (boolean[] array : booleanPool) {
+                array[index] = array[lastIndex];
             }
-        } else {
-            freeIndexes.add(index);
+            int movedEntityID = entityRows.entity(lastIndex);
+            entityRows.put(movedEntityID, index);
+            stampRow(index);
+        }
+    }
+
+    private void shrink() {
+        int newSize = shrunkSize(indexCounter);
+        if (newSize != currentSize) {
+            resize(newSize);
+        }
+    }
+
+    //<editor-fold desc="typed column access">
+    @Override
+    public int getInt(int entityID, ColumnHandle column) {
+        return intPool.get(typedColumn(column, PrimitiveArrayType.INT))[entityRows.row(entityID)];
+    }
+
+    @Override
+    public float getFloat(int entityID, ColumnHandle column) {
+        return floatPool.get(typedColumn(column, PrimitiveArrayType.FLOAT))[entityRows.row(entityID)];
+    }
+
+    @Override
+    public boolean getBool(int entityID, ColumnHandle column) {
+        return booleanPool.get(typedColumn(column, PrimitiveArrayType.BOOL))[entityRows.row(entityID)];
+    }
+
+    @Override
+    public void setInt(int entityID, ColumnHandle column, int value) {
+        int columnIndex = typedColumn(column, PrimitiveArrayType.INT);
+        int index = entityRows.row(entityID);
+        intPool.get(columnIndex)[index] = value;
+        intVersions.stamp(columnIndex, index);
+    }
+
+    @Override
+    public void setFloat(int entityID, ColumnHandle column, float value) {
+        int columnIndex = typedColumn(column, PrimitiveArrayType.FLOAT);
+        int index = entityRows.row(entityID);
+        floatPool.get(columnIndex)[index] = value;
+        floatVersions.stamp(columnIndex, index);
+    }
+
+    @Override
+    public void setBool(int entityID, ColumnHandle column, boolean value) {
+        int columnIndex = typedColumn(column, PrimitiveArrayType.BOOL);
+        int index = entityRows.row(entityID);
+        booleanPool.get(columnIndex)[index] = value;
+        booleanVersions.stamp(columnIndex, index);
+    }
+
+    @Override
+    public int getChangeVersion(ColumnHandle column, int row) {
+        int columnIndex = typedColumn(column, column.type);
+        return switch (column.type) {
+            case INT -> intVersions.get(columnIndex, row);
+            case FLOAT -> floatVersions.get(columnIndex, row);
+            case BOOL -> booleanVersions.get(columnIndex, row);
+        };
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="raw row access">
+    @Override
+    int getRow(int entityID) {
+        return entityRows.row(entityID);
+    }
+
+    @Override
+    int allocateRow(int entityID) {
+        // grow pool
+        if (indexCounter >= currentSize) {
+            resize(grownSize(indexCounter + 1));
         }
+        int index = indexCounter++;
+
+        entityRows.put(entityID, index);
+        stampRow(index);
+        return index;
     }
 
+    @Override
+    int[] getColumns(Class<? extends CleanComponent> component) {
+        return componentDataLocations.get(component).columns;
+    }
+
+    @Override
+    int readInt(int column, int row) {
+        return intPool.get(column)[row];
+    }
+
+    @Override
+    float readFloat(int column, int row) {
+        return floatPool.get(column)[row];
+    }
+
+    @Override
+    boolean readBool(int column, int row) {
+        return booleanPool.get(column)[row];
+    }
+
+    @Override
+    void writeInt(int column, int row, int value) {
+        intPool.get(column)[row] = value;
+    }
+
+    @Override
+    void writeFloat(int column, int row, float value) {
+        floatPool.get(column)[row] = value;
+    }
+
+    @Override
+    void writeBool(int column, int row, boolean value) {
+        booleanPool.get(column)[row] = value;
+    }
+    //</editor-fold>
+
     @NonNull
     @Override
     public PrimitiveArray getArray(Class<? extends CleanComponent> component, String... fieldAccessChain) {
@@ -244,17 +342,17 @@ public final class HeapPool extends ArchetypeDataPool{
         for (FlattenedScalarType flattenedScalarType : location.order) {
             if (flattenedScalarType == FlattenedScalarType.INT) {
                 if (index == ordinal) {
-                    return new HeapPrimitiveArray(intPool.get(intArrIndex));
+                    return new HeapPrimitiveArray(intPool.get(intArrIndex), intVersions.column(intArrIndex));
                 }
                 intArrIndex++;
             } else if (flattenedScalarType == FlattenedScalarType.FLOAT) {
                 if (index == ordinal) {
-                    return new HeapPrimitiveArray(floatPool.get(floatArrIndex));
+                    return new HeapPrimitiveArray(floatPool.get(floatArrIndex), floatVersions.column(floatArrIndex));
                 }
                 floatArrIndex++;
             } else if (flattenedScalarType == FlattenedScalarType.BOOL) {
                 if (index == ordinal) {
-                    return new HeapPrimitiveArray(booleanPool.get(booleanArrIndex));
+                    return new HeapPrimitiveArray(booleanPool.get(booleanArrIndex), booleanVersions.column(booleanArrIndex));
                 }
                 booleanArrIndex++;
             }
@@ -266,19 +364,39 @@ public final class HeapPool extends ArchetypeDataPool{
 
     @NonNull
     @Override
-    public ArrayRange getArrayRange() {
-        return new ArrayRange(0, indexCounter, new HashSet<>(freeIndexes));
+    public PrimitiveArray getArray(ColumnHandle column) {
+        int columnIndex = typedColumn(column, column.type);
+        return switch (column.type) {
+            case INT -> new HeapPrimitiveArray(intPool.get(columnIndex), intVersions.column(columnIndex));
+            case FLOAT -> new HeapPrimitiveArray(floatPool.get(columnIndex), floatVersions.column(columnIndex));
+            case BOOL -> new HeapPrimitiveArray(booleanPool.get(columnIndex), booleanVersions.column(columnIndex));
+        };
     }
 
     @NonNull
     @Override
-    public Optional<Integer> getEntityID(int index) {
-        return Optional.ofNullable(entityDataIndexes.inverse().get(index));
+    public ArrayRange getArrayRange() {
+        return new ArrayRange(0, indexCounter);
+    }
+
+    @Override
+    public int getRowStart() {
+        return 0;
+    }
+
+    @Override
+    public int getRowEnd() {
+        return indexCounter;
+    }
+
+    @Override
+    public int getEntityID(int row) {
+        return entityRows.entity(row);
     }
 
     @Override
     public String getSnapshot() {
-        int snapshotLength = Math.min(currentSize, 10);
+        int snapshotLength = Math.min(indexCounter, 10);
 
         StringBuilder builder = new StringBuilder();
         builder.append("\n=====HeapPool Snapshot=====\n");
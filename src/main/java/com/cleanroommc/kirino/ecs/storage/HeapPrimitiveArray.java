@@ -10,7 +10,13 @@ public final class HeapPrimitiveArray implements PrimitiveArray {
     private final float[] floatArray;
     private final boolean[] booleanArray;
 
-    HeapPrimitiveArray(int[] array) {
+    /**
+     * Chunk versions of this column (see {@link ChangeVersions}).
+     */
+    private final int[] versions;
+
+    HeapPrimitiveArray(int[] array, int[] versions) {
+        this.versions = versions;
         type = PrimitiveArrayType.INT;
         length = array.length;
         intArray = array;
@@ -18,7 +24,8 @@ public final class HeapPrimitiveArray implements PrimitiveArray {
         booleanArray = null;
     }
 
-    HeapPrimitiveArray(float[] array) {
+    HeapPrimitiveArray(float[] array, int[] versions) {
+        this.versions = versions;
         type = PrimitiveArrayType.FLOAT;
         length = array.length;
         intArray = null;
@@ -26,7 +33,8 @@ public final class HeapPrimitiveArray implements PrimitiveArray {
         booleanArray = null;
     }
 
-    HeapPrimitiveArray(boolean[] array) {
+    HeapPrimitiveArray(boolean[] array, int[] versions) {
+        this.versions = versions;
         type = PrimitiveArrayType.BOOL;
         length = array.length;
         intArray = null;
@@ -68,6 +76,7 @@ public final class HeapPrimitiveArray implements PrimitiveArray {
                 "This is not a integer-typed array.");
 
         intArray[index] = value;
+        versions[index >>> ChangeVersions.CHUNK_SHIFT] = ChangeVersions.current();
     }
 
     @SuppressWarnings("DataFlowIssue")
@@ -77,6 +86,7 @@ public final class HeapPrimitiveArray implements PrimitiveArray {
                 "This is not a float-typed array.");
 
         floatArray[index] = value;
+        versions[index >>> ChangeVersions.CHUNK_SHIFT] = ChangeVersions.current();
     }
 
     @SuppressWarnings("DataFlowIssue")
@@ -86,6 +96,7 @@ public final class HeapPrimitiveArray implements PrimitiveArray {
                 "This is not a boolean-typed array.");
 
         booleanArray[index] = value;
+        versions[index >>> ChangeVersions.CHUNK_SHIFT] = ChangeVersions.current();
     }
 
     @Override
@@ -0,0 +1,481 @@
+package com.cleanroommc.kirino.ecs.storage;
+
+import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.ComponentDescFlattened;
+import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FlattenedField;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarType;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.jspecify.annotations.NonNull;
+import org.lwjgl.system.MemoryUtil;
+
+import java.lang.ref.Cleaner;
+import java.util.*;
+
+/**
+ * It guarantees SoA memory layout. Every column is a standalone native allocation (see {@link MemoryUtil}),
+ * so the data stays out of the Java heap and a column can be uploaded with a single memcpy
+ * (see {@link NativePrimitiveArray#copyTo(int, int, long)}).
+ * <br><br>
+ * Native memory is released by {@link #close()}, or by a {@link Cleaner} once the pool becomes unreachable.
+ */
+public final class NativePool extends ArchetypeDataPool implements AutoCloseable {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static final class ColumnMemory implements Runnable {
+        private final long[] addresses;
+
+        private ColumnMemory(int columnCount) {
+            addresses = new long[columnCount];
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < addresses.length; i++) {
+                if (addresses[i] != MemoryUtil.NULL) {
+                    MemoryUtil.nmemFree(addresses[i]);
+                    addresses[i] = MemoryUtil.NULL;
+                }
+            }
+        }
+    }
+
+    private static final class ComDataLocation {
+        private final ImmutableList<FlattenedScalarType> order;
+
+        /**
+         * Field ordinal to the absolute column index.
+         */
+        private final int[] columns;
+
+        private ComDataLocation(ImmutableList<FlattenedScalarType> order, int[] columns) {
+            this.order = order;
+            this.columns = columns;
+        }
+    }
+
+    private final PrimitiveArrayType[] columnTypes;
+    private final long[] columnAddresses;
+    private final ColumnMemory memory;
+    private final Cleaner.Cleanable cleanable;
+    private final ChangeVersions.Table versions;
+    private boolean closed = false;
+
+    private final Map<Class<? extends CleanComponent>, ComDataLocation> componentDataLocations = new HashMap<>();
+
+    private final EntityRowMap entityRows;
+
+    /**
+     * Rows <code>[0, indexCounter)</code> are always occupied.
+     */
+    private int indexCounter = 0;
+
+    /**
+     * <p>Prerequisite include:</p>
+     * <ul>
+     *     <li>All component types are valid and registered in the component registry</li>
+     * </ul>
+     *
+     * @param componentRegistry The component registry
+     * @param components The component types for this archetype
+     */
+    @SuppressWarnings("DataFlowIssue")
+    public NativePool(ComponentRegistry componentRegistry, List<Class<? extends CleanComponent>> components, int initSize, int growStep, int shrinkStep) {
+        super(componentRegistry, components, initSize, growStep, shrinkStep);
+        entityRows = new EntityRowMap(initSize);
+
+        List<PrimitiveArrayType> types = new ArrayList<>();
+        for (Class<? extends CleanComponent> clazz : components) {
+            ComponentDescFlattened descFlattened = componentRegistry.getComponentDescFlattened(componentRegistry.getComponentName(clazz));
+
+            List<FlattenedScalarType> order = new ArrayList<>();
+            int[] columns = new int[descFlattened.getUnitCount()];
+
+            for (FlattenedField flattenedField : descFlattened.fields) {
+                for (FlattenedScalarType flattenedScalarType : flattenedField.scalarTypes) {
+                    columns[order.size()] = types.size();
+                    types.add(ColumnHandle.toArrayType(flattenedScalarType));
+                    order.add(flattenedScalarType);
+                }
+            }
+
+            componentDataLocations.put(clazz, new ComDataLocation(ImmutableList.copyOf(order), columns));
+        }
+        indexColumns();
+
+        columnTypes = types.toArray(new PrimitiveArrayType[0]);
+        versions = new ChangeVersions.Table(columnTypes.length, initSize);
+        memory = new ColumnMemory(columnTypes.length);
+        columnAddresses = memory.addresses;
+        cleanable = CLEANER.register(this, memory);
+
+        for (int i = 0; i < columnTypes.length; i++) {
+            long address = MemoryUtil.nmemCalloc(Math.max(initSize, 1), NativePrimitiveArray.elementSize(columnTypes[i]));
+            if (address == MemoryUtil.NULL) {
+                cleanable.clean();
+                throw new OutOfMemoryError("Failed to allocate a native column.");
+            }
+            columnAddresses[i] = address;
+        }
+    }
+
+    /**
+     * All new columns are allocated before anything is committed, so a failed allocation leaves the pool untouched.
+     */
+    private void resize(int newSize) {
+        long[] newAddresses = new long[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            long address = MemoryUtil.nmemAlloc((long) Math.max(newSize, 1) * NativePrimitiveArray.elementSize(columnTypes[i]));
+            if (address == MemoryUtil.NULL) {
+                for (int j = 0; j < i; j++) {
+                    MemoryUtil.nmemFree(newAddresses[j]);
+                }
+                throw new OutOfMemoryError("Failed to reallocate a native column.");
+            }
+            newAddresses[i] = address;
+        }
+
+        storageVersion++;
+        int copiedRows = Math.min(currentSize, newSize);
+        for (int i = 0; i < columnTypes.length; i++) {
+            int elementSize = NativePrimitiveArray.elementSize(columnTypes[i]);
+            MemoryUtil.memCopy(columnAddresses[i], newAddresses[i], (long) copiedRows * elementSize);
+            if (newSize > copiedRows) {
+                // keep the same zero-initialized semantics as Arrays.copyOf
+                MemoryUtil.memSet(newAddresses[i] + (long) copiedRows * elementSize, 0, (long) (newSize - copiedRows) * elementSize);
+            }
+            MemoryUtil.nmemFree(columnAddresses[i]);
+            columnAddresses[i] = newAddresses[i];
+        }
+        currentSize = newSize;
+        entityRows.resizeRows(currentSize);
+        versions.resize(currentSize);
+    }
+
+    /**
+     * Also guards every raw access and every {@link NativePrimitiveArray} view, so a closed pool throws instead of touching freed memory.
+     */
+    void checkOpen() {
+        Preconditions.checkState(!closed, "This NativePool is already closed.");
+    }
+
+    /**
+     * Every raw access goes through here. Native memory has no bounds check,
+     * so an unmapped entity (row <code>-1</code>) must throw instead of touching memory before the column,
+     * and a closed pool must throw instead of touching freed memory.
+     *
+     * @param column The column index
+     * @param row An occupied row
+     * @return The address of the element
+     */
+    private long address(int column, int row) {
+        checkOpen();
+        Objects.checkIndex(row, indexCounter);
+        return columnAddresses[column] + (long) row * NativePrimitiveArray.elementSize(columnTypes[column]);
+    }
+
+    //<editor-fold desc="boxed scalar access">
+    private Object getScalar(int column, int index) {
+        long address = address(column, index);
+        return switch (columnTypes[column]) {
+            case INT -> MemoryUtil.memGetInt(address);
+            case FLOAT -> MemoryUtil.memGetFloat(address);
+            case BOOL -> MemoryUtil.memGetByte(address) != 0;
+        };
+    }
+    //</editor-fold>
+
+    @Override
+    public boolean containsEntity(int entityID) {
+        return entityRows.contains(entityID);
+    }
+
+    @NonNull
+    @Override
+    public CleanComponent getComponent(int entityID, Class<? extends CleanComponent> component) {
+        checkOpen();
+
+        return new ColumnReader().read(component, entityRows.row(entityID));
+    }
+
+    @Override
+    public void setComponent(int entityID, CleanComponent component) {
+        checkOpen();
+
+        ComDataLocation location = componentDataLocations.get(component.getClass());
+        int index = entityRows.row(entityID);
+
+        new ColumnWriter().write(component, index);
+
+        for (int i = 0; i < location.columns.length; i++) {
+            versions.stamp(location.columns[i], index);
+        }
+    }
+
+    @Override
+    public void addEntity(int entityID, List<CleanComponent> components) {
+        checkOpen();
+
+        int index = allocateRow(entityID);
+
+        ColumnWriter writer = new ColumnWriter();
+        for (Class<? extends CleanComponent> clazz : this.components) {
+            CleanComponent component = Objects.requireNonNull(components.stream().filter(c -> c.getClass().equals(clazz)).findFirst().orElse(null));
+            writer.write(component, index);
+        }
+    }
+
+    /**
+     * The last row is moved into the removed row (swap-remove), so rows stay dense and
+     * {@link #getArrayRange()} never contains holes. The row of the moved entity changes accordingly.
+     */
+    @Override
+    public void removeEntity(int entityID) {
+        checkOpen();
+
+        swapRemove(entityID);
+        shrink();
+    }
+
+    @Override
+    public void removeEntities(int[] entityIDs, int from, int to) {
+        checkOpen();
+
+        for (int i = from; i < to; i++) {
+            swapRemove(entityIDs[i]);
+        }
+        shrink();
+    }
+
+    @Override
+    public void reserve(int capacity) {
+        checkOpen();
+
+        if (capacity > currentSize) {
+            resize(grownSize(capacity));
+        }
+    }
+
+    private void swapRemove(int entityID) {
+        // check before unmapping, so a missing entity leaves the pool untouched
+        Objects.checkIndex(entityRows.row(entityID), indexCounter);
+        int index = entityRows.remove(entityID);
+        int lastIndex = indexCounter - 1;
+        if (index != lastIndex) {
+            for (int i = 0; i < columnTypes.length; i++) {
+                MemoryUtil.memCopy(address(i, lastIndex), address(i, index), NativePrimitiveArray.elementSize(columnTypes[i]));
+            }
+        }
+        indexCounter--;
+        if (index != lastIndex) {
+            int movedEntityID = entityRows.entity(lastIndex);
+            entityRows.put(movedEntityID, index);
+            versions.stampRow(index);
+        }
+    }
+
+    private void shrink() {
+        int newSize = shrunkSize(indexCounter);
+        if (newSize != currentSize) {
+            resize(newSize);
+        }
+    }
+
+    //<editor-fold desc="typed column access">
+    @Override
+    int typedColumn(ColumnHandle column, PrimitiveArrayType type) {
+        checkOpen();
+
+        return super.typedColumn(column, type);
+    }
+
+    @Override
+    public int getInt(int entityID, ColumnHandle column) {
+        return readInt(typedColumn(column, PrimitiveArrayType.INT), entityRows.row(entityID));
+    }
+
+    @Override
+    public float getFloat(int entityID, ColumnHandle column) {
+        return readFloat(typedColumn(column, PrimitiveArrayType.FLOAT), entityRows.row(entityID));
+    }
+
+    @Override
+    public boolean getBool(int entityID, ColumnHandle column) {
+        return readBool(typedColumn(column, PrimitiveArrayType.BOOL), entityRows.row(entityID));
+    }
+
+    @Override
+    public void setInt(int entityID, ColumnHandle column, int value) {
+        int columnIndex = typedColumn(column, PrimitiveArrayType.INT);
+        int index = entityRows.row(entityID);
+        writeInt(columnIndex, index, value);
+        versions.stamp(columnIndex, index);
+    }
+
+    @Override
+    public void setFloat(int entityID, ColumnHandle column, float value) {
+        int columnIndex = typedColumn(column, PrimitiveArrayType.FLOAT);
+        int index = entityRows.row(entityID);
+        writeFloat(columnIndex, index, value);
+        versions.stamp(columnIndex, index);
+    }
+
+    @Override
+    public void setBool(int entityID, ColumnHandle column, boolean value) {
+        int columnIndex = typedColumn(column, PrimitiveArrayType.BOOL);
+        int index = entityRows.row(entityID);
+        writeBool(columnIndex, index, value);
+        versions.stamp(columnIndex, index);
+    }
+
+    @Override
+    public int getChangeVersion(ColumnHandle column, int row) {
+        return versions.get(typedColumn(column, column.type), row);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="raw row access">
+    @Override
+    int getRow(int entityID) {
+        return entityRows.row(entityID);
+    }
+
+    @Override
+    int allocateRow(int entityID) {
+        checkOpen();
+
+        // grow pool
+        if (indexCounter >= currentSize) {
+            resize(grownSize(indexCounter + 1));
+        }
+        int index = indexCounter++;
+
+        entityRows.put(entityID, index);
+        versions.stampRow(index);
+        return index;
+    }
+
+    @Override
+    int[] getColumns(Class<? extends CleanComponent> component) {
+        return componentDataLocations.get(component).columns;
+    }
+
+    @Override
+    int readInt(int column, int row) {
+        return MemoryUtil.memGetInt(address(column, row));
+    }
+
+    @Override
+    float readFloat(int column, int row) {
+        return MemoryUtil.memGetFloat(address(column, row));
+    }
+
+    @Override
+    boolean readBool(int column, int row) {
+        return MemoryUtil.memGetByte(address(column, row)) != 0;
+    }
+
+    @Override
+    void writeInt(int column, int row, int value) {
+        MemoryUtil.memPutInt(address(column, row), value);
+    }
+
+    @Override
+    void writeFloat(int column, int row, float value) {
+        MemoryUtil.memPutFloat(address(column, row), value);
+    }
+
+    @Override
+    void writeBool(int column, int row, boolean value) {
+        MemoryUtil.memPutByte(address(column, row), (byte) (value ? 1 : 0));
+    }
+    //</editor-fold>
+
+    @NonNull
+    @Override
+    public PrimitiveArray getArray(Class<? extends CleanComponent> component, String... fieldAccessChain) {
+        checkOpen();
+
+        int ordinal = componentRegistry.getFieldOrdinal(componentRegistry.getComponentName(component), fieldAccessChain);
+        ComDataLocation location = componentDataLocations.get(component);
+
+        if (location == null || ordinal < 0 || ordinal >= location.columns.length) {
+            throw new IllegalArgumentException("Unable to find such array.");
+        }
+
+        int column = location.columns[ordinal];
+        return new NativePrimitiveArray(this, columnTypes[column], columnAddresses[column], currentSize, versions.column(column));
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveArray getArray(ColumnHandle column) {
+        int columnIndex = typedColumn(column, column.type);
+        return new NativePrimitiveArray(this, columnTypes[columnIndex], columnAddresses[columnIndex], currentSize, versions.column(columnIndex));
+    }
+
+    @NonNull
+    @Override
+    public ArrayRange getArrayRange() {
+        return new ArrayRange(0, indexCounter);
+    }
+
+    @Override
+    public int getRowStart() {
+        return 0;
+    }
+
+    @Override
+    public int getRowEnd() {
+        return indexCounter;
+    }
+
+    @Override
+    public int getEntityID(int row) {
+        checkOpen();
+
+        return entityRows.entity(row);
+    }
+
+    /**
+     * Release all native columns. The pool must not be used afterward.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            cleanable.clean();
+        }
+    }
+
+    @Override
+    public String getSnapshot() {
+        int snapshotLength = closed ? 0 : Math.min(indexCounter, 10);
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("\n=====NativePool Snapshot=====\n");
+        int i = 0;
+        for (Class<? extends CleanComponent> clazz : components) {
+            ComDataLocation location = componentDataLocations.get(clazz);
+            builder.append("[").append(i++).append("] ")
+                    .append("Component name: ").append(componentRegistry.getComponentName(clazz))
+                    .append("; Component class: ").append(clazz.getName()).append("\n");
+
+            int j = 0;
+            for (FlattenedScalarType flattenedScalarType : location.order) {
+                int column = location.columns[j];
+                builder.append("  [").append(j++).append(" ").append(flattenedScalarType).append("] ");
+                for (int k = 0; k < snapshotLength; k++) {
+                    builder.append(getScalar(column, k));
+                    if (k != snapshotLength - 1) {
+                        builder.append(", ");
+                    }
+                }
+                builder.append("\n");
+            }
+        }
+
+        return builder.toString();
+    }
+}
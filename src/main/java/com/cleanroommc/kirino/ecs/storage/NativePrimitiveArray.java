@@ -0,0 +1,136 @@
+package com.cleanroommc.kirino.ecs.storage;
+
+import com.google.common.base.Preconditions;
+import org.jspecify.annotations.NonNull;
+import org.lwjgl.system.MemoryUtil;
+
+import java.util.Objects;
+
+/**
+ * A {@link PrimitiveArray} view of a native column owned by {@link NativePool}.
+ * Integers and floats take 4 bytes per element; booleans take 1 byte per element.
+ *
+ * <p>Like {@link HeapPrimitiveArray}, a view is only valid until the owner pool grows or shrinks,
+ * which only happens during {@link com.cleanroommc.kirino.ecs.entity.EntityManager#flush()}.</p>
+ *
+ * <p>A view holds its owner pool strongly, so the {@link java.lang.ref.Cleaner} never frees the column while the view is reachable,
+ * and every access throws once the owner is closed.</p>
+ */
+public final class NativePrimitiveArray implements PrimitiveArray {
+    private final NativePool owner;
+    private final PrimitiveArrayType type;
+    private final int length;
+    private final long address;
+
+    /**
+     * Chunk versions of this column (see {@link ChangeVersions}).
+     */
+    private final int[] versions;
+
+    NativePrimitiveArray(NativePool owner, PrimitiveArrayType type, long address, int length, int[] versions) {
+        this.owner = owner;
+        this.type = type;
+        this.versions = versions;
+        this.address = address;
+        this.length = length;
+    }
+
+    static int elementSize(PrimitiveArrayType type) {
+        return type == PrimitiveArrayType.BOOL ? 1 : 4;
+    }
+
+    /**
+     * @return The base address of the column
+     */
+    public long address() {
+        owner.checkOpen();
+
+        return address;
+    }
+
+    /**
+     * Bulk copy <code>count</code> elements starting at <code>fromIndex</code> to the native address <code>dst</code>,
+     * e.g. a persistent-mapped buffer.
+     *
+     * @param fromIndex The first element to copy
+     * @param count The element count
+     * @param dst The destination address
+     */
+    public void copyTo(int fromIndex, int count, long dst) {
+        owner.checkOpen();
+        Objects.checkFromIndexSize(fromIndex, count, length);
+        Preconditions.checkArgument(dst != MemoryUtil.NULL,
+                "Argument \"dst\" must not be NULL.");
+
+        int elementSize = elementSize(type);
+        MemoryUtil.memCopy(address + (long) fromIndex * elementSize, dst, (long) count * elementSize);
+    }
+
+    @Override
+    public int getInt(int index) {
+        Preconditions.checkState(type == PrimitiveArrayType.INT,
+                "This is not a integer-typed array.");
+        owner.checkOpen();
+
+        return MemoryUtil.memGetInt(address + ((long) Objects.checkIndex(index, length) << 2));
+    }
+
+    @Override
+    public float getFloat(int index) {
+        Preconditions.checkState(type == PrimitiveArrayType.FLOAT,
+                "This is not a float-typed array.");
+        owner.checkOpen();
+
+        return MemoryUtil.memGetFloat(address + ((long) Objects.checkIndex(index, length) << 2));
+    }
+
+    @Override
+    public boolean getBool(int index) {
+        Preconditions.checkState(type == PrimitiveArrayType.BOOL,
+                "This is not a boolean-typed array.");
+        owner.checkOpen();
+
+        return MemoryUtil.memGetByte(address + Objects.checkIndex(index, length)) != 0;
+    }
+
+    @Override
+    public void setInt(int index, int value) {
+        Preconditions.checkState(type == PrimitiveArrayType.INT,
+                "This is not a integer-typed array.");
+        owner.checkOpen();
+
+        MemoryUtil.memPutInt(address + ((long) Objects.checkIndex(index, length) << 2), value);
+        versions[index >>> ChangeVersions.CHUNK_SHIFT] = ChangeVersions.current();
+    }
+
+    @Override
+    public void setFloat(int index, float value) {
+        Preconditions.checkState(type == PrimitiveArrayType.FLOAT,
+                "This is not a float-typed array.");
+        owner.checkOpen();
+
+        MemoryUtil.memPutFloat(address + ((long) Objects.checkIndex(index, length) << 2), value);
+        versions[index >>> ChangeVersions.CHUNK_SHIFT] = ChangeVersions.current();
+    }
+
+    @Override
+    public void setBool(int index, boolean value) {
+        Preconditions.checkState(type == PrimitiveArrayType.BOOL,
+                "This is not a boolean-typed array.");
+        owner.checkOpen();
+
+        MemoryUtil.memPutByte(address + Objects.checkIndex(index, length), (byte) (value ? 1 : 0));
+        versions[index >>> ChangeVersions.CHUNK_SHIFT] = ChangeVersions.current();
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @NonNull
+    @Override
+    public PrimitiveArrayType type() {
+        return type;
+    }
+}
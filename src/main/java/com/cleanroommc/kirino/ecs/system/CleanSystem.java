@@ -2,7 +2,9 @@ package com.cleanroommc.kirino.ecs.system;
 
 import com.cleanroommc.kirino.ecs.world.CleanWorld;
 import com.cleanroommc.kirino.ecs.entity.EntityManager;
+import com.cleanroommc.kirino.ecs.job.ComponentAccess;
 import com.cleanroommc.kirino.ecs.job.JobScheduler;
+import com.cleanroommc.kirino.ecs.system.exegraph.ParallelFlow;
 import com.cleanroommc.kirino.ecs.system.exegraph.SystemExeFlowGraph;
 import org.jspecify.annotations.NonNull;
 
@@ -34,4 +36,16 @@ public abstract class CleanSystem {
      * and you're not forced to NOT call them either.
      */
     public abstract void update(@NonNull EntityManager entityManager, @NonNull JobScheduler jobScheduler);
+
+    /**
+     * Declare the component fields this system reads and writes, so {@link ParallelFlow.BuilderImpl#addScheduledSystems}
+     * can order it against other systems. Declaring the parallel jobs it executes, together with their external data, is usually enough.
+     * <br><br>
+     * A system is exclusive by default, i.e. it conflicts with every other system.
+     *
+     * @param access The access builder
+     */
+    public void declareAccess(ComponentAccess.@NonNull Builder access) {
+        access.exclusive();
+    }
 }
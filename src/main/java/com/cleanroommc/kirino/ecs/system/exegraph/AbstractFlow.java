@@ -2,11 +2,11 @@ package com.cleanroommc.kirino.ecs.system.exegraph;
 
 import com.cleanroommc.kirino.ecs.system.CleanSystem;
 import com.cleanroommc.kirino.ecs.world.CleanWorld;
+import com.google.common.base.Preconditions;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.locks.ReentrantLock;
@@ -42,8 +42,8 @@ public abstract class AbstractFlow implements SystemExeFlowGraph {
     }
 
     private final @Nullable Runnable finishCallback;
-    private final CleanWorld world;
-    private final List<BarrierNode> topo;
+    protected final CleanWorld world;
+    protected final List<BarrierNode> topo;
     private volatile boolean executing = false;
     private final ReentrantLock lock = new ReentrantLock();
 
@@ -53,6 +53,30 @@ public abstract class AbstractFlow implements SystemExeFlowGraph {
         this.topo = topo;
     }
 
+    /**
+     * Walk the graph once. Called by both {@link #execute()} and {@link #executeAsync(Executor)} with the execution lock held.
+     * The default walk visits the nodes in topological order and joins every incoming system of a node before passing it.
+     */
+    protected void walk() {
+        for (BarrierNode node : topo) {
+            for (Transition edge : node.incoming) {
+                if (edge.system != null) {
+                    joinSystem(edge.system);
+                }
+            }
+
+            if (node.callback != null) {
+                node.callback.run();
+            }
+
+            for (Transition edge : node.outgoing) {
+                if (edge.system != null) {
+                    executeSystem(world, edge.system);
+                }
+            }
+        }
+    }
+
     @Override
     public void execute() {
         if (!lock.tryLock()) {
@@ -61,23 +85,7 @@ public abstract class AbstractFlow implements SystemExeFlowGraph {
 
         executing = true;
         try {
-            for (BarrierNode node : topo) {
-                for (Transition edge : node.incoming) {
-                    if (edge.system != null) {
-                        joinSystem(edge.system);
-                    }
-                }
-
-                if (node.callback != null) {
-                    node.callback.run();
-                }
-
-                for (Transition edge : node.outgoing) {
-                    if (edge.system != null) {
-                        executeSystem(world, edge.system);
-                    }
-                }
-            }
+            walk();
         } finally {
             try {
                 if (finishCallback != null) {
@@ -101,23 +109,7 @@ public abstract class AbstractFlow implements SystemExeFlowGraph {
         try {
             return CompletableFuture.runAsync(() -> {
                 try {
-                    for (BarrierNode node : topo) {
-                        for (Transition edge : node.incoming) {
-                            if (edge.system != null) {
-                                joinSystem(edge.system);
-                            }
-                        }
-
-                        if (node.callback != null) {
-                            node.callback.run();
-                        }
-
-                        for (Transition edge : node.outgoing) {
-                            if (edge.system != null) {
-                                executeSystem(world, edge.system);
-                            }
-                        }
-                    }
+                    walk();
                 } finally {
                     try {
                         if (finishCallback != null) {
@@ -140,4 +132,93 @@ public abstract class AbstractFlow implements SystemExeFlowGraph {
     public boolean isExecuting() {
         return executing;
     }
+
+    /**
+     * Link the edges to the nodes and check that the graph is a DAG where everything starts from {@link #START_NODE} and ends in {@link #END_NODE}.
+     *
+     * @param nodes All nodes, including {@link #START_NODE} and {@link #END_NODE}
+     * @param edges All edges
+     * @param flowName The flow name used by the error messages
+     * @return The nodes in topological order
+     */
+    static @NonNull List<@NonNull BarrierNode> linkAndSort(@NonNull Map<String, BarrierNode> nodes, @NonNull List<Transition> edges, @NonNull String flowName) {
+        for (BarrierNode node : nodes.values()) {
+            node.inDegree = 0;
+            node.outgoing.clear();
+            node.incoming.clear();
+        }
+        for (Transition edge : edges) {
+            edge.from.outgoing.add(edge);
+            edge.to.incoming.add(edge);
+            edge.to.inDegree++;
+        }
+
+        Deque<BarrierNode> queue = new ArrayDeque<>();
+        List<BarrierNode> topo = new ArrayList<>();
+
+        for (BarrierNode node : nodes.values()) {
+            if (node.inDegree == 0) {
+                queue.add(node);
+            }
+        }
+        while (!queue.isEmpty()) {
+            BarrierNode node = queue.poll();
+            topo.add(node);
+            for (Transition edge : node.outgoing) {
+                if (--edge.to.inDegree == 0) {
+                    queue.add(edge.to);
+                }
+            }
+        }
+
+        Preconditions.checkState(topo.size() == nodes.size(),
+                "%s graph is not a DAG.", flowName);
+
+        BarrierNode start = nodes.get(START_NODE);
+        BarrierNode end = nodes.get(END_NODE);
+
+        Preconditions.checkState(start.inDegree == 0,
+                "START node must have in degree = 0.");
+
+        Preconditions.checkState(end.outgoing.isEmpty(),
+                "END node must not have outgoing edges.");
+
+        Set<BarrierNode> reachable = new HashSet<>();
+        Deque<BarrierNode> stack = new ArrayDeque<>();
+        stack.push(start);
+
+        while (!stack.isEmpty()) {
+            BarrierNode node = stack.pop();
+            if (!reachable.add(node)) {
+                continue;
+            }
+
+            for (Transition edge : node.outgoing) {
+                stack.push(edge.to);
+            }
+        }
+
+        Preconditions.checkState(reachable.size() == nodes.size(),
+                "Some nodes are not reachable from the START node.");
+
+        // a dead end would never be joined, so the flow could finish while its systems still run
+        Set<BarrierNode> reaching = new HashSet<>();
+        stack.push(end);
+
+        while (!stack.isEmpty()) {
+            BarrierNode node = stack.pop();
+            if (!reaching.add(node)) {
+                continue;
+            }
+
+            for (Transition edge : node.incoming) {
+                stack.push(edge.from);
+            }
+        }
+
+        Preconditions.checkState(reaching.size() == nodes.size(),
+                "Some nodes can't reach the END node.");
+
+        return topo;
+    }
 }
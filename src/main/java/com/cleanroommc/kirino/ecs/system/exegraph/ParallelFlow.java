@@ -0,0 +1,259 @@
+package com.cleanroommc.kirino.ecs.system.exegraph;
+
+import com.cleanroommc.kirino.ecs.job.ComponentAccess;
+import com.cleanroommc.kirino.ecs.job.JobRegistry;
+import com.cleanroommc.kirino.ecs.system.CleanSystem;
+import com.cleanroommc.kirino.ecs.world.CleanWorld;
+import com.google.common.base.Preconditions;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.cleanroommc.kirino.ecs.system.exegraph.SystemExeFlowGraph.*;
+
+/**
+ * A flow of several ecs-systems. Unlike {@link SingleFlow}, independent branches run concurrently:
+ * a system starts as soon as its from-node is passed, and a node is passed once all of its incoming systems complete.
+ * Nothing else is joined, so a slow branch never delays an unrelated one.
+ * <br><br>
+ * Systems on parallel branches may update at the same time, so they must only record structural changes
+ * through the entity command buffers, and must not write the same component fields.
+ * {@link BuilderImpl#addScheduledSystems} derives such a graph from the declared access of the systems.
+ */
+public class ParallelFlow extends AbstractFlow {
+
+    //<editor-fold desc="builder">
+    public static class BuilderImpl implements Builder<ParallelFlow> {
+        private final CleanWorld world;
+        private final Executor branchExecutor;
+        private final Map<String, BarrierNode> nodes = new HashMap<>();
+        private final List<Transition> edges = new ArrayList<>();
+        private final List<CleanSystem> systems = new ArrayList<>();
+
+        private @Nullable Runnable finishCallback;
+
+        BuilderImpl(CleanWorld world, Executor branchExecutor) {
+            this.world = world;
+            this.branchExecutor = branchExecutor;
+            nodes.put(START_NODE, new BarrierNode(START_NODE, null));
+            nodes.put(END_NODE, new BarrierNode(END_NODE, null));
+        }
+
+        @Override
+        public @NonNull Builder<ParallelFlow> addBarrierNode(@NonNull String nodeID, @Nullable Runnable callback) {
+            Preconditions.checkNotNull(nodeID);
+            Preconditions.checkArgument(!nodeID.equals(START_NODE),
+                    "Must not use \"%s\" as the node ID. \"%s\" is a built-in node.", START_NODE, START_NODE);
+            Preconditions.checkArgument(!nodeID.equals(END_NODE),
+                    "Must not use \"%s\" as the node ID. \"%s\" is a built-in node.", END_NODE, END_NODE);
+
+            nodes.put(nodeID, new BarrierNode(nodeID, callback));
+            return this;
+        }
+
+        @Override
+        public @NonNull Builder<ParallelFlow> addDummyTransition(@NonNull String fromNodeID, @NonNull String toNodeID) {
+            Preconditions.checkNotNull(fromNodeID);
+            Preconditions.checkNotNull(toNodeID);
+
+            return addTransitionInternal(null, fromNodeID, toNodeID);
+        }
+
+        @Override
+        public @NonNull Builder<ParallelFlow> addTransition(@NonNull CleanSystem task, @NonNull String fromNodeID, @NonNull String toNodeID) {
+            Preconditions.checkNotNull(task);
+            Preconditions.checkNotNull(fromNodeID);
+            Preconditions.checkNotNull(toNodeID);
+            // a system has one execution container, so it can't be on two edges at once
+            for (CleanSystem system : systems) {
+                Preconditions.checkArgument(system != task,
+                        "The ecs-system instance %s is already in this ParallelFlow.", task.getClass().getName());
+            }
+            systems.add(task);
+
+            return addTransitionInternal(task, fromNodeID, toNodeID);
+        }
+
+        /**
+         * Derive the whole graph from the declared access of the systems (see {@link CleanSystem#declareAccess}).
+         * The systems are given in priority order: a system runs after every earlier system it conflicts with,
+         * and concurrently with the others. Edges that are implied by other edges are skipped.
+         *
+         * @param jobRegistry The registry to resolve the access of parallel jobs
+         * @param tasks The systems in priority order
+         * @return The builder
+         */
+        public @NonNull BuilderImpl addScheduledSystems(@NonNull JobRegistry jobRegistry, @NonNull CleanSystem @NonNull ... tasks) {
+            Preconditions.checkNotNull(jobRegistry);
+            Preconditions.checkNotNull(tasks);
+            Preconditions.checkState(edges.isEmpty(),
+                    "\"addScheduledSystems\" must be called on a builder without transitions.");
+
+            ComponentAccess[] accesses = new ComponentAccess[tasks.length];
+            BitSet[] ancestors = new BitSet[tasks.length];
+            BitSet hasSuccessor = new BitSet(tasks.length);
+            for (int i = 0; i < tasks.length; i++) {
+                Preconditions.checkNotNull(tasks[i]);
+                ComponentAccess.Builder access = ComponentAccess.newBuilder(jobRegistry);
+                tasks[i].declareAccess(access);
+                accesses[i] = access.build();
+
+                BitSet predecessors = new BitSet(i);
+                ancestors[i] = new BitSet(i);
+                for (int j = 0; j < i; j++) {
+                    if (accesses[i].conflictsWith(accesses[j])) {
+                        predecessors.set(j);
+                        ancestors[i].set(j);
+                        ancestors[i].or(ancestors[j]);
+                    }
+                }
+                // a predecessor that already precedes another predecessor is implied
+                for (int j = predecessors.nextSetBit(0); j >= 0; j = predecessors.nextSetBit(j + 1)) {
+                    predecessors.andNot(ancestors[j]);
+                }
+
+                String fromNodeID;
+                if (predecessors.isEmpty()) {
+                    fromNodeID = START_NODE;
+                } else if (predecessors.cardinality() == 1) {
+                    fromNodeID = scheduledNodeID(predecessors.nextSetBit(0));
+                } else {
+                    fromNodeID = scheduledNodeID(i) + "-ready";
+                    addBarrierNode(fromNodeID, null);
+                    for (int j = predecessors.nextSetBit(0); j >= 0; j = predecessors.nextSetBit(j + 1)) {
+                        addDummyTransition(scheduledNodeID(j), fromNodeID);
+                    }
+                }
+                hasSuccessor.or(predecessors);
+
+                addBarrierNode(scheduledNodeID(i), null);
+                addTransition(tasks[i], fromNodeID, scheduledNodeID(i));
+            }
+
+            for (int i = hasSuccessor.nextClearBit(0); i < tasks.length; i = hasSuccessor.nextClearBit(i + 1)) {
+                addDummyTransition(scheduledNodeID(i), END_NODE);
+            }
+            return this;
+        }
+
+        private static String scheduledNodeID(int ordinal) {
+            return "scheduled-" + ordinal;
+        }
+
+        private @NonNull Builder<ParallelFlow> addTransitionInternal(@Nullable CleanSystem task, String fromNodeID, String toNodeID) {
+            BarrierNode from = nodes.get(fromNodeID);
+            BarrierNode to = nodes.get(toNodeID);
+            Preconditions.checkNotNull(from, "From node not found: \"%s\".", fromNodeID);
+            Preconditions.checkNotNull(to, "To node not found: \"%s\".", toNodeID);
+
+            edges.add(new Transition(task, from, to));
+            return this;
+        }
+
+        @Override
+        public @NonNull Builder<ParallelFlow> setStartNodeCallback(@Nullable Runnable callback) {
+            nodes.get(START_NODE).callback = callback;
+            return this;
+        }
+
+        @Override
+        public @NonNull Builder<ParallelFlow> setEndNodeCallback(@Nullable Runnable callback) {
+            nodes.get(END_NODE).callback = callback;
+            return this;
+        }
+
+        @Override
+        public @NonNull Builder<ParallelFlow> setFinishCallback(@Nullable Runnable callback) {
+            finishCallback = callback;
+            return this;
+        }
+
+        @Override
+        public @NonNull ParallelFlow build() {
+            Preconditions.checkState(!systems.isEmpty(),
+                    "ParallelFlow must contain at least one ecs-system instance. Call \"addTransition\" to add a system first.");
+
+            List<BarrierNode> topo = linkAndSort(nodes, edges, "ParallelFlow");
+
+            return new ParallelFlow(world, List.copyOf(systems), topo, edges.size(), branchExecutor, finishCallback);
+        }
+    }
+    //</editor-fold>
+
+    private final List<CleanSystem> systems;
+    private final int edgeCount;
+    private final Executor branchExecutor;
+
+    public List<CleanSystem> getSystems() {
+        return systems;
+    }
+
+    private ParallelFlow(
+            @NonNull CleanWorld world,
+            @NonNull List<CleanSystem> systems,
+            @NonNull List<@NonNull BarrierNode> topo,
+            int edgeCount,
+            @NonNull Executor branchExecutor,
+            @Nullable Runnable finishCallback) {
+
+        super(world, topo, finishCallback);
+        this.systems = systems;
+        this.edgeCount = edgeCount;
+        this.branchExecutor = branchExecutor;
+    }
+
+    /**
+     * Chain the whole graph as futures, then wait for the {@link #END_NODE} only.
+     * {@link #linkAndSort} guarantees that every node reaches the {@link #END_NODE}, so no branch is left unjoined.
+     */
+    @Override
+    protected void walk() {
+        Map<Transition, CompletableFuture<Void>> edgeFutures = new IdentityHashMap<>(edgeCount);
+        CompletableFuture<Void> endFuture = null;
+
+        // topological order, so the futures of all incoming edges already exist
+        for (BarrierNode node : topo) {
+            CompletableFuture<Void> arrived;
+            if (node.incoming.isEmpty()) {
+                arrived = CompletableFuture.completedFuture(null);
+            } else if (node.incoming.size() == 1) {
+                arrived = edgeFutures.get(node.incoming.getFirst());
+            } else {
+                CompletableFuture<?>[] incoming = new CompletableFuture[node.incoming.size()];
+                for (int i = 0; i < incoming.length; i++) {
+                    incoming[i] = edgeFutures.get(node.incoming.get(i));
+                }
+                arrived = CompletableFuture.allOf(incoming);
+            }
+
+            Runnable callback = node.callback;
+            CompletableFuture<Void> passed = callback == null ? arrived : arrived.thenRun(callback);
+
+            for (Transition edge : node.outgoing) {
+                CleanSystem system = edge.system;
+                edgeFutures.put(edge, system == null ? passed : passed.thenComposeAsync(v -> {
+                    executeSystem(world, system);
+                    return systemFuture(system);
+                }, branchExecutor));
+            }
+
+            if (node.id.equals(END_NODE)) {
+                endFuture = passed;
+            }
+        }
+
+        Objects.requireNonNull(endFuture).join();
+    }
+
+    /**
+     * @param world The world
+     * @param branchExecutor The executor that updates the systems, usually the flow executor
+     * @return The builder
+     */
+    public static BuilderImpl newBuilder(CleanWorld world, Executor branchExecutor) {
+        return new BuilderImpl(world, branchExecutor);
+    }
+}
@@ -95,64 +95,7 @@ public class SingleFlow<TSys extends CleanSystem> extends AbstractFlow {
             Preconditions.checkState(system != null,
                     "SingleFlow must contain exactly one ecs-system instance. Call \"addTransition\" to set a system first.");
 
-            for (BarrierNode node : nodes.values()) {
-                node.inDegree = 0;
-                node.outgoing.clear();
-                node.incoming.clear();
-            }
-            for (Transition edge : edges) {
-                edge.from.outgoing.add(edge);
-                edge.to.incoming.add(edge);
-                edge.to.inDegree++;
-            }
-
-            Deque<BarrierNode> queue = new ArrayDeque<>();
-            List<BarrierNode> topo = new ArrayList<>();
-
-            for (BarrierNode node : nodes.values()) {
-                if (node.inDegree == 0) {
-                    queue.add(node);
-                }
-            }
-            while (!queue.isEmpty()) {
-                BarrierNode node = queue.poll();
-                topo.add(node);
-                for (Transition edge : node.outgoing) {
-                    if (--edge.to.inDegree == 0) {
-                        queue.add(edge.to);
-                    }
-                }
-            }
-
-            Preconditions.checkState(topo.size() == nodes.size(),
-                    "SingleFlow graph is not a DAG.");
-
-            BarrierNode start = nodes.get(START_NODE);
-            BarrierNode end = nodes.get(END_NODE);
-
-            Preconditions.checkState(start.inDegree == 0,
-                    "START node must have in degree = 0.");
-
-            Preconditions.checkState(end.outgoing.isEmpty(),
-                    "END node must not have outgoing edges.");
-
-            Set<BarrierNode> reachable = new HashSet<>();
-            Deque<BarrierNode> stack = new ArrayDeque<>();
-            stack.push(start);
-
-            while (!stack.isEmpty()) {
-                BarrierNode node = stack.pop();
-                if (!reachable.add(node)) {
-                    continue;
-                }
-
-                for (Transition edge : node.outgoing) {
-                    stack.push(edge.to);
-                }
-            }
-
-            Preconditions.checkState(reachable.size() == nodes.size(),
-                    "Some nodes are not reachable from the START node.");
+            List<BarrierNode> topo = linkAndSort(nodes, edges, "SingleFlow");
 
             return new SingleFlow<>(world, system, topo, finishCallback);
         }
@@ -33,7 +33,7 @@ public interface SystemExeFlowGraph {
      * Thread safety is guaranteed.
      *
      * @implNote Guarantee the thread safety and check the precondition (directly throw if needed) that the last execution is finished.
-     *           Must call {@link #executeSystem(CleanWorld, CleanSystem)} and {@link #joinSystem(CleanSystem)} on every transition edge
+     *           Must call {@link #executeSystem(CleanWorld, CleanSystem)} and {@link #joinSystem(CleanSystem)} (or {@link #systemFuture(CleanSystem)}) on every transition edge
      *           to actually generate and join the completable futures from a system
      * @see #isExecuting()
      */
@@ -203,6 +203,15 @@ public interface SystemExeFlowGraph {
     }
 
     static void joinSystem(CleanSystem system) {
+        systemFuture(system).join();
+    }
+
+    /**
+     * Non-blocking version of {@link #joinSystem(CleanSystem)}.
+     *
+     * @return A future that completes when all async tasks started by the last update of <code>system</code> complete
+     */
+    static CompletableFuture<Void> systemFuture(CleanSystem system) {
         ExecutionContainer executionContainer = MethodHolder.getExecutionContainer(system);
         List<JobScheduler.ExecutionHandle> handles = MethodHolder.getHandles(executionContainer);
         List<CompletableFuture<Void>> futures = MethodHolder.getFutures(executionContainer);
@@ -215,7 +224,7 @@ public interface SystemExeFlowGraph {
         }
         allFutures.addAll(futures);
 
-        CompletableFuture.allOf(allFutures.toArray(new CompletableFuture[0])).join();
+        return CompletableFuture.allOf(allFutures.toArray(new CompletableFuture[0]));
     }
 
     static void executeSystem(CleanWorld world, CleanSystem system) {
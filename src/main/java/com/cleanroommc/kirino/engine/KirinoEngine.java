@@ -1,5 +1,6 @@
 package com.cleanroommc.kirino.engine;
 
+import com.cleanroommc.kirino.KirinoCommonCore;
 import com.cleanroommc.kirino.ecs.CleanECSRuntime;
 import com.cleanroommc.kirino.engine.process.analysis.install.AnalyticalWorldInstaller;
 import com.cleanroommc.kirino.engine.process.graphics.install.GraphicsWorldInstaller;
@@ -38,8 +39,9 @@ import com.cleanroommc.kirino.gl.shader.ShaderProgram;
 import com.cleanroommc.kirino.gl.shader.analysis.DefaultShaderAnalyzer;
 import com.cleanroommc.kirino.gl.shader.schema.GLSLRegistry;
 import com.cleanroommc.kirino.gl.vao.VAO;
-import com.cleanroommc.kirino.utils.ForkJoinPoolUtils;
 import com.cleanroommc.kirino.utils.ReflectionUtils;
+import com.cleanroommc.kirino.utils.executor.ExecutorMetrics;
+import com.cleanroommc.kirino.utils.executor.MeteredExecutor;
 import com.google.common.base.Preconditions;
 import net.minecraftforge.fml.common.eventhandler.EventBus;
 import org.apache.logging.log4j.Logger;
@@ -48,7 +50,6 @@ import org.jspecify.annotations.Nullable;
 
 import java.lang.invoke.MethodHandle;
 import java.util.List;
-import java.util.concurrent.ForkJoinPool;
 
 public class KirinoEngine {
 
@@ -94,6 +95,16 @@ public class KirinoEngine {
         }
     }
 
+    private final MeteredExecutor systemFlowExecutor;
+    private final MeteredExecutor systemExecutor;
+
+    /**
+     * @return The metrics of the executors that update the ecs-system flows and the systems, in that order
+     */
+    public List<ExecutorMetrics> getExecutorMetrics(boolean resetPeaks) {
+        return List.of(systemFlowExecutor.getMetrics(resetPeaks), systemExecutor.getMetrics(resetPeaks));
+    }
+
     private final WorldRunner<Graphics> graphicsWorld;
     private final WorldRunner<Headless> headlessWorld;
 
@@ -156,12 +167,12 @@ public class KirinoEngine {
 
         MinecraftCamera camera = new MinecraftCamera();
 
-        ForkJoinPool systemFlowPool = ForkJoinPoolUtils.newWorkStealingPool("KirinoMinecraftSystemFlow");
-        ForkJoinPool systemPool = ForkJoinPoolUtils.newWorkStealingPool("KirinoMinecraftSystem");
+        systemFlowExecutor = KirinoCommonCore.KIRINO_CONFIG_HUB.getSystemFlowExecutorBackend().create("KirinoMinecraftSystemFlow");
+        systemExecutor = KirinoCommonCore.KIRINO_CONFIG_HUB.getSystemExecutorBackend().create("KirinoMinecraftSystem");
 
         ShutdownManager.registerAsync(() -> {
-            ForkJoinPoolUtils.shutdownPool(systemFlowPool, 5);
-            ForkJoinPoolUtils.shutdownPool(systemPool, 5);
+            systemFlowExecutor.shutdown(5);
+            systemExecutor.shutdown(5);
         });
 
         MinecraftScene scene = new MinecraftScene(
@@ -173,8 +184,8 @@ public class KirinoEngine {
                 camera,
                 meshletGpuRegistry,
                 meshletComputeSystem,
-                systemFlowPool,
-                systemPool);
+                systemFlowExecutor,
+                systemExecutor);
 
         sceneViewState = new SceneViewState(
                 camera,
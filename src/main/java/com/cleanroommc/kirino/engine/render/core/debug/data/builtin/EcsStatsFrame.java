@@ -0,0 +1,66 @@
+package com.cleanroommc.kirino.engine.render.core.debug.data.builtin;
+
+import com.cleanroommc.kirino.KirinoCommonCore;
+import com.cleanroommc.kirino.ecs.entity.EntityManager;
+import com.cleanroommc.kirino.ecs.entity.EntityManagerStats;
+import com.cleanroommc.kirino.ecs.job.JobExecutionMetrics;
+import com.cleanroommc.kirino.ecs.job.JobScheduler;
+import com.cleanroommc.kirino.engine.render.core.debug.data.DebugDataService;
+import com.cleanroommc.kirino.engine.render.core.debug.hud.InGameDebugHUDManager;
+import com.cleanroommc.kirino.engine.render.core.debug.hud.builtin.EcsStatsHUD;
+import com.cleanroommc.kirino.engine.resource.ResourceSlot;
+import com.cleanroommc.kirino.utils.executor.ExecutorMetrics;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+public class EcsStatsFrame implements DebugDataService {
+    private final ResourceSlot<InGameDebugHUDManager> hud;
+    private final EntityManager entityManager;
+    private final JobScheduler jobScheduler;
+
+    public EcsStatsFrame(ResourceSlot<InGameDebugHUDManager> hud, EntityManager entityManager, JobScheduler jobScheduler) {
+        this.hud = hud;
+        this.entityManager = entityManager;
+        this.jobScheduler = jobScheduler;
+    }
+
+    @Override
+    public boolean isActive() {
+        if (KirinoCommonCore.KIRINO_ENGINE.getStorage() == null) {
+            return false;
+        }
+        if (!KirinoCommonCore.KIRINO_ENGINE.getStorage().has(hud)) {
+            return false;
+        }
+
+        return KirinoCommonCore.KIRINO_ENGINE.getStorage().get(hud).isEnabled()
+                && KirinoCommonCore.KIRINO_ENGINE.getStorage().get(hud).getCurrentHud() == EcsStatsHUD.class;
+    }
+
+    /**
+     * It's cached by the entity manager until the next flush.
+     */
+    @NonNull
+    public EntityManagerStats getStats() {
+        return entityManager.getStats();
+    }
+
+    /**
+     * Peaks are reset by every call, so they cover the time since the previous frame.
+     */
+    @NonNull
+    public JobExecutionMetrics getJobMetrics() {
+        return jobScheduler.getMetrics(true);
+    }
+
+    /**
+     * Peaks are reset by every call, so they cover the time since the previous frame.
+     *
+     * @see com.cleanroommc.kirino.engine.KirinoEngine#getExecutorMetrics(boolean)
+     */
+    @NonNull
+    public List<ExecutorMetrics> getExecutorMetrics() {
+        return KirinoCommonCore.KIRINO_ENGINE.getExecutorMetrics(true);
+    }
+}
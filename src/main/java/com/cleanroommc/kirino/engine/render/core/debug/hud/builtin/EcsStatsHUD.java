@@ -0,0 +1,88 @@
+package com.cleanroommc.kirino.engine.render.core.debug.hud.builtin;
+
+import com.cleanroommc.kirino.KirinoClientCore;
+import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.entity.EntityCommand;
+import com.cleanroommc.kirino.ecs.entity.EntityManagerStats;
+import com.cleanroommc.kirino.ecs.job.JobExecutionMetrics;
+import com.cleanroommc.kirino.engine.render.core.debug.data.builtin.EcsStatsFrame;
+import com.cleanroommc.kirino.engine.render.core.debug.hud.HUDContext;
+import com.cleanroommc.kirino.engine.render.core.debug.hud.ImmediateHUD;
+import com.cleanroommc.kirino.utils.executor.ExecutorMetrics;
+import org.jspecify.annotations.NonNull;
+
+public class EcsStatsHUD implements ImmediateHUD {
+    private static final int MAX_ARCHETYPE_LINES = 12;
+
+    @Override
+    public void draw(@NonNull HUDContext hud) {
+        var ecsStatsFrame = KirinoClientCore.DEBUG_SERVICE.get(EcsStatsFrame.class);
+        var ecsStatsFrameValue = ecsStatsFrame.fetch();
+        if (ecsStatsFrameValue == null) {
+            hud.text("ECS Stats: UNKNOWN");
+            return;
+        }
+
+        EntityManagerStats stats = ecsStatsFrameValue.getStats();
+        hud.text("Flush #" + stats.getFlushCount() + ": " + String.format("%.3f", stats.getFlushNanos() / 1_000_000d) + " ms, " + stats.getCommandCount() + " commands");
+        hud.text("Create: " + stats.getCommandCount(EntityCommand.Type.CREATE) +
+                ", Destroy: " + stats.getCommandCount(EntityCommand.Type.DESTROY) +
+                ", Move: " + stats.getArchetypeMoves() +
+                ", Set: " + (stats.getCommandCount(EntityCommand.Type.SET_COM)
+                        + stats.getCommandCount(EntityCommand.Type.SET_INT)
+                        + stats.getCommandCount(EntityCommand.Type.SET_FLOAT)
+                        + stats.getCommandCount(EntityCommand.Type.SET_BOOL)) +
+                ", Tag: " + (stats.getCommandCount(EntityCommand.Type.ADD_TAG) + stats.getCommandCount(EntityCommand.Type.REMOVE_TAG)));
+        hud.text("Entities: " + stats.getRows() + "/" + stats.getCapacity() + " rows, " + formatBytes(stats.getColumnBytes()) +
+                ", Indexes: " + stats.getEntityIndexCount() + " (" + stats.getFreeIndexCount() + " free)");
+        JobExecutionMetrics jobs = ecsStatsFrameValue.getJobMetrics();
+        hud.text("Jobs: " + jobs.executions() + " executions, " + jobs.tasks() + " tasks, " + jobs.rows() + " rows, " +
+                "mean task " + formatMicros(jobs.meanTaskNanos()) + ", mean wall " + formatMicros(jobs.meanWallNanos()) +
+                " (max " + formatMicros(jobs.maxWallNanos()) + "), busy workers " + String.format("%.2f", jobs.meanBusyWorkers()) +
+                " (peak " + jobs.peakWorkers() + ")");
+        for (ExecutorMetrics executor : ecsStatsFrameValue.getExecutorMetrics()) {
+            hud.text("  [" + executor.backend() + " x" + executor.parallelism() + "] " + executor.name() + ": " +
+                    executor.completedTasks() + "/" + executor.submittedTasks() + " tasks, active " + executor.activeTasks() +
+                    " (peak " + executor.peakActiveTasks() + "), queue " + formatMicros(executor.meanQueueNanos()) +
+                    " (max " + formatMicros(executor.maxQueueNanos()) + "), run " + formatMicros(executor.meanRunNanos()));
+        }
+
+        hud.text("Archetypes: " + stats.getArchetypes().size());
+
+        int lines = 0;
+        for (EntityManagerStats.ArchetypeStats archetype : stats.getArchetypes()) {
+            if (lines++ == MAX_ARCHETYPE_LINES) {
+                hud.text("  ...");
+                break;
+            }
+            hud.text("  [" + archetype.poolType().getSimpleName() + "] " + componentNames(archetype) + ": " +
+                    archetype.rows() + "/" + archetype.capacity() + " (" + (int) (archetype.getOccupancy() * 100) + "%), " +
+                    formatBytes(archetype.columnBytes()) + ", v" + archetype.storageVersion());
+        }
+    }
+
+    private static String componentNames(EntityManagerStats.ArchetypeStats archetype) {
+        StringBuilder builder = new StringBuilder();
+        for (Class<? extends CleanComponent> component : archetype.components()) {
+            if (!builder.isEmpty()) {
+                builder.append(", ");
+            }
+            builder.append(component.getSimpleName());
+        }
+        return builder.toString();
+    }
+
+    private static String formatMicros(long nanos) {
+        return String.format("%.1f us", nanos / 1000d);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024d);
+        }
+        return String.format("%.1f MB", bytes / (1024d * 1024d));
+    }
+}
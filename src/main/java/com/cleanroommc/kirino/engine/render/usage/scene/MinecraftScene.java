@@ -4,10 +4,12 @@ import com.cleanroommc.kirino.KirinoClientCore;
 import com.cleanroommc.kirino.KirinoClientDebug;
 import com.cleanroommc.kirino.ecs.entity.EntityManager;
 import com.cleanroommc.kirino.ecs.job.JobScheduler;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPoolFactory;
 import com.cleanroommc.kirino.ecs.system.exegraph.SingleFlow;
 import com.cleanroommc.kirino.ecs.world.CleanWorld;
 import com.cleanroommc.kirino.engine.render.core.camera.MinecraftCamera;
 import com.cleanroommc.kirino.engine.render.core.debug.gizmos.GizmosManager;
+import com.cleanroommc.kirino.engine.render.usage.ecs.component.MeshletComponent;
 import com.cleanroommc.kirino.engine.render.usage.minecraft.utils.BlockMeshGenerator;
 import com.cleanroommc.kirino.engine.render.usage.scene.callback.*;
 import com.cleanroommc.kirino.engine.render.usage.scene.fsm.MeshletGpuPipelineFSM;
@@ -95,6 +97,9 @@ public class MinecraftScene extends CleanWorld {
 
         super(entityManager, jobScheduler);
 
+        // meshlets are the largest archetype by far; keep them out of the Java heap
+        entityManager.setArchetypePoolFactory(ArchetypeDataPoolFactory.NATIVE, MeshletComponent.class);
+
         this.storage = storage;
 
         this.systemFlowExecutor = systemFlowExecutor;
@@ -113,7 +118,7 @@ public class MinecraftScene extends CleanWorld {
                 .build();
 
         chunkMeshletGenSystem = SingleFlow.newBuilder(this, ChunkMeshletGenSystem.class)
-                .addTransition(new ChunkMeshletGenSystem(storage, blockMeshGenerator, new MeshletDestroyCallback(storage, meshletGpuRegistry), new MeshletCreateCallback(storage, meshletGpuRegistry), systemExecutor), SingleFlow.START_NODE, SingleFlow.END_NODE)
+                .addTransition(new ChunkMeshletGenSystem(storage, blockMeshGenerator, new MeshletDestroyCallback(storage, meshletGpuRegistry, entityManager), new MeshletCreateCallback(storage, meshletGpuRegistry), systemExecutor), SingleFlow.START_NODE, SingleFlow.END_NODE)
                 .setFinishCallback(terrainFsm::next)
                 .build();
 
@@ -83,6 +83,7 @@ public class WorldControl {
             cachedEarlyChunks = new HashMap<>(MethodHolder.getLoadedChunks(minecraftChunkProvider));
 
             MethodHolder.setLoadChunkCallback(minecraftChunkProvider, (x, z) -> {
+                entityManager.reserve(16, ChunkComponent.class);
                 for (int i = 0; i < 16; i++) {
                     ChunkComponent chunkComponent = new ChunkComponent();
                     chunkComponent.chunkPosX = x;
@@ -133,6 +134,7 @@ public class WorldControl {
         // todo: destroy exisiting meshlet components
 
         // add early chunks (for those chunks that were there before load/unload callback setup)
+        entityManager.reserve(cachedEarlyChunks.size() * 16, ChunkComponent.class);
         for (Long chunkKey : cachedEarlyChunks.keySet()) {
             for (int i = 0; i < 16; i++) {
                 ChunkComponent chunkComponent = new ChunkComponent();
@@ -16,4 +16,9 @@ public class ChunkCreateCallback implements EntityCreateCallback {
     public void beforeCreate(@NonNull EntityCreateContext createContext) {
         chunkDelta.newChunksAdded = true;
     }
+
+    @Override
+    public void beforeCreateBatch(@NonNull EntityCreateContext createContext, int batchSize) {
+        chunkDelta.newChunksAdded = true;
+    }
 }
@@ -23,4 +23,13 @@ public class MeshletCreateCallback implements EntityCreateCallback {
         MeshletComponent meshletComponent = (MeshletComponent) createContext.getComponent(MeshletComponent.class);
         storage.get(meshletGpuRegistry).allocateMeshletID(meshletComponent);
     }
+
+    @Override
+    public void beforeCreateBatch(@NonNull EntityCreateContext createContext, int batchSize) {
+        MeshletGpuRegistry registry = storage.get(meshletGpuRegistry);
+        for (int i = 0; i < batchSize; i++) {
+            createContext.select(i);
+            registry.allocateMeshletID((MeshletComponent) createContext.getComponent(MeshletComponent.class));
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package com.cleanroommc.kirino.engine.render.usage.scene.callback;
 
+import com.cleanroommc.kirino.ecs.entity.EntityManager;
 import com.cleanroommc.kirino.ecs.entity.callback.EntityDestroyCallback;
 import com.cleanroommc.kirino.ecs.entity.callback.EntityDestroyContext;
+import com.cleanroommc.kirino.ecs.storage.ColumnHandle;
 import com.cleanroommc.kirino.engine.render.usage.ecs.component.MeshletComponent;
 import com.cleanroommc.kirino.engine.render.usage.scene.gpu_meshlet.MeshletGpuRegistry;
 import com.cleanroommc.kirino.engine.resource.ResourceSlot;
@@ -12,15 +14,28 @@ public class MeshletDestroyCallback implements EntityDestroyCallback {
 
     private final ResourceStorage storage;
     private final ResourceSlot<MeshletGpuRegistry> meshletGpuRegistry;
+    /**
+     * Only <code>meshletId</code> is needed, so it's read alone instead of rebuilding the whole {@link MeshletComponent}.
+     */
+    private final ColumnHandle meshletId;
 
-    public MeshletDestroyCallback(ResourceStorage storage, ResourceSlot<MeshletGpuRegistry> meshletGpuRegistry) {
+    public MeshletDestroyCallback(ResourceStorage storage, ResourceSlot<MeshletGpuRegistry> meshletGpuRegistry, EntityManager entityManager) {
         this.storage = storage;
         this.meshletGpuRegistry = meshletGpuRegistry;
+        meshletId = entityManager.newColumnHandle(MeshletComponent.class, "meshletId");
     }
 
     @Override
     public void beforeDestroy(@NonNull EntityDestroyContext destroyContext) {
-        MeshletComponent meshletComponent = (MeshletComponent) destroyContext.getComponent(MeshletComponent.class);
-        storage.get(meshletGpuRegistry).disposeMeshletID(meshletComponent.meshletId);
+        storage.get(meshletGpuRegistry).disposeMeshletID(destroyContext.getInt(meshletId));
+    }
+
+    @Override
+    public void beforeDestroyBatch(@NonNull EntityDestroyContext destroyContext, int batchSize) {
+        MeshletGpuRegistry registry = storage.get(meshletGpuRegistry);
+        for (int i = 0; i < batchSize; i++) {
+            destroyContext.select(i);
+            registry.disposeMeshletID(destroyContext.getInt(meshletId));
+        }
     }
 }
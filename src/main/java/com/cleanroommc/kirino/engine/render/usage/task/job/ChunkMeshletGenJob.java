@@ -42,43 +42,43 @@ public class ChunkMeshletGenJob implements ParallelJob {
      */
     int pass = 0;
 
-    @JobExternalDataQuery
+    @JobExternalDataQuery(write = false)
     ResourceStorage storage;
 
     @JobExternalDataQuery
     ConcurrentHashMap<Integer, BufferBuilder> tempBuffers;
 
-    @JobExternalDataQuery
+    @JobExternalDataQuery(write = false)
     int lod;
 
-    @JobExternalDataQuery
+    @JobExternalDataQuery(write = false)
     MeshletDestroyCallback meshletDestroyCallback;
 
-    @JobExternalDataQuery
+    @JobExternalDataQuery(write = false)
     MeshletCreateCallback meshletCreateCallback;
 
-    @JobExternalDataQuery
+    @JobExternalDataQuery(write = false)
     ChunkProviderClient chunkProvider;
 
-    @JobExternalDataQuery
+    @JobExternalDataQuery(write = false)
     WorldClient world;
 
-    @JobExternalDataQuery
+    @JobExternalDataQuery(write = false)
     ResourceSlot<BlockMeshGenerator> blockMeshGenerator;
 
-    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosX"})
+    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosX"}, write = false)
     PrimitiveArray chunkPosXArray;
 
-    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosY"})
+    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosY"}, write = false)
     PrimitiveArray chunkPosYArray;
 
-    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosZ"})
+    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosZ"}, write = false)
     PrimitiveArray chunkPosZArray;
 
     @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"isDirty"})
     PrimitiveArray isDirtyArray;
 
-    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"lod"})
+    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"lod"}, write = false)
     PrimitiveArray lodArray;
 
     @Override
@@ -305,6 +305,7 @@ public class ChunkMeshletGenJob implements ParallelJob {
     }
 
     void regionGrowing(int[][][] faceMask, boolean[][][] visited, ChunkCluster chunkCluster, EntityManager entityManager, BufferBuilder bufferBuilder) {
+        List<MeshletComponent> meshlets = new ArrayList<>();
         for (int x = 0; x < 16; x++) {
             for (int y = 0; y < 16; y++) {
                 for (int z = 0; z < 16; z++) {
@@ -376,10 +377,16 @@ public class ChunkMeshletGenJob implements ParallelJob {
                     meshletComponent.chunkPosZ = chunkCluster.chunkZ;
                     fillBlockInfo(chunkCluster, cluster, bufferBuilder);
 
-                    entityManager.createEntity(meshletDestroyCallback, meshletCreateCallback, meshletComponent);
+                    meshlets.add(meshletComponent);
                 }
             }
         }
+
+        // the meshlet count of this chunk is known now; reserve it up front
+        entityManager.reserve(meshlets.size(), MeshletComponent.class);
+        for (MeshletComponent meshletComponent : meshlets) {
+            entityManager.createEntity(meshletDestroyCallback, meshletCreateCallback, meshletComponent);
+        }
     }
 
     void fillBlockInfo(ChunkCluster chunkCluster, List<Block> cluster, BufferBuilder bufferBuilder) {
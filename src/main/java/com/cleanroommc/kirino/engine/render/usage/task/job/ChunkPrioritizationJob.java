@@ -2,58 +2,60 @@ package com.cleanroommc.kirino.engine.render.usage.task.job;
 
 import com.cleanroommc.kirino.ecs.entity.EntityManager;
 import com.cleanroommc.kirino.ecs.entity.EntityQuery;
-import com.cleanroommc.kirino.ecs.job.ParallelJob;
 import com.cleanroommc.kirino.ecs.job.JobDataQuery;
 import com.cleanroommc.kirino.ecs.job.JobExternalDataQuery;
+import com.cleanroommc.kirino.ecs.job.JobReduction;
+import com.cleanroommc.kirino.ecs.job.RangeParallelJob;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
 import com.cleanroommc.kirino.ecs.storage.PrimitiveArray;
 import com.cleanroommc.kirino.engine.render.core.camera.Camera;
 import com.cleanroommc.kirino.engine.render.usage.ecs.component.ChunkComponent;
 import org.joml.Vector3f;
 import org.jspecify.annotations.NonNull;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
-public class ChunkPrioritizationJob implements ParallelJob {
+public class ChunkPrioritizationJob implements RangeParallelJob {
     @JobExternalDataQuery
-    AtomicInteger maxLodCounter;
+    JobReduction maxLod;
 
-    @JobExternalDataQuery
+    @JobExternalDataQuery(write = false)
     Camera camera;
 
-    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosX"})
+    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosX"}, write = false)
     PrimitiveArray chunkPosXArray;
 
-    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosY"})
+    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosY"}, write = false)
     PrimitiveArray chunkPosYArray;
 
-    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosZ"})
+    @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"chunkPosZ"}, write = false)
     PrimitiveArray chunkPosZArray;
 
     @JobDataQuery(componentClass = ChunkComponent.class, fieldAccessChain = {"lod"})
     PrimitiveArray lodArray;
 
-    Vector3f worldOffset = null;
-
     @Override
-    public void execute(@NonNull EntityManager entityManager, int index, int entityID, int threadOrdinal) {
-        float chunkWorldX = (float) chunkPosXArray.getInt(index) * 16 + 8f;
-        float chunkWorldY = (float) chunkPosYArray.getInt(index) * 16 + 8f;
-        float chunkWorldZ = (float) chunkPosZArray.getInt(index) * 16 + 8f;
+    public void executeRange(@NonNull EntityManager entityManager, @NonNull ArchetypeDataPool archetype, int start, int end, int threadOrdinal) {
+        Vector3f worldOffset = camera.getWorldOffset();
+        float offsetX = worldOffset.x;
+        float offsetY = worldOffset.y;
+        float offsetZ = worldOffset.z;
 
-        if (worldOffset == null) {
-            worldOffset = camera.getWorldOffset();
-        }
+        int rangeMaxLod = 0;
+        for (int index = start; index < end; index++) {
+            float dx = (float) chunkPosXArray.getInt(index) * 16 + 8f - offsetX;
+            float dy = (float) chunkPosYArray.getInt(index) * 16 + 8f - offsetY;
+            float dz = (float) chunkPosZArray.getInt(index) * 16 + 8f - offsetZ;
+
+            float dis = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
 
-        float dis = (float) Math.sqrt((chunkWorldX - worldOffset.x) * (chunkWorldX - worldOffset.x) +
-                (chunkWorldY - worldOffset.y) * (chunkWorldY - worldOffset.y) +
-                (chunkWorldZ - worldOffset.z) * (chunkWorldZ - worldOffset.z));
+            // lod fallout distance = 16
+            int lod = (int) (dis / 16f);
 
-        // lod fallout distance = 16
-        int lod = (int) (dis / 16f);
+            lodArray.setInt(index, lod);
 
-        lodArray.setInt(index, lod);
+            rangeMaxLod = Math.max(rangeMaxLod, lod);
+        }
 
-        maxLodCounter.updateAndGet(prev -> Math.max(prev, lod));
+        maxLod.accumulate(threadOrdinal, rangeMaxLod);
     }
 
     @Override
@@ -16,2429 +16,2429 @@ public class MeshletBufferWriteJob implements ParallelJob {
     @JobExternalDataQuery
     MeshletGpuWriterContext meshletGpuWriterContext;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"meshletId"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"meshletId"}, write = false)
     PrimitiveArray meshletIdArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"blockCount"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"blockCount"}, write = false)
     PrimitiveArray blockCountArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosX"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosX"}, write = false)
     PrimitiveArray chunkPosXArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosY"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosY"}, write = false)
     PrimitiveArray chunkPosYArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosZ"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosZ"}, write = false)
     PrimitiveArray chunkPosZArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"normal", "x"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"normal", "x"}, write = false)
     PrimitiveArray normalXArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"normal", "y"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"normal", "y"}, write = false)
     PrimitiveArray normalYArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"normal", "z"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"normal", "z"}, write = false)
     PrimitiveArray normalZArray;
 
     //<editor-fold desc="32 block entries">
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "positionAndFaceMask"}, write = false)
     PrimitiveArray block0PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block0Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block0Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block0Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block0Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block0Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block0Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block0Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block0Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block0Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block0Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block0Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block0Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block0Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block0Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block0Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block0Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block0Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block0Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block0Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block0Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block0Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block0Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block0Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block0", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block0Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "positionAndFaceMask"}, write = false)
     PrimitiveArray block1PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block1Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block1Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block1Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block1Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block1Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block1Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block1Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block1Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block1Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block1Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block1Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block1Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block1Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block1Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block1Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block1Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block1Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block1Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block1Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block1Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block1Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block1Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block1Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block1", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block1Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "positionAndFaceMask"}, write = false)
     PrimitiveArray block2PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block2Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block2Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block2Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block2Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block2Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block2Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block2Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block2Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block2Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block2Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block2Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block2Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block2Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block2Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block2Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block2Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block2Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block2Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block2Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block2Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block2Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block2Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block2Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block2", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block2Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "positionAndFaceMask"}, write = false)
     PrimitiveArray block3PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block3Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block3Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block3Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block3Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block3Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block3Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block3Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block3Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block3Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block3Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block3Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block3Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block3Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block3Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block3Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block3Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block3Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block3Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block3Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block3Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block3Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block3Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block3Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block3", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block3Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "positionAndFaceMask"}, write = false)
     PrimitiveArray block4PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block4Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block4Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block4Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block4Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block4Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block4Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block4Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block4Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block4Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block4Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block4Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block4Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block4Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block4Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block4Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block4Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block4Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block4Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block4Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block4Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block4Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block4Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block4Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block4", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block4Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "positionAndFaceMask"}, write = false)
     PrimitiveArray block5PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block5Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block5Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block5Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block5Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block5Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block5Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block5Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block5Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block5Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block5Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block5Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block5Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block5Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block5Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block5Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block5Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block5Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block5Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block5Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block5Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block5Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block5Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block5Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block5", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block5Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "positionAndFaceMask"}, write = false)
     PrimitiveArray block6PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block6Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block6Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block6Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block6Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block6Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block6Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block6Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block6Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block6Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block6Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block6Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block6Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block6Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block6Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block6Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block6Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block6Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block6Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block6Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block6Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block6Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block6Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block6Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block6", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block6Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "positionAndFaceMask"}, write = false)
     PrimitiveArray block7PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block7Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block7Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block7Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block7Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block7Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block7Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block7Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block7Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block7Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block7Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block7Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block7Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block7Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block7Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block7Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block7Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block7Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block7Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block7Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block7Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block7Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block7Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block7Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block7", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block7Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "positionAndFaceMask"}, write = false)
     PrimitiveArray block8PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block8Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block8Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block8Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block8Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block8Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block8Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block8Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block8Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block8Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block8Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block8Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block8Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block8Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block8Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block8Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block8Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block8Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block8Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block8Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block8Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block8Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block8Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block8Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block8", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block8Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "positionAndFaceMask"}, write = false)
     PrimitiveArray block9PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block9Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block9Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block9Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block9Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block9Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block9Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block9Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block9Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block9Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block9Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block9Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block9Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block9Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block9Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block9Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block9Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block9Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block9Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block9Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block9Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block9Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block9Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block9Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block9", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block9Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "positionAndFaceMask"}, write = false)
     PrimitiveArray block10PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block10Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block10Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block10Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block10Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block10Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block10Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block10Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block10Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block10Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block10Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block10Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block10Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block10Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block10Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block10Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block10Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block10Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block10Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block10Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block10Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block10Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block10Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block10Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block10", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block10Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "positionAndFaceMask"}, write = false)
     PrimitiveArray block11PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block11Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block11Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block11Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block11Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block11Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block11Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block11Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block11Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block11Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block11Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block11Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block11Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block11Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block11Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block11Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block11Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block11Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block11Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block11Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block11Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block11Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block11Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block11Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block11", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block11Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "positionAndFaceMask"}, write = false)
     PrimitiveArray block12PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block12Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block12Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block12Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block12Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block12Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block12Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block12Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block12Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block12Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block12Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block12Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block12Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block12Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block12Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block12Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block12Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block12Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block12Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block12Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block12Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block12Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block12Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block12Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block12", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block12Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "positionAndFaceMask"}, write = false)
     PrimitiveArray block13PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block13Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block13Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block13Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block13Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block13Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block13Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block13Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block13Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block13Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block13Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block13Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block13Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block13Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block13Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block13Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block13Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block13Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block13Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block13Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block13Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block13Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block13Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block13Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block13", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block13Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "positionAndFaceMask"}, write = false)
     PrimitiveArray block14PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block14Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block14Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block14Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block14Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block14Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block14Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block14Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block14Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block14Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block14Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block14Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block14Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block14Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block14Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block14Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block14Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block14Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block14Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block14Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block14Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block14Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block14Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block14Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block14", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block14Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "positionAndFaceMask"}, write = false)
     PrimitiveArray block15PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block15Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block15Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block15Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block15Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block15Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block15Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block15Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block15Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block15Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block15Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block15Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block15Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block15Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block15Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block15Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block15Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block15Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block15Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block15Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block15Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block15Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block15Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block15Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block15", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block15Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "positionAndFaceMask"}, write = false)
     PrimitiveArray block16PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block16Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block16Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block16Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block16Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block16Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block16Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block16Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block16Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block16Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block16Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block16Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block16Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block16Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block16Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block16Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block16Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block16Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block16Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block16Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block16Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block16Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block16Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block16Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block16", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block16Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "positionAndFaceMask"}, write = false)
     PrimitiveArray block17PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block17Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block17Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block17Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block17Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block17Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block17Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block17Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block17Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block17Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block17Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block17Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block17Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block17Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block17Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block17Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block17Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block17Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block17Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block17Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block17Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block17Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block17Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block17Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block17", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block17Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "positionAndFaceMask"}, write = false)
     PrimitiveArray block18PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block18Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block18Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block18Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block18Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block18Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block18Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block18Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block18Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block18Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block18Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block18Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block18Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block18Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block18Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block18Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block18Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block18Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block18Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block18Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block18Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block18Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block18Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block18Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block18", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block18Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "positionAndFaceMask"}, write = false)
     PrimitiveArray block19PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block19Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block19Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block19Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block19Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block19Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block19Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block19Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block19Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block19Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block19Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block19Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block19Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block19Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block19Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block19Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block19Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block19Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block19Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block19Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block19Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block19Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block19Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block19Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block19", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block19Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "positionAndFaceMask"}, write = false)
     PrimitiveArray block20PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block20Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block20Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block20Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block20Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block20Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block20Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block20Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block20Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block20Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block20Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block20Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block20Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block20Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block20Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block20Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block20Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block20Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block20Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block20Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block20Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block20Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block20Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block20Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block20", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block20Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "positionAndFaceMask"}, write = false)
     PrimitiveArray block21PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block21Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block21Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block21Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block21Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block21Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block21Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block21Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block21Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block21Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block21Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block21Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block21Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block21Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block21Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block21Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block21Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block21Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block21Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block21Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block21Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block21Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block21Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block21Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block21", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block21Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "positionAndFaceMask"}, write = false)
     PrimitiveArray block22PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block22Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block22Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block22Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block22Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block22Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block22Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block22Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block22Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block22Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block22Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block22Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block22Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block22Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block22Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block22Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block22Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block22Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block22Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block22Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block22Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block22Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block22Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block22Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block22", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block22Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "positionAndFaceMask"}, write = false)
     PrimitiveArray block23PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block23Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block23Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block23Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block23Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block23Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block23Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block23Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block23Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block23Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block23Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block23Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block23Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block23Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block23Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block23Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block23Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block23Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block23Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block23Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block23Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block23Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block23Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block23Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block23", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block23Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "positionAndFaceMask"}, write = false)
     PrimitiveArray block24PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block24Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block24Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block24Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block24Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block24Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block24Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block24Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block24Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block24Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block24Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block24Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block24Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block24Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block24Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block24Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block24Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block24Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block24Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block24Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block24Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block24Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block24Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block24Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block24", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block24Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "positionAndFaceMask"}, write = false)
     PrimitiveArray block25PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block25Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block25Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block25Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block25Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block25Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block25Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block25Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block25Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block25Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block25Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block25Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block25Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block25Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block25Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block25Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block25Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block25Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block25Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block25Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block25Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block25Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block25Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block25Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block25", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block25Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "positionAndFaceMask"}, write = false)
     PrimitiveArray block26PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block26Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block26Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block26Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block26Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block26Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block26Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block26Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block26Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block26Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block26Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block26Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block26Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block26Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block26Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block26Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block26Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block26Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block26Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block26Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block26Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block26Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block26Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block26Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block26", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block26Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "positionAndFaceMask"}, write = false)
     PrimitiveArray block27PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block27Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block27Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block27Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block27Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block27Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block27Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block27Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block27Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block27Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block27Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block27Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block27Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block27Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block27Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block27Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block27Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block27Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block27Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block27Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block27Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block27Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block27Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block27Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block27", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block27Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "positionAndFaceMask"}, write = false)
     PrimitiveArray block28PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block28Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block28Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block28Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block28Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block28Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block28Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block28Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block28Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block28Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block28Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block28Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block28Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block28Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block28Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block28Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block28Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block28Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block28Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block28Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block28Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block28Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block28Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block28Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block28", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block28Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "positionAndFaceMask"}, write = false)
     PrimitiveArray block29PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block29Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block29Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block29Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block29Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block29Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block29Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block29Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block29Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block29Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block29Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block29Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block29Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block29Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block29Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block29Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block29Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block29Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block29Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block29Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block29Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block29Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block29Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block29Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block29", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block29Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "positionAndFaceMask"}, write = false)
     PrimitiveArray block30PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block30Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block30Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block30Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block30Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block30Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block30Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block30Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block30Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block30Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block30Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block30Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block30Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block30Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block30Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block30Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block30Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block30Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block30Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block30Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block30Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block30Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block30Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block30Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block30", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block30Zm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "positionAndFaceMask"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "positionAndFaceMask"}, write = false)
     PrimitiveArray block31PfArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block31Xp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block31Xp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block31Xp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block31Xp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block31Xm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block31Xm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block31Xm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "xMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block31Xm3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block31Yp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block31Yp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block31Yp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block31Yp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block31Ym0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block31Ym1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block31Ym2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "yMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block31Ym3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zPlusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zPlusFaceTexCoord0"}, write = false)
     PrimitiveArray block31Zp0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zPlusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zPlusFaceTexCoord1"}, write = false)
     PrimitiveArray block31Zp1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zPlusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zPlusFaceTexCoord2"}, write = false)
     PrimitiveArray block31Zp2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zPlusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zPlusFaceTexCoord3"}, write = false)
     PrimitiveArray block31Zp3Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zMinusFaceTexCoord0"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zMinusFaceTexCoord0"}, write = false)
     PrimitiveArray block31Zm0Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zMinusFaceTexCoord1"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zMinusFaceTexCoord1"}, write = false)
     PrimitiveArray block31Zm1Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zMinusFaceTexCoord2"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zMinusFaceTexCoord2"}, write = false)
     PrimitiveArray block31Zm2Array;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zMinusFaceTexCoord3"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"block31", "blockInfo", "zMinusFaceTexCoord3"}, write = false)
     PrimitiveArray block31Zm3Array;
     //</editor-fold>
 
@@ -4279,4 +4279,10 @@ public class MeshletBufferWriteJob implements ParallelJob {
     public int estimateWorkload(int index) {
         return 32 * 2;
     }
+
+    @Override
+    public void reset() {
+        // the view belongs to the writer context of the last execution
+        byteBuffer = null;
+    }
 }
@@ -13,16 +13,16 @@ import org.jspecify.annotations.NonNull;
 
 
 public class MeshletDestroyJob implements ParallelJob {
-    @JobExternalDataQuery
+    @JobExternalDataQuery(write = false)
     CallbackDrivenChunkDelta chunkDelta;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosX"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosX"}, write = false)
     PrimitiveArray chunkPosXArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosY"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosY"}, write = false)
     PrimitiveArray chunkPosYArray;
 
-    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosZ"})
+    @JobDataQuery(componentClass = MeshletComponent.class, fieldAccessChain = {"chunkPosZ"}, write = false)
     PrimitiveArray chunkPosZArray;
 
     @Override
@@ -1,6 +1,7 @@
 package com.cleanroommc.kirino.engine.render.usage.task.system;
 
 import com.cleanroommc.kirino.ecs.entity.EntityManager;
+import com.cleanroommc.kirino.ecs.job.ComponentAccess;
 import com.cleanroommc.kirino.ecs.job.JobScheduler;
 import com.cleanroommc.kirino.ecs.system.CleanSystem;
 import com.cleanroommc.kirino.engine.render.usage.minecraft.utils.BlockMeshGenerator;
@@ -56,6 +57,11 @@ public class ChunkMeshletGenSystem extends CleanSystem {
         this.world = world;
     }
 
+    @Override
+    public void declareAccess(ComponentAccess.@NonNull Builder access) {
+        access.job(ChunkMeshletGenJob.class, externalData);
+    }
+
     @Override
     public void update(@NonNull EntityManager entityManager, @NonNull JobScheduler jobScheduler) {
         externalData.put("lod", lod);
@@ -1,6 +1,8 @@
 package com.cleanroommc.kirino.engine.render.usage.task.system;
 
 import com.cleanroommc.kirino.ecs.entity.EntityManager;
+import com.cleanroommc.kirino.ecs.job.ComponentAccess;
+import com.cleanroommc.kirino.ecs.job.JobReduction;
 import com.cleanroommc.kirino.ecs.job.JobScheduler;
 import com.cleanroommc.kirino.ecs.system.CleanSystem;
 import com.cleanroommc.kirino.engine.render.core.camera.Camera;
@@ -10,29 +12,34 @@ import org.jspecify.annotations.NonNull;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Executor;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public class ChunkPrioritizationSystem extends CleanSystem {
     private final Map<String, Object> externalData;
-    private final AtomicInteger maxLodCounter;
+    private final JobReduction maxLod;
 
     private final Executor executor;
 
     public ChunkPrioritizationSystem(Camera camera, Executor executor) {
         externalData = new HashMap<>();
         externalData.put("camera", camera);
-        maxLodCounter = new AtomicInteger(-1);
-        externalData.put("maxLodCounter", maxLodCounter);
+        maxLod = JobReduction.max();
+        externalData.put("maxLod", maxLod);
         this.executor = executor;
     }
 
     public int getCurrentMaxLod() {
-        return maxLodCounter.get();
+        // no chunk yields the identity
+        return (int) Math.max(-1, maxLod.get());
+    }
+
+    @Override
+    public void declareAccess(ComponentAccess.@NonNull Builder access) {
+        access.job(ChunkPrioritizationJob.class, externalData);
     }
 
     @Override
     public void update(@NonNull EntityManager entityManager, @NonNull JobScheduler jobScheduler) {
-        maxLodCounter.set(-1);
+        maxLod.reset();
         JobScheduler.ExecutionHandle handle = jobScheduler.executeParallelJob(
                 entityManager,
                 ChunkPrioritizationJob.class,
@@ -1,6 +1,7 @@
 package com.cleanroommc.kirino.engine.render.usage.task.system;
 
 import com.cleanroommc.kirino.ecs.entity.EntityManager;
+import com.cleanroommc.kirino.ecs.job.ComponentAccess;
 import com.cleanroommc.kirino.ecs.job.JobScheduler;
 import com.cleanroommc.kirino.ecs.system.CleanSystem;
 import com.cleanroommc.kirino.engine.render.core.debug.gizmos.GizmosManager;
@@ -25,6 +26,11 @@ public class MeshletDebugSystem extends CleanSystem {
         this.executor = executor;
     }
 
+    @Override
+    public void declareAccess(ComponentAccess.@NonNull Builder access) {
+        access.job(MeshletDebugJob.class, externalData);
+    }
+
     @Override
     public void update(@NonNull EntityManager entityManager, @NonNull JobScheduler jobScheduler) {
         JobScheduler.ExecutionHandle handle = jobScheduler.executeParallelJob(
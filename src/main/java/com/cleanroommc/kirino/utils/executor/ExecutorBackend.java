@@ -0,0 +1,85 @@
+package com.cleanroommc.kirino.utils.executor;
+
+import com.cleanroommc.kirino.utils.ForkJoinPoolUtils;
+import com.google.common.base.Preconditions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.NonNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The selectable implementations behind a {@link MeteredExecutor}. All of them report the same {@link ExecutorMetrics}.
+ */
+public enum ExecutorBackend {
+    /**
+     * A work stealing {@link ForkJoinPool} (see {@link ForkJoinPoolUtils#newWorkStealingPool(String)}).
+     * Parallel jobs split themselves by work stealing only on this backend.
+     */
+    FORK_JOIN {
+        @Override
+        @NonNull
+        MeteredExecutor newExecutor(@NonNull String name) {
+            int[] parallelism = new int[1];
+            ForkJoinPool pool = ForkJoinPoolUtils.newWorkStealingPool(name, parallelism);
+            return new MeteredExecutor(name, this, pool, parallelism[0]);
+        }
+    },
+    /**
+     * One new virtual thread per task. Blocking joins only park the virtual thread,
+     * so it fits flow orchestration that mostly waits on systems, not the cpu-heavy systems themselves.
+     */
+    VIRTUAL_THREAD {
+        @Override
+        @NonNull
+        MeteredExecutor newExecutor(@NonNull String name) {
+            ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                    .name(name + "-virtual-", 1)
+                    .uncaughtExceptionHandler((thread, throwable) -> {
+                        LOGGER.error("[" + name + "] Unhandled exception in " + thread.getName(), throwable);
+                    })
+                    .factory());
+            // virtual threads are carried by as many platform threads as there are cores
+            return new MeteredExecutor(name, this, executor, Runtime.getRuntime().availableProcessors());
+        }
+    },
+    /**
+     * A fixed pool of platform threads (parallelism = <code>cores</code>) with one shared queue.
+     */
+    FIXED_PLATFORM {
+        @Override
+        @NonNull
+        MeteredExecutor newExecutor(@NonNull String name) {
+            int parallelism = Runtime.getRuntime().availableProcessors();
+            AtomicInteger counter = new AtomicInteger(1);
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread t = new Thread(runnable, name + "-worker-" + counter.getAndIncrement());
+                t.setDaemon(true);
+                t.setUncaughtExceptionHandler((thread, throwable) -> {
+                    LOGGER.error("[" + name + "] Unhandled exception in " + thread.getName(), throwable);
+                });
+                return t;
+            });
+            return new MeteredExecutor(name, this, executor, parallelism);
+        }
+    };
+
+    private final static Logger LOGGER = LogManager.getLogger();
+
+    @NonNull
+    abstract MeteredExecutor newExecutor(@NonNull String name);
+
+    /**
+     * @param name The executor name. Thread names follow the <code>XXX-worker-*</code> or <code>XXX-virtual-*</code> pattern
+     * @return A new executor of this backend
+     */
+    @NonNull
+    public MeteredExecutor create(@NonNull String name) {
+        Preconditions.checkNotNull(name);
+
+        return newExecutor(name);
+    }
+}
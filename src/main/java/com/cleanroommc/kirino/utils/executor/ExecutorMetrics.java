@@ -0,0 +1,39 @@
+package com.cleanroommc.kirino.utils.executor;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A snapshot of the metrics of a {@link MeteredExecutor}. Only submitted tasks are counted;
+ * Subtasks forked inside a {@link java.util.concurrent.ForkJoinPool} are part of the task that forked them.
+ *
+ * @param name The executor name
+ * @param backend The backend
+ * @param parallelism The number of tasks the backend runs at once
+ * @param submittedTasks The number of submitted tasks
+ * @param completedTasks The number of completed tasks, including failed ones
+ * @param activeTasks The number of running tasks
+ * @param peakActiveTasks The highest number of running tasks since the last peak reset
+ * @param totalQueueNanos The total time tasks waited between submission and start
+ * @param maxQueueNanos The longest time a task waited between submission and start since the last peak reset
+ * @param totalRunNanos The total running time of the completed tasks
+ */
+public record ExecutorMetrics(
+        @NonNull String name,
+        @NonNull ExecutorBackend backend,
+        int parallelism,
+        long submittedTasks,
+        long completedTasks,
+        int activeTasks,
+        int peakActiveTasks,
+        long totalQueueNanos,
+        long maxQueueNanos,
+        long totalRunNanos) {
+
+    public long meanQueueNanos() {
+        return completedTasks == 0 ? 0 : totalQueueNanos / completedTasks;
+    }
+
+    public long meanRunNanos() {
+        return completedTasks == 0 ? 0 : totalRunNanos / completedTasks;
+    }
+}
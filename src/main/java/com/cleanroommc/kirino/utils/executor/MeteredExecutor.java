@@ -0,0 +1,112 @@
+package com.cleanroommc.kirino.utils.executor;
+
+import com.google.common.base.Preconditions;
+import org.jspecify.annotations.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An executor of a selectable {@link ExecutorBackend} that measures every submitted task the same way,
+ * so backends can be compared on the same workload.
+ */
+public final class MeteredExecutor implements Executor {
+    private final String name;
+    private final ExecutorBackend backend;
+    private final ExecutorService delegate;
+    private final int parallelism;
+
+    private final LongAdder submittedTasks = new LongAdder();
+    private final LongAdder completedTasks = new LongAdder();
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final AtomicInteger peakActiveTasks = new AtomicInteger();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final LongAccumulator maxQueueNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder totalRunNanos = new LongAdder();
+
+    MeteredExecutor(String name, ExecutorBackend backend, ExecutorService delegate, int parallelism) {
+        this.name = name;
+        this.backend = backend;
+        this.delegate = delegate;
+        this.parallelism = parallelism;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ExecutorBackend getBackend() {
+        return backend;
+    }
+
+    /**
+     * @return The underlying executor; Tasks submitted to it directly aren't measured
+     */
+    public ExecutorService getDelegate() {
+        return delegate;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        Preconditions.checkNotNull(command);
+
+        long submitTime = System.nanoTime();
+        submittedTasks.increment();
+        delegate.execute(() -> {
+            long startTime = System.nanoTime();
+            totalQueueNanos.add(startTime - submitTime);
+            maxQueueNanos.accumulate(startTime - submitTime);
+            peakActiveTasks.accumulateAndGet(activeTasks.incrementAndGet(), Math::max);
+            try {
+                command.run();
+            } finally {
+                activeTasks.decrementAndGet();
+                totalRunNanos.add(System.nanoTime() - startTime);
+                completedTasks.increment();
+            }
+        });
+    }
+
+    /**
+     * @param resetPeaks Whether to reset the peak values after the snapshot, e.g. to measure peaks per frame
+     * @return The metrics snapshot
+     */
+    @NonNull
+    public ExecutorMetrics getMetrics(boolean resetPeaks) {
+        return new ExecutorMetrics(
+                name,
+                backend,
+                parallelism,
+                submittedTasks.sum(),
+                completedTasks.sum(),
+                activeTasks.get(),
+                resetPeaks ? peakActiveTasks.getAndSet(activeTasks.get()) : peakActiveTasks.get(),
+                totalQueueNanos.sum(),
+                resetPeaks ? maxQueueNanos.getThenReset() : maxQueueNanos.get(),
+                totalRunNanos.sum());
+    }
+
+    /**
+     * @param timeout In second
+     */
+    public void shutdown(long timeout) {
+        delegate.shutdown();
+
+        try {
+            if (!delegate.awaitTermination(timeout, TimeUnit.SECONDS)) {
+                delegate.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            delegate.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.cleanroommc.test.kirino.ecs;
+
+import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldDef;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarType;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.struct.StructRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.meta.MemberLayout;
+import com.cleanroommc.kirino.ecs.storage.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArchetypeDataPoolTest {
+
+    public static class TestComponent implements CleanComponent {
+        public int a;
+        public float b;
+        public boolean c;
+
+        public TestComponent() {
+        }
+
+        public TestComponent(int a, float b, boolean c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+    }
+
+    public static class FlagComponent implements CleanComponent {
+        public int flag;
+
+        public FlagComponent() {
+        }
+
+        public FlagComponent(int flag) {
+            this.flag = flag;
+        }
+    }
+
+    private ComponentRegistry componentRegistry;
+
+    @BeforeEach
+    public void setup() {
+        FieldRegistry fieldRegistry = new FieldRegistry(new StructRegistry());
+        fieldRegistry.registerFieldType("int", int.class, new FieldDef(ScalarType.INT));
+        fieldRegistry.registerFieldType("float", float.class, new FieldDef(ScalarType.FLOAT));
+        fieldRegistry.registerFieldType("bool", boolean.class, new FieldDef(ScalarType.BOOL));
+
+        componentRegistry = new ComponentRegistry(fieldRegistry);
+        componentRegistry.registerComponent("TestComponent", TestComponent.class, new MemberLayout("a", "b", "c"), "int", "float", "bool");
+        componentRegistry.registerComponent("FlagComponent", FlagComponent.class, new MemberLayout("flag"), "int");
+    }
+
+    private ArchetypeDataPool newPool(boolean nativePool) {
+        return nativePool
+                ? new NativePool(componentRegistry, List.of(TestComponent.class), 4, 4, 4)
+                : new HeapPool(componentRegistry, List.of(TestComponent.class), 4, 4, 4);
+    }
+
+    private void testAddGetSet(boolean nativePool) {
+        ArchetypeDataPool pool = newPool(nativePool);
+        pool.addEntity(7, List.of(new TestComponent(1, 2.5f, true)));
+
+        TestComponent component = (TestComponent) pool.getComponent(7, TestComponent.class);
+        assertEquals(1, component.a);
+        assertEquals(2.5f, component.b, 0.f);
+        assertTrue(component.c);
+
+        pool.setComponent(7, new TestComponent(3, 4.5f, false));
+        PrimitiveArray a = pool.getArray(TestComponent.class, "a");
+        PrimitiveArray b = pool.getArray(TestComponent.class, "b");
+        PrimitiveArray c = pool.getArray(TestComponent.class, "c");
+        assertEquals(3, a.getInt(0));
+        assertEquals(4.5f, b.getFloat(0), 0.f);
+        assertFalse(c.getBool(0));
+
+        ColumnHandle handle = ColumnHandle.resolve(componentRegistry, TestComponent.class, "b");
+        pool.setFloat(7, handle, 9f);
+        assertEquals(9f, pool.getFloat(7, handle), 0.f);
+        assertThrows(IllegalArgumentException.class, () -> pool.getInt(7, handle));
+    }
+
+    private void testSwapRemoveAndGrow(boolean nativePool) {
+        ArchetypeDataPool pool = newPool(nativePool);
+        for (int i = 0; i < 10; i++) {
+            pool.addEntity(i, List.of(new TestComponent(i, i * 0.5f, i % 2 == 0)));
+        }
+        assertTrue(pool.getCurrentSize() >= 10);
+        assertEquals(10, pool.getArrayRange().end);
+
+        pool.removeEntity(2);
+        pool.removeEntity(5);
+        assertEquals(8, pool.getArrayRange().end);
+        assertFalse(pool.containsEntity(2));
+
+        // every row in range is occupied and still matches its entity
+        PrimitiveArray a = pool.getArray(TestComponent.class, "a");
+        Set<Integer> seen = new HashSet<>();
+        for (int row = pool.getArrayRange().start; row < pool.getArrayRange().end; row++) {
+            int entityID = pool.getEntityID(row);
+            assertEquals(entityID, a.getInt(row));
+            assertEquals(entityID * 0.5f, ((TestComponent) pool.getComponent(entityID, TestComponent.class)).b, 0.f);
+            seen.add(entityID);
+        }
+        assertEquals(Set.of(0, 1, 3, 4, 6, 7, 8, 9), seen);
+    }
+
+    private void testGrowthPolicy(boolean nativePool) {
+        ArchetypeDataPool pool = newPool(nativePool);
+
+        int resizes = 0;
+        int lastSize = pool.getCurrentSize();
+        for (int i = 0; i < 1000; i++) {
+            pool.addEntity(i, List.of(new TestComponent(i, 0f, false)));
+            if (pool.getCurrentSize() != lastSize) {
+                resizes++;
+                lastSize = pool.getCurrentSize();
+            }
+        }
+        // geometric growth
+        assertTrue(resizes < 20);
+
+        // hysteresis: removing half of the entities doesn't shrink
+        for (int i = 0; i < 500; i++) {
+            pool.removeEntity(i);
+        }
+        assertEquals(lastSize, pool.getCurrentSize());
+
+        for (int i = 500; i < 1000; i++) {
+            pool.removeEntity(i);
+        }
+        assertEquals(4, pool.getCurrentSize());
+
+        pool.reserve(300);
+        assertTrue(pool.getCurrentSize() >= 300);
+    }
+
+    @Test
+    public void testGrowthPolicy() {
+        testGrowthPolicy(false);
+        testGrowthPolicy(true);
+    }
+
+    private void testArrayByHandle(boolean nativePool) {
+        ArchetypeDataPool pool = newPool(nativePool);
+        pool.addEntity(0, List.of(new TestComponent(5, 1.5f, true)));
+
+        ColumnHandle b = ColumnHandle.resolve(componentRegistry, TestComponent.class, "b");
+        int storageVersion = pool.getStorageVersion();
+        PrimitiveArray array = pool.getArray(b);
+        assertEquals(1.5f, array.getFloat(0), 0.f);
+        assertEquals(pool.getArray(TestComponent.class, "b").getFloat(0), array.getFloat(0), 0.f);
+
+        // no reallocation, no new storage version
+        pool.setComponent(0, new TestComponent(5, 2.5f, true));
+        assertEquals(storageVersion, pool.getStorageVersion());
+        assertEquals(2.5f, array.getFloat(0), 0.f);
+
+        for (int i = 1; i < 10; i++) {
+            pool.addEntity(i, List.of(new TestComponent(i, 0f, false)));
+        }
+        assertNotEquals(storageVersion, pool.getStorageVersion());
+        assertEquals(2.5f, pool.getArray(b).getFloat(0), 0.f);
+    }
+
+    @Test
+    public void testArrayByHandle() {
+        testArrayByHandle(false);
+        testArrayByHandle(true);
+    }
+
+    private void testBulkAddRemove(boolean nativePool) {
+        ArchetypeDataPool pool = newPool(nativePool);
+        int[] entityIDs = new int[20];
+        List<List<CleanComponent>> components = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entityIDs[i] = 100 + i;
+            components.add(List.of(new TestComponent(i, i * 2f, true)));
+        }
+
+        pool.addEntities(entityIDs, components, 0, 20);
+        assertEquals(20, pool.getArrayRange().end);
+        assertEquals(20, pool.getCurrentSize());
+        for (int i = 0; i < 20; i++) {
+            TestComponent component = (TestComponent) pool.getComponent(100 + i, TestComponent.class);
+            assertEquals(i, component.a);
+            assertEquals(i * 2f, component.b, 0.f);
+        }
+
+        pool.removeEntities(entityIDs, 0, 18);
+        assertEquals(2, pool.getArrayRange().end);
+        assertEquals(4, pool.getCurrentSize());
+        assertEquals(18, ((TestComponent) pool.getComponent(118, TestComponent.class)).a);
+        assertEquals(19, ((TestComponent) pool.getComponent(119, TestComponent.class)).a);
+    }
+
+    @Test
+    public void testHeapPoolBulkAddRemove() {
+        testBulkAddRemove(false);
+    }
+
+    @Test
+    public void testNativePoolBulkAddRemove() {
+        testBulkAddRemove(true);
+    }
+
+    @Test
+    public void testHeapPoolAddGetSet() {
+        testAddGetSet(false);
+    }
+
+    @Test
+    public void testNativePoolAddGetSet() {
+        testAddGetSet(true);
+    }
+
+    @Test
+    public void testHeapPoolSwapRemoveAndGrow() {
+        testSwapRemoveAndGrow(false);
+    }
+
+    @Test
+    public void testNativePoolSwapRemoveAndGrow() {
+        testSwapRemoveAndGrow(true);
+    }
+
+    @Test
+    public void testNativePoolBulkCopy() {
+        try (NativePool pool = (NativePool) newPool(true)) {
+            for (int i = 0; i < 6; i++) {
+                pool.addEntity(i, List.of(new TestComponent(i * 10, 0f, false)));
+            }
+            NativePrimitiveArray a = (NativePrimitiveArray) pool.getArray(TestComponent.class, "a");
+            int[] dst = new int[6];
+            IntBuffer buffer = MemoryUtil.memAllocInt(6);
+            try {
+                a.copyTo(0, 6, MemoryUtil.memAddress(buffer));
+                buffer.get(dst);
+            } finally {
+                MemoryUtil.memFree(buffer);
+            }
+            assertArrayEquals(new int[]{0, 10, 20, 30, 40, 50}, dst);
+            assertThrows(IndexOutOfBoundsException.class, () -> a.getInt(pool.getCurrentSize()));
+        }
+    }
+
+    @Test
+    public void testNativePoolMissingEntity() {
+        try (NativePool pool = (NativePool) newPool(true)) {
+            pool.addEntity(0, List.of(new TestComponent(1, 0f, false)));
+            ColumnHandle a = ColumnHandle.resolve(componentRegistry, TestComponent.class, "a");
+
+            // an unmapped entity must never reach native memory
+            assertThrows(IndexOutOfBoundsException.class, () -> pool.setInt(3, a, 5));
+            assertThrows(IndexOutOfBoundsException.class, () -> pool.getInt(3, a));
+            assertThrows(IndexOutOfBoundsException.class, () -> pool.setComponent(3, new TestComponent(2, 0f, false)));
+            assertThrows(IndexOutOfBoundsException.class, () -> pool.removeEntity(3));
+
+            assertEquals(1, pool.getArrayRange().end);
+            assertEquals(1, pool.getInt(0, a));
+        }
+    }
+
+    @Test
+    public void testRemoveMissingEntity() {
+        List<ArchetypeDataPool> pools = List.of(
+                newPool(false),
+                new ChunkedPool(componentRegistry, List.of(TestComponent.class), 4, 4, 4, 64));
+        for (ArchetypeDataPool pool : pools) {
+            pool.addEntity(0, List.of(new TestComponent(1, 0f, false)));
+            pool.addEntity(1, List.of(new TestComponent(2, 0f, false)));
+
+            // a missing entity must throw before anything is unmapped or the row count drops
+            assertThrows(IndexOutOfBoundsException.class, () -> pool.removeEntity(3));
+            assertEquals(2, pool.getArrayRange().end);
+            assertEquals(1, ((TestComponent) pool.getComponent(0, TestComponent.class)).a);
+            assertEquals(2, ((TestComponent) pool.getComponent(1, TestComponent.class)).a);
+        }
+    }
+
+    @Test
+    public void testNativePoolClosed() {
+        NativePool pool = (NativePool) newPool(true);
+        pool.addEntity(0, List.of(new TestComponent(1, 0f, false)));
+        ColumnHandle a = ColumnHandle.resolve(componentRegistry, TestComponent.class, "a");
+        NativePrimitiveArray array = (NativePrimitiveArray) pool.getArray(a);
+        pool.close();
+
+        // neither the pool nor a view taken before closing may touch the freed columns
+        assertThrows(IllegalStateException.class, () -> pool.getInt(0, a));
+        assertThrows(IllegalStateException.class, () -> pool.getEntityID(0));
+        assertThrows(IllegalStateException.class, () -> array.getInt(0));
+        assertThrows(IllegalStateException.class, () -> array.setInt(0, 2));
+        assertThrows(IllegalStateException.class, array::address);
+    }
+
+    @Test
+    public void testChunkedPool() {
+        // 9 bytes per row, so 4 rows per block
+        ChunkedPool pool = new ChunkedPool(componentRegistry, List.of(TestComponent.class), 4, 4, 4, 64);
+        assertEquals(4, pool.getRowsPerBlock());
+
+        ColumnHandle b = ColumnHandle.resolve(componentRegistry, TestComponent.class, "b");
+        pool.addEntity(0, List.of(new TestComponent(0, 0f, true)));
+        PrimitiveArray array = pool.getArray(b);
+        int storageVersion = pool.getStorageVersion();
+
+        for (int i = 1; i < 10; i++) {
+            pool.addEntity(i, List.of(new TestComponent(i, i * 0.5f, i % 2 == 0)));
+        }
+        // growth appends blocks, so the old view is stale but old rows are intact
+        assertNotEquals(storageVersion, pool.getStorageVersion());
+        assertEquals(0, pool.getCurrentSize() % pool.getRowsPerBlock());
+        assertEquals(0f, array.getFloat(0), 0.f);
+
+        pool.setFloat(6, b, 9f);
+        assertEquals(9f, pool.getArray(b).getFloat(6), 0.f);
+        pool.setFloat(6, b, 3f);
+
+        // the last row (block 2) moves into the removed rows (blocks 0 and 1)
+        pool.removeEntity(1);
+        pool.removeEntity(5);
+        assertEquals(8, pool.getArrayRange().end);
+
+        PrimitiveArray a = pool.getArray(TestComponent.class, "a");
+        PrimitiveArray c = pool.getArray(TestComponent.class, "c");
+        assertEquals(pool.getCurrentSize(), a.length());
+        Set<Integer> seen = new HashSet<>();
+        for (int row = pool.getArrayRange().start; row < pool.getArrayRange().end; row++) {
+            int entityID = pool.getEntityID(row);
+            assertEquals(entityID, a.getInt(row));
+            assertEquals(entityID % 2 == 0, c.getBool(row));
+            assertEquals(entityID * 0.5f, ((TestComponent) pool.getComponent(entityID, TestComponent.class)).b, 0.f);
+            seen.add(entityID);
+        }
+        assertEquals(Set.of(0, 2, 3, 4, 6, 7, 8, 9), seen);
+    }
+
+    @Test
+    public void testArchetypeEdgeMove() {
+        List<Class<? extends CleanComponent>> fromComponents = List.of(TestComponent.class);
+        List<Class<? extends CleanComponent>> toComponents = List.of(FlagComponent.class, TestComponent.class);
+        ArchetypeDataPool from = new HeapPool(componentRegistry, fromComponents, 4, 4, 4);
+        ArchetypeDataPool to = new NativePool(componentRegistry, toComponents, 4, 4, 4);
+        ArchetypeKey fromKey = new ArchetypeKey(fromComponents);
+        ArchetypeKey toKey = new ArchetypeKey(toComponents);
+
+        from.addEntity(1, List.of(new TestComponent(1, 1.5f, true)));
+        from.addEntity(2, List.of(new TestComponent(2, 2.5f, false)));
+
+        ArchetypeEdge addEdge = new ArchetypeEdge(fromKey, from, toKey, to);
+        assertEquals(FlagComponent.class, addEdge.addedComponent);
+        addEdge.move(1, new FlagComponent(42));
+
+        assertFalse(from.containsEntity(1));
+        assertEquals(1, from.getArrayRange().end);
+        TestComponent moved = (TestComponent) to.getComponent(1, TestComponent.class);
+        assertEquals(1, moved.a);
+        assertEquals(1.5f, moved.b, 0.f);
+        assertTrue(moved.c);
+        assertEquals(42, ((FlagComponent) to.getComponent(1, FlagComponent.class)).flag);
+
+        ArchetypeEdge removeEdge = new ArchetypeEdge(toKey, to, fromKey, from);
+        assertNull(removeEdge.addedComponent);
+        removeEdge.move(1, null);
+
+        assertFalse(to.containsEntity(1));
+        assertEquals(1, ((TestComponent) from.getComponent(1, TestComponent.class)).a);
+        assertEquals(2, ((TestComponent) from.getComponent(2, TestComponent.class)).a);
+    }
+
+    @Test
+    public void testChangeVersions() {
+        ArchetypeDataPool pool = newPool(false);
+        for (int i = 0; i < ChangeVersions.CHUNK_SIZE * 2; i++) {
+            pool.addEntity(i, List.of(new TestComponent(i, 0f, false)));
+        }
+        ColumnHandle a = ColumnHandle.resolve(componentRegistry, TestComponent.class, "a");
+        ColumnHandle b = ColumnHandle.resolve(componentRegistry, TestComponent.class, "b");
+
+        int since = ChangeVersions.advance();
+        assertTrue(pool.getChangeVersion(a, 0) < since);
+        assertTrue(pool.getChangeVersion(a, ChangeVersions.CHUNK_SIZE) < since);
+
+        pool.getArray(TestComponent.class, "a").setInt(ChangeVersions.CHUNK_SIZE + 1, 5);
+        assertTrue(pool.getChangeVersion(a, 0) < since);
+        assertTrue(pool.getChangeVersion(a, ChangeVersions.CHUNK_SIZE) >= since);
+        assertTrue(pool.getChangeVersion(b, ChangeVersions.CHUNK_SIZE) < since);
+
+        pool.setFloat(3, b, 1f);
+        assertTrue(pool.getChangeVersion(b, 0) >= since);
+    }
+}
@@ -0,0 +1,120 @@
+package com.cleanroommc.test.kirino.ecs;
+
+import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeKey;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArchetypeKeyTest {
+    private static byte[] fillerBytes;
+
+    private static Class<? extends CleanComponent> a;
+    private static Class<? extends CleanComponent> b;
+
+    /**
+     * Component IDs are global and dense, so fresh component classes are needed to reach the next signature word.
+     * Every hidden class defined from the same bytes is a distinct class.
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<? extends CleanComponent> newComponentClass() throws IllegalAccessException {
+        return (Class<? extends CleanComponent>) MethodHandles.lookup().defineHiddenClass(fillerBytes, false).lookupClass();
+    }
+
+    @BeforeAll
+    public static void setup() throws IllegalAccessException {
+        String name = Type.getInternalName(ArchetypeKeyTest.class) + "$Filler";
+        ClassWriter cw = new ClassWriter(0);
+        cw.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, name, null,
+                Type.getInternalName(Object.class), new String[]{Type.getInternalName(CleanComponent.class)});
+        cw.visitEnd();
+        fillerBytes = cw.toByteArray();
+
+        // b is the first component of the word after the word of a, so the signature of {a} is a strict prefix of {a, b}
+        a = newComponentClass();
+        int word = ArchetypeKey.getComponentID(a) >>> 6;
+        Class<? extends CleanComponent> next;
+        do {
+            next = newComponentClass();
+        } while (ArchetypeKey.getComponentID(next) >>> 6 == word);
+        b = next;
+
+        assertEquals(word + 1, ArchetypeKey.getComponentID(b) >>> 6);
+    }
+
+    private static boolean matches(ArchetypeKey key, List<Class<? extends CleanComponent>> mustHave, List<Class<? extends CleanComponent>> mustNotHave) {
+        // the same predicate as EntityManager uses to match archetypes against a query
+        return key.containsAll(ArchetypeKey.toSignature(mustHave)) && !key.intersects(ArchetypeKey.toSignature(mustNotHave));
+    }
+
+    @Test
+    public void testPrefixSignature() {
+        long[] signatureA = ArchetypeKey.toSignature(List.of(a));
+        long[] signatureB = ArchetypeKey.toSignature(List.of(b));
+        long[] signatureAB = ArchetypeKey.toSignature(List.of(a, b));
+        assertEquals(signatureA.length + 1, signatureAB.length);
+        assertArrayEquals(signatureA, Arrays.copyOf(signatureAB, signatureA.length));
+        assertEquals(signatureB[signatureB.length - 1], signatureAB[signatureAB.length - 1]);
+    }
+
+    @Test
+    public void testPrefixEquality() {
+        ArchetypeKey keyA = new ArchetypeKey(List.of(a));
+        ArchetypeKey keyAB = new ArchetypeKey(List.of(a, b));
+
+        assertNotEquals(keyA, keyAB);
+        assertNotEquals(keyA.id, keyAB.id);
+        assertEquals(keyA, new ArchetypeKey(List.of(a)));
+        assertEquals(keyAB, new ArchetypeKey(List.of(b, a)));
+        assertEquals(keyAB.hashCode(), new ArchetypeKey(List.of(b, a)).hashCode());
+    }
+
+    @Test
+    public void testPrefixContains() {
+        ArchetypeKey keyA = new ArchetypeKey(List.of(a));
+        ArchetypeKey keyAB = new ArchetypeKey(List.of(a, b));
+
+        assertTrue(keyA.contains(a));
+        assertFalse(keyA.contains(b));
+        assertTrue(keyAB.contains(a));
+        assertTrue(keyAB.contains(b));
+
+        // the longer signature is a superset of the shorter one, never the other way around
+        assertTrue(keyAB.containsAll(ArchetypeKey.toSignature(List.of(a))));
+        assertTrue(keyAB.containsAll(ArchetypeKey.toSignature(List.of(a, b))));
+        assertFalse(keyA.containsAll(ArchetypeKey.toSignature(List.of(a, b))));
+        assertFalse(keyA.containsAll(ArchetypeKey.toSignature(List.of(b))));
+        assertTrue(keyA.containsAll(ArchetypeKey.toSignature(List.of())));
+
+        assertFalse(keyA.intersects(ArchetypeKey.toSignature(List.of(b))));
+        assertTrue(keyA.intersects(ArchetypeKey.toSignature(List.of(a, b))));
+        assertTrue(keyAB.intersects(ArchetypeKey.toSignature(List.of(b))));
+        assertFalse(keyAB.intersects(ArchetypeKey.toSignature(List.of())));
+    }
+
+    @Test
+    public void testPrefixQueryMatching() {
+        ArchetypeKey keyA = new ArchetypeKey(List.of(a));
+        ArchetypeKey keyAB = new ArchetypeKey(List.of(a, b));
+
+        assertTrue(matches(keyA, List.of(a), List.of()));
+        assertTrue(matches(keyAB, List.of(a), List.of()));
+
+        assertFalse(matches(keyA, List.of(a, b), List.of()));
+        assertTrue(matches(keyAB, List.of(a, b), List.of()));
+
+        assertFalse(matches(keyA, List.of(b), List.of()));
+        assertTrue(matches(keyAB, List.of(b), List.of()));
+
+        assertTrue(matches(keyA, List.of(a), List.of(b)));
+        assertFalse(matches(keyAB, List.of(a), List.of(b)));
+    }
+}
@@ -0,0 +1,266 @@
+package com.cleanroommc.test.kirino.ecs;
+
+import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldDef;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarSink;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.FlattenedScalarSource;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarType;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.struct.StructDef;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.struct.StructRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.meta.MemberLayout;
+import com.cleanroommc.kirino.ecs.component.schema.reflect.AccessHandlePool;
+import com.cleanroommc.kirino.ecs.component.schema.reflect.ClassAccessor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Generated accessors are hidden classes; Accessors of classes that can't be accessed directly fall back to method handles.
+ */
+public class ClassAccessorGeneratorTest {
+    public static class PrivateFields {
+        private int a;
+        private float b;
+        private boolean c;
+        private String name;
+    }
+
+    public static class FinalField {
+        public final int a;
+        public int b;
+
+        public FinalField() {
+            a = 7;
+        }
+    }
+
+    public static class Base {
+        public int base;
+        private int nestmateBase;
+    }
+
+    public static class Derived extends Base {
+        public int own;
+    }
+
+    public static class OtherNestDerived extends OtherNestBase {
+        public int own;
+    }
+
+    public static class Inner {
+        private int x;
+        private float y;
+    }
+
+    public static class Outer {
+        private Inner inner;
+        private boolean flag;
+    }
+
+    public static class StructComponent extends Base implements CleanComponent {
+        private Outer outer;
+        private int id;
+    }
+
+    private static ClassAccessor accessor(Class<?> clazz, String... fieldNames) {
+        AccessHandlePool pool = new AccessHandlePool();
+        pool.register(clazz, new MemberLayout(fieldNames));
+        ClassAccessor accessor = pool.getAccessor(clazz);
+        assertNotNull(accessor);
+        return accessor;
+    }
+
+    @Test
+    public void testPrivateFields() {
+        ClassAccessor accessor = accessor(PrivateFields.class, "a", "b", "c", "name");
+        assertTrue(accessor.getClass().isHidden());
+
+        Object instance = accessor.newInstance();
+        assertInstanceOf(PrivateFields.class, instance);
+        accessor.set(instance, 0, 42);
+        accessor.set(instance, 1, 0.5f);
+        accessor.set(instance, 2, true);
+        accessor.set(instance, 3, "kirino");
+
+        PrivateFields fields = (PrivateFields) instance;
+        assertEquals(42, fields.a);
+        assertEquals(0.5f, fields.b);
+        assertTrue(fields.c);
+        assertEquals("kirino", fields.name);
+
+        assertEquals(42, accessor.get(instance, 0));
+        assertEquals(0.5f, accessor.get(instance, 1));
+        assertEquals(true, accessor.get(instance, 2));
+        assertEquals("kirino", accessor.get(instance, 3));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.get(instance, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.set(instance, -1, 0));
+    }
+
+    @Test
+    public void testTypedGetters() {
+        ClassAccessor accessor = accessor(PrivateFields.class, "a", "b", "c", "name");
+        assertTrue(accessor.getClass().isHidden());
+
+        PrivateFields fields = new PrivateFields();
+        fields.a = -9;
+        fields.b = 2.5f;
+        fields.c = true;
+        fields.name = "kirino";
+
+        assertEquals(-9, accessor.getInt(fields, 0));
+        assertEquals(2.5f, accessor.getFloat(fields, 1));
+        assertTrue(accessor.getBool(fields, 2));
+
+        // other ordinals fall back to get and unbox
+        assertThrows(ClassCastException.class, () -> accessor.getInt(fields, 1));
+        assertThrows(ClassCastException.class, () -> accessor.getBool(fields, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.getFloat(fields, 4));
+    }
+
+    @Test
+    public void testTypedSetters() {
+        ClassAccessor accessor = accessor(PrivateFields.class, "a", "b", "c", "name");
+        assertTrue(accessor.getClass().isHidden());
+
+        PrivateFields fields = new PrivateFields();
+        accessor.setInt(fields, 0, -9);
+        accessor.setFloat(fields, 1, 2.5f);
+        accessor.setBool(fields, 2, true);
+
+        assertEquals(-9, fields.a);
+        assertEquals(2.5f, fields.b);
+        assertTrue(fields.c);
+
+        // other ordinals box and fall back to set
+        assertThrows(ClassCastException.class, () -> accessor.setInt(fields, 1, 3));
+        assertThrows(ClassCastException.class, () -> accessor.setBool(fields, 3, false));
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.setFloat(fields, 4, 1f));
+        assertNull(fields.name);
+    }
+
+    @Test
+    public void testFinalFieldFallback() {
+        // a final field can't be written by the generated accessor, so the pool serves the class with method handles
+        ClassAccessor accessor = accessor(FinalField.class, "a", "b");
+        assertFalse(accessor.getClass().isHidden());
+
+        Object instance = accessor.newInstance();
+        accessor.set(instance, 1, 3);
+        assertEquals(7, accessor.get(instance, 0));
+        assertEquals(3, accessor.get(instance, 1));
+    }
+
+    @Test
+    public void testSuperclassFields() {
+        // a private field of a superclass in the same nest is accessible
+        ClassAccessor accessor = accessor(Derived.class, "base", "nestmateBase", "own");
+        assertTrue(accessor.getClass().isHidden());
+
+        Object instance = accessor.newInstance();
+        accessor.set(instance, 0, 1);
+        accessor.set(instance, 1, 2);
+        accessor.set(instance, 2, 3);
+        Derived derived = (Derived) instance;
+        assertEquals(1, derived.base);
+        assertEquals(2, ((Base) derived).nestmateBase);
+        assertEquals(3, derived.own);
+        assertEquals(2, accessor.get(instance, 1));
+    }
+
+    @Test
+    public void testOtherNestSuperclassFallback() {
+        // a private field of a superclass in another nest isn't accessible by the nestmate accessor
+        ClassAccessor accessor = accessor(OtherNestDerived.class, "hidden", "own");
+        assertFalse(accessor.getClass().isHidden());
+
+        Object instance = accessor.newInstance();
+        accessor.set(instance, 0, 5);
+        accessor.set(instance, 1, 6);
+        assertEquals(5, accessor.get(instance, 0));
+        assertEquals(6, accessor.get(instance, 1));
+    }
+
+    @Test
+    public void testNestedStructRoundTrip() {
+        StructRegistry structRegistry = new StructRegistry();
+        FieldRegistry fieldRegistry = new FieldRegistry(structRegistry);
+        fieldRegistry.registerFieldType("int", int.class, new FieldDef(ScalarType.INT));
+        fieldRegistry.registerFieldType("float", float.class, new FieldDef(ScalarType.FLOAT));
+        fieldRegistry.registerFieldType("bool", boolean.class, new FieldDef(ScalarType.BOOL));
+
+        structRegistry.registerStructType("Inner", Inner.class, new MemberLayout("x", "y"),
+                new StructDef(new FieldDef(ScalarType.INT), new FieldDef(ScalarType.FLOAT)));
+        fieldRegistry.registerFieldType("Inner", Inner.class, new FieldDef("Inner"));
+        structRegistry.registerStructType("Outer", Outer.class, new MemberLayout("inner", "flag"),
+                new StructDef(new FieldDef("Inner"), new FieldDef(ScalarType.BOOL)));
+        fieldRegistry.registerFieldType("Outer", Outer.class, new FieldDef("Outer"));
+
+        ComponentRegistry componentRegistry = new ComponentRegistry(fieldRegistry);
+        componentRegistry.registerComponent("StructComponent", StructComponent.class, new MemberLayout("outer", "id", "base"), "Outer", "int", "int");
+
+        Object[] args = {3, 1.5f, true, 9, 11};
+        StructComponent component = (StructComponent) componentRegistry.newComponent("StructComponent", args);
+        assertNotNull(component);
+        assertEquals(3, component.outer.inner.x);
+        assertEquals(1.5f, component.outer.inner.y);
+        assertTrue(component.outer.flag);
+        assertEquals(9, component.id);
+        assertEquals(11, component.base);
+
+        assertArrayEquals(args, componentRegistry.flattenComponent(component));
+
+        component.outer.inner.x = -4;
+        component.base = 12;
+        assertArrayEquals(new Object[]{-4, 1.5f, true, 9, 12}, componentRegistry.flattenComponent(component));
+
+        // the boxing-free path writes the same units at the same indices
+        Object[] written = new Object[5];
+        componentRegistry.writeComponent(component, new FlattenedScalarSink() {
+            @Override
+            public void writeInt(int unit, int value) {
+                written[unit] = value;
+            }
+
+            @Override
+            public void writeFloat(int unit, float value) {
+                written[unit] = value;
+            }
+
+            @Override
+            public void writeBool(int unit, boolean value) {
+                written[unit] = value;
+            }
+        });
+        assertArrayEquals(componentRegistry.flattenComponent(component), written);
+
+        // and the boxing-free read path constructs the same component from them
+        StructComponent read = (StructComponent) componentRegistry.readComponent(StructComponent.class, new FlattenedScalarSource() {
+            @Override
+            public int readInt(int unit) {
+                return (Integer) written[unit];
+            }
+
+            @Override
+            public float readFloat(int unit) {
+                return (Float) written[unit];
+            }
+
+            @Override
+            public boolean readBool(int unit) {
+                return (Boolean) written[unit];
+            }
+        });
+        assertNotSame(component.outer, read.outer);
+        assertArrayEquals(written, componentRegistry.flattenComponent(read));
+    }
+}
+
+/**
+ * Top-level, so it's a nest of its own.
+ */
+class OtherNestBase {
+    private int hidden;
+}
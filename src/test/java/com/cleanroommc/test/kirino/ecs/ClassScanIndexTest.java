@@ -0,0 +1,152 @@
+package com.cleanroommc.test.kirino.ecs;
+
+import com.cleanroommc.kirino.ecs.component.scan.helper.ClassScanIndex;
+import com.cleanroommc.kirino.ecs.component.scan.helper.ClassScanUtils.ScannedClass;
+import com.cleanroommc.kirino.ecs.component.scan.helper.ClassScanUtils.ScannedField;
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassScanIndexTest {
+    private static final List<String> PACKAGES = List.of(ClassScanIndexTest.class.getPackageName());
+    private static final String ANNOTATION = Indexed.class.getName();
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    public @interface Indexed {
+    }
+
+    @Indexed
+    public static class Sample implements Serializable {
+        public int x;
+        public String name;
+    }
+
+    @Indexed
+    public static class Other {
+        public float y;
+    }
+
+    @TempDir
+    Path directory;
+
+    private ClassScanIndex index;
+    private Path file;
+
+    @BeforeEach
+    public void setup() {
+        index = new ClassScanIndex(directory, LogManager.getLogger("ClassScanIndexTest"));
+        file = index.getIndexFile(ANNOTATION);
+    }
+
+    private void assertExpectedClasses(Map<String, ScannedClass> allClasses) {
+        // a cold index always does a full scan
+        ClassScanIndex cold = new ClassScanIndex(directory.resolve("cold-" + System.nanoTime()), LogManager.getLogger("ClassScanIndexTest"));
+        assertEquals(cold.scan(PACKAGES, ANNOTATION), allClasses);
+
+        ScannedClass sample = allClasses.get(Sample.class.getName());
+        assertNotNull(sample);
+        assertTrue(sample.implementsInterface(Serializable.class.getName()));
+        assertEquals(List.of(new ScannedField("x", "int"), new ScannedField("name", "java.lang.String")), sample.fields());
+        assertTrue(allClasses.containsKey(Other.class.getName()));
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        assertFalse(Files.exists(file));
+        assertExpectedClasses(index.scan(PACKAGES, ANNOTATION));
+        assertTrue(Files.isRegularFile(file));
+
+        // a reused file isn't rewritten
+        Files.setLastModifiedTime(file, OLD_TIME);
+        byte[] written = Files.readAllBytes(file);
+        assertExpectedClasses(index.scan(PACKAGES, ANNOTATION));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(file));
+        assertArrayEquals(written, Files.readAllBytes(file));
+
+        // a new instance reads the same file
+        ClassScanIndex reopened = new ClassScanIndex(directory, LogManager.getLogger("ClassScanIndexTest"));
+        assertExpectedClasses(reopened.scan(PACKAGES, ANNOTATION));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(file));
+    }
+
+    @Test
+    public void testFingerprintMismatch() throws IOException {
+        // the same annotation over other packages writes the same file with another fingerprint and no classes
+        assertTrue(index.scan(List.of("com.cleanroommc.kirino.ecs.job"), ANNOTATION).isEmpty());
+        assertTrue(Files.isRegularFile(file));
+        Files.setLastModifiedTime(file, OLD_TIME);
+
+        // the stale file must not be used, and is rewritten
+        assertExpectedClasses(index.scan(PACKAGES, ANNOTATION));
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(file));
+
+        Files.setLastModifiedTime(file, OLD_TIME);
+        assertExpectedClasses(index.scan(PACKAGES, ANNOTATION));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(file));
+    }
+
+    @Test
+    public void testTruncatedFile() throws IOException {
+        index.scan(PACKAGES, ANNOTATION);
+        byte[] written = Files.readAllBytes(file);
+
+        for (int length : new int[]{0, 3, 9, written.length / 2, written.length - 1}) {
+            Files.write(file, Arrays.copyOf(written, length));
+            assertExpectedClasses(index.scan(PACKAGES, ANNOTATION));
+            // rewritten by the full scan
+            assertArrayEquals(written, Files.readAllBytes(file), "truncated to " + length);
+        }
+    }
+
+    @Test
+    public void testCorruptFile() throws IOException {
+        index.scan(PACKAGES, ANNOTATION);
+        byte[] written = Files.readAllBytes(file);
+
+        // the class count follows the magic, the version and the fingerprint
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(written));
+        input.readInt();
+        input.readInt();
+        int countOffset = 8 + 2 + input.readUnsignedShort();
+
+        for (int count : new int[]{-1, Integer.MIN_VALUE, Integer.MAX_VALUE, 0}) {
+            byte[] corrupt = written.clone();
+            ByteBuffer.wrap(corrupt).putInt(countOffset, count);
+            Files.write(file, corrupt);
+            assertExpectedClasses(index.scan(PACKAGES, ANNOTATION));
+            assertArrayEquals(written, Files.readAllBytes(file), "class count " + count);
+        }
+
+        // trailing garbage
+        byte[] appended = Arrays.copyOf(written, written.length + 4);
+        Files.write(file, appended);
+        assertExpectedClasses(index.scan(PACKAGES, ANNOTATION));
+        assertArrayEquals(written, Files.readAllBytes(file));
+
+        // not an index at all
+        Files.writeString(file, "not an index");
+        assertExpectedClasses(index.scan(PACKAGES, ANNOTATION));
+        assertArrayEquals(written, Files.readAllBytes(file));
+    }
+}
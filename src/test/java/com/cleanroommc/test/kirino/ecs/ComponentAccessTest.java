@@ -0,0 +1,194 @@
+package com.cleanroommc.test.kirino.ecs;
+
+import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldDef;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarType;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.struct.StructRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.meta.MemberLayout;
+import com.cleanroommc.kirino.ecs.entity.EntityManager;
+import com.cleanroommc.kirino.ecs.entity.EntityQuery;
+import com.cleanroommc.kirino.ecs.job.ComponentAccess;
+import com.cleanroommc.kirino.ecs.job.JobDataQuery;
+import com.cleanroommc.kirino.ecs.job.JobExternalDataQuery;
+import com.cleanroommc.kirino.ecs.job.JobRegistry;
+import com.cleanroommc.kirino.ecs.job.ParallelJob;
+import com.cleanroommc.kirino.ecs.storage.PrimitiveArray;
+import com.cleanroommc.test.kirino.ecs.ArchetypeDataPoolTest.TestComponent;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentAccessTest {
+    private JobRegistry jobRegistry;
+
+    public static class ReadAJob implements ParallelJob {
+        @JobDataQuery(componentClass = TestComponent.class, fieldAccessChain = {"a"}, write = false)
+        PrimitiveArray aArray;
+
+        @JobExternalDataQuery(write = false)
+        List<Integer> input;
+
+        @Override
+        public void execute(@NonNull EntityManager entityManager, int index, int entityID, int threadOrdinal) {
+        }
+
+        @Override
+        public void query(@NonNull EntityQuery entityQuery) {
+            entityQuery.with(TestComponent.class);
+        }
+
+        @Override
+        public int estimateWorkload(int index) {
+            return 1;
+        }
+    }
+
+    public static class WriteBJob implements ParallelJob {
+        @JobDataQuery(componentClass = TestComponent.class, fieldAccessChain = {"b"})
+        PrimitiveArray bArray;
+
+        @JobExternalDataQuery
+        List<Integer> output;
+
+        @Override
+        public void execute(@NonNull EntityManager entityManager, int index, int entityID, int threadOrdinal) {
+        }
+
+        @Override
+        public void query(@NonNull EntityQuery entityQuery) {
+            entityQuery.with(TestComponent.class);
+        }
+
+        @Override
+        public int estimateWorkload(int index) {
+            return 1;
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        FieldRegistry fieldRegistry = new FieldRegistry(new StructRegistry());
+        fieldRegistry.registerFieldType("int", int.class, new FieldDef(ScalarType.INT));
+        fieldRegistry.registerFieldType("float", float.class, new FieldDef(ScalarType.FLOAT));
+        fieldRegistry.registerFieldType("bool", boolean.class, new FieldDef(ScalarType.BOOL));
+
+        ComponentRegistry componentRegistry = new ComponentRegistry(fieldRegistry);
+        componentRegistry.registerComponent("TestComponent", TestComponent.class, new MemberLayout("a", "b", "c"), "int", "float", "bool");
+
+        jobRegistry = new JobRegistry(componentRegistry);
+        jobRegistry.registerParallelJob(ReadAJob.class);
+        jobRegistry.registerParallelJob(WriteBJob.class);
+    }
+
+    private ComponentAccess.Builder newBuilder() {
+        return ComponentAccess.newBuilder(jobRegistry);
+    }
+
+    @Test
+    public void testFieldConflicts() {
+        ComponentAccess readA = newBuilder().read(TestComponent.class, "a").build();
+        ComponentAccess readA2 = newBuilder().read(TestComponent.class, "a").build();
+        ComponentAccess writeA = newBuilder().write(TestComponent.class, "a").build();
+        ComponentAccess writeB = newBuilder().write(TestComponent.class, "b").build();
+
+        assertFalse(readA.conflictsWith(readA2));
+        assertTrue(readA.conflictsWith(writeA));
+        assertTrue(writeA.conflictsWith(readA));
+        assertTrue(writeA.conflictsWith(writeA));
+        assertFalse(writeA.conflictsWith(writeB));
+        assertFalse(readA.conflictsWith(writeB));
+    }
+
+    @Test
+    public void testPrefixConflicts() {
+        // a chain covers its sub-fields
+        ComponentAccess writeWhole = newBuilder().write(TestComponent.class).build();
+        ComponentAccess writePos = newBuilder().write(TestComponent.class, "pos").build();
+        ComponentAccess readPosX = newBuilder().read(TestComponent.class, "pos", "x").build();
+        ComponentAccess readPosY = newBuilder().read(TestComponent.class, "pos", "y").build();
+        ComponentAccess writePosX = newBuilder().write(TestComponent.class, "pos", "x").build();
+        ComponentAccess readPosition = newBuilder().read(TestComponent.class, "position").build();
+
+        assertTrue(writePos.conflictsWith(readPosX));
+        assertTrue(readPosX.conflictsWith(writePos));
+        assertTrue(writeWhole.conflictsWith(readPosY));
+        assertTrue(writePosX.conflictsWith(readPosX));
+        assertFalse(writePosX.conflictsWith(readPosY));
+        // a prefix of the field name isn't a prefix of the chain
+        assertFalse(writePos.conflictsWith(readPosition));
+    }
+
+    @Test
+    public void testJobAccess() {
+        ComponentAccess readJob = newBuilder().job(ReadAJob.class).build();
+        ComponentAccess writeA = newBuilder().write(TestComponent.class, "a").build();
+        ComponentAccess writeC = newBuilder().write(TestComponent.class, "c").build();
+
+        // read-only external data doesn't need to be resolved
+        assertFalse(readJob.isExclusive());
+        assertTrue(readJob.conflictsWith(writeA));
+        assertFalse(readJob.conflictsWith(writeC));
+    }
+
+    @Test
+    public void testUnresolvedExternalWrite() {
+        ComponentAccess writeJob = newBuilder().job(WriteBJob.class).build();
+        ComponentAccess writeC = newBuilder().write(TestComponent.class, "c").build();
+
+        // the external object might be shared with anything
+        assertTrue(writeJob.isExclusive());
+        assertTrue(writeJob.conflictsWith(writeC));
+
+        ComponentAccess missing = newBuilder().job(WriteBJob.class, Map.of()).build();
+        assertTrue(missing.isExclusive());
+    }
+
+    @Test
+    public void testResolvedExternalData() {
+        List<Integer> shared = new ArrayList<>();
+        List<Integer> other = new ArrayList<>();
+
+        ComponentAccess writeShared = newBuilder().job(WriteBJob.class, Map.of("output", shared)).build();
+        ComponentAccess writeOther = newBuilder().job(WriteBJob.class, Map.of("output", other)).build();
+        ComponentAccess readShared = newBuilder().job(ReadAJob.class, Map.of("input", shared)).build();
+        ComponentAccess readOther = newBuilder().job(ReadAJob.class, Map.of("input", other)).build();
+
+        assertFalse(writeShared.isExclusive());
+        assertTrue(writeShared.conflictsWith(readShared));
+        assertTrue(readShared.conflictsWith(writeShared));
+        assertFalse(writeShared.conflictsWith(readOther));
+        assertFalse(readShared.conflictsWith(readOther));
+        // both write field "b"
+        assertTrue(writeShared.conflictsWith(writeOther));
+    }
+
+    @Test
+    public void testExternalDataComparedByIdentity() {
+        // equal but distinct objects aren't shared
+        List<Integer> a = new ArrayList<>();
+        List<Integer> b = new ArrayList<>();
+        assertEquals(a, b);
+
+        ComponentAccess writeA = newBuilder().job(WriteBJob.class, Map.of("output", a)).build();
+        ComponentAccess readB = newBuilder().job(ReadAJob.class, Map.of("input", b)).build();
+        assertFalse(writeA.conflictsWith(readB));
+    }
+
+    @Test
+    public void testExclusive() {
+        ComponentAccess exclusive = newBuilder().exclusive().build();
+        ComponentAccess empty = newBuilder().build();
+
+        assertTrue(exclusive.isExclusive());
+        assertTrue(exclusive.conflictsWith(empty));
+        assertTrue(empty.conflictsWith(exclusive));
+        assertFalse(empty.conflictsWith(empty));
+    }
+}
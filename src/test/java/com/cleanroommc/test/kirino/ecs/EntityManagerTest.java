@@ -0,0 +1,288 @@
+package com.cleanroommc.test.kirino.ecs;
+
+import com.cleanroommc.kirino.ecs.component.CleanTag;
+import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldDef;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarType;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.struct.StructRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.meta.MemberLayout;
+import com.cleanroommc.kirino.ecs.entity.CleanEntityHandle;
+import com.cleanroommc.kirino.ecs.entity.EntityCommand;
+import com.cleanroommc.kirino.ecs.entity.EntityCommandBuffer;
+import com.cleanroommc.kirino.ecs.entity.EntityManager;
+import com.cleanroommc.kirino.ecs.entity.EntityManagerStats;
+import com.cleanroommc.kirino.ecs.entity.EntityQuery;
+import com.cleanroommc.kirino.ecs.entity.QueryLayout;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
+import com.cleanroommc.kirino.ecs.storage.ColumnHandle;
+import com.cleanroommc.test.kirino.ecs.ArchetypeDataPoolTest.TestComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityManagerTest {
+    private EntityManager entityManager;
+
+    @BeforeEach
+    public void setup() {
+        FieldRegistry fieldRegistry = new FieldRegistry(new StructRegistry());
+        fieldRegistry.registerFieldType("int", int.class, new FieldDef(ScalarType.INT));
+        fieldRegistry.registerFieldType("float", float.class, new FieldDef(ScalarType.FLOAT));
+        fieldRegistry.registerFieldType("bool", boolean.class, new FieldDef(ScalarType.BOOL));
+
+        ComponentRegistry componentRegistry = new ComponentRegistry(fieldRegistry);
+        componentRegistry.registerComponent("TestComponent", TestComponent.class, new MemberLayout("a", "b", "c"), "int", "float", "bool");
+
+        entityManager = new EntityManager(componentRegistry);
+    }
+
+    private int countEntities() {
+        int count = 0;
+        for (ArchetypeDataPool pool : entityManager.startQuery(entityManager.newQuery().with(TestComponent.class))) {
+            count += pool.getArrayRange().end - pool.getArrayRange().start;
+        }
+        return count;
+    }
+
+    @Test
+    public void testConcurrentCreate() throws InterruptedException {
+        int threadCount = 8;
+        int perThread = 1000;
+
+        List<List<CleanEntityHandle>> handles = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            List<CleanEntityHandle> threadHandles = new ArrayList<>();
+            handles.add(threadHandles);
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    threadHandles.add(entityManager.createEntity(new TestComponent(i, 0f, false)));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        entityManager.flush();
+
+        Set<Integer> indexes = new HashSet<>();
+        for (List<CleanEntityHandle> threadHandles : handles) {
+            for (CleanEntityHandle handle : threadHandles) {
+                assertTrue(indexes.add(handle.index));
+                assertTrue(handle.valid());
+            }
+        }
+        assertEquals(threadCount * perThread, countEntities());
+    }
+
+    @Test
+    public void testIndexReusedAfterFlush() {
+        CleanEntityHandle first = entityManager.createEntity(new TestComponent(1, 0f, false));
+        entityManager.flush();
+
+        assertTrue(first.tryDestroy());
+        assertFalse(first.valid());
+        assertFalse(first.tryDestroy());
+
+        // the destruction isn't applied yet, so the index must not be handed out again
+        CleanEntityHandle second = entityManager.createEntity(new TestComponent(2, 0f, false));
+        assertNotEquals(first.index, second.index);
+
+        entityManager.flush();
+        assertEquals(1, countEntities());
+
+        CleanEntityHandle third = entityManager.createEntity(new TestComponent(3, 0f, false));
+        assertEquals(first.index, third.index);
+        assertNotEquals(first.generation, third.generation);
+        assertFalse(first.valid());
+        assertTrue(third.valid());
+
+        entityManager.flush();
+        assertEquals(2, countEntities());
+    }
+
+    @Test
+    public void testDestroyByIndexOnce() {
+        CleanEntityHandle handle = entityManager.createEntity(new TestComponent(1, 0f, false));
+        entityManager.createEntity(new TestComponent(2, 0f, false));
+        entityManager.flush();
+
+        entityManager.destroyEntity(handle.index);
+        entityManager.destroyEntity(handle.index);
+        assertFalse(handle.tryDestroy());
+        // a tag on an entity pending destruction must not survive into the reused index
+        entityManager.addTag(handle.index, TestTag.class);
+        entityManager.flush();
+        assertEquals(1, countEntities());
+        assertEquals(1, entityManager.getStats().getCommandCount(EntityCommand.Type.DESTROY));
+        assertEquals(1, entityManager.getStats().getFreeIndexCount());
+
+        // the index is released once, so only one new entity reuses it
+        CleanEntityHandle first = entityManager.createEntity(new TestComponent(3, 0f, false));
+        CleanEntityHandle second = entityManager.createEntity(new TestComponent(4, 0f, false));
+        assertEquals(handle.index, first.index);
+        assertNotEquals(first.index, second.index);
+        assertTrue(first.valid());
+        entityManager.flush();
+        assertEquals(3, countEntities());
+        assertFalse(first.hasTag(TestTag.class));
+    }
+
+    @Test
+    public void testStaleCommandsDropped() {
+        CleanEntityHandle handle = entityManager.createEntity(new TestComponent(1, 0f, false));
+        CleanEntityHandle other = entityManager.createEntity(new TestComponent(2, 0f, false));
+        entityManager.flush();
+
+        ColumnHandle a = entityManager.newColumnHandle(TestComponent.class, "a");
+        long epoch = entityManager.nextRecordingEpoch();
+        // recorded outside a job, so it sorts after every command of this epoch
+        assertTrue(handle.trySetInt(a, 5));
+        assertTrue(handle.tryAddComponent(new TestComponent(6, 0f, false)));
+        assertTrue(handle.tryRemoveComponent(TestComponent.class));
+
+        // recorded like a job row of the same epoch, so it sorts first
+        EntityCommandBuffer buffer = entityManager.getCommandBuffer();
+        buffer.setSortKey(epoch, 0);
+        assertTrue(handle.tryDestroy());
+        buffer.clearSortKey();
+        assertTrue(other.trySetInt(a, 7));
+
+        entityManager.flush();
+        assertFalse(handle.valid());
+        assertEquals(1, countEntities());
+        ArchetypeDataPool pool = entityManager.startQuery(entityManager.newQuery().with(TestComponent.class)).getFirst();
+        assertEquals(7, pool.getInt(other.index, a));
+    }
+
+    @Test
+    public void testPackedHandle() {
+        CleanEntityHandle handle = entityManager.createEntity(new TestComponent(1, 0f, false));
+        entityManager.flush();
+
+        long packed = handle.packed();
+        assertEquals(handle.index, CleanEntityHandle.unpackIndex(packed));
+        assertEquals(handle.generation, CleanEntityHandle.unpackGeneration(packed));
+        assertEquals(handle, entityManager.unpack(packed));
+        assertTrue(entityManager.isValid(packed));
+
+        assertTrue(handle.tryDestroy());
+        assertFalse(entityManager.isValid(packed));
+        assertFalse(entityManager.isValid(CleanEntityHandle.pack(handle.index + 100, 0)));
+    }
+
+    @Test
+    public void testQueryLayoutReuse() {
+        EntityQuery query = entityManager.newQuery().with(TestComponent.class);
+        assertEquals(0, entityManager.startQueryLayout(query).getTotalRowCount());
+
+        entityManager.createEntity(new TestComponent(1, 0f, false));
+        entityManager.createEntity(new TestComponent(2, 0f, false));
+        entityManager.flush();
+
+        QueryLayout layout = entityManager.startQueryLayout(query);
+        assertEquals(1, layout.getArchetypeCount());
+        assertEquals(2, layout.getTotalRowCount());
+        // nothing changed, so the same snapshot is handed out again
+        assertSame(layout, entityManager.startQueryLayout(query));
+
+        entityManager.createEntity(new TestComponent(3, 0f, false));
+        entityManager.flush();
+
+        QueryLayout grown = entityManager.startQueryLayout(query);
+        assertNotSame(layout, grown);
+        assertEquals(3, grown.getTotalRowCount());
+        assertEquals(2, layout.getTotalRowCount());
+        assertSame(grown, query.getLayout());
+    }
+
+    public static class TestTag implements CleanTag {
+    }
+
+    private static int countAccepted(EntityQuery query, ArchetypeDataPool archetype) {
+        int count = 0;
+        int end = archetype.getRowEnd();
+        for (int i = query.nextAcceptedRow(archetype, archetype.getRowStart(), end); i < end; i = query.nextAcceptedRow(archetype, i + 1, end)) {
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    public void testTags() {
+        CleanEntityHandle a = entityManager.createEntity(new TestComponent(1, 0f, false));
+        entityManager.createEntity(new TestComponent(2, 0f, false));
+        entityManager.createEntity(new TestComponent(3, 0f, false));
+        entityManager.flush();
+
+        assertTrue(a.tryAddTag(TestTag.class));
+        assertFalse(a.hasTag(TestTag.class));
+        entityManager.flush();
+        assertTrue(a.hasTag(TestTag.class));
+        assertEquals(1, entityManager.getTaggedCount(TestTag.class));
+        assertEquals(a.index, entityManager.getTaggedEntity(TestTag.class, 0));
+
+        EntityQuery tagged = entityManager.newQuery().with(TestComponent.class).withTag(TestTag.class);
+        EntityQuery untagged = entityManager.newQuery().with(TestComponent.class).withoutTag(TestTag.class);
+        List<ArchetypeDataPool> archetypes = entityManager.startQuery(tagged);
+        // tags never split the archetype
+        assertEquals(1, archetypes.size());
+        assertEquals(1, countAccepted(tagged, archetypes.getFirst()));
+        archetypes = entityManager.startQuery(untagged);
+        assertEquals(2, countAccepted(untagged, archetypes.getFirst()));
+
+        assertTrue(a.tryDestroy());
+        entityManager.flush();
+        assertEquals(0, entityManager.getTaggedCount(TestTag.class));
+        archetypes = entityManager.startQuery(tagged);
+        assertEquals(0, countAccepted(tagged, archetypes.getFirst()));
+
+        // a reused index must not inherit the tag of a destroyed entity
+        CleanEntityHandle b = entityManager.createEntity(new TestComponent(4, 0f, false));
+        entityManager.flush();
+        assertFalse(b.hasTag(TestTag.class));
+    }
+
+    @Test
+    public void testStats() {
+        CleanEntityHandle first = entityManager.createEntity(new TestComponent(1, 0f, false));
+        entityManager.createEntity(new TestComponent(2, 0f, false));
+        entityManager.createEntity(new TestComponent(3, 0f, false));
+        entityManager.flush();
+
+        EntityManagerStats stats = entityManager.getStats();
+        assertEquals(1, stats.getFlushCount());
+        assertEquals(3, stats.getCommandCount(EntityCommand.Type.CREATE));
+        assertEquals(3, stats.getCommandCount());
+        assertEquals(1, stats.getArchetypes().size());
+        EntityManagerStats.ArchetypeStats archetype = stats.getArchetypes().getFirst();
+        assertEquals(3, archetype.rows());
+        assertEquals(archetype.capacity() - 3, archetype.getFreeRows());
+        // 4 + 4 + 1 bytes per row
+        assertEquals(archetype.capacity() * 9L, archetype.columnBytes());
+        // cached until the next flush
+        assertSame(stats, entityManager.getStats());
+
+        assertTrue(first.tryDestroy());
+        entityManager.flush();
+
+        stats = entityManager.getStats();
+        assertEquals(2, stats.getFlushCount());
+        assertEquals(0, stats.getCommandCount(EntityCommand.Type.CREATE));
+        assertEquals(1, stats.getCommandCount(EntityCommand.Type.DESTROY));
+        assertEquals(2, stats.getRows());
+        assertEquals(3, stats.getEntityIndexCount());
+        assertEquals(1, stats.getFreeIndexCount());
+    }
+}
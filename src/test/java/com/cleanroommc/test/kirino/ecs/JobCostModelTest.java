@@ -0,0 +1,73 @@
+package com.cleanroommc.test.kirino.ecs;
+
+import com.cleanroommc.kirino.KirinoCommonCore;
+import com.cleanroommc.kirino.ecs.job.JobCostModel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobCostModelTest {
+    private static int targetWorkloadPerThread() {
+        return KirinoCommonCore.KIRINO_CONFIG_HUB.getTargetWorkloadPerThread();
+    }
+
+    private static double targetNanos() {
+        return KirinoCommonCore.KIRINO_CONFIG_HUB.getTargetTaskMicros() * 1000d;
+    }
+
+    @Test
+    public void testFallbackBeforeMeasurement() {
+        JobCostModel model = new JobCostModel();
+        assertTrue(Double.isNaN(model.getNanosPerWorkload()));
+        assertEquals(targetWorkloadPerThread(), model.getTargetWorkload());
+
+        // empty measurements are ignored
+        model.record(0, 100);
+        model.record(1000, 0);
+        model.record(-1, 100);
+        assertTrue(Double.isNaN(model.getNanosPerWorkload()));
+        assertEquals(targetWorkloadPerThread(), model.getTargetWorkload());
+    }
+
+    @Test
+    public void testFirstMeasurement() {
+        JobCostModel model = new JobCostModel();
+        model.record(1000, 100);
+
+        // the first sample is taken as is
+        assertEquals(10d, model.getNanosPerWorkload(), 1e-9);
+        assertEquals((int) (targetNanos() / 10d), model.getTargetWorkload());
+    }
+
+    @Test
+    public void testMovingAverageConverges() {
+        JobCostModel model = new JobCostModel();
+        model.record(1000, 100);
+
+        model.record(2000, 100);
+        // 10 + 0.25 * (20 - 10)
+        assertEquals(12.5d, model.getNanosPerWorkload(), 1e-9);
+
+        double expected = 12.5d;
+        for (int i = 0; i < 50; i++) {
+            model.record(2000, 100);
+            expected += 0.25d * (20d - expected);
+            assertEquals(expected, model.getNanosPerWorkload(), 1e-9);
+        }
+        assertEquals(20d, model.getNanosPerWorkload(), 1e-3);
+        assertEquals((int) (targetNanos() / model.getNanosPerWorkload()), model.getTargetWorkload());
+    }
+
+    @Test
+    public void testTargetWorkloadClamped() {
+        // far slower than the target task time
+        JobCostModel slow = new JobCostModel();
+        slow.record(Long.MAX_VALUE / 2, 1);
+        assertEquals(1, slow.getTargetWorkload());
+
+        // far faster than anything an int can count
+        JobCostModel fast = new JobCostModel();
+        fast.record(1, 1e15);
+        assertEquals(Integer.MAX_VALUE, fast.getTargetWorkload());
+    }
+}
@@ -0,0 +1,122 @@
+package com.cleanroommc.test.kirino.ecs;
+
+import com.cleanroommc.kirino.ecs.job.JobReduction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobReductionTest {
+    @Test
+    public void testIdentityWhenEmpty() {
+        assertEquals(0, JobReduction.sum().get());
+        assertEquals(0, JobReduction.count().get());
+        assertEquals(Long.MAX_VALUE, JobReduction.min().get());
+        assertEquals(Long.MIN_VALUE, JobReduction.max().get());
+        assertEquals(1, JobReduction.of(1, (a, b) -> a * b).get());
+    }
+
+    @Test
+    public void testBuiltInOperators() {
+        JobReduction sum = JobReduction.sum();
+        JobReduction min = JobReduction.min();
+        JobReduction max = JobReduction.max();
+        JobReduction count = JobReduction.count();
+        for (int threadOrdinal = 0; threadOrdinal < 4; threadOrdinal++) {
+            for (long value = -3; value <= 5; value++) {
+                sum.accumulate(threadOrdinal, value * (threadOrdinal + 1));
+                min.accumulate(threadOrdinal, value * (threadOrdinal + 1));
+                max.accumulate(threadOrdinal, value * (threadOrdinal + 1));
+                count.accumulate(threadOrdinal, 1);
+            }
+        }
+
+        // (-3 + ... + 5) * (1 + 2 + 3 + 4)
+        assertEquals(9 * 10, sum.get());
+        assertEquals(-12, min.get());
+        assertEquals(20, max.get());
+        assertEquals(36, count.get());
+    }
+
+    @Test
+    public void testCustomOperator() {
+        JobReduction or = JobReduction.of(0, (a, b) -> a | b);
+        or.accumulate(0, 0b0001);
+        or.accumulate(3, 0b0100);
+        or.accumulate(3, 0b1000);
+        assertEquals(0b1101, or.get());
+
+        JobReduction product = JobReduction.of(1, (a, b) -> a * b);
+        product.accumulate(1, 3);
+        product.accumulate(2, 7);
+        assertEquals(21, product.get());
+
+        assertThrows(NullPointerException.class, () -> JobReduction.of(0, null));
+    }
+
+    @Test
+    public void testGrowPastFirstSegment() {
+        // slots of a non-zero identity are filled in every grown segment
+        JobReduction min = JobReduction.min();
+        JobReduction sum = JobReduction.sum();
+        min.accumulate(1000, 42);
+        sum.accumulate(1000, 42);
+        assertEquals(42, min.get());
+        assertEquals(42, sum.get());
+
+        for (int threadOrdinal = 0; threadOrdinal < 100; threadOrdinal++) {
+            sum.accumulate(threadOrdinal, threadOrdinal);
+            min.accumulate(threadOrdinal, 100 - threadOrdinal);
+        }
+        assertEquals(42 + 99 * 100 / 2, sum.get());
+        assertEquals(1, min.get());
+
+        assertThrows(IllegalArgumentException.class, () -> sum.accumulate(-1, 1));
+    }
+
+    @Test
+    public void testReset() {
+        JobReduction max = JobReduction.max();
+        max.accumulate(0, 7);
+        max.accumulate(20, 9);
+        assertEquals(9, max.get());
+
+        max.reset();
+        assertEquals(Long.MIN_VALUE, max.get());
+
+        // reusable after a reset, including the grown segments
+        max.accumulate(20, -5);
+        assertEquals(-5, max.get());
+    }
+
+    @Test
+    public void testConcurrentOrdinals() throws InterruptedException {
+        // one thread per ordinal, as within an execution; later ordinals grow the segments while others write
+        int threadCount = 40;
+        int perThread = 10000;
+        JobReduction sum = JobReduction.sum();
+        JobReduction max = JobReduction.max();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int threadOrdinal = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    sum.accumulate(threadOrdinal, 1);
+                    max.accumulate(threadOrdinal, (long) threadOrdinal * perThread + i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals((long) threadCount * perThread, sum.get());
+        assertEquals((long) threadCount * perThread - 1, max.get());
+    }
+}
@@ -0,0 +1,374 @@
+package com.cleanroommc.test.kirino.ecs;
+
+import com.cleanroommc.kirino.ecs.component.CleanComponent;
+import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldDef;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarType;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.struct.StructRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.meta.MemberLayout;
+import com.cleanroommc.kirino.ecs.entity.CleanEntityHandle;
+import com.cleanroommc.kirino.ecs.entity.EntityManager;
+import com.cleanroommc.kirino.ecs.entity.EntityQuery;
+import com.cleanroommc.kirino.ecs.entity.QueryLayout;
+import com.cleanroommc.kirino.ecs.job.BaseParallelJob;
+import com.cleanroommc.kirino.ecs.job.JobDataQuery;
+import com.cleanroommc.kirino.ecs.job.JobExecutionMetrics;
+import com.cleanroommc.kirino.ecs.job.JobExternalDataQuery;
+import com.cleanroommc.kirino.ecs.job.JobRegistry;
+import com.cleanroommc.kirino.ecs.job.JobScheduler;
+import com.cleanroommc.kirino.ecs.job.ParallelJob;
+import com.cleanroommc.kirino.ecs.job.RangeParallelJob;
+import com.cleanroommc.kirino.ecs.storage.ArchetypeDataPool;
+import com.cleanroommc.kirino.ecs.storage.PrimitiveArray;
+import com.cleanroommc.kirino.utils.executor.ExecutorBackend;
+import com.cleanroommc.kirino.utils.executor.ExecutorMetrics;
+import com.cleanroommc.kirino.utils.executor.MeteredExecutor;
+import com.cleanroommc.test.kirino.ecs.ArchetypeDataPoolTest.FlagComponent;
+import com.cleanroommc.test.kirino.ecs.ArchetypeDataPoolTest.TestComponent;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobSchedulerTest {
+    private static final int ENTITY_COUNT = 1000;
+    /**
+     * All <code>a</code> values are below it.
+     */
+    private static final int MAX_VALUE = 2048;
+
+    private EntityManager entityManager;
+    private JobScheduler jobScheduler;
+    private ForkJoinPool pool;
+
+    public static class OtherComponent implements CleanComponent {
+        public int other;
+
+        public OtherComponent() {
+        }
+
+        public OtherComponent(int other) {
+            this.other = other;
+        }
+    }
+
+    /**
+     * Counts every visit of a row by its <code>a</code> value, and records a new entity carrying the same value.
+     */
+    public static class CopyJob implements ParallelJob {
+        @JobDataQuery(componentClass = TestComponent.class, fieldAccessChain = {"a"}, write = false)
+        PrimitiveArray aArray;
+
+        @JobExternalDataQuery
+        AtomicIntegerArray hits;
+
+        @Override
+        public void execute(@NonNull EntityManager entityManager, int index, int entityID, int threadOrdinal) {
+            int a = aArray.getInt(index);
+            hits.incrementAndGet(a);
+            entityManager.createEntity(new FlagComponent(a));
+        }
+
+        @Override
+        public void query(@NonNull EntityQuery entityQuery) {
+            entityQuery.with(TestComponent.class);
+        }
+
+        @Override
+        public int estimateWorkload(int index) {
+            // as expensive as possible, so the row space is split down to single rows
+            return 1_000_000;
+        }
+    }
+
+    public static class RangeCopyJob implements RangeParallelJob {
+        @JobDataQuery(componentClass = TestComponent.class, fieldAccessChain = {"a"}, write = false)
+        PrimitiveArray aArray;
+
+        @JobExternalDataQuery
+        AtomicIntegerArray hits;
+
+        @Override
+        public void executeRange(@NonNull EntityManager entityManager, @NonNull ArchetypeDataPool archetype, int start, int end, int threadOrdinal) {
+            for (int i = start; i < end; i++) {
+                int a = aArray.getInt(i);
+                hits.incrementAndGet(a);
+                entityManager.createEntity(new FlagComponent(a));
+            }
+        }
+
+        @Override
+        public void query(@NonNull EntityQuery entityQuery) {
+            entityQuery.with(TestComponent.class);
+        }
+
+        @Override
+        public int estimateWorkload(int index) {
+            return 1_000_000;
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        FieldRegistry fieldRegistry = new FieldRegistry(new StructRegistry());
+        fieldRegistry.registerFieldType("int", int.class, new FieldDef(ScalarType.INT));
+        fieldRegistry.registerFieldType("float", float.class, new FieldDef(ScalarType.FLOAT));
+        fieldRegistry.registerFieldType("bool", boolean.class, new FieldDef(ScalarType.BOOL));
+
+        ComponentRegistry componentRegistry = new ComponentRegistry(fieldRegistry);
+        componentRegistry.registerComponent("TestComponent", TestComponent.class, new MemberLayout("a", "b", "c"), "int", "float", "bool");
+        componentRegistry.registerComponent("FlagComponent", FlagComponent.class, new MemberLayout("flag"), "int");
+        componentRegistry.registerComponent("OtherComponent", OtherComponent.class, new MemberLayout("other"), "int");
+
+        JobRegistry jobRegistry = new JobRegistry(componentRegistry);
+        jobRegistry.registerParallelJob(CopyJob.class);
+        jobRegistry.registerParallelJob(RangeCopyJob.class);
+
+        entityManager = new EntityManager(componentRegistry);
+        jobScheduler = new JobScheduler(jobRegistry);
+        pool = new ForkJoinPool(4);
+
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            entityManager.createEntity(new TestComponent(i, 0f, false));
+        }
+        entityManager.flush();
+    }
+
+    @AfterEach
+    public void teardown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * @return The <code>a</code> values of the queried rows in (archetype, row) order
+     */
+    private int[] expectedOrder() {
+        IntArrayList values = new IntArrayList();
+        for (ArchetypeDataPool archetype : entityManager.startQuery(entityManager.newQuery().with(TestComponent.class))) {
+            PrimitiveArray a = archetype.getArray(TestComponent.class, "a");
+            for (int row = archetype.getRowStart(); row < archetype.getRowEnd(); row++) {
+                values.add(a.getInt(row));
+            }
+        }
+        return values.toIntArray();
+    }
+
+    /**
+     * Execute the job, check that every row ran exactly once, then flush and return the values of the created entities in row order.
+     * The created entities are destroyed again, so the next run starts from the same state.
+     */
+    private int[] run(Class<? extends BaseParallelJob> clazz, Executor executor) {
+        int[] queried = expectedOrder();
+        AtomicIntegerArray hits = new AtomicIntegerArray(MAX_VALUE);
+        JobScheduler.ExecutionHandle handle = jobScheduler.executeParallelJob(entityManager, clazz, Map.of("hits", hits), executor);
+        handle.future().join();
+
+        int hitSum = 0;
+        for (int i = 0; i < MAX_VALUE; i++) {
+            hitSum += hits.get(i);
+        }
+        for (int a : queried) {
+            assertEquals(1, hits.get(a), "row with a=" + a + " must run exactly once");
+        }
+        assertEquals(queried.length, hitSum, "only queried rows must run");
+
+        entityManager.flush();
+
+        IntArrayList values = new IntArrayList();
+        for (ArchetypeDataPool archetype : entityManager.startQuery(entityManager.newQuery().with(FlagComponent.class).without(TestComponent.class))) {
+            PrimitiveArray flag = archetype.getArray(FlagComponent.class, "flag");
+            for (int row = archetype.getRowStart(); row < archetype.getRowEnd(); row++) {
+                values.add(flag.getInt(row));
+                entityManager.destroyEntity(archetype.getEntityID(row));
+            }
+        }
+        assertEquals(queried.length, values.size());
+        entityManager.flush();
+        return values.toIntArray();
+    }
+
+    @Test
+    public void testForkJoinExactlyOnce() {
+        for (int round = 0; round < 5; round++) {
+            run(CopyJob.class, pool);
+            run(RangeCopyJob.class, pool);
+        }
+    }
+
+    @Test
+    public void testDeterministicCommandOrder() {
+        int[] expected = expectedOrder();
+        for (int round = 0; round < 10; round++) {
+            assertArrayEquals(expected, run(CopyJob.class, pool), "merged command order of round " + round);
+        }
+    }
+
+    @Test
+    public void testDeterministicRangeCommandOrder() {
+        int[] expected = expectedOrder();
+        for (int round = 0; round < 10; round++) {
+            assertArrayEquals(expected, run(RangeCopyJob.class, pool), "merged command order of round " + round);
+        }
+    }
+
+    /**
+     * {TestComponent}: 1000 rows, {TestComponent, OtherComponent}: 0 rows,
+     * {TestComponent, FlagComponent}: 1 row, {TestComponent, FlagComponent, OtherComponent}: 37 rows.
+     */
+    private void createUnevenArchetypes() {
+        List<CleanEntityHandle> emptied = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            emptied.add(entityManager.createEntity(new TestComponent(ENTITY_COUNT + i, 0f, false), new OtherComponent()));
+        }
+        entityManager.createEntity(new TestComponent(ENTITY_COUNT + 5, 0f, false), new FlagComponent());
+        for (int i = 0; i < 37; i++) {
+            entityManager.createEntity(new TestComponent(ENTITY_COUNT + 6 + i, 0f, false), new FlagComponent(), new OtherComponent());
+        }
+        entityManager.flush();
+
+        for (CleanEntityHandle handle : emptied) {
+            entityManager.destroyEntity(handle.index);
+        }
+        entityManager.flush();
+    }
+
+    private void assertLayoutCovered(QueryLayout layout) {
+        int covered = 0;
+        for (int archetypeOrdinal = 0; archetypeOrdinal < layout.getArchetypeCount(); archetypeOrdinal++) {
+            assertEquals(covered, layout.getRowOffset(archetypeOrdinal));
+            covered += layout.getRowCount(archetypeOrdinal);
+        }
+        assertEquals(covered, layout.getTotalRowCount());
+
+        for (int globalRow = 0; globalRow < layout.getTotalRowCount(); globalRow++) {
+            int archetypeOrdinal = layout.archetypeAt(globalRow);
+            // never an empty archetype, since it contains the row
+            assertTrue(layout.getRowOffset(archetypeOrdinal) <= globalRow, "global row " + globalRow);
+            assertTrue(globalRow < layout.getRowOffset(archetypeOrdinal) + layout.getRowCount(archetypeOrdinal), "global row " + globalRow);
+        }
+    }
+
+    @Test
+    public void testArchetypeAt() {
+        createUnevenArchetypes();
+
+        QueryLayout layout = entityManager.startQueryLayout(entityManager.newQuery().with(TestComponent.class));
+        assertEquals(4, layout.getArchetypeCount());
+        assertEquals(0, layout.getRowCount(1));
+        assertEquals(ENTITY_COUNT + 1 + 37, layout.getTotalRowCount());
+        assertLayoutCovered(layout);
+
+        // the first archetype is empty now
+        for (ArchetypeDataPool archetype : entityManager.startQuery(entityManager.newQuery().with(TestComponent.class).without(FlagComponent.class))) {
+            for (int row = archetype.getRowStart(); row < archetype.getRowEnd(); row++) {
+                entityManager.destroyEntity(archetype.getEntityID(row));
+            }
+        }
+        entityManager.flush();
+
+        layout = entityManager.startQueryLayout(entityManager.newQuery().with(TestComponent.class));
+        assertEquals(0, layout.getRowCount(0));
+        assertEquals(38, layout.getTotalRowCount());
+        assertLayoutCovered(layout);
+    }
+
+    @Test
+    public void testUnevenArchetypeCoverage() {
+        createUnevenArchetypes();
+
+        int[] expected = expectedOrder();
+        assertEquals(ENTITY_COUNT + 1 + 37, expected.length);
+        for (int round = 0; round < 5; round++) {
+            assertArrayEquals(expected, run(CopyJob.class, pool));
+            assertArrayEquals(expected, run(RangeCopyJob.class, pool));
+        }
+
+        // zero-row archetypes at the start and in the middle
+        for (ArchetypeDataPool archetype : entityManager.startQuery(entityManager.newQuery().with(TestComponent.class).without(FlagComponent.class))) {
+            for (int row = archetype.getRowStart(); row < archetype.getRowEnd(); row++) {
+                entityManager.destroyEntity(archetype.getEntityID(row));
+            }
+        }
+        entityManager.flush();
+
+        expected = expectedOrder();
+        assertEquals(38, expected.length);
+        assertArrayEquals(expected, run(CopyJob.class, pool));
+        assertArrayEquals(expected, run(RangeCopyJob.class, pool));
+    }
+
+    private static void awaitCompleted(MeteredExecutor executor) throws InterruptedException {
+        // a task is counted as completed after it ran, which may be after the job future completed
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ExecutorMetrics metrics = executor.getMetrics(false);
+        while (metrics.completedTasks() != metrics.submittedTasks()) {
+            assertTrue(System.nanoTime() < deadline, "submitted tasks didn't complete");
+            Thread.sleep(1);
+            metrics = executor.getMetrics(false);
+        }
+    }
+
+    private void testBackend(ExecutorBackend backend) throws InterruptedException {
+        createUnevenArchetypes();
+        int[] expected = expectedOrder();
+
+        MeteredExecutor executor = backend.create("job-scheduler-test");
+        try {
+            assertEquals(backend, executor.getBackend());
+            // one root task on a ForkJoinPool, otherwise one cursor runner per thread
+            int tasksPerExecution = backend == ExecutorBackend.FORK_JOIN ? 1 : Math.min(executor.getParallelism(), expected.length);
+
+            long submitted = 0;
+            for (int round = 0; round < 3; round++) {
+                assertArrayEquals(expected, run(CopyJob.class, executor), "merged command order of round " + round);
+                assertArrayEquals(expected, run(RangeCopyJob.class, executor), "merged command order of round " + round);
+                submitted += 2L * tasksPerExecution;
+
+                awaitCompleted(executor);
+                ExecutorMetrics metrics = executor.getMetrics(true);
+                assertEquals(submitted, metrics.submittedTasks());
+                assertEquals(submitted, metrics.completedTasks());
+                assertEquals(0, metrics.activeTasks());
+                assertTrue(metrics.peakActiveTasks() >= 1 && metrics.peakActiveTasks() <= Math.max(executor.getParallelism(), tasksPerExecution));
+
+                // counted by the executions, so the same units on every backend
+                JobExecutionMetrics jobMetrics = jobScheduler.getMetrics(true);
+                assertEquals(2L * (round + 1), jobMetrics.executions());
+                assertEquals(2L * (round + 1) * expected.length, jobMetrics.rows());
+                assertTrue(jobMetrics.tasks() >= jobMetrics.executions());
+                assertTrue(jobMetrics.busyNanos() > 0);
+                assertTrue(jobMetrics.maxWallNanos() > 0 && jobMetrics.maxWallNanos() <= jobMetrics.wallNanos());
+                assertTrue(jobMetrics.peakWorkers() >= 1 && jobMetrics.peakWorkers() <= executor.getParallelism());
+            }
+        } finally {
+            executor.shutdown(5);
+        }
+    }
+
+    @Test
+    public void testFixedPlatformBackend() throws InterruptedException {
+        testBackend(ExecutorBackend.FIXED_PLATFORM);
+    }
+
+    @Test
+    public void testVirtualThreadBackend() throws InterruptedException {
+        testBackend(ExecutorBackend.VIRTUAL_THREAD);
+    }
+
+    @Test
+    public void testMeteredForkJoinBackend() throws InterruptedException {
+        testBackend(ExecutorBackend.FORK_JOIN);
+    }
+}
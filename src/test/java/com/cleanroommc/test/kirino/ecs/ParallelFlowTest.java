@@ -0,0 +1,324 @@
+package com.cleanroommc.test.kirino.ecs;
+
+import com.cleanroommc.kirino.ecs.component.ComponentRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldDef;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.FieldRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.scalar.ScalarType;
+import com.cleanroommc.kirino.ecs.component.schema.def.field.struct.StructRegistry;
+import com.cleanroommc.kirino.ecs.component.schema.meta.MemberLayout;
+import com.cleanroommc.kirino.ecs.entity.EntityManager;
+import com.cleanroommc.kirino.ecs.entity.EntityQuery;
+import com.cleanroommc.kirino.ecs.job.ComponentAccess;
+import com.cleanroommc.kirino.ecs.job.JobDataQuery;
+import com.cleanroommc.kirino.ecs.job.JobRegistry;
+import com.cleanroommc.kirino.ecs.job.JobScheduler;
+import com.cleanroommc.kirino.ecs.job.ParallelJob;
+import com.cleanroommc.kirino.ecs.storage.PrimitiveArray;
+import com.cleanroommc.kirino.ecs.system.CleanSystem;
+import com.cleanroommc.kirino.ecs.system.exegraph.ParallelFlow;
+import com.cleanroommc.kirino.ecs.world.CleanWorld;
+import com.cleanroommc.test.kirino.ecs.ArchetypeDataPoolTest.TestComponent;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelFlowTest {
+    private JobRegistry jobRegistry;
+    private CleanWorld world;
+    private ExecutorService executor;
+    private List<String> log;
+
+    public abstract static class TestJob implements ParallelJob {
+        @Override
+        public void execute(@NonNull EntityManager entityManager, int index, int entityID, int threadOrdinal) {
+        }
+
+        @Override
+        public void query(@NonNull EntityQuery entityQuery) {
+            entityQuery.with(TestComponent.class);
+        }
+
+        @Override
+        public int estimateWorkload(int index) {
+            return 1;
+        }
+    }
+
+    /**
+     * Writes <code>a</code> without declaring it.
+     */
+    public static class UnflaggedAJob extends TestJob {
+        @JobDataQuery(componentClass = TestComponent.class, fieldAccessChain = {"a"})
+        PrimitiveArray aArray;
+    }
+
+    /**
+     * Writes <code>a</code> without declaring it, too.
+     */
+    public static class UnflaggedBJob extends TestJob {
+        @JobDataQuery(componentClass = TestComponent.class, fieldAccessChain = {"a"})
+        PrimitiveArray aArray;
+    }
+
+    public static class ReadAJob extends TestJob {
+        @JobDataQuery(componentClass = TestComponent.class, fieldAccessChain = {"a"}, write = false)
+        PrimitiveArray aArray;
+    }
+
+    public static class ReadBJob extends TestJob {
+        @JobDataQuery(componentClass = TestComponent.class, fieldAccessChain = {"a"}, write = false)
+        PrimitiveArray aArray;
+    }
+
+    @BeforeEach
+    public void setup() {
+        FieldRegistry fieldRegistry = new FieldRegistry(new StructRegistry());
+        fieldRegistry.registerFieldType("int", int.class, new FieldDef(ScalarType.INT));
+        fieldRegistry.registerFieldType("float", float.class, new FieldDef(ScalarType.FLOAT));
+        fieldRegistry.registerFieldType("bool", boolean.class, new FieldDef(ScalarType.BOOL));
+
+        ComponentRegistry componentRegistry = new ComponentRegistry(fieldRegistry);
+        componentRegistry.registerComponent("TestComponent", TestComponent.class, new MemberLayout("a", "b", "c"), "int", "float", "bool");
+
+        jobRegistry = new JobRegistry(componentRegistry);
+        jobRegistry.registerParallelJob(UnflaggedAJob.class);
+        jobRegistry.registerParallelJob(UnflaggedBJob.class);
+        jobRegistry.registerParallelJob(ReadAJob.class);
+        jobRegistry.registerParallelJob(ReadBJob.class);
+        world = new CleanWorld(new EntityManager(componentRegistry), new JobScheduler(jobRegistry)) {
+            @Override
+            public void update() {
+            }
+        };
+        executor = Executors.newFixedThreadPool(4);
+        log = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Logs its name when the update starts and ends; the body runs in between.
+     */
+    private class TestSystem extends CleanSystem {
+        private final String name;
+        private final Runnable body;
+        private final Consumer<ComponentAccess.Builder> access;
+
+        TestSystem(String name, Runnable body, Consumer<ComponentAccess.Builder> access) {
+            this.name = name;
+            this.body = body;
+            this.access = access;
+        }
+
+        TestSystem(String name, Runnable body) {
+            this(name, body, ComponentAccess.Builder::exclusive);
+        }
+
+        TestSystem(String name) {
+            this(name, () -> {});
+        }
+
+        @Override
+        public void update(@NonNull EntityManager entityManager, @NonNull JobScheduler jobScheduler) {
+            log.add(name + "+");
+            body.run();
+            log.add(name + "-");
+        }
+
+        @Override
+        public void declareAccess(ComponentAccess.@NonNull Builder access) {
+            this.access.accept(access);
+        }
+    }
+
+    private static Runnable await(CyclicBarrier barrier) {
+        return () -> {
+            try {
+                // only passes if both branches update at the same time
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    private void assertBefore(String first, String second) {
+        assertTrue(log.indexOf(first) >= 0, first + " missing");
+        assertTrue(log.indexOf(second) >= 0, second + " missing");
+        assertTrue(log.indexOf(first) < log.indexOf(second), first + " must precede " + second + ": " + log);
+    }
+
+    @Test
+    public void testConcurrentBranches() {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ParallelFlow flow = ParallelFlow.newBuilder(world, executor)
+                .addTransition(new TestSystem("a", await(barrier)), "START", "END")
+                .addTransition(new TestSystem("b", await(barrier)), "START", "END")
+                .build();
+
+        flow.execute();
+
+        assertEquals(4, log.size());
+        assertFalse(barrier.isBroken());
+    }
+
+    @Test
+    public void testJoin() {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ParallelFlow flow = ParallelFlow.newBuilder(world, executor)
+                .addBarrierNode("mid", () -> log.add("mid"))
+                .addTransition(new TestSystem("a", await(barrier)), "START", "mid")
+                .addTransition(new TestSystem("b", await(barrier)), "START", "mid")
+                .addTransition(new TestSystem("c"), "mid", "END")
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            log.clear();
+            flow.execute();
+
+            assertBefore("a-", "mid");
+            assertBefore("b-", "mid");
+            assertBefore("mid", "c+");
+            assertEquals("c-", log.getLast());
+        }
+    }
+
+    @Test
+    public void testJoinAsyncExecutions() {
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        TestSystem async = new TestSystem("async") {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void update(@NonNull EntityManager entityManager, @NonNull JobScheduler jobScheduler) {
+                super.update(entityManager, jobScheduler);
+                execution.updateExecutions(new CompletableFuture[]{pending.thenRun(() -> log.add("async-done"))});
+            }
+        };
+
+        ParallelFlow flow = ParallelFlow.newBuilder(world, executor)
+                .addBarrierNode("mid", null)
+                .addTransition(async, "START", "mid")
+                .addTransition(new TestSystem("after"), "mid", "END")
+                .build();
+
+        CompletableFuture<Void> finished = flow.executeAsync(executor);
+        executor.execute(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pending.complete(null);
+        });
+        finished.join();
+
+        assertBefore("async-done", "after+");
+    }
+
+    @Test
+    public void testRejectedGraphs() {
+        // dead end
+        assertThrows(IllegalStateException.class, () -> ParallelFlow.newBuilder(world, executor)
+                .addBarrierNode("dead", null)
+                .addTransition(new TestSystem("a"), "START", "END")
+                .addTransition(new TestSystem("b"), "START", "dead")
+                .build());
+
+        // cycle
+        assertThrows(IllegalStateException.class, () -> ParallelFlow.newBuilder(world, executor)
+                .addBarrierNode("x", null)
+                .addBarrierNode("y", null)
+                .addTransition(new TestSystem("a"), "START", "x")
+                .addTransition(new TestSystem("b"), "x", "y")
+                .addDummyTransition("y", "x")
+                .addDummyTransition("y", "END")
+                .build());
+
+        // unreachable from START
+        assertThrows(IllegalStateException.class, () -> ParallelFlow.newBuilder(world, executor)
+                .addBarrierNode("orphan", null)
+                .addTransition(new TestSystem("a"), "START", "END")
+                .addTransition(new TestSystem("b"), "orphan", "END")
+                .build());
+
+        // the same system on two edges
+        TestSystem system = new TestSystem("a");
+        assertThrows(IllegalArgumentException.class, () -> ParallelFlow.newBuilder(world, executor)
+                .addTransition(system, "START", "END")
+                .addTransition(system, "START", "END"));
+    }
+
+    @Test
+    public void testScheduledSystems() {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        TestSystem writeA = new TestSystem("writeA", await(barrier), access -> access.write(TestComponent.class, "a"));
+        TestSystem writeB = new TestSystem("writeB", await(barrier), access -> access.write(TestComponent.class, "b"));
+        TestSystem readA = new TestSystem("readA", () -> {}, access -> access.read(TestComponent.class, "a"));
+        TestSystem readAB = new TestSystem("readAB", () -> {}, access -> access.read(TestComponent.class, "a").read(TestComponent.class, "b"));
+        TestSystem exclusive = new TestSystem("exclusive");
+
+        ParallelFlow flow = ParallelFlow.newBuilder(world, executor)
+                .addScheduledSystems(jobRegistry, writeA, writeB, readA, readAB, exclusive)
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            log.clear();
+            flow.execute();
+
+            // writeA and writeB meet at the barrier, so they must be concurrent
+            assertFalse(barrier.isBroken());
+            assertBefore("writeA-", "readA+");
+            assertBefore("writeA-", "readAB+");
+            assertBefore("writeB-", "readAB+");
+            assertBefore("readA-", "exclusive+");
+            assertBefore("readAB-", "exclusive+");
+            assertEquals("exclusive-", log.getLast());
+            assertEquals(10, log.size());
+        }
+    }
+
+    @Test
+    public void testUnflaggedJobWritesAreNotConcurrent() {
+        // a query without the flag counts as a write, so the jobs are ordered
+        TestSystem first = new TestSystem("first", () -> {}, access -> access.job(UnflaggedAJob.class));
+        TestSystem second = new TestSystem("second", () -> {}, access -> access.job(UnflaggedBJob.class));
+
+        ParallelFlow flow = ParallelFlow.newBuilder(world, executor)
+                .addScheduledSystems(jobRegistry, first, second)
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            log.clear();
+            flow.execute();
+            assertEquals(List.of("first+", "first-", "second+", "second-"), log);
+        }
+
+        // reads opt out and stay concurrent
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        TestSystem readA = new TestSystem("readA", await(barrier), access -> access.job(ReadAJob.class));
+        TestSystem readB = new TestSystem("readB", await(barrier), access -> access.job(ReadBJob.class));
+
+        flow = ParallelFlow.newBuilder(world, executor)
+                .addScheduledSystems(jobRegistry, readA, readB)
+                .build();
+        log.clear();
+        flow.execute();
+        assertFalse(barrier.isBroken());
+        assertEquals(4, log.size());
+    }
+}